@@ -0,0 +1,156 @@
+package com.budgetmaster.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.budgetmaster.constants.database.ColumnConstraints;
+
+/**
+ * Expense inserts per second with the id strategies Hibernate can use against Postgres, issued
+ * through plain JDBC the way Hibernate issues them. With an identity column every insert is its
+ * own round-trip returning the generated id. With a pooled sequence one {@code nextval} covers a
+ * block of ids, the inserts are sent as JDBC batches and the driver rewrites each batch into a
+ * multi-row INSERT. Needs Docker, like the integration tests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBatchingBenchmark {
+
+  private static final int ROWS = 500;
+  private static final int BATCH_SIZE = ColumnConstraints.Id.ALLOCATION_SIZE;
+  private static final BigDecimal AMOUNT = new BigDecimal("12.50");
+
+  private static final String IDENTITY_INSERT =
+      "INSERT INTO IDENTITY_EXPENSES (NAME, AMOUNT, MONTH) VALUES (?, ?, ?)";
+  private static final String SEQUENCE_INSERT =
+      "INSERT INTO SEQUENCE_EXPENSES (ID, NAME, AMOUNT, MONTH) VALUES (?, ?, ?, ?)";
+
+  private PostgreSQLContainer<?> postgres;
+  private Connection connection;
+
+  @Setup(Level.Trial)
+  public void startDatabase() throws SQLException {
+    postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    postgres.start();
+    connection =
+        DriverManager.getConnection(
+            postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+            postgres.getUsername(),
+            postgres.getPassword());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          """
+          CREATE TABLE IDENTITY_EXPENSES (
+              ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+              NAME VARCHAR(255) NOT NULL,
+              AMOUNT NUMERIC(19, 2) NOT NULL,
+              MONTH VARCHAR(255) NOT NULL)
+          """);
+      statement.execute("CREATE SEQUENCE SEQUENCE_EXPENSES_SEQ INCREMENT BY " + BATCH_SIZE);
+      statement.execute(
+          """
+          CREATE TABLE SEQUENCE_EXPENSES (
+              ID BIGINT PRIMARY KEY,
+              NAME VARCHAR(255) NOT NULL,
+              AMOUNT NUMERIC(19, 2) NOT NULL,
+              MONTH VARCHAR(255) NOT NULL)
+          """);
+    }
+    connection.setAutoCommit(false);
+  }
+
+  @Setup(Level.Iteration)
+  public void truncate() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("TRUNCATE IDENTITY_EXPENSES, SEQUENCE_EXPENSES");
+    }
+    connection.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopDatabase() throws SQLException {
+    connection.close();
+    postgres.stop();
+  }
+
+  /** Before: one statement and one round-trip per row, reading back the generated id. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long identityInserts() throws SQLException {
+    long lastId = 0;
+    try (PreparedStatement insert =
+        connection.prepareStatement(IDENTITY_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+      for (int row = 0; row < ROWS; row++) {
+        bind(insert, 1, row);
+        insert.executeUpdate();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+          keys.next();
+          lastId = keys.getLong(1);
+        }
+      }
+    }
+    connection.commit();
+    return lastId;
+  }
+
+  /** After: ids assigned from pooled-lo blocks and rows sent in batches of the block size. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long sequenceBatchedInserts() throws SQLException {
+    long nextId = 0;
+    long blockEnd = 0;
+    try (PreparedStatement nextval =
+            connection.prepareStatement("SELECT nextval('SEQUENCE_EXPENSES_SEQ')");
+        PreparedStatement insert = connection.prepareStatement(SEQUENCE_INSERT)) {
+      for (int row = 0; row < ROWS; row++) {
+        if (nextId == blockEnd) {
+          try (ResultSet block = nextval.executeQuery()) {
+            block.next();
+            nextId = block.getLong(1);
+            blockEnd = nextId + BATCH_SIZE;
+          }
+        }
+        insert.setLong(1, nextId++);
+        bind(insert, 2, row);
+        insert.addBatch();
+        if ((row + 1) % BATCH_SIZE == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+    return nextId;
+  }
+
+  private static void bind(PreparedStatement insert, int firstIndex, int row) throws SQLException {
+    insert.setString(firstIndex, "EXPENSE " + row);
+    insert.setBigDecimal(firstIndex + 1, AMOUNT);
+    insert.setString(firstIndex + 2, "2026-10");
+  }
+}
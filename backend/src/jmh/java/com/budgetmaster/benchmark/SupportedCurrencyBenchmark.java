@@ -0,0 +1,70 @@
+package com.budgetmaster.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.model.Money;
+
+/**
+ * Compares {@link SupportedCurrency} lookups against the linear scan over {@code values()} they
+ * replaced, plus the {@link Money} construction path that runs the check for every hydrated row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SupportedCurrencyBenchmark {
+
+  @Param({"GBP", "USD"})
+  private String code;
+
+  private Currency currency;
+  private BigDecimal amount;
+
+  @Setup
+  public void setUp() {
+    currency = Currency.getInstance(code);
+    amount = new BigDecimal("123.45");
+  }
+
+  @Benchmark
+  public SupportedCurrency fromCurrency() {
+    return SupportedCurrency.fromCurrency(currency);
+  }
+
+  @Benchmark
+  public SupportedCurrency fromCurrencyLinearScan() {
+    for (SupportedCurrency supported : SupportedCurrency.values()) {
+      if (supported.getCurrency().equals(currency)) {
+        return supported;
+      }
+    }
+    throw new IllegalArgumentException(code);
+  }
+
+  @Benchmark
+  public boolean validateSupportedCurrency() {
+    return SupportedCurrency.validateSupportedCurrency(currency);
+  }
+
+  @Benchmark
+  public Money moneyOf() {
+    return Money.of(amount, currency);
+  }
+}
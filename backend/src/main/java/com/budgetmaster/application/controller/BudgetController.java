@@ -1,15 +1,28 @@
 package com.budgetmaster.application.controller;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.service.BudgetService;
 import com.budgetmaster.constants.api.ApiMessages;
 import com.budgetmaster.constants.api.ApiPaths;
+import com.budgetmaster.constants.validation.ValidationConstraints;
 import com.budgetmaster.constants.validation.ValidationPatterns;
 
 @RestController
@@ -34,6 +47,58 @@ public class BudgetController {
     return ResponseEntity.ok(budget);
   }
 
+  /** Returns the month's budget totals as they were at the given moment, from the history. */
+  @GetMapping(params = ApiPaths.Budgets.AS_OF_PARAM)
+  public ResponseEntity<BudgetHistoryResponse> getBudgetByMonthAsOf(
+      @RequestParam
+          @Pattern(
+              regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+              message = ApiMessages.ValidationMessages.MONTH_FORMAT_INVALID)
+          String month,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+    BudgetHistoryResponse budget = budgetService.getBudgetByMonthAsOf(month, asOf);
+    return ResponseEntity.ok(budget);
+  }
+
+  @GetMapping(ApiPaths.Budgets.FORECAST)
+  public ResponseEntity<List<BudgetForecastResponse>> getForecast(
+      @RequestParam(defaultValue = ValidationConstraints.Forecast.DEFAULT_MONTHS)
+          @Min(
+              value = ValidationConstraints.Forecast.MIN_MONTHS,
+              message = ApiMessages.ValidationMessages.FORECAST_MONTHS_OUT_OF_RANGE)
+          @Max(
+              value = ValidationConstraints.Forecast.MAX_MONTHS,
+              message = ApiMessages.ValidationMessages.FORECAST_MONTHS_OUT_OF_RANGE)
+          int months) {
+    List<BudgetForecastResponse> forecast = budgetService.getForecast(months);
+    return ResponseEntity.ok(forecast);
+  }
+
+  /** Sums income, expenses and savings over the range of months. */
+  @GetMapping(ApiPaths.Budgets.TOTALS)
+  public ResponseEntity<BudgetTotalsResponse> getTotals(
+      @Valid @ModelAttribute MonthRangeRequest range) {
+    BudgetTotalsResponse totals = budgetService.getTotals(range);
+    return ResponseEntity.ok(totals);
+  }
+
+  /** Returns the balance accumulated since the first budget at the end of each month in range. */
+  @GetMapping(ApiPaths.Budgets.CUMULATIVE)
+  public ResponseEntity<List<BudgetTotalsResponse>> getCumulativeTotals(
+      @Valid @ModelAttribute MonthRangeRequest range) {
+    List<BudgetTotalsResponse> balances = budgetService.getCumulativeTotals(range);
+    return ResponseEntity.ok(balances);
+  }
+
+  /** Rebuilds every month's budget from the ledger and returns the months that were rebuilt. */
+  @PostMapping(ApiPaths.Budgets.REBUILD)
+  public ResponseEntity<List<YearMonth>> rebuildBudgets(
+      @RequestParam(defaultValue = ValidationConstraints.Rebuild.DEFAULT_FROM_SNAPSHOTS)
+          boolean fromSnapshots) {
+    List<YearMonth> months = budgetService.rebuildBudgets(fromSnapshots);
+    return ResponseEntity.ok(months);
+  }
+
   @DeleteMapping(ApiPaths.SEARCH_BY_ID)
   public ResponseEntity<Void> deleteBudget(@PathVariable Long id) {
     budgetService.deleteBudget(id);
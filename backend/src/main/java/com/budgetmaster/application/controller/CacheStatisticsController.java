@@ -0,0 +1,28 @@
+package com.budgetmaster.application.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.budgetmaster.application.dto.CacheRegionStatisticsResponse;
+import com.budgetmaster.application.service.CacheStatisticsService;
+import com.budgetmaster.constants.api.ApiPaths;
+
+@RestController
+@RequestMapping(ApiPaths.Cache.ROOT)
+public class CacheStatisticsController {
+
+  private final CacheStatisticsService cacheStatisticsService;
+
+  public CacheStatisticsController(CacheStatisticsService cacheStatisticsService) {
+    this.cacheStatisticsService = cacheStatisticsService;
+  }
+
+  @GetMapping(ApiPaths.Cache.STATISTICS)
+  public ResponseEntity<List<CacheRegionStatisticsResponse>> getRegionStatistics() {
+    return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+  }
+}
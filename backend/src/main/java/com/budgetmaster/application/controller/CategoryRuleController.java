@@ -0,0 +1,44 @@
+package com.budgetmaster.application.controller;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.budgetmaster.application.dto.CategoryRuleRequest;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.application.service.categorization.CategoryRuleService;
+import com.budgetmaster.constants.api.ApiPaths;
+
+@RestController
+@RequestMapping(ApiPaths.CategoryRules.ROOT)
+@Validated
+public class CategoryRuleController {
+
+  private final CategoryRuleService categoryRuleService;
+
+  public CategoryRuleController(CategoryRuleService categoryRuleService) {
+    this.categoryRuleService = categoryRuleService;
+  }
+
+  @PostMapping
+  public ResponseEntity<CategoryRule> createRule(@Valid @RequestBody CategoryRuleRequest request) {
+    CategoryRule rule = categoryRuleService.createRule(request);
+    return ResponseEntity.ok(rule);
+  }
+
+  @GetMapping
+  public ResponseEntity<List<CategoryRule>> getAllRules() {
+    List<CategoryRule> rules = categoryRuleService.getAllRules();
+    return ResponseEntity.ok(rules);
+  }
+
+  @DeleteMapping(ApiPaths.SEARCH_BY_ID)
+  public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+    categoryRuleService.deleteRule(id);
+    return ResponseEntity.noContent().build();
+  }
+}
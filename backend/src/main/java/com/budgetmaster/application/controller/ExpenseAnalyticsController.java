@@ -0,0 +1,61 @@
+package com.budgetmaster.application.controller;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.budgetmaster.application.dto.CategoryPercentilesResponse;
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.dto.TopExpenseResponse;
+import com.budgetmaster.application.service.analytics.ExpenseAnalyticsService;
+import com.budgetmaster.constants.api.ApiMessages;
+import com.budgetmaster.constants.api.ApiPaths;
+import com.budgetmaster.constants.validation.ValidationConstraints;
+
+@RestController
+@RequestMapping(ApiPaths.Expenses.ANALYTICS)
+@Validated
+public class ExpenseAnalyticsController {
+
+  private final ExpenseAnalyticsService expenseAnalyticsService;
+
+  public ExpenseAnalyticsController(ExpenseAnalyticsService expenseAnalyticsService) {
+    this.expenseAnalyticsService = expenseAnalyticsService;
+  }
+
+  @GetMapping(ApiPaths.Expenses.TOP)
+  public ResponseEntity<List<TopExpenseResponse>> getTopExpenses(
+      @Valid @ModelAttribute MonthRangeRequest range,
+      @RequestParam(defaultValue = ValidationConstraints.Analytics.DEFAULT_LIMIT)
+          @Min(
+              value = ValidationConstraints.Analytics.MIN_LIMIT,
+              message = ApiMessages.ValidationMessages.TOP_LIMIT_OUT_OF_RANGE)
+          @Max(
+              value = ValidationConstraints.Analytics.MAX_LIMIT,
+              message = ApiMessages.ValidationMessages.TOP_LIMIT_OUT_OF_RANGE)
+          int limit) {
+    List<TopExpenseResponse> topExpenses = expenseAnalyticsService.getTopExpenses(range, limit);
+    return ResponseEntity.ok(topExpenses);
+  }
+
+  @GetMapping(ApiPaths.Expenses.PERCENTILES)
+  public ResponseEntity<List<CategoryPercentilesResponse>> getPercentiles(
+      @Valid @ModelAttribute MonthRangeRequest range) {
+    List<CategoryPercentilesResponse> percentiles = expenseAnalyticsService.getPercentiles(range);
+    return ResponseEntity.ok(percentiles);
+  }
+
+  @GetMapping(ApiPaths.Expenses.QUANTILES)
+  public ResponseEntity<List<CategoryQuantilesResponse>> getQuantiles(
+      @Valid @ModelAttribute MonthRangeRequest range) {
+    List<CategoryQuantilesResponse> quantiles = expenseAnalyticsService.getQuantiles(range);
+    return ResponseEntity.ok(quantiles);
+  }
+}
@@ -3,17 +3,27 @@ package com.budgetmaster.application.controller;
 import java.util.List;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
 import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.dto.PageResponse;
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.validation.SupportedCurrencyCode;
+import com.budgetmaster.constants.api.ApiHeaders;
 import com.budgetmaster.constants.api.ApiMessages;
 import com.budgetmaster.constants.api.ApiPaths;
+import com.budgetmaster.constants.validation.ValidationConstraints;
 import com.budgetmaster.constants.validation.ValidationPatterns;
 
 @RestController
@@ -28,22 +38,84 @@ public class ExpenseController {
   }
 
   @PostMapping
-  public ResponseEntity<Expense> createExpense(@Valid @RequestBody ExpenseRequest request) {
-    Expense expense = expenseService.createExpense(request);
+  public ResponseEntity<Expense> createExpense(
+      @Valid @RequestBody ExpenseRequest request,
+      @RequestHeader(value = ApiHeaders.IDEMPOTENCY_KEY, required = false)
+          @Size(
+              max = ValidationConstraints.IdempotencyKey.MAX_LENGTH,
+              message = ApiMessages.ValidationMessages.IDEMPOTENCY_KEY_TOO_LONG)
+          String idempotencyKey) {
+    Expense expense = expenseService.createExpense(request, idempotencyKey);
     return ResponseEntity.ok(expense);
   }
 
   @GetMapping
-  public ResponseEntity<List<Expense>> getAllExpensesForMonth(
+  public ResponseEntity<List<ExpenseSummary>> getAllExpensesForMonth(
       @RequestParam
           @Pattern(
               regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
               message = ApiMessages.ValidationMessages.MONTH_FORMAT_INVALID)
-          String month) {
-    List<Expense> expenses = expenseService.getAllExpensesForMonth(month);
+          String month,
+      @RequestParam(required = false)
+          @SupportedCurrencyCode(message = ApiMessages.ValidationMessages.CURRENCY_UNSUPPORTED)
+          String currency) {
+    List<ExpenseSummary> expenses = expenseService.getAllExpensesForMonth(month, currency);
     return ResponseEntity.ok(expenses);
   }
 
+  @GetMapping(ApiPaths.Expenses.SEARCH)
+  public ResponseEntity<PageResponse<ExpenseSummary>> searchExpenses(
+      @RequestParam
+          @NotBlank(message = ApiMessages.ValidationMessages.SEARCH_QUERY_LENGTH_INVALID)
+          @Size(
+              min = ValidationConstraints.Search.MIN_QUERY_LENGTH,
+              max = ValidationConstraints.Search.MAX_QUERY_LENGTH,
+              message = ApiMessages.ValidationMessages.SEARCH_QUERY_LENGTH_INVALID)
+          String q,
+      @RequestParam(required = false)
+          @Pattern(
+              regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+              message = ApiMessages.ValidationMessages.MONTH_FORMAT_INVALID)
+          String month,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE,
+              message = ApiMessages.ValidationMessages.PAGE_NEGATIVE)
+          int page,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE_SIZE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          @Max(
+              value = ValidationConstraints.Paging.MAX_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          int size) {
+    PageResponse<ExpenseSummary> results =
+        PageResponse.of(expenseService.searchExpenses(q, month, page, size));
+    return ResponseEntity.ok(results);
+  }
+
+  @GetMapping(ApiPaths.Expenses.FILTER)
+  public ResponseEntity<PageResponse<ExpenseSummary>> filterExpenses(
+      @Valid @ModelAttribute ExpenseFilterRequest filter,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE,
+              message = ApiMessages.ValidationMessages.PAGE_NEGATIVE)
+          int page,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE_SIZE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          @Max(
+              value = ValidationConstraints.Paging.MAX_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          int size) {
+    PageResponse<ExpenseSummary> results =
+        PageResponse.of(expenseService.filterExpenses(filter, page, size));
+    return ResponseEntity.ok(results);
+  }
+
   @GetMapping(ApiPaths.SEARCH_BY_ID)
   public ResponseEntity<Expense> getExpenseById(@PathVariable Long id) {
     Expense expense = expenseService.getExpenseById(id);
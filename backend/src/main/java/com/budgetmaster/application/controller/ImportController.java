@@ -0,0 +1,90 @@
+package com.budgetmaster.application.controller;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.budgetmaster.application.dto.ImportRejectResponse;
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.dto.PageResponse;
+import com.budgetmaster.application.dto.StatementImportResponse;
+import com.budgetmaster.application.service.imports.CsvImportService;
+import com.budgetmaster.application.service.imports.statement.StatementImportService;
+import com.budgetmaster.constants.api.ApiMediaTypes;
+import com.budgetmaster.constants.api.ApiMessages;
+import com.budgetmaster.constants.api.ApiPaths;
+import com.budgetmaster.constants.validation.ValidationConstraints;
+
+/**
+ * Bulk CSV and bank statement imports. Request bodies are streamed, into the database for CSV and
+ * through a streaming parser for statements, so files of any size can be imported without being
+ * held in memory.
+ */
+@RestController
+@RequestMapping(ApiPaths.Imports.ROOT)
+@Validated
+public class ImportController {
+
+  private final CsvImportService csvImportService;
+  private final StatementImportService statementImportService;
+
+  public ImportController(
+      CsvImportService csvImportService, StatementImportService statementImportService) {
+    this.csvImportService = csvImportService;
+    this.statementImportService = statementImportService;
+  }
+
+  @PostMapping(path = ApiPaths.Imports.INCOMES, consumes = ApiMediaTypes.TEXT_CSV)
+  public ResponseEntity<ImportResponse> importIncomes(InputStream csv) {
+    ImportResponse response = csvImportService.importIncomes(csv);
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping(path = ApiPaths.Imports.EXPENSES, consumes = ApiMediaTypes.TEXT_CSV)
+  public ResponseEntity<ImportResponse> importExpenses(InputStream csv) {
+    ImportResponse response = csvImportService.importExpenses(csv);
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping(
+      path = ApiPaths.Imports.CAMT_053,
+      consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE})
+  public ResponseEntity<StatementImportResponse> importCamt053(InputStream statement) {
+    StatementImportResponse response = statementImportService.importCamt053(statement);
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping(path = ApiPaths.Imports.OFX, consumes = ApiMediaTypes.APPLICATION_OFX)
+  public ResponseEntity<StatementImportResponse> importOfx(InputStream statement) {
+    StatementImportResponse response = statementImportService.importOfx(statement);
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping(ApiPaths.Imports.REJECTS)
+  public ResponseEntity<PageResponse<ImportRejectResponse>> getRejects(
+      @PathVariable UUID importId,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE,
+              message = ApiMessages.ValidationMessages.PAGE_NEGATIVE)
+          int page,
+      @RequestParam(defaultValue = ValidationConstraints.Paging.DEFAULT_PAGE_SIZE)
+          @Min(
+              value = ValidationConstraints.Paging.MIN_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          @Max(
+              value = ValidationConstraints.Paging.MAX_PAGE_SIZE,
+              message = ApiMessages.ValidationMessages.PAGE_SIZE_OUT_OF_RANGE)
+          int size) {
+    PageResponse<ImportRejectResponse> rejects =
+        PageResponse.of(csvImportService.getRejects(importId, page, size));
+    return ResponseEntity.ok(rejects);
+  }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,9 +12,13 @@ import org.springframework.web.bind.annotation.*;
 
 import com.budgetmaster.application.dto.IncomeRequest;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.application.service.IncomeService;
+import com.budgetmaster.application.validation.SupportedCurrencyCode;
+import com.budgetmaster.constants.api.ApiHeaders;
 import com.budgetmaster.constants.api.ApiMessages;
 import com.budgetmaster.constants.api.ApiPaths;
+import com.budgetmaster.constants.validation.ValidationConstraints;
 import com.budgetmaster.constants.validation.ValidationPatterns;
 
 @RestController
@@ -28,19 +33,28 @@ public class IncomeController {
   }
 
   @PostMapping
-  public ResponseEntity<Income> createIncome(@Valid @RequestBody IncomeRequest request) {
-    Income income = incomeService.createIncome(request);
+  public ResponseEntity<Income> createIncome(
+      @Valid @RequestBody IncomeRequest request,
+      @RequestHeader(value = ApiHeaders.IDEMPOTENCY_KEY, required = false)
+          @Size(
+              max = ValidationConstraints.IdempotencyKey.MAX_LENGTH,
+              message = ApiMessages.ValidationMessages.IDEMPOTENCY_KEY_TOO_LONG)
+          String idempotencyKey) {
+    Income income = incomeService.createIncome(request, idempotencyKey);
     return ResponseEntity.ok(income);
   }
 
   @GetMapping
-  public ResponseEntity<List<Income>> getAllIncomesForMonth(
+  public ResponseEntity<List<IncomeSummary>> getAllIncomesForMonth(
       @RequestParam
           @Pattern(
               regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
               message = ApiMessages.ValidationMessages.MONTH_FORMAT_INVALID)
-          String month) {
-    List<Income> incomes = incomeService.getAllIncomesForMonth(month);
+          String month,
+      @RequestParam(required = false)
+          @SupportedCurrencyCode(message = ApiMessages.ValidationMessages.CURRENCY_UNSUPPORTED)
+          String currency) {
+    List<IncomeSummary> incomes = incomeService.getAllIncomesForMonth(month, currency);
     return ResponseEntity.ok(incomes);
   }
 
@@ -0,0 +1,40 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public class BudgetForecastResponse {
+  private final YearMonth month;
+  private final BigDecimal projectedIncome;
+  private final BigDecimal projectedExpense;
+  private final BigDecimal projectedSavings;
+
+  private BudgetForecastResponse(
+      YearMonth month, BigDecimal projectedIncome, BigDecimal projectedExpense) {
+    this.month = month;
+    this.projectedIncome = projectedIncome;
+    this.projectedExpense = projectedExpense;
+    this.projectedSavings = projectedIncome.subtract(projectedExpense);
+  }
+
+  public static BudgetForecastResponse of(
+      YearMonth month, BigDecimal projectedIncome, BigDecimal projectedExpense) {
+    return new BudgetForecastResponse(month, projectedIncome, projectedExpense);
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public BigDecimal getProjectedIncome() {
+    return projectedIncome;
+  }
+
+  public BigDecimal getProjectedExpense() {
+    return projectedExpense;
+  }
+
+  public BigDecimal getProjectedSavings() {
+    return projectedSavings;
+  }
+}
@@ -0,0 +1,74 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+public class BudgetHistoryResponse {
+  private final YearMonth month;
+  private final LocalDateTime asOf;
+  private final LocalDateTime changedAt;
+  private final BigDecimal totalIncome;
+  private final BigDecimal totalExpense;
+  private final BigDecimal savings;
+  private final Currency currency;
+
+  private BudgetHistoryResponse(
+      YearMonth month,
+      LocalDateTime asOf,
+      LocalDateTime changedAt,
+      BigDecimal totalIncome,
+      BigDecimal totalExpense,
+      Currency currency) {
+    this.month = month;
+    this.asOf = asOf;
+    this.changedAt = changedAt;
+    this.totalIncome = totalIncome;
+    this.totalExpense = totalExpense;
+    this.savings = totalIncome.subtract(totalExpense);
+    this.currency = currency;
+  }
+
+  /**
+   * Creates the response for a month's totals as of the given moment; {@code changedAt} is when
+   * they were last changed before it.
+   */
+  public static BudgetHistoryResponse of(
+      YearMonth month,
+      LocalDateTime asOf,
+      LocalDateTime changedAt,
+      BigDecimal totalIncome,
+      BigDecimal totalExpense,
+      Currency currency) {
+    return new BudgetHistoryResponse(month, asOf, changedAt, totalIncome, totalExpense, currency);
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public LocalDateTime getAsOf() {
+    return asOf;
+  }
+
+  public LocalDateTime getChangedAt() {
+    return changedAt;
+  }
+
+  public BigDecimal getTotalIncome() {
+    return totalIncome;
+  }
+
+  public BigDecimal getTotalExpense() {
+    return totalExpense;
+  }
+
+  public BigDecimal getSavings() {
+    return savings;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+}
@@ -0,0 +1,47 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public class BudgetTotalsResponse {
+  private final YearMonth fromMonth;
+  private final YearMonth toMonth;
+  private final BigDecimal totalIncome;
+  private final BigDecimal totalExpense;
+  private final BigDecimal savings;
+
+  private BudgetTotalsResponse(
+      YearMonth fromMonth, YearMonth toMonth, BigDecimal totalIncome, BigDecimal totalExpense) {
+    this.fromMonth = fromMonth;
+    this.toMonth = toMonth;
+    this.totalIncome = totalIncome;
+    this.totalExpense = totalExpense;
+    this.savings = totalIncome.subtract(totalExpense);
+  }
+
+  /** Creates the response for the budget totals summed over {@code fromMonth..toMonth}. */
+  public static BudgetTotalsResponse of(
+      YearMonth fromMonth, YearMonth toMonth, BigDecimal totalIncome, BigDecimal totalExpense) {
+    return new BudgetTotalsResponse(fromMonth, toMonth, totalIncome, totalExpense);
+  }
+
+  public YearMonth getFromMonth() {
+    return fromMonth;
+  }
+
+  public YearMonth getToMonth() {
+    return toMonth;
+  }
+
+  public BigDecimal getTotalIncome() {
+    return totalIncome;
+  }
+
+  public BigDecimal getTotalExpense() {
+    return totalExpense;
+  }
+
+  public BigDecimal getSavings() {
+    return savings;
+  }
+}
@@ -0,0 +1,50 @@
+package com.budgetmaster.application.dto;
+
+public class CacheRegionStatisticsResponse {
+  private final String region;
+  private final long hitCount;
+  private final long missCount;
+  private final long putCount;
+  private final long elementCount;
+  private final double hitRatio;
+
+  private CacheRegionStatisticsResponse(
+      String region, long hitCount, long missCount, long putCount, long elementCount) {
+    this.region = region;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.putCount = putCount;
+    this.elementCount = elementCount;
+    long lookups = hitCount + missCount;
+    this.hitRatio = lookups == 0 ? 0.0 : (double) hitCount / lookups;
+  }
+
+  public static CacheRegionStatisticsResponse of(
+      String region, long hitCount, long missCount, long putCount, long elementCount) {
+    return new CacheRegionStatisticsResponse(region, hitCount, missCount, putCount, elementCount);
+  }
+
+  public String getRegion() {
+    return region;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getPutCount() {
+    return putCount;
+  }
+
+  public long getElementCount() {
+    return elementCount;
+  }
+
+  public double getHitRatio() {
+    return hitRatio;
+  }
+}
@@ -0,0 +1,53 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.projection.CategoryPercentilesRow;
+
+public class CategoryPercentilesResponse {
+  private final ExpenseCategory category;
+  private final Currency currency;
+  private final long count;
+  private final BigDecimal median;
+  private final BigDecimal p90;
+
+  private CategoryPercentilesResponse(
+      ExpenseCategory category, Currency currency, long count, BigDecimal median, BigDecimal p90) {
+    this.category = category;
+    this.currency = currency;
+    this.count = count;
+    this.median = median;
+    this.p90 = p90;
+  }
+
+  public static CategoryPercentilesResponse from(CategoryPercentilesRow row) {
+    return new CategoryPercentilesResponse(
+        ExpenseCategory.valueOf(row.getCategory()),
+        Currency.getInstance(row.getCurrency()),
+        row.getCount(),
+        row.getMedian(),
+        row.getP90());
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public BigDecimal getMedian() {
+    return median;
+  }
+
+  public BigDecimal getP90() {
+    return p90;
+  }
+}
@@ -0,0 +1,65 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+
+public class CategoryQuantilesResponse {
+  private final ExpenseCategory category;
+  private final Currency currency;
+  private final long count;
+  private final BigDecimal p50;
+  private final BigDecimal p90;
+  private final BigDecimal p99;
+
+  private CategoryQuantilesResponse(
+      ExpenseCategory category,
+      Currency currency,
+      long count,
+      BigDecimal p50,
+      BigDecimal p90,
+      BigDecimal p99) {
+    this.category = category;
+    this.currency = currency;
+    this.count = count;
+    this.p50 = p50;
+    this.p90 = p90;
+    this.p99 = p99;
+  }
+
+  /** Creates the response for approximate quantiles of a category's amounts in one currency. */
+  public static CategoryQuantilesResponse of(
+      ExpenseCategory category,
+      Currency currency,
+      long count,
+      BigDecimal p50,
+      BigDecimal p90,
+      BigDecimal p99) {
+    return new CategoryQuantilesResponse(category, currency, count, p50, p90, p99);
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public BigDecimal getP50() {
+    return p50;
+  }
+
+  public BigDecimal getP90() {
+    return p90;
+  }
+
+  public BigDecimal getP99() {
+    return p99;
+  }
+}
@@ -0,0 +1,48 @@
+package com.budgetmaster.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.validation.ValidationMessages;
+
+public class CategoryRuleRequest {
+  @NotNull(message = ValidationMessages.CategoryRule.TYPE_IS_REQUIRED)
+  private CategoryRuleType type;
+
+  @NotBlank(message = ValidationMessages.CategoryRule.PATTERN_IS_REQUIRED)
+  @Size(
+      max = ColumnConstraints.Text.MAX_LENGTH,
+      message = ValidationMessages.CategoryRule.PATTERN_TOO_LONG)
+  private String pattern;
+
+  @NotNull(message = ValidationMessages.CategoryRule.CATEGORY_IS_REQUIRED)
+  private ExpenseCategory category;
+
+  public CategoryRuleType getType() {
+    return type;
+  }
+
+  public void setType(CategoryRuleType type) {
+    this.type = type;
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+
+  public void setPattern(String pattern) {
+    this.pattern = pattern;
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public void setCategory(ExpenseCategory category) {
+    this.category = category;
+  }
+}
@@ -0,0 +1,114 @@
+package com.budgetmaster.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.util.DateUtils;
+import com.budgetmaster.application.validation.SupportedCurrencyCode;
+import com.budgetmaster.constants.validation.ValidationConstraints;
+import com.budgetmaster.constants.validation.ValidationMessages;
+import com.budgetmaster.constants.validation.ValidationPatterns;
+
+/** Query parameters of the expense filter endpoint. Every filter is optional. */
+public class ExpenseFilterRequest {
+  private Set<ExpenseCategory> category;
+
+  private TransactionType type;
+
+  @DecimalMin(
+      value = ValidationConstraints.Monetary.MIN_AMOUNT,
+      inclusive = true,
+      message = ValidationMessages.Money.AMOUNT_MUST_BE_NON_NEGATIVE)
+  private BigDecimal minAmount;
+
+  @DecimalMin(
+      value = ValidationConstraints.Monetary.MIN_AMOUNT,
+      inclusive = true,
+      message = ValidationMessages.Money.AMOUNT_MUST_BE_NON_NEGATIVE)
+  private BigDecimal maxAmount;
+
+  @Pattern(
+      regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+      message = ValidationMessages.INVALID_MONTH_FORMAT)
+  private String fromMonth;
+
+  @Pattern(
+      regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+      message = ValidationMessages.INVALID_MONTH_FORMAT)
+  private String toMonth;
+
+  @SupportedCurrencyCode
+  private String currency;
+
+  @AssertTrue(message = ValidationMessages.Filter.AMOUNT_RANGE_INVALID)
+  public boolean isAmountRangeValid() {
+    return minAmount == null || maxAmount == null || minAmount.compareTo(maxAmount) <= 0;
+  }
+
+  @AssertTrue(message = ValidationMessages.Filter.MONTH_RANGE_INVALID)
+  public boolean isMonthRangeValid() {
+    return DateUtils.isOrderedRange(fromMonth, toMonth);
+  }
+
+  public Set<ExpenseCategory> getCategory() {
+    return category;
+  }
+
+  public void setCategory(Set<ExpenseCategory> category) {
+    this.category = category;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public void setType(TransactionType type) {
+    this.type = type;
+  }
+
+  public BigDecimal getMinAmount() {
+    return minAmount;
+  }
+
+  public void setMinAmount(BigDecimal minAmount) {
+    this.minAmount = minAmount;
+  }
+
+  public BigDecimal getMaxAmount() {
+    return maxAmount;
+  }
+
+  public void setMaxAmount(BigDecimal maxAmount) {
+    this.maxAmount = maxAmount;
+  }
+
+  public String getFromMonth() {
+    return fromMonth;
+  }
+
+  public void setFromMonth(String fromMonth) {
+    this.fromMonth = fromMonth;
+  }
+
+  public String getToMonth() {
+    return toMonth;
+  }
+
+  public void setToMonth(String toMonth) {
+    this.toMonth = toMonth;
+  }
+
+  public String getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(String currency) {
+    this.currency = currency;
+  }
+}
@@ -18,7 +18,7 @@ public class ExpenseRequest {
   @Valid
   private MoneyRequest money;
 
-  @NotNull(message = ValidationMessages.Expense.CATEGORY_IS_REQUIRED)
+  /** Optional; when missing, the category is assigned by the category rules. */
   private ExpenseCategory category;
 
   @NotNull(message = ValidationMessages.TYPE_IS_REQUIRED)
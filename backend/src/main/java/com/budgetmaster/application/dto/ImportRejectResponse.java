@@ -0,0 +1,25 @@
+package com.budgetmaster.application.dto;
+
+import com.budgetmaster.application.model.ImportReject;
+
+public class ImportRejectResponse {
+  private final long recordNumber;
+  private final String reason;
+
+  private ImportRejectResponse(long recordNumber, String reason) {
+    this.recordNumber = recordNumber;
+    this.reason = reason;
+  }
+
+  public static ImportRejectResponse from(ImportReject reject) {
+    return new ImportRejectResponse(reject.getRecordNumber(), reject.getReason());
+  }
+
+  public long getRecordNumber() {
+    return recordNumber;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+}
@@ -0,0 +1,41 @@
+package com.budgetmaster.application.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/** Outcome of one CSV import. Rejected records can be listed by the import id. */
+public class ImportResponse {
+  private final UUID importId;
+  private final long imported;
+  private final long rejected;
+  private final List<YearMonth> months;
+
+  private ImportResponse(UUID importId, long imported, long rejected, List<YearMonth> months) {
+    this.importId = importId;
+    this.imported = imported;
+    this.rejected = rejected;
+    this.months = months;
+  }
+
+  public static ImportResponse of(
+      UUID importId, long imported, long rejected, List<YearMonth> months) {
+    return new ImportResponse(importId, imported, rejected, List.copyOf(months));
+  }
+
+  public UUID getImportId() {
+    return importId;
+  }
+
+  public long getImported() {
+    return imported;
+  }
+
+  public long getRejected() {
+    return rejected;
+  }
+
+  public List<YearMonth> getMonths() {
+    return months;
+  }
+}
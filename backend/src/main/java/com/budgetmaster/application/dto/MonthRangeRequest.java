@@ -0,0 +1,45 @@
+package com.budgetmaster.application.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import com.budgetmaster.application.util.DateUtils;
+import com.budgetmaster.constants.validation.ValidationMessages;
+import com.budgetmaster.constants.validation.ValidationPatterns;
+
+/** Inclusive range of months given as query parameters. */
+public class MonthRangeRequest {
+  @NotNull(message = ValidationMessages.MONTH_IS_REQUIRED)
+  @Pattern(
+      regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+      message = ValidationMessages.INVALID_MONTH_FORMAT)
+  private String fromMonth;
+
+  @NotNull(message = ValidationMessages.MONTH_IS_REQUIRED)
+  @Pattern(
+      regexp = ValidationPatterns.Date.YEAR_MONTH_REGEX,
+      message = ValidationMessages.INVALID_MONTH_FORMAT)
+  private String toMonth;
+
+  @AssertTrue(message = ValidationMessages.Filter.MONTH_RANGE_INVALID)
+  public boolean isRangeValid() {
+    return DateUtils.isOrderedRange(fromMonth, toMonth);
+  }
+
+  public String getFromMonth() {
+    return fromMonth;
+  }
+
+  public void setFromMonth(String fromMonth) {
+    this.fromMonth = fromMonth;
+  }
+
+  public String getToMonth() {
+    return toMonth;
+  }
+
+  public void setToMonth(String toMonth) {
+    this.toMonth = toMonth;
+  }
+}
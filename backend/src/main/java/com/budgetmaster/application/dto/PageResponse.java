@@ -0,0 +1,51 @@
+package com.budgetmaster.application.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+/** One page of results, with enough paging information for a client to request the next one. */
+public class PageResponse<T> {
+  private final List<T> content;
+  private final int page;
+  private final int size;
+  private final long totalElements;
+  private final int totalPages;
+
+  private PageResponse(List<T> content, int page, int size, long totalElements, int totalPages) {
+    this.content = content;
+    this.page = page;
+    this.size = size;
+    this.totalElements = totalElements;
+    this.totalPages = totalPages;
+  }
+
+  public static <T> PageResponse<T> of(Page<T> page) {
+    return new PageResponse<>(
+        page.getContent(),
+        page.getNumber(),
+        page.getSize(),
+        page.getTotalElements(),
+        page.getTotalPages());
+  }
+
+  public List<T> getContent() {
+    return content;
+  }
+
+  public int getPage() {
+    return page;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public long getTotalElements() {
+    return totalElements;
+  }
+
+  public int getTotalPages() {
+    return totalPages;
+  }
+}
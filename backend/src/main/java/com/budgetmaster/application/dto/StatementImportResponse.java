@@ -0,0 +1,49 @@
+package com.budgetmaster.application.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/** Outcome of one bank statement import. */
+public class StatementImportResponse {
+  private final long incomes;
+  private final long expenses;
+  private final long skipped;
+  private final long duplicates;
+  private final List<YearMonth> months;
+
+  private StatementImportResponse(
+      long incomes, long expenses, long skipped, long duplicates, List<YearMonth> months) {
+    this.incomes = incomes;
+    this.expenses = expenses;
+    this.skipped = skipped;
+    this.duplicates = duplicates;
+    this.months = months;
+  }
+
+  public static StatementImportResponse of(
+      long incomes, long expenses, long skipped, long duplicates, List<YearMonth> months) {
+    return new StatementImportResponse(incomes, expenses, skipped, duplicates, List.copyOf(months));
+  }
+
+  public long getIncomes() {
+    return incomes;
+  }
+
+  public long getExpenses() {
+    return expenses;
+  }
+
+  /** Entries without a date or amount, with a zero amount or in an unsupported currency. */
+  public long getSkipped() {
+    return skipped;
+  }
+
+  /** Entries already recorded in their month, left out so they are not counted twice. */
+  public long getDuplicates() {
+    return duplicates;
+  }
+
+  public List<YearMonth> getMonths() {
+    return months;
+  }
+}
@@ -0,0 +1,75 @@
+package com.budgetmaster.application.dto;
+
+import java.time.YearMonth;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.RankedExpenseRow;
+
+public class TopExpenseResponse {
+  private final ExpenseCategory category;
+  private final long rank;
+  private final Long id;
+  private final String name;
+  private final Money money;
+  private final TransactionType type;
+  private final YearMonth month;
+
+  private TopExpenseResponse(
+      ExpenseCategory category,
+      long rank,
+      Long id,
+      String name,
+      Money money,
+      TransactionType type,
+      YearMonth month) {
+    this.category = category;
+    this.rank = rank;
+    this.id = id;
+    this.name = name;
+    this.money = money;
+    this.type = type;
+    this.month = month;
+  }
+
+  public static TopExpenseResponse from(RankedExpenseRow row) {
+    return new TopExpenseResponse(
+        ExpenseCategory.valueOf(row.getCategory()),
+        row.getRank(),
+        row.getId(),
+        row.getName(),
+        Money.of(row.getAmount(), Currency.getInstance(row.getCurrency())),
+        TransactionType.valueOf(row.getType()),
+        YearMonth.parse(row.getMonth()));
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public long getRank() {
+    return rank;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Money getMoney() {
+    return money;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+}
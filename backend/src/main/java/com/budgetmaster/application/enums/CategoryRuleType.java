@@ -0,0 +1,22 @@
+package com.budgetmaster.application.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/** How a category rule's pattern is matched against an expense name. */
+public enum CategoryRuleType {
+  /** The name contains the pattern as literal text, ignoring case. */
+  KEYWORD,
+  /** The pattern is a regular expression found somewhere in the name, ignoring case. */
+  PATTERN;
+
+  @JsonCreator
+  public static CategoryRuleType fromString(String value) {
+    return CategoryRuleType.valueOf(value.toUpperCase());
+  }
+
+  @JsonValue
+  public String toJson() {
+    return name();
+  }
+}
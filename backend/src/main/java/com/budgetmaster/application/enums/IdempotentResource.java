@@ -0,0 +1,7 @@
+package com.budgetmaster.application.enums;
+
+/** Resource types whose creation can be deduplicated with an Idempotency-Key. */
+public enum IdempotentResource {
+  INCOME,
+  EXPENSE
+}
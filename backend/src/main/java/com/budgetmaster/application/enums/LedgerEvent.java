@@ -0,0 +1,17 @@
+package com.budgetmaster.application.enums;
+
+/** What happened to produce a ledger entry. */
+public enum LedgerEvent {
+  /** Totals the budget already held when the ledger was introduced. */
+  OPENING,
+  /** A transaction was created. */
+  CREATED,
+  /** A transaction was changed; one entry reverses the old amount, one records the new amount. */
+  AMENDED,
+  /** A transaction was deleted; the entry reverses its amount. */
+  DELETED,
+  /** Transactions were written in bulk; the entry is their total for one month. */
+  IMPORTED,
+  /** A budget was deleted; the entries reverse the totals it held. */
+  CLEARED
+}
@@ -0,0 +1,7 @@
+package com.budgetmaster.application.enums;
+
+/** Which budget total a ledger entry moves. */
+public enum LedgerKind {
+  INCOME,
+  EXPENSE
+}
@@ -1,12 +1,41 @@
 package com.budgetmaster.application.enums;
 
 import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.budgetmaster.constants.error.ErrorMessages;
 import com.budgetmaster.constants.money.CurrencyConstants;
 
 public enum SupportedCurrency {
-  GBP(Currency.getInstance(CurrencyConstants.Codes.GBP));
+  GBP(Currency.getInstance(CurrencyConstants.Codes.GBP)),
+  EUR(Currency.getInstance(CurrencyConstants.Codes.EUR)),
+  USD(Currency.getInstance(CurrencyConstants.Codes.USD));
+
+  /**
+   * Supported currencies in declaration order. Cached once because {@code values()} clones its
+   * array on every call.
+   */
+  private static final List<SupportedCurrency> ALL = List.of(values());
+
+  /**
+   * Lookup from currency to enum constant, so validation and resolution cost one hash probe rather
+   * than a scan over every supported currency. Used on every {@code Money} construction.
+   */
+  private static final Map<Currency, SupportedCurrency> BY_CURRENCY =
+      ALL.stream()
+          .collect(
+              Collectors.toUnmodifiableMap(SupportedCurrency::getCurrency, Function.identity()));
+
+  /** Lookup from ISO code, so request parameters are checked without a {@link Currency} lookup. */
+  private static final Map<String, SupportedCurrency> BY_CODE =
+      ALL.stream()
+          .collect(
+              Collectors.toUnmodifiableMap(
+                  supported -> supported.getCurrency().getCurrencyCode(), Function.identity()));
 
   private final Currency currency;
 
@@ -18,21 +47,33 @@ public enum SupportedCurrency {
     return currency;
   }
 
+  public static List<SupportedCurrency> all() {
+    return ALL;
+  }
+
   public static boolean validateSupportedCurrency(Currency currency) {
-    for (SupportedCurrency supported : SupportedCurrency.values()) {
-      if (supported.currency.equals(currency)) {
-        return true;
-      }
+    return currency != null && BY_CURRENCY.containsKey(currency);
+  }
+
+  public static boolean validateSupportedCode(String code) {
+    return code != null && BY_CODE.containsKey(code);
+  }
+
+  /** Returns the supported currency codes in declaration order, separated by the delimiter. */
+  public static String joinedCodes(String delimiter) {
+    StringJoiner codes = new StringJoiner(delimiter);
+    for (SupportedCurrency supported : ALL) {
+      codes.add(supported.getCurrency().getCurrencyCode());
     }
-    return false;
+    return codes.toString();
   }
 
   public static SupportedCurrency fromCurrency(Currency currency) {
-    for (SupportedCurrency supported : SupportedCurrency.values()) {
-      if (supported.currency.equals(currency)) {
-        return supported;
-      }
+    SupportedCurrency supported = currency == null ? null : BY_CURRENCY.get(currency);
+    if (supported == null) {
+      throw new IllegalArgumentException(
+          String.format(ErrorMessages.Currency.UNSUPPORTED, currency));
     }
-    throw new IllegalArgumentException(String.format(ErrorMessages.Currency.UNSUPPORTED, currency));
+    return supported;
   }
 }
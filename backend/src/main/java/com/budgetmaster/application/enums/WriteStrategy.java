@@ -0,0 +1,9 @@
+package com.budgetmaster.application.enums;
+
+/** How income and expense writes reach the database; see {@code budgetmaster.write.strategy}. */
+public enum WriteStrategy {
+  /** Entities are saved through JPA and the budget synchronizers append to the budget ledger. */
+  JPA,
+  /** Each write is one call to a database function that also appends to the budget ledger. */
+  STORED_FUNCTION
+}
@@ -0,0 +1,36 @@
+package com.budgetmaster.application.event;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/** Published when a month's budget totals have changed, with the change of each total. */
+public class BudgetTotalsChangedEvent {
+
+  private final YearMonth month;
+  private final BigDecimal incomeDelta;
+  private final BigDecimal expenseDelta;
+
+  private BudgetTotalsChangedEvent(
+      YearMonth month, BigDecimal incomeDelta, BigDecimal expenseDelta) {
+    this.month = month;
+    this.incomeDelta = incomeDelta;
+    this.expenseDelta = expenseDelta;
+  }
+
+  public static BudgetTotalsChangedEvent of(
+      YearMonth month, BigDecimal incomeDelta, BigDecimal expenseDelta) {
+    return new BudgetTotalsChangedEvent(month, incomeDelta, expenseDelta);
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public BigDecimal getIncomeDelta() {
+    return incomeDelta;
+  }
+
+  public BigDecimal getExpenseDelta() {
+    return expenseDelta;
+  }
+}
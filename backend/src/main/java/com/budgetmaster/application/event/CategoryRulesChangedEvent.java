@@ -0,0 +1,13 @@
+package com.budgetmaster.application.event;
+
+/** Published when a category rule was created or deleted. */
+public class CategoryRulesChangedEvent {
+
+  private static final CategoryRulesChangedEvent INSTANCE = new CategoryRulesChangedEvent();
+
+  private CategoryRulesChangedEvent() {}
+
+  public static CategoryRulesChangedEvent of() {
+    return INSTANCE;
+  }
+}
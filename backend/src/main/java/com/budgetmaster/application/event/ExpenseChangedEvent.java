@@ -0,0 +1,38 @@
+package com.budgetmaster.application.event;
+
+import com.budgetmaster.application.model.Expense;
+
+/**
+ * Published by the expense service whenever an expense is created, updated or deleted. The state
+ * before the change is null for a creation, the state after the change is null for a deletion.
+ */
+public class ExpenseChangedEvent {
+
+  private final Expense before;
+  private final Expense after;
+
+  private ExpenseChangedEvent(Expense before, Expense after) {
+    this.before = before;
+    this.after = after;
+  }
+
+  public static ExpenseChangedEvent created(Expense expense) {
+    return new ExpenseChangedEvent(null, expense);
+  }
+
+  public static ExpenseChangedEvent updated(Expense before, Expense after) {
+    return new ExpenseChangedEvent(before, after);
+  }
+
+  public static ExpenseChangedEvent deleted(Expense expense) {
+    return new ExpenseChangedEvent(expense, null);
+  }
+
+  public Expense getBefore() {
+    return before;
+  }
+
+  public Expense getAfter() {
+    return after;
+  }
+}
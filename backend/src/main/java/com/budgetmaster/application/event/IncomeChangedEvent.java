@@ -0,0 +1,38 @@
+package com.budgetmaster.application.event;
+
+import com.budgetmaster.application.model.Income;
+
+/**
+ * Published by the income service whenever an income is created, updated or deleted. The state
+ * before the change is null for a creation, the state after the change is null for a deletion.
+ */
+public class IncomeChangedEvent {
+
+  private final Income before;
+  private final Income after;
+
+  private IncomeChangedEvent(Income before, Income after) {
+    this.before = before;
+    this.after = after;
+  }
+
+  public static IncomeChangedEvent created(Income income) {
+    return new IncomeChangedEvent(null, income);
+  }
+
+  public static IncomeChangedEvent updated(Income before, Income after) {
+    return new IncomeChangedEvent(before, after);
+  }
+
+  public static IncomeChangedEvent deleted(Income income) {
+    return new IncomeChangedEvent(income, null);
+  }
+
+  public Income getBefore() {
+    return before;
+  }
+
+  public Income getAfter() {
+    return after;
+  }
+}
@@ -0,0 +1,23 @@
+package com.budgetmaster.application.event;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/** Published when entries have been appended to the budget ledger. */
+public class LedgerAppendedEvent {
+
+  private final List<YearMonth> months;
+
+  private LedgerAppendedEvent(List<YearMonth> months) {
+    this.months = months;
+  }
+
+  public static LedgerAppendedEvent of(List<YearMonth> months) {
+    return new LedgerAppendedEvent(List.copyOf(months));
+  }
+
+  /** Months that received entries, in chronological order. */
+  public List<YearMonth> getMonths() {
+    return months;
+  }
+}
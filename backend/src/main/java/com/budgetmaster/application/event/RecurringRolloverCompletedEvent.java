@@ -0,0 +1,24 @@
+package com.budgetmaster.application.event;
+
+import java.time.YearMonth;
+
+/**
+ * Published when a rollover run into a month has finished, whether or not it copied anything. The
+ * month then holds every recurring transaction of the month before it.
+ */
+public class RecurringRolloverCompletedEvent {
+
+  private final YearMonth month;
+
+  private RecurringRolloverCompletedEvent(YearMonth month) {
+    this.month = month;
+  }
+
+  public static RecurringRolloverCompletedEvent of(YearMonth month) {
+    return new RecurringRolloverCompletedEvent(month);
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+}
@@ -0,0 +1,21 @@
+package com.budgetmaster.application.event;
+
+import java.time.YearMonth;
+
+/** Published after recurring transactions have been copied into a month outside of the services. */
+public class RecurringTransactionsMaterializedEvent {
+
+  private final YearMonth month;
+
+  private RecurringTransactionsMaterializedEvent(YearMonth month) {
+    this.month = month;
+  }
+
+  public static RecurringTransactionsMaterializedEvent of(YearMonth month) {
+    return new RecurringTransactionsMaterializedEvent(month);
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+}
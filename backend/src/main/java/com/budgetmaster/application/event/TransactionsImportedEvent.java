@@ -0,0 +1,23 @@
+package com.budgetmaster.application.event;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/** Published after an import has written incomes or expenses in bulk, bypassing the services. */
+public class TransactionsImportedEvent {
+
+  private final List<YearMonth> months;
+
+  private TransactionsImportedEvent(List<YearMonth> months) {
+    this.months = months;
+  }
+
+  public static TransactionsImportedEvent of(List<YearMonth> months) {
+    return new TransactionsImportedEvent(List.copyOf(months));
+  }
+
+  /** Months that received imported rows, in chronological order. */
+  public List<YearMonth> getMonths() {
+    return months;
+  }
+}
@@ -0,0 +1,13 @@
+package com.budgetmaster.application.exception;
+
+public class CategoryRuleNotFoundException extends RuntimeException {
+  /*
+   *  Added serialVersionUID to handle object serialization - while not used now, this prevents
+   *  version conflicts if later needed to serialize exceptions (e.g., in distributed systems)
+   */
+  private static final long serialVersionUID = 1L;
+
+  public CategoryRuleNotFoundException(String message) {
+    super(message);
+  }
+}
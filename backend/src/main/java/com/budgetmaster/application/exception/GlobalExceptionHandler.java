@@ -93,6 +93,36 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
   }
 
+  @ExceptionHandler(InvalidImportFileException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<ErrorResponse> handleInvalidImportFile(
+      InvalidImportFileException ex, WebRequest request) {
+    ErrorResponse response =
+        new ErrorResponseBuilder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .errorCode(ErrorCode.INVALID_INPUT)
+            .message(ex.getMessage())
+            .path(request.getDescription(false))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+  }
+
+  @ExceptionHandler(InvalidCategoryRuleException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<ErrorResponse> handleInvalidCategoryRule(
+      InvalidCategoryRuleException ex, WebRequest request) {
+    ErrorResponse response =
+        new ErrorResponseBuilder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .errorCode(ErrorCode.INVALID_INPUT)
+            .message(ex.getMessage())
+            .path(request.getDescription(false))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+  }
+
   @ExceptionHandler(Exception.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
@@ -122,6 +152,36 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
   }
 
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(
+      IdempotencyKeyReusedException ex, WebRequest request) {
+    ErrorResponse response =
+        new ErrorResponseBuilder()
+            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+            .errorCode(ErrorCode.IDEMPOTENCY_KEY_REUSED)
+            .message(ex.getMessage())
+            .path(request.getDescription(false))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+  }
+
+  @ExceptionHandler(IdempotencyKeyNotCompletedException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyNotCompleted(
+      IdempotencyKeyNotCompletedException ex, WebRequest request) {
+    ErrorResponse response =
+        new ErrorResponseBuilder()
+            .status(HttpStatus.CONFLICT.value())
+            .errorCode(ErrorCode.IDEMPOTENCY_KEY_NOT_COMPLETED)
+            .message(ex.getMessage())
+            .path(request.getDescription(false))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+  }
+
   @ExceptionHandler(BudgetNotFoundException.class)
   @ResponseStatus(HttpStatus.NOT_FOUND)
   public ResponseEntity<ErrorResponse> handleBudgetNotFound(
@@ -167,6 +227,21 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
   }
 
+  @ExceptionHandler(CategoryRuleNotFoundException.class)
+  @ResponseStatus(HttpStatus.NOT_FOUND)
+  public ResponseEntity<ErrorResponse> handleCategoryRuleNotFound(
+      CategoryRuleNotFoundException ex, WebRequest request) {
+    ErrorResponse response =
+        new ErrorResponseBuilder()
+            .status(HttpStatus.NOT_FOUND.value())
+            .errorCode(ErrorCode.RESOURCE_NOT_FOUND)
+            .message(ex.getMessage())
+            .path(request.getDescription(false))
+            .build();
+
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+  }
+
   private ResponseEntity<ErrorResponse> handleInvalidEnumValue(
       ValueInstantiationException ex, WebRequest request) {
     JsonMappingException.Reference reference = ex.getPath().get(0);
@@ -9,6 +9,10 @@ public enum ErrorCode {
   INVALID_INPUT("Invalid input"),
   INVALID_ENUM_VALUE("Invalid enum value"),
 
+  // Idempotency errors
+  IDEMPOTENCY_KEY_REUSED("Idempotency key reused"),
+  IDEMPOTENCY_KEY_NOT_COMPLETED("Idempotency key not completed"),
+
   // System errors
   INTERNAL_SERVER_ERROR("Internal server error"),
   SYNCHRONIZATION_FAILED("Synchronization failed"),
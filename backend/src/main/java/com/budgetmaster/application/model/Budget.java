@@ -5,26 +5,38 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Currency;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.budgetmaster.constants.cache.CacheRegions;
 import com.budgetmaster.constants.database.ColumnConstraints;
 import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.SequenceNames;
 import com.budgetmaster.constants.database.TableNames;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BUDGETS)
 @Table(name = TableNames.BUDGETS)
 public class Budget {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenceNames.BUDGETS)
+  @SequenceGenerator(
+      name = SequenceNames.BUDGETS,
+      sequenceName = SequenceNames.BUDGETS,
+      allocationSize = ColumnConstraints.Id.ALLOCATION_SIZE)
   @Column(name = ColumnNames.Audit.ID)
   private Long id;
 
@@ -52,6 +64,13 @@ public class Budget {
   @Column(name = ColumnNames.Budget.MONTH, nullable = false, unique = true)
   private YearMonth month;
 
+  /**
+   * Ledger entries whose transaction id is below this position are included in the totals. Only
+   * the {@link com.budgetmaster.application.service.ledger.BudgetProjector} moves it.
+   */
+  @Column(name = ColumnNames.Budget.LEDGER_POSITION, nullable = false)
+  private long ledgerPosition;
+
   @CreationTimestamp
   @Column(
       name = ColumnNames.Audit.CREATED_AT,
@@ -132,6 +151,26 @@ public class Budget {
     this.currency = currency;
   }
 
+  public long getLedgerPosition() {
+    return ledgerPosition;
+  }
+
+  /** Adds folded ledger totals and moves the budget to the position they were folded up to. */
+  public void fold(BigDecimal income, BigDecimal expense, long position) {
+    this.totalIncome = this.totalIncome.add(income);
+    this.totalExpense = this.totalExpense.add(expense);
+    this.ledgerPosition = position;
+    updateSavings();
+  }
+
+  /** Replaces the totals with those at the given position, as the start of a rebuild. */
+  public void restore(BigDecimal totalIncome, BigDecimal totalExpense, long position) {
+    this.totalIncome = totalIncome;
+    this.totalExpense = totalExpense;
+    this.ledgerPosition = position;
+    updateSavings();
+  }
+
   public void addIncome(BigDecimal income) {
     this.totalIncome = this.totalIncome.add(income);
     updateSavings();
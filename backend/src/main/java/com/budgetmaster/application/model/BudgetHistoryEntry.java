@@ -0,0 +1,118 @@
+package com.budgetmaster.application.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * One change to a month's budget totals. A keyframe holds the full totals and the currency; any
+ * other entry holds the change from the month's previous entry. Entries are written by {@link
+ * com.budgetmaster.application.service.ledger.BudgetHistoryService} and never updated.
+ */
+@Entity
+@IdClass(BudgetHistoryEntryId.class)
+@Table(name = TableNames.BUDGET_HISTORY)
+public class BudgetHistoryEntry {
+  @Id
+  @Column(name = ColumnNames.BudgetHistory.MONTH)
+  private YearMonth month;
+
+  @Id
+  @Column(name = ColumnNames.BudgetHistory.VERSION)
+  private Integer version;
+
+  @Column(name = ColumnNames.BudgetHistory.KEYFRAME, nullable = false, updatable = false)
+  private boolean keyframe;
+
+  @Column(
+      name = ColumnNames.BudgetHistory.INCOME,
+      nullable = false,
+      updatable = false,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal income;
+
+  @Column(
+      name = ColumnNames.BudgetHistory.EXPENSE,
+      nullable = false,
+      updatable = false,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal expense;
+
+  /** The currency of the totals; null for deltas, which follow their keyframe's. */
+  @Column(name = ColumnNames.BudgetHistory.CURRENCY, updatable = false, length = 3)
+  private Currency currency;
+
+  @Column(
+      name = ColumnNames.BudgetHistory.CHANGED_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime changedAt;
+
+  protected BudgetHistoryEntry() {}
+
+  /** Creates an entry holding the month's full totals. */
+  public static BudgetHistoryEntry keyframe(
+      YearMonth month, int version, BigDecimal income, BigDecimal expense, Currency currency) {
+    BudgetHistoryEntry entry = new BudgetHistoryEntry();
+    entry.month = month;
+    entry.version = version;
+    entry.keyframe = true;
+    entry.income = income;
+    entry.expense = expense;
+    entry.currency = currency;
+    return entry;
+  }
+
+  /** Creates an entry holding the change of the month's totals since its previous entry. */
+  public static BudgetHistoryEntry delta(
+      YearMonth month, int version, BigDecimal income, BigDecimal expense) {
+    BudgetHistoryEntry entry = new BudgetHistoryEntry();
+    entry.month = month;
+    entry.version = version;
+    entry.income = income;
+    entry.expense = expense;
+    return entry;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public Integer getVersion() {
+    return version;
+  }
+
+  public boolean isKeyframe() {
+    return keyframe;
+  }
+
+  public BigDecimal getIncome() {
+    return income;
+  }
+
+  public BigDecimal getExpense() {
+    return expense;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public LocalDateTime getChangedAt() {
+    return changedAt;
+  }
+}
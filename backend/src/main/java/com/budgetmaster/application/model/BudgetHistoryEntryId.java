@@ -0,0 +1,35 @@
+package com.budgetmaster.application.model;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/** Composite primary key of {@link BudgetHistoryEntry}. */
+public class BudgetHistoryEntryId implements Serializable {
+
+  private YearMonth month;
+  private Integer version;
+
+  protected BudgetHistoryEntryId() {}
+
+  public BudgetHistoryEntryId(YearMonth month, Integer version) {
+    this.month = month;
+    this.version = version;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BudgetHistoryEntryId other)) {
+      return false;
+    }
+    return Objects.equals(month, other.month) && Objects.equals(version, other.version);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(month, version);
+  }
+}
@@ -0,0 +1,99 @@
+package com.budgetmaster.application.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * A month's budget totals as folded from the ledger up to a ledger position. Rows are written by
+ * {@link com.budgetmaster.application.repository.BudgetSnapshotRepository} and let a rebuild start
+ * from the latest one instead of from the first ledger entry of the month.
+ */
+@Entity
+@IdClass(BudgetSnapshotId.class)
+@Table(name = TableNames.BUDGET_SNAPSHOTS)
+public class BudgetSnapshot {
+  @Id
+  @Column(name = ColumnNames.BudgetSnapshot.MONTH)
+  private YearMonth month;
+
+  @Id
+  @Column(name = ColumnNames.BudgetSnapshot.LEDGER_POSITION)
+  private Long ledgerPosition;
+
+  @Column(
+      name = ColumnNames.BudgetSnapshot.TOTAL_INCOME,
+      nullable = false,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal totalIncome;
+
+  @Column(
+      name = ColumnNames.BudgetSnapshot.TOTAL_EXPENSE,
+      nullable = false,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal totalExpense;
+
+  @Column(name = ColumnNames.BudgetSnapshot.CURRENCY, nullable = false, length = 3)
+  private Currency currency;
+
+  @Column(
+      name = ColumnNames.BudgetSnapshot.TAKEN_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime takenAt;
+
+  protected BudgetSnapshot() {}
+
+  public static BudgetSnapshot of(
+      YearMonth month,
+      long ledgerPosition,
+      BigDecimal totalIncome,
+      BigDecimal totalExpense,
+      Currency currency) {
+    BudgetSnapshot snapshot = new BudgetSnapshot();
+    snapshot.month = month;
+    snapshot.ledgerPosition = ledgerPosition;
+    snapshot.totalIncome = totalIncome;
+    snapshot.totalExpense = totalExpense;
+    snapshot.currency = currency;
+    return snapshot;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public Long getLedgerPosition() {
+    return ledgerPosition;
+  }
+
+  public BigDecimal getTotalIncome() {
+    return totalIncome;
+  }
+
+  public BigDecimal getTotalExpense() {
+    return totalExpense;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public LocalDateTime getTakenAt() {
+    return takenAt;
+  }
+}
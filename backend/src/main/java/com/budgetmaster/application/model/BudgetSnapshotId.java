@@ -0,0 +1,36 @@
+package com.budgetmaster.application.model;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/** Composite primary key of {@link BudgetSnapshot}. */
+public class BudgetSnapshotId implements Serializable {
+
+  private YearMonth month;
+  private Long ledgerPosition;
+
+  protected BudgetSnapshotId() {}
+
+  public BudgetSnapshotId(YearMonth month, Long ledgerPosition) {
+    this.month = month;
+    this.ledgerPosition = ledgerPosition;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BudgetSnapshotId other)) {
+      return false;
+    }
+    return Objects.equals(month, other.month)
+        && Objects.equals(ledgerPosition, other.ledgerPosition);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(month, ledgerPosition);
+  }
+}
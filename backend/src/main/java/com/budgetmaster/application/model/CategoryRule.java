@@ -0,0 +1,95 @@
+package com.budgetmaster.application.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.application.dto.CategoryRuleRequest;
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.SequenceNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * Assigns a category to expenses whose name matches the pattern. Rules are compiled together by
+ * {@link com.budgetmaster.application.service.categorization.ExpenseCategorizer}.
+ */
+@Entity
+@Table(name = TableNames.CATEGORY_RULES)
+public class CategoryRule {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenceNames.CATEGORY_RULES)
+  @SequenceGenerator(
+      name = SequenceNames.CATEGORY_RULES,
+      sequenceName = SequenceNames.CATEGORY_RULES,
+      allocationSize = ColumnConstraints.Id.ALLOCATION_SIZE)
+  @Column(name = ColumnNames.Audit.ID)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.CategoryRule.TYPE, nullable = false)
+  private CategoryRuleType type;
+
+  @Column(name = ColumnNames.CategoryRule.PATTERN, nullable = false)
+  private String pattern;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.CategoryRule.CATEGORY, nullable = false)
+  private ExpenseCategory category;
+
+  @Column(
+      name = ColumnNames.Audit.CREATED_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime createdAt;
+
+  protected CategoryRule() {}
+
+  public static CategoryRule of(CategoryRuleType type, String pattern, ExpenseCategory category) {
+    CategoryRule rule = new CategoryRule();
+    rule.type = type;
+    rule.pattern = pattern;
+    rule.category = category;
+    return rule;
+  }
+
+  /** Keywords are stored upper-cased, like the expense names they are matched against. */
+  public static CategoryRule from(CategoryRuleRequest request) {
+    String pattern = request.getPattern().trim();
+    return of(
+        request.getType(),
+        request.getType() == CategoryRuleType.KEYWORD ? pattern.toUpperCase() : pattern,
+        request.getCategory());
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public CategoryRuleType getType() {
+    return type;
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
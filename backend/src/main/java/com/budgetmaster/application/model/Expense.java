@@ -1,8 +1,10 @@
 package com.budgetmaster.application.model;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -11,8 +13,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,14 +25,23 @@ import com.budgetmaster.application.dto.ExpenseRequest;
 import com.budgetmaster.application.enums.ExpenseCategory;
 import com.budgetmaster.application.enums.TransactionType;
 import com.budgetmaster.application.util.DateUtils;
+import com.budgetmaster.constants.cache.CacheRegions;
+import com.budgetmaster.constants.database.ColumnConstraints;
 import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.SequenceNames;
 import com.budgetmaster.constants.database.TableNames;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EXPENSES)
 @Table(name = TableNames.EXPENSES)
 public class Expense {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenceNames.EXPENSES)
+  @SequenceGenerator(
+      name = SequenceNames.EXPENSES,
+      sequenceName = SequenceNames.EXPENSES,
+      allocationSize = ColumnConstraints.Id.ALLOCATION_SIZE)
   @Column(name = ColumnNames.Audit.ID)
   private Long id;
 
@@ -47,6 +61,16 @@ public class Expense {
   @Column(name = ColumnNames.Expense.MONTH, nullable = false)
   private YearMonth month;
 
+  /**
+   * The amount in the base currency the ledger recorded for the row, which an update or delete
+   * reverses. Null for rows written before base amounts were stored.
+   */
+  @Column(
+      name = ColumnNames.Expense.BASE_AMOUNT,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal baseAmount;
+
   @CreationTimestamp
   @Column(
       name = ColumnNames.Audit.CREATED_AT,
@@ -139,6 +163,14 @@ public class Expense {
     this.month = month;
   }
 
+  public BigDecimal getBaseAmount() {
+    return baseAmount;
+  }
+
+  public void setBaseAmount(BigDecimal baseAmount) {
+    this.baseAmount = baseAmount;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
@@ -147,6 +179,12 @@ public class Expense {
     return lastUpdatedAt;
   }
 
+  /** Sets the audit timestamps the database assigned to a row written outside JPA. */
+  public void setAuditTimestamps(LocalDateTime createdAt, LocalDateTime lastUpdatedAt) {
+    this.createdAt = createdAt;
+    this.lastUpdatedAt = lastUpdatedAt;
+  }
+
   public Expense deepCopy() {
     Expense copy = new Expense();
     copy.id = this.id;
@@ -155,6 +193,7 @@ public class Expense {
     copy.category = this.category;
     copy.type = this.type;
     copy.month = this.month;
+    copy.baseAmount = this.baseAmount;
     copy.createdAt = this.createdAt;
     copy.lastUpdatedAt = this.lastUpdatedAt;
     return copy;
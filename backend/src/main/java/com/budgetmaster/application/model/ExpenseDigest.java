@@ -0,0 +1,70 @@
+package com.budgetmaster.application.model;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * The encoded t-digest of a month's expense amounts in one category. Rows are written by {@link
+ * com.budgetmaster.application.service.analytics.ExpenseDigestService}, which replaces a row
+ * whenever its digest changes.
+ */
+@Entity
+@IdClass(ExpenseDigestId.class)
+@Table(name = TableNames.EXPENSE_DIGESTS)
+public class ExpenseDigest {
+  @Id
+  @Column(name = ColumnNames.ExpenseDigest.MONTH)
+  private YearMonth month;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.ExpenseDigest.CATEGORY)
+  private ExpenseCategory category;
+
+  @Column(name = ColumnNames.ExpenseDigest.DIGEST, nullable = false)
+  private byte[] digest;
+
+  @UpdateTimestamp
+  @Column(name = ColumnNames.ExpenseDigest.UPDATED_AT, nullable = false)
+  private LocalDateTime updatedAt;
+
+  protected ExpenseDigest() {}
+
+  public static ExpenseDigest of(YearMonth month, ExpenseCategory category, byte[] digest) {
+    ExpenseDigest expenseDigest = new ExpenseDigest();
+    expenseDigest.month = month;
+    expenseDigest.category = category;
+    expenseDigest.digest = digest;
+    return expenseDigest;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public byte[] getDigest() {
+    return digest;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+}
@@ -0,0 +1,37 @@
+package com.budgetmaster.application.model;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Objects;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+
+/** Composite primary key of {@link ExpenseDigest}. */
+public class ExpenseDigestId implements Serializable {
+
+  private YearMonth month;
+  private ExpenseCategory category;
+
+  protected ExpenseDigestId() {}
+
+  public ExpenseDigestId(YearMonth month, ExpenseCategory category) {
+    this.month = month;
+    this.category = category;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ExpenseDigestId other)) {
+      return false;
+    }
+    return Objects.equals(month, other.month) && category == other.category;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(month, category);
+  }
+}
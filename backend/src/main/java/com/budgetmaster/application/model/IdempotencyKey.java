@@ -0,0 +1,68 @@
+package com.budgetmaster.application.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * Records the resource created for a client supplied Idempotency-Key. Rows are written and read
+ * through {@link com.budgetmaster.application.repository.IdempotencyKeyRepository} only.
+ */
+@Entity
+@IdClass(IdempotencyKeyId.class)
+@Table(name = TableNames.IDEMPOTENCY_KEYS)
+public class IdempotencyKey {
+  @Id
+  @Column(name = ColumnNames.IdempotencyKey.IDEMPOTENCY_KEY)
+  private String idempotencyKey;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.IdempotencyKey.RESOURCE_TYPE)
+  private IdempotentResource resourceType;
+
+  @Column(name = ColumnNames.IdempotencyKey.RESOURCE_ID)
+  private Long resourceId;
+
+  @Column(name = ColumnNames.IdempotencyKey.REQUEST_HASH)
+  private String requestHash;
+
+  @Column(
+      name = ColumnNames.Audit.CREATED_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime createdAt;
+
+  protected IdempotencyKey() {}
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public IdempotentResource getResourceType() {
+    return resourceType;
+  }
+
+  public Long getResourceId() {
+    return resourceId;
+  }
+
+  public String getRequestHash() {
+    return requestHash;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
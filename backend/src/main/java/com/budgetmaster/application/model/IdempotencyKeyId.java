@@ -0,0 +1,37 @@
+package com.budgetmaster.application.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.budgetmaster.application.enums.IdempotentResource;
+
+/** Composite primary key of {@link IdempotencyKey}. */
+public class IdempotencyKeyId implements Serializable {
+
+  private String idempotencyKey;
+  private IdempotentResource resourceType;
+
+  protected IdempotencyKeyId() {}
+
+  public IdempotencyKeyId(String idempotencyKey, IdempotentResource resourceType) {
+    this.idempotencyKey = idempotencyKey;
+    this.resourceType = resourceType;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof IdempotencyKeyId other)) {
+      return false;
+    }
+    return Objects.equals(idempotencyKey, other.idempotencyKey)
+        && resourceType == other.resourceType;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(idempotencyKey, resourceType);
+  }
+}
@@ -0,0 +1,59 @@
+package com.budgetmaster.application.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * A CSV record that failed validation during an import. Rows are written by the set-based import
+ * queries in the income and expense repositories and only read through {@link
+ * com.budgetmaster.application.repository.ImportRejectRepository}.
+ */
+@Entity
+@IdClass(ImportRejectId.class)
+@Table(name = TableNames.IMPORT_REJECTS)
+public class ImportReject {
+  @Id
+  @Column(name = ColumnNames.ImportReject.IMPORT_ID)
+  private UUID importId;
+
+  @Id
+  @Column(name = ColumnNames.ImportReject.RECORD_NUMBER)
+  private Long recordNumber;
+
+  @Column(name = ColumnNames.ImportReject.REASON, nullable = false)
+  private String reason;
+
+  @Column(
+      name = ColumnNames.Audit.CREATED_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime createdAt;
+
+  protected ImportReject() {}
+
+  public UUID getImportId() {
+    return importId;
+  }
+
+  public Long getRecordNumber() {
+    return recordNumber;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
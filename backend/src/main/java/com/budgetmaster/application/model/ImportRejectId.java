@@ -0,0 +1,36 @@
+package com.budgetmaster.application.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/** Composite primary key of {@link ImportReject}. */
+public class ImportRejectId implements Serializable {
+
+  private UUID importId;
+  private Long recordNumber;
+
+  protected ImportRejectId() {}
+
+  public ImportRejectId(UUID importId, Long recordNumber) {
+    this.importId = importId;
+    this.recordNumber = recordNumber;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ImportRejectId other)) {
+      return false;
+    }
+    return Objects.equals(importId, other.importId)
+        && Objects.equals(recordNumber, other.recordNumber);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(importId, recordNumber);
+  }
+}
@@ -1,8 +1,10 @@
 package com.budgetmaster.application.model;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -11,22 +13,34 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.budgetmaster.application.dto.IncomeRequest;
 import com.budgetmaster.application.enums.TransactionType;
 import com.budgetmaster.application.util.DateUtils;
+import com.budgetmaster.constants.cache.CacheRegions;
+import com.budgetmaster.constants.database.ColumnConstraints;
 import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.SequenceNames;
 import com.budgetmaster.constants.database.TableNames;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INCOMES)
 @Table(name = TableNames.INCOMES)
 public class Income {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenceNames.INCOMES)
+  @SequenceGenerator(
+      name = SequenceNames.INCOMES,
+      sequenceName = SequenceNames.INCOMES,
+      allocationSize = ColumnConstraints.Id.ALLOCATION_SIZE)
   @Column(name = ColumnNames.Audit.ID)
   private Long id;
 
@@ -45,6 +59,16 @@ public class Income {
   @Column(name = ColumnNames.Income.MONTH, nullable = false)
   private YearMonth month;
 
+  /**
+   * The amount in the base currency the ledger recorded for the row, which an update or delete
+   * reverses. Null for rows written before base amounts were stored.
+   */
+  @Column(
+      name = ColumnNames.Income.BASE_AMOUNT,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal baseAmount;
+
   @CreationTimestamp
   @Column(
       name = ColumnNames.Audit.CREATED_AT,
@@ -137,6 +161,14 @@ public class Income {
     this.month = month;
   }
 
+  public BigDecimal getBaseAmount() {
+    return baseAmount;
+  }
+
+  public void setBaseAmount(BigDecimal baseAmount) {
+    this.baseAmount = baseAmount;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
@@ -145,6 +177,12 @@ public class Income {
     return lastUpdatedAt;
   }
 
+  /** Sets the audit timestamps the database assigned to a row written outside JPA. */
+  public void setAuditTimestamps(LocalDateTime createdAt, LocalDateTime lastUpdatedAt) {
+    this.createdAt = createdAt;
+    this.lastUpdatedAt = lastUpdatedAt;
+  }
+
   public Income deepCopy() {
     Income copy = new Income();
     copy.id = this.id;
@@ -152,6 +190,7 @@ public class Income {
     copy.source = this.source;
     copy.type = this.type;
     copy.month = this.month;
+    copy.baseAmount = this.baseAmount;
     copy.money = Money.of(this.money.getAmount(), this.money.getCurrency());
     copy.createdAt = this.createdAt;
     copy.lastUpdatedAt = this.lastUpdatedAt;
@@ -0,0 +1,138 @@
+package com.budgetmaster.application.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import com.budgetmaster.application.enums.LedgerEvent;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.database.ColumnNames;
+import com.budgetmaster.constants.database.SequenceNames;
+import com.budgetmaster.constants.database.TableNames;
+
+/**
+ * One append-only change to a month's income or expense total, in the base currency. Entries are
+ * never updated or deleted; budgets are folded from them by {@link
+ * com.budgetmaster.application.service.ledger.BudgetProjector}. The id of the inserting database
+ * transaction is assigned by the column default and orders entries for the projector.
+ */
+@Entity
+@Table(name = TableNames.LEDGER_ENTRIES)
+public class LedgerEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SequenceNames.LEDGER_ENTRIES)
+  @SequenceGenerator(
+      name = SequenceNames.LEDGER_ENTRIES,
+      sequenceName = SequenceNames.LEDGER_ENTRIES,
+      allocationSize = ColumnConstraints.Id.ALLOCATION_SIZE)
+  @Column(name = ColumnNames.Audit.ID)
+  private Long id;
+
+  @Column(
+      name = ColumnNames.LedgerEntry.TX_ID,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private Long txId;
+
+  @Column(name = ColumnNames.LedgerEntry.MONTH, nullable = false, updatable = false)
+  private YearMonth month;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.LedgerEntry.KIND, nullable = false, updatable = false)
+  private LedgerKind kind;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = ColumnNames.LedgerEntry.EVENT, nullable = false, updatable = false)
+  private LedgerEvent event;
+
+  /** The income or expense the entry is about; null for entries that total a bulk write. */
+  @Column(name = ColumnNames.LedgerEntry.TRANSACTION_ID, updatable = false)
+  private Long transactionId;
+
+  @Column(
+      name = ColumnNames.LedgerEntry.AMOUNT,
+      nullable = false,
+      updatable = false,
+      precision = ColumnConstraints.Amount.PRECISION,
+      scale = ColumnConstraints.Amount.SCALE)
+  private BigDecimal amount;
+
+  @Column(name = ColumnNames.LedgerEntry.CURRENCY, nullable = false, updatable = false, length = 3)
+  private Currency currency;
+
+  @Column(
+      name = ColumnNames.LedgerEntry.RECORDED_AT,
+      nullable = false,
+      updatable = false,
+      insertable = false)
+  private LocalDateTime recordedAt;
+
+  protected LedgerEntry() {}
+
+  /** Creates an entry that adds the signed amount to the month's total of the given kind. */
+  public static LedgerEntry of(
+      YearMonth month,
+      LedgerKind kind,
+      LedgerEvent event,
+      Long transactionId,
+      BigDecimal amount,
+      Currency currency) {
+    LedgerEntry entry = new LedgerEntry();
+    entry.month = month;
+    entry.kind = kind;
+    entry.event = event;
+    entry.transactionId = transactionId;
+    entry.amount = amount;
+    entry.currency = currency;
+    return entry;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getTxId() {
+    return txId;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public LedgerKind getKind() {
+    return kind;
+  }
+
+  public LedgerEvent getEvent() {
+    return event;
+  }
+
+  public Long getTransactionId() {
+    return transactionId;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public LocalDateTime getRecordedAt() {
+    return recordedAt;
+  }
+}
@@ -28,7 +28,10 @@ public final class Money {
   protected Money() {}
 
   private Money(BigDecimal amount, Currency currency) {
-    SupportedCurrency.validateSupportedCurrency(currency);
+    if (!SupportedCurrency.validateSupportedCurrency(currency)) {
+      throw new IllegalArgumentException(
+          String.format(ErrorMessages.Currency.UNSUPPORTED, currency));
+    }
     this.amount = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
     this.currency = currency;
   }
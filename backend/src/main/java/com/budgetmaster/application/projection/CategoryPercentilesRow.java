@@ -0,0 +1,21 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Spend distribution of one category and currency, as returned by the native percentile query in
+ * the expense repository.
+ */
+public interface CategoryPercentilesRow {
+
+  String getCategory();
+
+  String getCurrency();
+
+  /** Number of expenses the percentiles were computed over. */
+  Long getCount();
+
+  BigDecimal getMedian();
+
+  BigDecimal getP90();
+}
@@ -0,0 +1,107 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Money;
+
+/**
+ * Read-only view of an expense used by listing endpoints. Instances are built directly by a JPQL
+ * constructor expression, so no managed entity or dirty-checking snapshot is created per row.
+ */
+public class ExpenseSummary {
+  private final Long id;
+  private final String name;
+  private final Money money;
+  private final ExpenseCategory category;
+  private final TransactionType type;
+  private final YearMonth month;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime lastUpdatedAt;
+
+  public ExpenseSummary(
+      Long id,
+      String name,
+      BigDecimal amount,
+      Currency currency,
+      ExpenseCategory category,
+      TransactionType type,
+      YearMonth month,
+      LocalDateTime createdAt,
+      LocalDateTime lastUpdatedAt) {
+    this(id, name, Money.of(amount, currency), category, type, month, createdAt, lastUpdatedAt);
+  }
+
+  private ExpenseSummary(
+      Long id,
+      String name,
+      Money money,
+      ExpenseCategory category,
+      TransactionType type,
+      YearMonth month,
+      LocalDateTime createdAt,
+      LocalDateTime lastUpdatedAt) {
+    this.id = id;
+    this.name = name;
+    this.money = money;
+    this.category = category;
+    this.type = type;
+    this.month = month;
+    this.createdAt = createdAt;
+    this.lastUpdatedAt = lastUpdatedAt;
+  }
+
+  public static ExpenseSummary from(Expense expense) {
+    return new ExpenseSummary(
+        expense.getId(),
+        expense.getName(),
+        expense.getMoney(),
+        expense.getCategory(),
+        expense.getType(),
+        expense.getMonth(),
+        expense.getCreatedAt(),
+        expense.getLastUpdatedAt());
+  }
+
+  /** Returns a copy of this summary carrying the given money, used to convert listings. */
+  public ExpenseSummary withMoney(Money money) {
+    return new ExpenseSummary(id, name, money, category, type, month, createdAt, lastUpdatedAt);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Money getMoney() {
+    return money;
+  }
+
+  public ExpenseCategory getCategory() {
+    return category;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getLastUpdatedAt() {
+    return lastUpdatedAt;
+  }
+}
@@ -0,0 +1,21 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Rows merged by one CSV import for one month and currency. Row values come from the native import
+ * merge queries in the income and expense repositories.
+ */
+public interface ImportedMonthTotal {
+
+  String getMonth();
+
+  String getCurrency();
+
+  Long getInsertedCount();
+
+  BigDecimal getInsertedTotal();
+
+  /** Sum of the base amounts the inserted rows were converted into. */
+  BigDecimal getInsertedBaseTotal();
+}
@@ -0,0 +1,106 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+
+/**
+ * Read-only view of an income used by listing endpoints. Instances are built directly by a JPQL
+ * constructor expression, so no managed entity or dirty-checking snapshot is created per row.
+ */
+public class IncomeSummary {
+  private final Long id;
+  private final String name;
+  private final String source;
+  private final Money money;
+  private final TransactionType type;
+  private final YearMonth month;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime lastUpdatedAt;
+
+  public IncomeSummary(
+      Long id,
+      String name,
+      String source,
+      BigDecimal amount,
+      Currency currency,
+      TransactionType type,
+      YearMonth month,
+      LocalDateTime createdAt,
+      LocalDateTime lastUpdatedAt) {
+    this(id, name, source, Money.of(amount, currency), type, month, createdAt, lastUpdatedAt);
+  }
+
+  private IncomeSummary(
+      Long id,
+      String name,
+      String source,
+      Money money,
+      TransactionType type,
+      YearMonth month,
+      LocalDateTime createdAt,
+      LocalDateTime lastUpdatedAt) {
+    this.id = id;
+    this.name = name;
+    this.source = source;
+    this.money = money;
+    this.type = type;
+    this.month = month;
+    this.createdAt = createdAt;
+    this.lastUpdatedAt = lastUpdatedAt;
+  }
+
+  public static IncomeSummary from(Income income) {
+    return new IncomeSummary(
+        income.getId(),
+        income.getName(),
+        income.getSource(),
+        income.getMoney(),
+        income.getType(),
+        income.getMonth(),
+        income.getCreatedAt(),
+        income.getLastUpdatedAt());
+  }
+
+  /** Returns a copy of this summary carrying the given money, used to convert listings. */
+  public IncomeSummary withMoney(Money money) {
+    return new IncomeSummary(id, name, source, money, type, month, createdAt, lastUpdatedAt);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public Money getMoney() {
+    return money;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getLastUpdatedAt() {
+    return lastUpdatedAt;
+  }
+}
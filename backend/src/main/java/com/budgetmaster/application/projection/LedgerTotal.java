@@ -0,0 +1,25 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+
+import com.budgetmaster.application.enums.LedgerKind;
+
+/** Sum of a month's ledger entries of one kind over a range of ledger positions. */
+public class LedgerTotal {
+
+  private final LedgerKind kind;
+  private final BigDecimal amount;
+
+  public LedgerTotal(LedgerKind kind, BigDecimal amount) {
+    this.kind = kind;
+    this.amount = amount;
+  }
+
+  public LedgerKind getKind() {
+    return kind;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+}
@@ -0,0 +1,39 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Currency;
+
+import com.budgetmaster.application.model.Money;
+
+/**
+ * Sum of transaction amounts for a single month and currency, produced by aggregate JPQL queries.
+ */
+public class MonthlyTotal {
+
+  private final YearMonth month;
+  private final Currency currency;
+  private final BigDecimal total;
+
+  public MonthlyTotal(YearMonth month, Currency currency, BigDecimal total) {
+    this.month = month;
+    this.currency = currency;
+    this.total = total;
+  }
+
+  public YearMonth getMonth() {
+    return month;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public BigDecimal getTotal() {
+    return total;
+  }
+
+  public Money toMoney() {
+    return Money.of(total, currency);
+  }
+}
@@ -0,0 +1,27 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One expense among the largest of its category and currency, as returned by the native top-N
+ * query in the expense repository. Enum, currency and month columns come back as their stored text.
+ */
+public interface RankedExpenseRow {
+
+  Long getId();
+
+  String getName();
+
+  BigDecimal getAmount();
+
+  String getCurrency();
+
+  String getCategory();
+
+  String getType();
+
+  String getMonth();
+
+  /** Position within the category and currency, starting at 1 for the largest amount. */
+  Long getRank();
+}
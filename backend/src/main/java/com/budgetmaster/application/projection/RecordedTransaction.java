@@ -0,0 +1,13 @@
+package com.budgetmaster.application.projection;
+
+import java.time.LocalDateTime;
+
+/** Row inserted by the record_income and record_expense functions. */
+public interface RecordedTransaction {
+
+  Long getId();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getLastUpdatedAt();
+}
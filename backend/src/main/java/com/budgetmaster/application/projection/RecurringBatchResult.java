@@ -0,0 +1,26 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of cloning one batch of recurring transactions into the next month, for one currency of
+ * the inserted rows. Row values come from the native materialization queries in the income and
+ * expense repositories.
+ */
+public interface RecurringBatchResult {
+
+  /** Highest source id scanned in this batch, or null when no source rows were left. */
+  Long getLastSourceId();
+
+  /** Number of rows inserted in this currency; rows cloned by an earlier run are not counted. */
+  Long getInsertedCount();
+
+  /** Sum of the inserted amounts, zero when nothing was inserted. */
+  BigDecimal getInsertedTotal();
+
+  /** Sum of the base amounts the inserted rows were converted into, zero when nothing was. */
+  BigDecimal getInsertedBaseTotal();
+
+  /** Currency code of the inserted rows, or null when nothing was inserted. */
+  String getCurrency();
+}
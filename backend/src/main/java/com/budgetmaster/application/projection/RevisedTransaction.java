@@ -0,0 +1,9 @@
+package com.budgetmaster.application.projection;
+
+import java.time.LocalDateTime;
+
+/** Outcome of the revise_income and revise_expense functions. */
+public interface RevisedTransaction {
+
+  LocalDateTime getLastUpdatedAt();
+}
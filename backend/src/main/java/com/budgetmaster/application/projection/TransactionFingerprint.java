@@ -0,0 +1,77 @@
+package com.budgetmaster.application.projection;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+
+/**
+ * The fields that make two incomes or two expenses of the same month look like the same
+ * transaction: name, amount, currency and type. Built directly by a JPQL constructor expression,
+ * so checking a month for duplicates never loads whole entities.
+ */
+public class TransactionFingerprint {
+
+  private static final char SEPARATOR = '\u0000';
+
+  private final String name;
+  private final BigDecimal amount;
+  private final Currency currency;
+  private final TransactionType type;
+
+  public TransactionFingerprint(
+      String name, BigDecimal amount, Currency currency, TransactionType type) {
+    this.name = name;
+    this.amount = amount;
+    this.currency = currency;
+    this.type = type;
+  }
+
+  public static TransactionFingerprint from(Income income) {
+    return new TransactionFingerprint(
+        income.getName(),
+        income.getMoney().getAmount(),
+        income.getMoney().getCurrency(),
+        income.getType());
+  }
+
+  public static TransactionFingerprint from(Expense expense) {
+    return new TransactionFingerprint(
+        expense.getName(),
+        expense.getMoney().getAmount(),
+        expense.getMoney().getCurrency(),
+        expense.getType());
+  }
+
+  /**
+   * Returns the fingerprint as a single string. Amounts are compared by value, so 12.5 and 12.50
+   * give the same key, as they do in the database.
+   */
+  public String key() {
+    return name
+        + SEPARATOR
+        + amount.stripTrailingZeros().toPlainString()
+        + SEPARATOR
+        + currency.getCurrencyCode()
+        + SEPARATOR
+        + type.name();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+}
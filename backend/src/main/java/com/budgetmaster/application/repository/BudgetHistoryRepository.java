@@ -0,0 +1,42 @@
+package com.budgetmaster.application.repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.budgetmaster.application.model.BudgetHistoryEntry;
+import com.budgetmaster.application.model.BudgetHistoryEntryId;
+
+public interface BudgetHistoryRepository
+    extends JpaRepository<BudgetHistoryEntry, BudgetHistoryEntryId> {
+
+  Optional<BudgetHistoryEntry> findFirstByMonthOrderByVersionDesc(YearMonth month);
+
+  /** Returns the month's latest keyframe written at or before the given moment. */
+  @Query(
+      """
+      SELECT h FROM BudgetHistoryEntry h
+      WHERE h.month = :month AND h.keyframe = true AND h.changedAt <= :asOf
+      ORDER BY h.changedAt DESC
+      LIMIT 1
+      """)
+  Optional<BudgetHistoryEntry> findLatestKeyframe(
+      @Param("month") YearMonth month, @Param("asOf") LocalDateTime asOf);
+
+  /** Returns the month's entries written within {@code (after, asOf]}, oldest first. */
+  @Query(
+      """
+      SELECT h FROM BudgetHistoryEntry h
+      WHERE h.month = :month AND h.changedAt > :after AND h.changedAt <= :asOf
+      ORDER BY h.version
+      """)
+  List<BudgetHistoryEntry> findChangesBetween(
+      @Param("month") YearMonth month,
+      @Param("after") LocalDateTime after,
+      @Param("asOf") LocalDateTime asOf);
+}
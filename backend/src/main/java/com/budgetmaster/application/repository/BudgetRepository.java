@@ -1,12 +1,59 @@
 package com.budgetmaster.application.repository;
 
 import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.constants.cache.CacheRegions;
+import com.budgetmaster.constants.database.TableNames;
 
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.BUDGETS_BY_MONTH)
+  })
   Optional<Budget> findByMonth(YearMonth month);
+
+  /** Reads the month of a budget without loading it, so it can then be locked by month. */
+  @Query("SELECT b.month FROM Budget b WHERE b.id = :id")
+  Optional<YearMonth> findMonthById(@Param("id") Long id);
+
+  /**
+   * Loads the budgets for the given months with row locks (SELECT ... FOR UPDATE). Rows are
+   * returned, and therefore locked, in chronological order.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM Budget b WHERE b.month IN :months ORDER BY b.month")
+  List<Budget> findAllByMonthInForUpdate(@Param("months") Collection<YearMonth> months);
+
+  /**
+   * Inserts an empty budget for the month unless one exists, including one inserted by a
+   * concurrent transaction that has not committed yet, which this call then waits for. The budgets
+   * table is named as the statement's only space, so Hibernate evicts the budget regions and
+   * leaves the others cached.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TableNames.BUDGETS))
+  @Query(
+      value =
+          """
+          INSERT INTO BUDGETS (MONTH, CURRENCY) VALUES (:month, :currency)
+          ON CONFLICT (MONTH) DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertIfAbsent(@Param("month") String month, @Param("currency") String currency);
 }
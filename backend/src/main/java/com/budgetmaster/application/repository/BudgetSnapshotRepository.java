@@ -0,0 +1,49 @@
+package com.budgetmaster.application.repository;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.budgetmaster.application.model.BudgetSnapshot;
+import com.budgetmaster.application.model.BudgetSnapshotId;
+import com.budgetmaster.constants.database.TableNames;
+
+public interface BudgetSnapshotRepository extends JpaRepository<BudgetSnapshot, BudgetSnapshotId> {
+
+  Optional<BudgetSnapshot> findFirstByMonthOrderByLedgerPositionDesc(YearMonth month);
+
+  /**
+   * Snapshots every budget whose ledger position moved since its latest snapshot, in one
+   * statement, and returns the number of snapshots taken. Totals and position come from the same
+   * committed row, so each snapshot is consistent. The table is named as the query's only space,
+   * so Hibernate does not evict the second-level cache for it.
+   */
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TableNames.BUDGET_SNAPSHOTS))
+  @Query(
+      value =
+          """
+          INSERT INTO BUDGET_SNAPSHOTS
+              (MONTH, LEDGER_POSITION, TOTAL_INCOME, TOTAL_EXPENSE, CURRENCY)
+          SELECT b.MONTH, b.LEDGER_POSITION, b.TOTAL_INCOME, b.TOTAL_EXPENSE, b.CURRENCY
+          FROM BUDGETS b
+          WHERE b.LEDGER_POSITION > COALESCE(
+              (SELECT MAX(s.LEDGER_POSITION) FROM BUDGET_SNAPSHOTS s WHERE s.MONTH = b.MONTH), 0)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int snapshotAdvancedBudgets();
+
+  @Modifying
+  @Query("DELETE FROM BudgetSnapshot s WHERE s.month = :month")
+  int deleteByMonth(@Param("month") YearMonth month);
+}
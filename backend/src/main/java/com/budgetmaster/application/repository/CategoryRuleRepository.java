@@ -0,0 +1,13 @@
+package com.budgetmaster.application.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.budgetmaster.application.model.CategoryRule;
+
+public interface CategoryRuleRepository extends JpaRepository<CategoryRule, Long> {
+
+  /** All rules in the order they were created, which is the order ties are broken in. */
+  List<CategoryRule> findAllByOrderById();
+}
@@ -0,0 +1,18 @@
+package com.budgetmaster.application.repository;
+
+import java.time.YearMonth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.budgetmaster.application.model.ExpenseDigest;
+import com.budgetmaster.application.model.ExpenseDigestId;
+
+public interface ExpenseDigestRepository extends JpaRepository<ExpenseDigest, ExpenseDigestId> {
+
+  @Modifying
+  @Query("DELETE FROM ExpenseDigest d WHERE d.month = :month")
+  int deleteByMonth(@Param("month") YearMonth month);
+}
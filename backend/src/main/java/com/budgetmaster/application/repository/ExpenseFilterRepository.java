@@ -0,0 +1,16 @@
+package com.budgetmaster.application.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.repository.criteria.ExpenseFilter;
+
+/** Repository fragment for expense queries assembled from optional filters at runtime. */
+public interface ExpenseFilterRepository {
+
+  /**
+   * Returns one page of expense summaries matching every applied filter, ordered by month and id.
+   */
+  Page<ExpenseSummary> findSummaries(ExpenseFilter filter, Pageable pageable);
+}
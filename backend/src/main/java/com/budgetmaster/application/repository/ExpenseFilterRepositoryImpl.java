@@ -0,0 +1,117 @@
+package com.budgetmaster.application.repository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.repository.criteria.ExpenseFilter;
+
+/**
+ * Builds the filter query with the Criteria API, adding a predicate only for the filters that are
+ * applied. Every value is bound as a parameter, so each combination of filters maps to a single
+ * prepared statement. Month ranges lead the composite (MONTH, CATEGORY, AMOUNT) index and category
+ * filters without a month range use (CATEGORY, MONTH).
+ */
+public class ExpenseFilterRepositoryImpl implements ExpenseFilterRepository {
+
+  private static final String ID = "id";
+  private static final String NAME = "name";
+  private static final String MONEY = "money";
+  private static final String AMOUNT = "amount";
+  private static final String CURRENCY = "currency";
+  private static final String CATEGORY = "category";
+  private static final String TYPE = "type";
+  private static final String MONTH = "month";
+  private static final String CREATED_AT = "createdAt";
+  private static final String LAST_UPDATED_AT = "lastUpdatedAt";
+
+  private final EntityManager entityManager;
+
+  public ExpenseFilterRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Page<ExpenseSummary> findSummaries(ExpenseFilter filter, Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ExpenseSummary> query = cb.createQuery(ExpenseSummary.class);
+    Root<Expense> expense = query.from(Expense.class);
+    Path<Money> money = expense.get(MONEY);
+
+    query
+        .select(
+            cb.construct(
+                ExpenseSummary.class,
+                expense.get(ID),
+                expense.get(NAME),
+                money.get(AMOUNT),
+                money.get(CURRENCY),
+                expense.get(CATEGORY),
+                expense.get(TYPE),
+                expense.get(MONTH),
+                expense.get(CREATED_AT),
+                expense.get(LAST_UPDATED_AT)))
+        .where(predicates(cb, expense, filter))
+        .orderBy(cb.asc(expense.get(MONTH)), cb.asc(expense.get(ID)));
+
+    List<ExpenseSummary> content =
+        entityManager
+            .createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+  }
+
+  private long count(ExpenseFilter filter) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Expense> expense = query.from(Expense.class);
+    query.select(cb.count(expense)).where(predicates(cb, expense, filter));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private Predicate[] predicates(CriteriaBuilder cb, Root<Expense> expense, ExpenseFilter filter) {
+    List<Predicate> predicates = new ArrayList<>();
+    Path<YearMonth> month = expense.get(MONTH);
+    Path<BigDecimal> amount = expense.get(MONEY).get(AMOUNT);
+
+    if (filter.getFromMonth() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(month, filter.getFromMonth()));
+    }
+    if (filter.getToMonth() != null) {
+      predicates.add(cb.lessThanOrEqualTo(month, filter.getToMonth()));
+    }
+    if (!filter.getCategories().isEmpty()) {
+      predicates.add(expense.get(CATEGORY).in(filter.getCategories()));
+    }
+    if (filter.getType() != null) {
+      predicates.add(cb.equal(expense.get(TYPE), filter.getType()));
+    }
+    if (filter.getMinAmount() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(amount, filter.getMinAmount()));
+    }
+    if (filter.getMaxAmount() != null) {
+      predicates.add(cb.lessThanOrEqualTo(amount, filter.getMaxAmount()));
+    }
+    if (filter.getCurrency() != null) {
+      predicates.add(cb.equal(expense.get(MONEY).get(CURRENCY), filter.getCurrency()));
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+}
@@ -0,0 +1,64 @@
+package com.budgetmaster.application.repository;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.model.IdempotencyKey;
+import com.budgetmaster.application.model.IdempotencyKeyId;
+import com.budgetmaster.constants.database.TableNames;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKeyId> {
+
+  /**
+   * Inserts the key with the hash of the request it is first used with, unless it already exists,
+   * and returns the number of inserted rows. A concurrent insert of the same key blocks until the
+   * other transaction finishes. The keys table is named as the statement's only space, so a keyed
+   * write does not evict the second-level cache.
+   */
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TableNames.IDEMPOTENCY_KEYS))
+  @Query(
+      value =
+          """
+          INSERT INTO IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, RESOURCE_TYPE, REQUEST_HASH)
+          VALUES (:idempotencyKey, :resourceType, :requestHash)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("idempotencyKey") String idempotencyKey,
+      @Param("resourceType") String resourceType,
+      @Param("requestHash") String requestHash);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE IdempotencyKey k SET k.resourceId = :resourceId
+      WHERE k.idempotencyKey = :idempotencyKey AND k.resourceType = :resourceType
+      """)
+  int updateResourceId(
+      @Param("idempotencyKey") String idempotencyKey,
+      @Param("resourceType") IdempotentResource resourceType,
+      @Param("resourceId") Long resourceId);
+
+  /** Deletes keys older than the given number of seconds, measured against database time. */
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TableNames.IDEMPOTENCY_KEYS))
+  @Query(
+      value =
+          """
+          DELETE FROM IDEMPOTENCY_KEYS
+          WHERE CREATED_AT < NOW() - make_interval(secs => :ttlSeconds)
+          """,
+      nativeQuery = true)
+  int deleteOlderThan(@Param("ttlSeconds") long ttlSeconds);
+}
@@ -0,0 +1,15 @@
+package com.budgetmaster.application.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.budgetmaster.application.model.ImportReject;
+import com.budgetmaster.application.model.ImportRejectId;
+
+public interface ImportRejectRepository extends JpaRepository<ImportReject, ImportRejectId> {
+
+  Page<ImportReject> findByImportIdOrderByRecordNumber(UUID importId, Pageable pageable);
+}
@@ -1,12 +1,313 @@
 package com.budgetmaster.application.repository;
 
+import java.math.BigDecimal;
 import java.time.YearMonth;
+import java.util.Currency;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.budgetmaster.application.enums.TransactionType;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.ImportedMonthTotal;
+import com.budgetmaster.application.projection.IncomeSummary;
+import com.budgetmaster.application.projection.MonthlyTotal;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.projection.RecurringBatchResult;
+import com.budgetmaster.application.projection.RevisedTransaction;
+import com.budgetmaster.application.projection.TransactionFingerprint;
 
 public interface IncomeRepository extends JpaRepository<Income, Long> {
+  /**
+   * Streams a CSV file with a header line into the import staging table, whose rows are then
+   * checked by {@link #rejectInvalidImportRows} and merged by {@link #mergeImportedRows}.
+   */
+  String COPY_IMPORT_STAGING =
+      "COPY IMPORT_STAGING_INCOMES (NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE)"
+          + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+
   List<Income> findByMonth(YearMonth month);
+
+  @Query(
+      """
+      SELECT new com.budgetmaster.application.projection.IncomeSummary(
+          i.id, i.name, i.source, i.money.amount, i.money.currency, i.type, i.month,
+          i.createdAt, i.lastUpdatedAt)
+      FROM Income i
+      WHERE i.month = :month
+      ORDER BY i.id
+      """)
+  List<IncomeSummary> findSummariesByMonth(@Param("month") YearMonth month);
+
+  @Query(
+      """
+      SELECT new com.budgetmaster.application.projection.TransactionFingerprint(
+          i.name, i.money.amount, i.money.currency, i.type)
+      FROM Income i
+      WHERE i.month = :month
+      """)
+  List<TransactionFingerprint> findFingerprintsByMonth(@Param("month") YearMonth month);
+
+  /** Counts the incomes of the month that share the given fingerprint. */
+  @Query(
+      """
+      SELECT COUNT(i) FROM Income i
+      WHERE i.month = :month
+          AND i.type = :type
+          AND i.name = :name
+          AND i.money.amount = :amount
+          AND i.money.currency = :currency
+      """)
+  long countByFingerprint(
+      @Param("month") YearMonth month,
+      @Param("type") TransactionType type,
+      @Param("name") String name,
+      @Param("amount") BigDecimal amount,
+      @Param("currency") Currency currency);
+
+  @Query(
+      """
+      SELECT new com.budgetmaster.application.projection.MonthlyTotal(
+          i.month, i.money.currency, SUM(i.money.amount))
+      FROM Income i
+      WHERE i.type = :type
+      GROUP BY i.month, i.money.currency
+      """)
+  List<MonthlyTotal> sumAmountsByMonth(@Param("type") TransactionType type);
+
+  @Query(
+      """
+      SELECT new com.budgetmaster.application.projection.MonthlyTotal(
+          i.month, i.money.currency, SUM(i.money.amount))
+      FROM Income i
+      WHERE i.type = :type AND i.month = :month
+      GROUP BY i.month, i.money.currency
+      """)
+  List<MonthlyTotal> sumAmountsForMonth(
+      @Param("type") TransactionType type, @Param("month") YearMonth month);
+
+  /**
+   * Inserts the income and appends its base-currency amount to the budget ledger in one round-trip.
+   * Rows changed here bypass the second-level cache.
+   */
+  @Query(
+      value =
+          """
+          SELECT
+              income_id AS "id",
+              created_at AS "createdAt",
+              last_updated_at AS "lastUpdatedAt"
+          FROM record_income(
+              :name, :source, :amount, :currency, :month, :type, :baseAmount, :baseCurrency)
+          """,
+      nativeQuery = true)
+  RecordedTransaction recordIncome(
+      @Param("name") String name,
+      @Param("source") String source,
+      @Param("amount") BigDecimal amount,
+      @Param("currency") String currency,
+      @Param("month") String month,
+      @Param("type") String type,
+      @Param("baseAmount") BigDecimal baseAmount,
+      @Param("baseCurrency") String baseCurrency);
+
+  /**
+   * Updates the income and appends the reversal of its original base-currency amount and its new
+   * amount to the budget ledger, in one round-trip. Returns null when the income no longer exists;
+   * nothing is changed in that case.
+   */
+  @Query(
+      value =
+          """
+          SELECT last_updated_at AS "lastUpdatedAt"
+          FROM revise_income(
+              :id, :name, :source, :amount, :currency, :month, :type,
+              :originalMonth, :originalBaseAmount, :baseAmount, :baseCurrency)
+          """,
+      nativeQuery = true)
+  RevisedTransaction reviseIncome(
+      @Param("id") Long id,
+      @Param("name") String name,
+      @Param("source") String source,
+      @Param("amount") BigDecimal amount,
+      @Param("currency") String currency,
+      @Param("month") String month,
+      @Param("type") String type,
+      @Param("originalMonth") String originalMonth,
+      @Param("originalBaseAmount") BigDecimal originalBaseAmount,
+      @Param("baseAmount") BigDecimal baseAmount,
+      @Param("baseCurrency") String baseCurrency);
+
+  /**
+   * Deletes the income and appends the reversal of its base-currency amount to the budget ledger
+   * in one round-trip. Returns the income's month, or null when it no longer exists.
+   */
+  @Query(value = "SELECT forget_income(:id, :baseAmount, :baseCurrency)", nativeQuery = true)
+  String forgetIncome(
+      @Param("id") Long id,
+      @Param("baseAmount") BigDecimal baseAmount,
+      @Param("baseCurrency") String baseCurrency);
+
+  /**
+   * Clones the next batch of RECURRING rows of the source month, in id order after the given id,
+   * into the target month. Rows that were already cloned are skipped through the unique
+   * RECURRING_SOURCE_ID constraint, so the statement can safely be re-run. Each clone is converted
+   * into the base currency at the given rates, passed as comma-separated currency codes and rates
+   * in the same order. One row is returned per inserted currency, or a single empty row when
+   * nothing was inserted.
+   */
+  @Query(
+      value =
+          """
+          WITH fx AS (
+              SELECT *
+              FROM unnest(
+                  string_to_array(:rateCurrencies, ','),
+                  CAST(string_to_array(:rates, ',') AS NUMERIC[]))
+                  AS fx (CURRENCY, RATE)
+          ), source AS (
+              SELECT ID, NAME, SOURCE, AMOUNT, CURRENCY, TYPE
+              FROM INCOMES
+              WHERE MONTH = :sourceMonth AND TYPE = 'RECURRING' AND ID > :afterId
+              ORDER BY ID
+              LIMIT :batchSize
+          ), inserted AS (
+              INSERT INTO INCOMES
+                  (NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE, RECURRING_SOURCE_ID, BASE_AMOUNT)
+              SELECT source.NAME, source.SOURCE, source.AMOUNT, source.CURRENCY, :targetMonth,
+                  source.TYPE, source.ID, ROUND(source.AMOUNT * fx.RATE, 2)
+              FROM source
+              JOIN fx ON fx.CURRENCY = source.CURRENCY
+              ON CONFLICT (RECURRING_SOURCE_ID) DO NOTHING
+              RETURNING AMOUNT, CURRENCY, BASE_AMOUNT
+          )
+          SELECT
+              (SELECT MAX(ID) FROM source) AS "lastSourceId",
+              COUNT(inserted.CURRENCY) AS "insertedCount",
+              COALESCE(SUM(inserted.AMOUNT), 0) AS "insertedTotal",
+              COALESCE(SUM(inserted.BASE_AMOUNT), 0) AS "insertedBaseTotal",
+              inserted.CURRENCY AS "currency"
+          FROM (SELECT 1) AS batch
+          LEFT JOIN inserted ON TRUE
+          GROUP BY inserted.CURRENCY
+          """,
+      nativeQuery = true)
+  List<RecurringBatchResult> materializeRecurringBatch(
+      @Param("sourceMonth") String sourceMonth,
+      @Param("targetMonth") String targetMonth,
+      @Param("afterId") long afterId,
+      @Param("batchSize") int batchSize,
+      @Param("rateCurrencies") String rateCurrencies,
+      @Param("rates") String rates);
+
+  /**
+   * Moves the staged records of the given import that fail validation into IMPORT_REJECTS, with
+   * the first failing check as the reason, and returns their number. Allowed types and currencies
+   * are passed as comma-separated enum names, so the Java enums stay the only list; the reason for
+   * an unsupported currency, which names them, is passed in for the same reason.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          WITH checked AS (
+              SELECT STAGING_ID,
+                  ROW_NUMBER() OVER (ORDER BY STAGING_ID) AS RECORD_NUMBER,
+                  CASE
+                      WHEN NULLIF(TRIM(NAME), '') IS NULL THEN 'Income name is required.'
+                      WHEN LENGTH(TRIM(NAME)) > 255 THEN 'Income name is too long.'
+                      WHEN NULLIF(TRIM(SOURCE), '') IS NULL THEN 'Income source is required.'
+                      WHEN LENGTH(TRIM(SOURCE)) > 255 THEN 'Income source is too long.'
+                      WHEN TRIM(AMOUNT) !~ '^[0-9]+([.][0-9][0-9]?)?$'
+                          OR LENGTH(SPLIT_PART(TRIM(AMOUNT), '.', 1)) > 17
+                          THEN 'Amount must be non-negative with at most two decimal places.'
+                      WHEN UPPER(TRIM(CURRENCY)) <> ALL (string_to_array(:currencies, ','))
+                          THEN :currencyMessage
+                      WHEN TRIM(MONTH) !~ :monthPattern
+                          THEN 'Invalid month format. Please use the format YYYY-MM.'
+                      WHEN UPPER(TRIM(TYPE)) <> ALL (string_to_array(:types, ','))
+                          THEN 'The transaction type is not supported.'
+                  END AS REASON
+              FROM IMPORT_STAGING_INCOMES
+              WHERE IMPORT_ID = CAST(:importId AS UUID)
+          ), rejected AS (
+              INSERT INTO IMPORT_REJECTS (IMPORT_ID, RECORD_NUMBER, REASON)
+              SELECT CAST(:importId AS UUID), RECORD_NUMBER, REASON
+              FROM checked
+              WHERE REASON IS NOT NULL
+          )
+          DELETE FROM IMPORT_STAGING_INCOMES AS staged
+          USING checked
+          WHERE staged.STAGING_ID = checked.STAGING_ID AND checked.REASON IS NOT NULL
+          """,
+      nativeQuery = true)
+  int rejectInvalidImportRows(
+      @Param("importId") String importId,
+      @Param("currencies") String currencies,
+      @Param("currencyMessage") String currencyMessage,
+      @Param("types") String types,
+      @Param("monthPattern") String monthPattern);
+
+  /**
+   * Moves the remaining staged records of the given import into INCOMES, normalized the way {@code
+   * Income.from} does and converted into the base currency at the given rates, and returns the
+   * inserted totals per month and currency. Ids are taken from the pooled sequence one block per
+   * {@code allocationSize} rows, as Hibernate does, rather than one block per row through the
+   * column default.
+   */
+  @Query(
+      value =
+          """
+          WITH fx AS (
+              SELECT *
+              FROM unnest(
+                  string_to_array(:rateCurrencies, ','),
+                  CAST(string_to_array(:rates, ',') AS NUMERIC[]))
+                  AS fx (CURRENCY, RATE)
+          ), staged AS (
+              DELETE FROM IMPORT_STAGING_INCOMES
+              WHERE IMPORT_ID = CAST(:importId AS UUID)
+              RETURNING STAGING_ID, NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE
+          ), numbered AS (
+              SELECT staged.*, ROW_NUMBER() OVER (ORDER BY STAGING_ID) - 1 AS POSITION
+              FROM staged
+          ), blocks AS (
+              SELECT BLOCK, nextval('INCOMES_SEQ') AS FIRST_ID
+              FROM generate_series(
+                  0,
+                  (SELECT (COUNT(*) + :allocationSize - 1) / :allocationSize - 1 FROM numbered))
+                  AS BLOCK
+          ), inserted AS (
+              INSERT INTO INCOMES (ID, NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE, BASE_AMOUNT)
+              SELECT blocks.FIRST_ID + numbered.POSITION % :allocationSize,
+                  UPPER(TRIM(numbered.NAME)),
+                  UPPER(TRIM(numbered.SOURCE)),
+                  CAST(TRIM(numbered.AMOUNT) AS NUMERIC(19, 2)),
+                  UPPER(TRIM(numbered.CURRENCY)),
+                  TRIM(numbered.MONTH),
+                  UPPER(TRIM(numbered.TYPE)),
+                  ROUND(CAST(TRIM(numbered.AMOUNT) AS NUMERIC(19, 2)) * fx.RATE, 2)
+              FROM numbered
+              JOIN blocks ON blocks.BLOCK = numbered.POSITION / :allocationSize
+              JOIN fx ON fx.CURRENCY = UPPER(TRIM(numbered.CURRENCY))
+              RETURNING AMOUNT, CURRENCY, MONTH, BASE_AMOUNT
+          )
+          SELECT MONTH AS "month",
+              CURRENCY AS "currency",
+              COUNT(*) AS "insertedCount",
+              SUM(AMOUNT) AS "insertedTotal",
+              SUM(BASE_AMOUNT) AS "insertedBaseTotal"
+          FROM inserted
+          GROUP BY MONTH, CURRENCY
+          ORDER BY MONTH, CURRENCY
+          """,
+      nativeQuery = true)
+  List<ImportedMonthTotal> mergeImportedRows(
+      @Param("importId") String importId,
+      @Param("allocationSize") int allocationSize,
+      @Param("rateCurrencies") String rateCurrencies,
+      @Param("rates") String rates);
 }
@@ -0,0 +1,67 @@
+package com.budgetmaster.application.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.budgetmaster.application.model.LedgerEntry;
+import com.budgetmaster.application.projection.LedgerTotal;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+  /**
+   * Returns the oldest transaction id still in progress, or the next one to be assigned when none
+   * is. Every ledger entry below it was inserted by a transaction that has ended, so it is either
+   * visible now or never will be, and folding up to it cannot skip an entry that commits later.
+   */
+  @Query(
+      value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)",
+      nativeQuery = true)
+  long findSettledPosition();
+
+  /** Sums the month's entries per kind whose transaction id is within {@code [from, to)}. */
+  @Query(
+      """
+      SELECT new com.budgetmaster.application.projection.LedgerTotal(e.kind, SUM(e.amount))
+      FROM LedgerEntry e
+      WHERE e.month = :month AND e.txId >= :from AND e.txId < :to
+      GROUP BY e.kind
+      """)
+  List<LedgerTotal> sumByMonthBetween(
+      @Param("month") YearMonth month, @Param("from") long from, @Param("to") long to);
+
+  /** Whether the month has visible entries at or past the given position. */
+  boolean existsByMonthAndTxIdGreaterThanEqual(YearMonth month, Long txId);
+
+  @Query("SELECT DISTINCT e.month FROM LedgerEntry e ORDER BY e.month")
+  List<YearMonth> findMonths();
+
+  /**
+   * Returns the months whose budget has visible entries at or past its position. Each budget is
+   * checked with one probe of the month and transaction id index.
+   */
+  @Query(
+      """
+      SELECT b.month FROM Budget b
+      WHERE EXISTS (
+        SELECT e FROM LedgerEntry e WHERE e.month = b.month AND e.txId >= b.ledgerPosition)
+      ORDER BY b.month
+      """)
+  List<YearMonth> findMonthsBehindBudget();
+
+  /**
+   * Returns the months without a budget that have entries at or past the given position. Only
+   * the entries past the position are read, through the transaction id index.
+   */
+  @Query(
+      """
+      SELECT DISTINCT e.month FROM LedgerEntry e
+      WHERE e.txId >= :position
+        AND NOT EXISTS (SELECT b FROM Budget b WHERE b.month = e.month)
+      ORDER BY e.month
+      """)
+  List<YearMonth> findMonthsWithoutBudgetSince(@Param("position") long position);
+}
@@ -0,0 +1,81 @@
+package com.budgetmaster.application.repository.criteria;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.Set;
+
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.util.DateUtils;
+
+/**
+ * Parsed expense filter. A null field, or an empty category set, means the filter is not applied.
+ * Amount bounds compare stored amounts in their own currency.
+ */
+public class ExpenseFilter {
+  private final Set<ExpenseCategory> categories;
+  private final TransactionType type;
+  private final BigDecimal minAmount;
+  private final BigDecimal maxAmount;
+  private final YearMonth fromMonth;
+  private final YearMonth toMonth;
+  private final Currency currency;
+
+  private ExpenseFilter(
+      Set<ExpenseCategory> categories,
+      TransactionType type,
+      BigDecimal minAmount,
+      BigDecimal maxAmount,
+      YearMonth fromMonth,
+      YearMonth toMonth,
+      Currency currency) {
+    this.categories = categories == null ? Set.of() : Set.copyOf(categories);
+    this.type = type;
+    this.minAmount = minAmount;
+    this.maxAmount = maxAmount;
+    this.fromMonth = fromMonth;
+    this.toMonth = toMonth;
+    this.currency = currency;
+  }
+
+  public static ExpenseFilter from(ExpenseFilterRequest request) {
+    return new ExpenseFilter(
+        request.getCategory(),
+        request.getType(),
+        request.getMinAmount(),
+        request.getMaxAmount(),
+        request.getFromMonth() == null ? null : DateUtils.getValidYearMonth(request.getFromMonth()),
+        request.getToMonth() == null ? null : DateUtils.getValidYearMonth(request.getToMonth()),
+        request.getCurrency() == null ? null : Currency.getInstance(request.getCurrency()));
+  }
+
+  public Set<ExpenseCategory> getCategories() {
+    return categories;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public BigDecimal getMinAmount() {
+    return minAmount;
+  }
+
+  public BigDecimal getMaxAmount() {
+    return maxAmount;
+  }
+
+  public YearMonth getFromMonth() {
+    return fromMonth;
+  }
+
+  public YearMonth getToMonth() {
+    return toMonth;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+}
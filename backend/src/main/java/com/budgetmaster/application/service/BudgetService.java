@@ -1,15 +1,29 @@
 package com.budgetmaster.application.service;
 
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.List;
 import java.util.function.Supplier;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
 import com.budgetmaster.application.exception.BudgetNotFoundException;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.repository.BudgetRepository;
 import com.budgetmaster.application.service.core.EntityLookupService;
+import com.budgetmaster.application.service.forecast.RecurringForecastProjection;
+import com.budgetmaster.application.service.ledger.BudgetHistoryService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.application.service.ledger.BudgetProjectionService;
+import com.budgetmaster.application.service.synchronization.BudgetLockService;
+import com.budgetmaster.application.service.totals.BudgetTotalsIndex;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.constants.error.ErrorMessages;
 
@@ -17,9 +31,31 @@ import com.budgetmaster.constants.error.ErrorMessages;
 public class BudgetService extends EntityLookupService {
 
   private final BudgetRepository budgetRepository;
+  private final BudgetLockService budgetLockService;
+  private final RecurringForecastProjection recurringForecastProjection;
+  private final BudgetProjectionService budgetProjectionService;
+  private final BudgetHistoryService budgetHistoryService;
+  private final BudgetLedger budgetLedger;
+  private final BudgetTotalsIndex budgetTotalsIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public BudgetService(BudgetRepository budgetRepository) {
+  public BudgetService(
+      BudgetRepository budgetRepository,
+      BudgetLockService budgetLockService,
+      RecurringForecastProjection recurringForecastProjection,
+      BudgetProjectionService budgetProjectionService,
+      BudgetHistoryService budgetHistoryService,
+      BudgetLedger budgetLedger,
+      BudgetTotalsIndex budgetTotalsIndex,
+      ApplicationEventPublisher eventPublisher) {
     this.budgetRepository = budgetRepository;
+    this.budgetLockService = budgetLockService;
+    this.recurringForecastProjection = recurringForecastProjection;
+    this.budgetProjectionService = budgetProjectionService;
+    this.budgetHistoryService = budgetHistoryService;
+    this.budgetLedger = budgetLedger;
+    this.budgetTotalsIndex = budgetTotalsIndex;
+    this.eventPublisher = eventPublisher;
   }
 
   public Budget getBudgetByMonth(String monthString) {
@@ -28,15 +64,72 @@ public class BudgetService extends EntityLookupService {
         budgetRepository::findByMonth, month, createMonthNotFoundException(month));
   }
 
+  /** Returns the month's budget totals as they were at the given moment. */
+  public BudgetHistoryResponse getBudgetByMonthAsOf(String monthString, LocalDateTime asOf) {
+    YearMonth month = DateUtils.getValidYearMonth(monthString);
+    return budgetHistoryService.findAsOf(month, asOf);
+  }
+
   public Budget getBudgetById(Long id) {
     return findByIdOrThrow(budgetRepository, id, createIdNotFoundException(id));
   }
 
+  /** Projects the budgets of the given number of months following the current month. */
+  public List<BudgetForecastResponse> getForecast(int months) {
+    return recurringForecastProjection.forecast(YearMonth.now(), months);
+  }
+
+  /** Sums the budget totals of every month in the range, from memory. */
+  public BudgetTotalsResponse getTotals(MonthRangeRequest range) {
+    return budgetTotalsIndex.sum(
+        DateUtils.getValidYearMonth(range.getFromMonth()),
+        DateUtils.getValidYearMonth(range.getToMonth()));
+  }
+
+  /**
+   * Returns the budget totals summed from the first month with a budget up to each month in the
+   * range, from memory.
+   */
+  public List<BudgetTotalsResponse> getCumulativeTotals(MonthRangeRequest range) {
+    return budgetTotalsIndex.cumulative(
+        DateUtils.getValidYearMonth(range.getFromMonth()),
+        DateUtils.getValidYearMonth(range.getToMonth()));
+  }
+
+  /**
+   * Rebuilds every month's budget from the ledger, starting from the latest snapshots unless
+   * {@code fromSnapshots} is false, and returns the rebuilt months.
+   */
+  public List<YearMonth> rebuildBudgets(boolean fromSnapshots) {
+    return budgetProjectionService.rebuildAll(fromSnapshots);
+  }
+
+  /**
+   * Deletes the budget row, appends ledger entries reversing the totals it held and takes them out
+   * of the in-memory sums. The month's entries up to the budget's position then cancel out, so the
+   * sweep and rebuilds leave the month without a budget, and the next write to it starts a new
+   * budget holding only the entries the deleted one had not folded.
+   *
+   * <p>The budget is locked through the {@link BudgetLockService} before it is read, as the
+   * projector locks it to fold, so the totals taken out are the ones the row held when deleted.
+   * Only the month is read beforehand, since a budget already loaded would not be refreshed by the
+   * locking read.
+   */
   @Transactional
   public void deleteBudget(Long id) {
-    // TODO: Fix cascade delete - orphaned income/expense records remain when budget is deleted causing data inconsistency on recreation
-    getBudgetById(id);
-    budgetRepository.deleteById(id);
+    YearMonth month = budgetRepository.findMonthById(id).orElseThrow(createIdNotFoundException(id));
+    Budget budget = budgetLockService.lockInMonthOrder(month).get(month);
+    if (budget == null || !budget.getId().equals(id)) {
+      throw createIdNotFoundException(id).get();
+    }
+    budgetLedger.recordCleared(
+        month, budget.getTotalIncome(), budget.getTotalExpense(), budget.getCurrency());
+    budgetRepository.delete(budget);
+    eventPublisher.publishEvent(
+        BudgetTotalsChangedEvent.of(
+            budget.getMonth(),
+            budget.getTotalIncome().negate(),
+            budget.getTotalExpense().negate()));
   }
 
   /** Creates a supplier for BudgetNotFoundException when entity is not found by ID. */
@@ -0,0 +1,53 @@
+package com.budgetmaster.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.budgetmaster.application.dto.CacheRegionStatisticsResponse;
+import com.budgetmaster.constants.cache.CacheRegions;
+
+@Service
+public class CacheStatisticsService {
+
+  private final Statistics statistics;
+
+  public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /**
+   * Returns hit, miss and put counts for every second-level cache region (entity and query
+   * regions), together with the resulting hit ratio.
+   */
+  public List<CacheRegionStatisticsResponse> getRegionStatistics() {
+    // Hibernate only reports domain data regions here, so query regions are added explicitly
+    Set<String> regionNames =
+        new LinkedHashSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+    regionNames.add(CacheRegions.BUDGETS_BY_MONTH);
+
+    List<CacheRegionStatisticsResponse> regions = new ArrayList<>();
+    for (String regionName : regionNames) {
+      CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+      if (region != null) {
+        regions.add(
+            CacheRegionStatisticsResponse.of(
+                regionName,
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory()));
+      }
+    }
+    return regions;
+  }
+}
@@ -1,44 +1,166 @@
 package com.budgetmaster.application.service;
 
 import java.time.YearMonth;
+import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
 import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.enums.WriteStrategy;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
 import com.budgetmaster.application.exception.ExpenseNotFoundException;
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.criteria.ExpenseFilter;
+import com.budgetmaster.application.service.categorization.ExpenseCategorizer;
 import com.budgetmaster.application.service.core.EntityLookupService;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.search.ExpenseNameIndex;
 import com.budgetmaster.application.service.synchronization.ExpenseBudgetSynchronizer;
+import com.budgetmaster.application.service.write.ExpenseFunctionWriter;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.constants.error.ErrorMessages;
 
 @Service
 public class ExpenseService extends EntityLookupService {
 
+  private static final String LIKE_WILDCARD = "%";
+
   private final ExpenseRepository expenseRepository;
   private final ExpenseBudgetSynchronizer expenseBudgetSynchronizer;
+  private final IdempotencyService idempotencyService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final FxRateService fxRateService;
+  private final ExpenseFunctionWriter expenseFunctionWriter;
+  private final WriteStrategy writeStrategy;
+  private final ExpenseNameIndex expenseNameIndex;
+  private final ExpenseCategorizer expenseCategorizer;
 
   public ExpenseService(
-      ExpenseRepository expenseRepository, ExpenseBudgetSynchronizer expenseBudgetSynchronizer) {
+      ExpenseRepository expenseRepository,
+      ExpenseBudgetSynchronizer expenseBudgetSynchronizer,
+      IdempotencyService idempotencyService,
+      ApplicationEventPublisher eventPublisher,
+      FxRateService fxRateService,
+      ExpenseNameIndex expenseNameIndex,
+      ExpenseFunctionWriter expenseFunctionWriter,
+      ExpenseCategorizer expenseCategorizer,
+      @Value("${budgetmaster.write.strategy}") WriteStrategy writeStrategy) {
     this.expenseRepository = expenseRepository;
     this.expenseBudgetSynchronizer = expenseBudgetSynchronizer;
+    this.idempotencyService = idempotencyService;
+    this.eventPublisher = eventPublisher;
+    this.fxRateService = fxRateService;
+    this.expenseNameIndex = expenseNameIndex;
+    this.expenseFunctionWriter = expenseFunctionWriter;
+    this.expenseCategorizer = expenseCategorizer;
+    this.writeStrategy = writeStrategy;
   }
 
   @Transactional
   public Expense createExpense(ExpenseRequest request) {
-    Expense expense = expenseRepository.saveAndFlush(Expense.from(request));
-    expenseBudgetSynchronizer.apply(expense);
+    categorizeIfMissing(request);
+    Expense expense;
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      expense = expenseFunctionWriter.create(request);
+    } else {
+      expense = Expense.from(request);
+      expenseBudgetSynchronizer.convert(expense);
+      expense = expenseRepository.saveAndFlush(expense);
+      expenseBudgetSynchronizer.apply(expense);
+    }
+    eventPublisher.publishEvent(ExpenseChangedEvent.created(expense));
+    return expense;
+  }
+
+  /**
+   * Creates the expense unless a previous request already did so under the same idempotency key,
+   * in which case that expense is returned and the budget is left untouched. A key first used with
+   * a different request, or whose first request has not completed, is refused. A null key always
+   * creates.
+   */
+  @Transactional
+  public Expense createExpense(ExpenseRequest request, String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return createExpense(request);
+    }
+
+    Optional<Long> existingId =
+        idempotencyService.claim(idempotencyKey, IdempotentResource.EXPENSE, request);
+    if (existingId.isPresent()) {
+      return getExpenseById(existingId.get());
+    }
+
+    Expense expense = createExpense(request);
+    idempotencyService.complete(idempotencyKey, IdempotentResource.EXPENSE, expense.getId());
     return expense;
   }
 
-  public List<Expense> getAllExpensesForMonth(String monthString) {
+  @Transactional(readOnly = true)
+  public List<ExpenseSummary> getAllExpensesForMonth(String monthString) {
     YearMonth month = DateUtils.getValidYearMonth(monthString);
     return findListByCustomFinderOrThrow(
-        expenseRepository::findByMonth, month, createMonthNotFoundException(month));
+        expenseRepository::findSummariesByMonth, month, createMonthNotFoundException(month));
+  }
+
+  /**
+   * Lists the month's expenses with every amount converted into the given currency, or unconverted
+   * when no currency is given. All items are converted against a single rate snapshot.
+   */
+  @Transactional(readOnly = true)
+  public List<ExpenseSummary> getAllExpensesForMonth(String monthString, String currencyCode) {
+    List<ExpenseSummary> expenses = getAllExpensesForMonth(monthString);
+    if (currencyCode == null) {
+      return expenses;
+    }
+
+    UnaryOperator<Money> converter =
+        fxRateService.currentSnapshot().converterTo(Currency.getInstance(currencyCode));
+    return expenses.stream()
+        .map(expense -> expense.withMoney(converter.apply(expense.getMoney())))
+        .toList();
+  }
+
+  /**
+   * Searches expense names for the given query, case-insensitively, across all months or within
+   * the given month. Searches within the current month are answered from the in-memory name index
+   * when it is enabled; everything else goes to the trigram-indexed database search.
+   */
+  @Transactional(readOnly = true)
+  public Page<ExpenseSummary> searchExpenses(String query, String monthString, int page, int size) {
+    String term = query.trim().toUpperCase();
+    Pageable pageable = PageRequest.of(page, size);
+    if (monthString == null) {
+      return expenseRepository.searchSummariesByName(
+          containsPattern(term), prefixPattern(term), pageable);
+    }
+
+    YearMonth month = DateUtils.getValidYearMonth(monthString);
+    if (expenseNameIndex.covers(month)) {
+      return expenseNameIndex.search(term, pageable);
+    }
+    return expenseRepository.searchSummariesByNameInMonth(
+        month, containsPattern(term), prefixPattern(term), pageable);
+  }
+
+  /** Lists the expenses matching every filter given in the request, one page at a time. */
+  @Transactional(readOnly = true)
+  public Page<ExpenseSummary> filterExpenses(ExpenseFilterRequest request, int page, int size) {
+    return expenseRepository.findSummaries(ExpenseFilter.from(request), PageRequest.of(page, size));
   }
 
   public Expense getExpenseById(Long id) {
@@ -49,19 +171,50 @@ public class ExpenseService extends EntityLookupService {
   public Expense updateExpense(Long id, ExpenseRequest request) {
     Expense expense = getExpenseById(id);
     Expense original = expense.deepCopy();
+    categorizeIfMissing(request);
 
-    expense.updateFrom(request);
-    expenseRepository.saveAndFlush(expense);
-
-    expenseBudgetSynchronizer.reapply(original, expense);
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      expense = expenseFunctionWriter.update(original, request);
+    } else {
+      expense.updateFrom(request);
+      expenseBudgetSynchronizer.convert(expense);
+      expenseRepository.saveAndFlush(expense);
+      expenseBudgetSynchronizer.reapply(original, expense);
+    }
+    eventPublisher.publishEvent(ExpenseChangedEvent.updated(original, expense));
     return expense;
   }
 
   @Transactional
   public void deleteExpense(Long id) {
     Expense expense = getExpenseById(id);
-    expenseBudgetSynchronizer.retract(expense);
-    expenseRepository.deleteById(id);
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      expenseFunctionWriter.delete(expense);
+    } else {
+      expenseBudgetSynchronizer.retract(expense);
+      expenseRepository.deleteById(id);
+    }
+    eventPublisher.publishEvent(ExpenseChangedEvent.deleted(expense));
+  }
+
+  /** Fills in the category from the category rules when the request does not name one. */
+  private void categorizeIfMissing(ExpenseRequest request) {
+    if (request.getCategory() == null) {
+      request.setCategory(expenseCategorizer.categorize(request.getName()));
+    }
+  }
+
+  private static String containsPattern(String term) {
+    return LIKE_WILDCARD + escapeLike(term) + LIKE_WILDCARD;
+  }
+
+  private static String prefixPattern(String term) {
+    return escapeLike(term) + LIKE_WILDCARD;
+  }
+
+  /** Escapes LIKE wildcards in user input so they are matched literally. */
+  private static String escapeLike(String term) {
+    return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
   }
 
   /** Creates a supplier for ExpenseNotFoundException when entity is not found by ID. */
@@ -0,0 +1,109 @@
+package com.budgetmaster.application.service;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.exception.IdempotencyKeyNotCompletedException;
+import com.budgetmaster.application.exception.IdempotencyKeyReusedException;
+import com.budgetmaster.application.model.IdempotencyKey;
+import com.budgetmaster.application.model.IdempotencyKeyId;
+import com.budgetmaster.application.repository.IdempotencyKeyRepository;
+import com.budgetmaster.constants.error.ErrorMessages;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Service
+public class IdempotencyService {
+
+  private static final String REQUEST_HASH_ALGORITHM = "SHA-256";
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+
+  public IdempotencyService(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      ObjectMapper objectMapper,
+      @Value("${budgetmaster.idempotency.ttl}") Duration ttl) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Claims the key for a new resource of the given type, created from the given request. Returns
+   * an empty optional when the caller now owns the key and must create the resource, or the id of
+   * the resource that an earlier request created under the same key. A concurrent claim of the
+   * same key waits until the first transaction commits, so only one of them ever creates the
+   * resource.
+   *
+   * @throws IdempotencyKeyReusedException if the key was first used with a different request
+   * @throws IdempotencyKeyNotCompletedException if the key has no resource recorded against it
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Optional<Long> claim(
+      String idempotencyKey, IdempotentResource resourceType, Object request) {
+    String requestHash = hash(request);
+    int inserted =
+        idempotencyKeyRepository.insertIfAbsent(idempotencyKey, resourceType.name(), requestHash);
+    if (inserted > 0) {
+      return Optional.empty();
+    }
+
+    IdempotencyKey claimed =
+        idempotencyKeyRepository
+            .findById(new IdempotencyKeyId(idempotencyKey, resourceType))
+            .orElseThrow(() -> notCompleted(idempotencyKey));
+    if (claimed.getRequestHash() != null && !claimed.getRequestHash().equals(requestHash)) {
+      throw new IdempotencyKeyReusedException(
+          String.format(ErrorMessages.Idempotency.KEY_REUSED, idempotencyKey));
+    }
+    if (claimed.getResourceId() == null) {
+      throw notCompleted(idempotencyKey);
+    }
+    return Optional.of(claimed.getResourceId());
+  }
+
+  /** Records the id of the resource created under a key previously returned empty by claim. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void complete(String idempotencyKey, IdempotentResource resourceType, Long resourceId) {
+    idempotencyKeyRepository.updateResourceId(idempotencyKey, resourceType, resourceId);
+  }
+
+  @Transactional
+  @Scheduled(fixedDelayString = "${budgetmaster.idempotency.cleanup-interval}")
+  public void purgeExpiredKeys() {
+    idempotencyKeyRepository.deleteOlderThan(ttl.toSeconds());
+  }
+
+  /**
+   * Hashes the request as the application serializes it, so the same request hashes the same
+   * whatever the field order or whitespace of the body it was read from.
+   */
+  private String hash(Object request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(REQUEST_HASH_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static IdempotencyKeyNotCompletedException notCompleted(String idempotencyKey) {
+    return new IdempotencyKeyNotCompletedException(
+        String.format(ErrorMessages.Idempotency.KEY_NOT_COMPLETED, idempotencyKey));
+  }
+}
@@ -1,18 +1,30 @@
 package com.budgetmaster.application.service;
 
 import java.time.YearMonth;
+import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.budgetmaster.application.dto.IncomeRequest;
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.enums.WriteStrategy;
+import com.budgetmaster.application.event.IncomeChangedEvent;
 import com.budgetmaster.application.exception.IncomeNotFoundException;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.application.repository.IncomeRepository;
 import com.budgetmaster.application.service.core.EntityLookupService;
+import com.budgetmaster.application.service.fx.FxRateService;
 import com.budgetmaster.application.service.synchronization.IncomeBudgetSynchronizer;
+import com.budgetmaster.application.service.write.IncomeFunctionWriter;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.constants.error.ErrorMessages;
 
@@ -21,24 +33,90 @@ public class IncomeService extends EntityLookupService {
 
   private final IncomeRepository incomeRepository;
   private final IncomeBudgetSynchronizer incomeBudgetSynchronizer;
+  private final IdempotencyService idempotencyService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final FxRateService fxRateService;
+  private final IncomeFunctionWriter incomeFunctionWriter;
+  private final WriteStrategy writeStrategy;
 
   public IncomeService(
-      IncomeRepository incomeRepository, IncomeBudgetSynchronizer incomeBudgetSynchronizer) {
+      IncomeRepository incomeRepository,
+      IncomeBudgetSynchronizer incomeBudgetSynchronizer,
+      IdempotencyService idempotencyService,
+      ApplicationEventPublisher eventPublisher,
+      FxRateService fxRateService,
+      IncomeFunctionWriter incomeFunctionWriter,
+      @Value("${budgetmaster.write.strategy}") WriteStrategy writeStrategy) {
     this.incomeRepository = incomeRepository;
     this.incomeBudgetSynchronizer = incomeBudgetSynchronizer;
+    this.idempotencyService = idempotencyService;
+    this.eventPublisher = eventPublisher;
+    this.fxRateService = fxRateService;
+    this.incomeFunctionWriter = incomeFunctionWriter;
+    this.writeStrategy = writeStrategy;
   }
 
   @Transactional
   public Income createIncome(IncomeRequest request) {
-    Income income = incomeRepository.saveAndFlush(Income.from(request));
-    incomeBudgetSynchronizer.apply(income);
+    Income income;
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      income = incomeFunctionWriter.create(request);
+    } else {
+      income = Income.from(request);
+      incomeBudgetSynchronizer.convert(income);
+      income = incomeRepository.saveAndFlush(income);
+      incomeBudgetSynchronizer.apply(income);
+    }
+    eventPublisher.publishEvent(IncomeChangedEvent.created(income));
     return income;
   }
 
-  public List<Income> getAllIncomesForMonth(String monthString) {
+  /**
+   * Creates the income unless a previous request already did so under the same idempotency key, in
+   * which case that income is returned and the budget is left untouched. A key first used with a
+   * different request, or whose first request has not completed, is refused. A null key always
+   * creates.
+   */
+  @Transactional
+  public Income createIncome(IncomeRequest request, String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return createIncome(request);
+    }
+
+    Optional<Long> existingId =
+        idempotencyService.claim(idempotencyKey, IdempotentResource.INCOME, request);
+    if (existingId.isPresent()) {
+      return getIncomeById(existingId.get());
+    }
+
+    Income income = createIncome(request);
+    idempotencyService.complete(idempotencyKey, IdempotentResource.INCOME, income.getId());
+    return income;
+  }
+
+  @Transactional(readOnly = true)
+  public List<IncomeSummary> getAllIncomesForMonth(String monthString) {
     YearMonth month = DateUtils.getValidYearMonth(monthString);
     return findListByCustomFinderOrThrow(
-        incomeRepository::findByMonth, month, createMonthNotFoundException(month));
+        incomeRepository::findSummariesByMonth, month, createMonthNotFoundException(month));
+  }
+
+  /**
+   * Lists the month's incomes with every amount converted into the given currency, or unconverted
+   * when no currency is given. All items are converted against a single rate snapshot.
+   */
+  @Transactional(readOnly = true)
+  public List<IncomeSummary> getAllIncomesForMonth(String monthString, String currencyCode) {
+    List<IncomeSummary> incomes = getAllIncomesForMonth(monthString);
+    if (currencyCode == null) {
+      return incomes;
+    }
+
+    UnaryOperator<Money> converter =
+        fxRateService.currentSnapshot().converterTo(Currency.getInstance(currencyCode));
+    return incomes.stream()
+        .map(income -> income.withMoney(converter.apply(income.getMoney())))
+        .toList();
   }
 
   public Income getIncomeById(Long id) {
@@ -50,18 +128,28 @@ public class IncomeService extends EntityLookupService {
     Income income = getIncomeById(id);
     Income original = income.deepCopy();
 
-    income.updateFrom(request);
-    incomeRepository.saveAndFlush(income);
-
-    incomeBudgetSynchronizer.reapply(original, income);
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      income = incomeFunctionWriter.update(original, request);
+    } else {
+      income.updateFrom(request);
+      incomeBudgetSynchronizer.convert(income);
+      incomeRepository.saveAndFlush(income);
+      incomeBudgetSynchronizer.reapply(original, income);
+    }
+    eventPublisher.publishEvent(IncomeChangedEvent.updated(original, income));
     return income;
   }
 
   @Transactional
   public void deleteIncome(Long id) {
     Income income = getIncomeById(id);
-    incomeBudgetSynchronizer.retract(income);
-    incomeRepository.deleteById(id);
+    if (writeStrategy == WriteStrategy.STORED_FUNCTION) {
+      incomeFunctionWriter.delete(income);
+    } else {
+      incomeBudgetSynchronizer.retract(income);
+      incomeRepository.deleteById(id);
+    }
+    eventPublisher.publishEvent(IncomeChangedEvent.deleted(income));
   }
 
   /** Creates a supplier for IncomeNotFoundException when entity is not found by ID. */
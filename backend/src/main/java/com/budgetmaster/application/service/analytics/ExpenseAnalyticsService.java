@@ -0,0 +1,57 @@
+package com.budgetmaster.application.service.analytics;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.CategoryPercentilesResponse;
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.dto.TopExpenseResponse;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.util.DateUtils;
+
+/**
+ * Per-category expense reports over a range of months. Ranking and percentiles are computed by the
+ * database; only the result rows are loaded. Amounts of different currencies are never mixed, so
+ * every result is per category and currency. Approximate quantiles are answered from the in-memory
+ * {@link ExpenseDigestService digests} instead, with amounts in the base currency.
+ */
+@Service
+public class ExpenseAnalyticsService {
+
+  private final ExpenseRepository expenseRepository;
+  private final ExpenseDigestService expenseDigestService;
+
+  public ExpenseAnalyticsService(
+      ExpenseRepository expenseRepository, ExpenseDigestService expenseDigestService) {
+    this.expenseRepository = expenseRepository;
+    this.expenseDigestService = expenseDigestService;
+  }
+
+  @Transactional(readOnly = true)
+  public List<TopExpenseResponse> getTopExpenses(MonthRangeRequest range, int limit) {
+    return expenseRepository
+        .findTopExpensesPerCategory(range.getFromMonth(), range.getToMonth(), limit)
+        .stream()
+        .map(TopExpenseResponse::from)
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public List<CategoryPercentilesResponse> getPercentiles(MonthRangeRequest range) {
+    return expenseRepository
+        .findPercentilesPerCategory(range.getFromMonth(), range.getToMonth())
+        .stream()
+        .map(CategoryPercentilesResponse::from)
+        .toList();
+  }
+
+  /** Returns the approximate median, p90 and p99 of each category over the range, from memory. */
+  public List<CategoryQuantilesResponse> getQuantiles(MonthRangeRequest range) {
+    return expenseDigestService.quantiles(
+        DateUtils.getValidYearMonth(range.getFromMonth()),
+        DateUtils.getValidYearMonth(range.getToMonth()));
+  }
+}
@@ -0,0 +1,265 @@
+package com.budgetmaster.application.service.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.ExpenseDigest;
+import com.budgetmaster.application.repository.ExpenseDigestRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.constants.database.ColumnConstraints;
+
+/**
+ * A {@link TDigest} of the expense amounts of each month and category, in the FX base currency,
+ * so approximate quantiles over any range of months are answered from memory by merging the
+ * digests of the months in the range. The digests are loaded from the {@link ExpenseDigest} table
+ * on startup; months with expenses but no stored digest are built from their expenses then.
+ *
+ * <p>Changes are made in memory under the service's lock and only mark their month dirty, so an
+ * expense write never waits on the table. Every {@code
+ * budgetmaster.analytics.digest.flush-interval}, and on shutdown, the dirty months are encoded
+ * under the lock and written by the {@link ExpenseDigestWriter} outside it; flushes run one at a
+ * time, so the stored digests change in the same order as the in-memory ones. A month whose write
+ * fails is flushed again next time. A crash loses the changes since the last flush, leaving the
+ * stored digests of those months behind their expenses until the months change again.
+ *
+ * <p>A created expense is added to its digest. A t-digest cannot take a value out, so an updated
+ * or deleted expense rebuilds the digests it was and is in from that month's expenses of the
+ * category, and months written in bulk by an import or the recurring rollover are rebuilt whole.
+ */
+@Service
+public class ExpenseDigestService {
+
+  private static final Logger log = LoggerFactory.getLogger(ExpenseDigestService.class);
+
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+  private final ExpenseDigestRepository expenseDigestRepository;
+  private final ExpenseDigestWriter expenseDigestWriter;
+  private final ExpenseRepository expenseRepository;
+  private final FxRateService fxRateService;
+  private final double compression;
+  private final NavigableMap<YearMonth, Map<ExpenseCategory, TDigest>> digestsByMonth =
+      new TreeMap<>();
+  private final Set<YearMonth> dirtyMonths = new TreeSet<>();
+  private final Object flushLock = new Object();
+
+  public ExpenseDigestService(
+      ExpenseDigestRepository expenseDigestRepository,
+      ExpenseDigestWriter expenseDigestWriter,
+      ExpenseRepository expenseRepository,
+      FxRateService fxRateService,
+      @Value("${budgetmaster.analytics.digest.compression}") double compression) {
+    this.expenseDigestRepository = expenseDigestRepository;
+    this.expenseDigestWriter = expenseDigestWriter;
+    this.expenseRepository = expenseRepository;
+    this.fxRateService = fxRateService;
+    this.compression = compression;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    digestsByMonth.clear();
+    for (ExpenseDigest stored : expenseDigestRepository.findAll()) {
+      digestsOf(stored.getMonth()).put(stored.getCategory(), TDigest.fromBytes(stored.getDigest()));
+    }
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    for (YearMonth month : expenseRepository.findMonths()) {
+      if (!digestsByMonth.containsKey(month)) {
+        rebuildMonth(month, rates);
+      }
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onExpenseChanged(ExpenseChangedEvent event) {
+    Expense before = event.getBefore();
+    Expense after = event.getAfter();
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    if (before == null) {
+      TDigest digest =
+          digestsOf(after.getMonth()).computeIfAbsent(after.getCategory(), c -> newDigest());
+      digest.add(rates.toBase(after.getMoney()).doubleValue());
+      dirtyMonths.add(after.getMonth());
+      return;
+    }
+    if (after != null && sameAmountAndDigest(before, after)) {
+      return;
+    }
+    rebuild(before.getMonth(), before.getCategory(), rates);
+    if (after != null
+        && (!after.getMonth().equals(before.getMonth())
+            || after.getCategory() != before.getCategory())) {
+      rebuild(after.getMonth(), after.getCategory(), rates);
+    }
+  }
+
+  /** Rebuilds a month whose recurring expenses were written in bulk, bypassing the services. */
+  @EventListener
+  public synchronized void onRecurringTransactionsMaterialized(
+      RecurringTransactionsMaterializedEvent event) {
+    rebuildMonth(event.getMonth(), fxRateService.currentSnapshot());
+  }
+
+  /** Rebuilds every month an import wrote rows into, bypassing the services. */
+  @EventListener
+  public synchronized void onTransactionsImported(TransactionsImportedEvent event) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    for (YearMonth month : event.getMonths()) {
+      rebuildMonth(month, rates);
+    }
+  }
+
+  /**
+   * Returns the approximate median, 90th and 99th percentile expense amount of each category over
+   * the months {@code from..to}, inclusive, in the base currency. Categories without expenses in
+   * the range are left out.
+   */
+  public synchronized List<CategoryQuantilesResponse> quantiles(YearMonth from, YearMonth to) {
+    Map<ExpenseCategory, List<TDigest>> digestsByCategory = new EnumMap<>(ExpenseCategory.class);
+    for (Map<ExpenseCategory, TDigest> digests :
+        digestsByMonth.subMap(from, true, to, true).values()) {
+      digests.forEach(
+          (category, digest) ->
+              digestsByCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(digest));
+    }
+    Currency baseCurrency = fxRateService.currentSnapshot().getBaseCurrency();
+    List<CategoryQuantilesResponse> quantiles = new ArrayList<>(digestsByCategory.size());
+    digestsByCategory.forEach(
+        (category, digests) -> {
+          TDigest merged = TDigest.merge(compression, digests);
+          quantiles.add(
+              CategoryQuantilesResponse.of(
+                  category,
+                  baseCurrency,
+                  merged.count(),
+                  amount(merged.quantile(QUANTILES[0])),
+                  amount(merged.quantile(QUANTILES[1])),
+                  amount(merged.quantile(QUANTILES[2]))));
+        });
+    return quantiles;
+  }
+
+  /**
+   * Writes the digests of every month changed since the last flush. Only the encoding is done
+   * under the service's lock, so changes go on while the months are written.
+   */
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${budgetmaster.analytics.digest.flush-interval}")
+  public void flush() {
+    synchronized (flushLock) {
+      takeDirtyMonths()
+          .forEach(
+              (month, digests) -> {
+                try {
+                  expenseDigestWriter.replaceMonth(month, digests);
+                } catch (DataAccessException e) {
+                  log.warn("Could not store the expense digests of {}, retrying", month, e);
+                  markDirty(month);
+                }
+              });
+    }
+  }
+
+  /** Replaces the month's digest of the category with one built from its expenses. */
+  private void rebuild(YearMonth month, ExpenseCategory category, FxRateSnapshot rates) {
+    List<Expense> expenses = expenseRepository.findByMonthAndCategory(month, category);
+    Map<ExpenseCategory, TDigest> digests = digestsOf(month);
+    if (expenses.isEmpty()) {
+      digests.remove(category);
+      if (digests.isEmpty()) {
+        digestsByMonth.remove(month);
+      }
+      dirtyMonths.add(month);
+      return;
+    }
+    TDigest digest = newDigest();
+    expenses.forEach(expense -> digest.add(rates.toBase(expense.getMoney()).doubleValue()));
+    digests.put(category, digest);
+    dirtyMonths.add(month);
+  }
+
+  /** Replaces every digest of the month with ones built from its expenses. */
+  private void rebuildMonth(YearMonth month, FxRateSnapshot rates) {
+    Map<ExpenseCategory, TDigest> rebuilt = new EnumMap<>(ExpenseCategory.class);
+    for (Expense expense : expenseRepository.findByMonth(month)) {
+      rebuilt
+          .computeIfAbsent(expense.getCategory(), c -> newDigest())
+          .add(rates.toBase(expense.getMoney()).doubleValue());
+    }
+    if (rebuilt.isEmpty()) {
+      digestsByMonth.remove(month);
+    } else {
+      digestsByMonth.put(month, rebuilt);
+    }
+    dirtyMonths.add(month);
+  }
+
+  /** Encodes the digests of the dirty months, none for a month left empty, and clears them. */
+  private synchronized Map<YearMonth, Map<ExpenseCategory, byte[]>> takeDirtyMonths() {
+    Map<YearMonth, Map<ExpenseCategory, byte[]>> encodedByMonth = new TreeMap<>();
+    for (YearMonth month : dirtyMonths) {
+      Map<ExpenseCategory, byte[]> encoded = new EnumMap<>(ExpenseCategory.class);
+      digestsByMonth
+          .getOrDefault(month, Map.of())
+          .forEach((category, digest) -> encoded.put(category, digest.toBytes()));
+      encodedByMonth.put(month, encoded);
+    }
+    dirtyMonths.clear();
+    return encodedByMonth;
+  }
+
+  private synchronized void markDirty(YearMonth month) {
+    dirtyMonths.add(month);
+  }
+
+  private Map<ExpenseCategory, TDigest> digestsOf(YearMonth month) {
+    return digestsByMonth.computeIfAbsent(month, m -> new EnumMap<>(ExpenseCategory.class));
+  }
+
+  private TDigest newDigest() {
+    return new TDigest(compression);
+  }
+
+  /** Whether an update left the expense's amount in the same digest, which then stays as it is. */
+  private static boolean sameAmountAndDigest(Expense before, Expense after) {
+    return before.getMonth().equals(after.getMonth())
+        && before.getCategory() == after.getCategory()
+        && Objects.equals(before.getMoney(), after.getMoney());
+  }
+
+  private static BigDecimal amount(double quantile) {
+    return BigDecimal.valueOf(quantile)
+        .setScale(ColumnConstraints.Amount.SCALE, RoundingMode.HALF_UP);
+  }
+}
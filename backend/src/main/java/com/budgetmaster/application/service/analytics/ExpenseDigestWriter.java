@@ -0,0 +1,36 @@
+package com.budgetmaster.application.service.analytics;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.model.ExpenseDigest;
+import com.budgetmaster.application.repository.ExpenseDigestRepository;
+
+/**
+ * Writes encoded digests to the {@link ExpenseDigest} table, each month in a transaction of its
+ * own. The digest service flushes months from a scheduled task, outside any expense write.
+ */
+@Service
+public class ExpenseDigestWriter {
+
+  private final ExpenseDigestRepository expenseDigestRepository;
+
+  public ExpenseDigestWriter(ExpenseDigestRepository expenseDigestRepository) {
+    this.expenseDigestRepository = expenseDigestRepository;
+  }
+
+  /** Replaces every stored digest of the month with the given ones. */
+  @Transactional
+  public void replaceMonth(YearMonth month, Map<ExpenseCategory, byte[]> digests) {
+    expenseDigestRepository.deleteByMonth(month);
+    List<ExpenseDigest> rows = new ArrayList<>(digests.size());
+    digests.forEach((category, digest) -> rows.add(ExpenseDigest.of(month, category, digest)));
+    expenseDigestRepository.saveAll(rows);
+  }
+}
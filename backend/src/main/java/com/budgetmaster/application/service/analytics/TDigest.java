@@ -0,0 +1,250 @@
+package com.budgetmaster.application.service.analytics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Merging t-digest: a sketch of a distribution that answers quantiles approximately in constant
+ * space. Values are summarized as centroids, a mean with a count, kept sorted by mean. Centroids
+ * near the tails hold few values and those near the median many, as bounded by the k1 scale
+ * function {@code k(q) = compression / (2 pi) * asin(2q - 1)}: a centroid may only span one unit
+ * of {@code k}. Extreme quantiles therefore stay accurate while the digest holds roughly {@code
+ * compression} centroids whatever the number of values.
+ *
+ * <p>Added values are buffered and merged into the centroids in one sorted pass when the buffer
+ * fills or the digest is read. Digests of the same compression merge into one that summarizes
+ * both inputs. Not thread-safe.
+ */
+final class TDigest {
+
+  private static final byte ENCODING_VERSION = 1;
+  private static final int BUFFER_FACTOR = 5;
+
+  private final double compression;
+  private double[] means;
+  private long[] counts;
+  private int centroids;
+  private final double[] bufferedMeans;
+  private final long[] bufferedCounts;
+  private int buffered;
+  private long totalCount;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  TDigest(double compression) {
+    this.compression = compression;
+    int capacity = (int) Math.ceil(compression) + 1;
+    this.means = new double[capacity];
+    this.counts = new long[capacity];
+    this.bufferedMeans = new double[capacity * BUFFER_FACTOR];
+    this.bufferedCounts = new long[capacity * BUFFER_FACTOR];
+  }
+
+  /** Returns a digest that summarizes the values of all the given digests. */
+  static TDigest merge(double compression, Iterable<TDigest> digests) {
+    TDigest merged = new TDigest(compression);
+    for (TDigest digest : digests) {
+      digest.compress();
+      for (int i = 0; i < digest.centroids; i++) {
+        merged.add(digest.means[i], digest.counts[i]);
+      }
+      merged.min = Math.min(merged.min, digest.min);
+      merged.max = Math.max(merged.max, digest.max);
+    }
+    return merged;
+  }
+
+  void add(double value) {
+    add(value, 1);
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  long count() {
+    return totalCount;
+  }
+
+  /** Returns the approximate value below which the given fraction of the values lies. */
+  double quantile(double q) {
+    compress();
+    if (centroids == 0) {
+      return Double.NaN;
+    }
+    if (centroids == 1) {
+      return means[0];
+    }
+    double index = q * totalCount;
+    if (index < 1) {
+      return min;
+    }
+    if (index > totalCount - 1) {
+      return max;
+    }
+    int last = centroids - 1;
+    if (counts[0] > 1 && index < counts[0] / 2.0) {
+      return min + (index - 1) / (counts[0] / 2.0 - 1) * (means[0] - min);
+    }
+    if (counts[last] > 1 && totalCount - index <= counts[last] / 2.0) {
+      return max - (totalCount - index - 1) / (counts[last] / 2.0 - 1) * (max - means[last]);
+    }
+    double weightSoFar = counts[0] / 2.0;
+    for (int i = 0; i < last; i++) {
+      double between = (counts[i] + counts[i + 1]) / 2.0;
+      if (weightSoFar + between > index) {
+        double leftSingleton = 0;
+        if (counts[i] == 1) {
+          if (index - weightSoFar < 0.5) {
+            return means[i];
+          }
+          leftSingleton = 0.5;
+        }
+        double rightSingleton = 0;
+        if (counts[i + 1] == 1) {
+          if (weightSoFar + between - index <= 0.5) {
+            return means[i + 1];
+          }
+          rightSingleton = 0.5;
+        }
+        double toLeft = index - weightSoFar - leftSingleton;
+        double toRight = weightSoFar + between - index - rightSingleton;
+        return weightedAverage(means[i], toRight, means[i + 1], toLeft);
+      }
+      weightSoFar += between;
+    }
+    return max;
+  }
+
+  /**
+   * Encodes the digest as its compression, bounds and centroids. Counts are written as variable
+   * length integers, so the small counts of the tail centroids take a byte each.
+   */
+  byte[] toBytes() {
+    compress();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(ENCODING_VERSION);
+      out.writeDouble(compression);
+      out.writeDouble(min);
+      out.writeDouble(max);
+      writeVarLong(out, centroids);
+      for (int i = 0; i < centroids; i++) {
+        out.writeDouble(means[i]);
+        writeVarLong(out, counts[i]);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static TDigest fromBytes(byte[] encoded) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+      byte version = in.readByte();
+      if (version != ENCODING_VERSION) {
+        throw new IllegalArgumentException("Unsupported t-digest encoding: " + version);
+      }
+      TDigest digest = new TDigest(in.readDouble());
+      double min = in.readDouble();
+      double max = in.readDouble();
+      int centroids = (int) readVarLong(in);
+      for (int i = 0; i < centroids; i++) {
+        digest.add(in.readDouble(), readVarLong(in));
+      }
+      digest.min = min;
+      digest.max = max;
+      return digest;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void add(double mean, long count) {
+    if (buffered == bufferedMeans.length) {
+      compress();
+    }
+    bufferedMeans[buffered] = mean;
+    bufferedCounts[buffered] = count;
+    buffered++;
+    totalCount += count;
+  }
+
+  /**
+   * Merges the buffer into the centroids. All centroids are sorted by mean and swept once from
+   * the left, each joining the current centroid while the k1 scale grows by at most one across
+   * it.
+   */
+  private void compress() {
+    if (buffered == 0) {
+      return;
+    }
+    int pending = centroids + buffered;
+    double[] pendingMeans = Arrays.copyOf(means, pending);
+    long[] pendingCounts = Arrays.copyOf(counts, pending);
+    System.arraycopy(bufferedMeans, 0, pendingMeans, centroids, buffered);
+    System.arraycopy(bufferedCounts, 0, pendingCounts, centroids, buffered);
+    Integer[] order = new Integer[pending];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, Comparator.comparingDouble(i -> pendingMeans[i]));
+
+    double[] mergedMeans = new double[pending];
+    long[] mergedCounts = new long[pending];
+    int merged = 0;
+    mergedMeans[0] = pendingMeans[order[0]];
+    mergedCounts[0] = pendingCounts[order[0]];
+    long countBefore = 0;
+    for (int i = 1; i < pending; i++) {
+      double mean = pendingMeans[order[i]];
+      long count = pendingCounts[order[i]];
+      long joined = mergedCounts[merged] + count;
+      double qLeft = (double) countBefore / totalCount;
+      double qRight = (double) (countBefore + joined) / totalCount;
+      if (scale(qRight) - scale(qLeft) <= 1) {
+        mergedMeans[merged] += (mean - mergedMeans[merged]) * count / joined;
+        mergedCounts[merged] = joined;
+      } else {
+        countBefore += mergedCounts[merged];
+        merged++;
+        mergedMeans[merged] = mean;
+        mergedCounts[merged] = count;
+      }
+    }
+    means = mergedMeans;
+    counts = mergedCounts;
+    centroids = merged + 1;
+    buffered = 0;
+  }
+
+  private double scale(double q) {
+    return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+  }
+
+  private static double weightedAverage(double x1, double w1, double x2, double w2) {
+    double average = (x1 * w1 + x2 * w2) / (w1 + w2);
+    return Math.max(Math.min(x1, x2), Math.min(average, Math.max(x1, x2)));
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+  }
+}
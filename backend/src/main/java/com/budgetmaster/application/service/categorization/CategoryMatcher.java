@@ -0,0 +1,113 @@
+package com.budgetmaster.application.service.categorization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.model.CategoryRule;
+
+/**
+ * All category rules compiled for matching. Keyword rules form one {@link KeywordAutomaton}; the
+ * patterns of the pattern rules are joined into a single alternation, each wrapped in a capturing
+ * group, so a name is scanned by one regex instead of one per rule. Keyword rules win over pattern
+ * rules; among keywords the longest match wins, among patterns the leftmost match, and remaining
+ * ties go to the rule created first. Instances are immutable and safe to share between threads.
+ */
+final class CategoryMatcher {
+
+  static final CategoryMatcher EMPTY = compile(List.of());
+
+  private final KeywordAutomaton keywords;
+  private final List<ExpenseCategory> keywordCategories;
+  private final Pattern patterns;
+  private final int[] patternGroups;
+  private final List<ExpenseCategory> patternCategories;
+
+  private CategoryMatcher(
+      KeywordAutomaton keywords,
+      List<ExpenseCategory> keywordCategories,
+      Pattern patterns,
+      int[] patternGroups,
+      List<ExpenseCategory> patternCategories) {
+    this.keywords = keywords;
+    this.keywordCategories = keywordCategories;
+    this.patterns = patterns;
+    this.patternGroups = patternGroups;
+    this.patternCategories = patternCategories;
+  }
+
+  /** Compiles the rules, which are expected in creation order. */
+  static CategoryMatcher compile(List<CategoryRule> rules) {
+    List<String> keywordTexts = new ArrayList<>();
+    List<ExpenseCategory> keywordCategories = new ArrayList<>();
+    StringBuilder alternation = new StringBuilder();
+    List<Integer> groups = new ArrayList<>();
+    List<ExpenseCategory> patternCategories = new ArrayList<>();
+    int group = 1;
+    for (CategoryRule rule : rules) {
+      if (rule.getType() == CategoryRuleType.KEYWORD) {
+        keywordTexts.add(rule.getPattern());
+        keywordCategories.add(rule.getCategory());
+      } else {
+        if (alternation.length() > 0) {
+          alternation.append('|');
+        }
+        alternation.append('(').append(rule.getPattern()).append(')');
+        groups.add(group);
+        group += 1 + Pattern.compile(rule.getPattern()).matcher("").groupCount();
+        patternCategories.add(rule.getCategory());
+      }
+    }
+    return new CategoryMatcher(
+        keywordTexts.isEmpty() ? null : KeywordAutomaton.build(keywordTexts),
+        List.copyOf(keywordCategories),
+        groups.isEmpty()
+            ? null
+            : Pattern.compile(
+                alternation.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE),
+        groups.stream().mapToInt(Integer::intValue).toArray(),
+        List.copyOf(patternCategories));
+  }
+
+  /**
+   * Returns whether the pattern refers back to a group by number. Such a reference would point at
+   * the wrong group once the pattern is embedded in the alternation, so these patterns are refused.
+   */
+  static boolean hasNumberedBackreference(String pattern) {
+    for (int i = 0; i < pattern.length() - 1; i++) {
+      if (pattern.charAt(i) == '\\') {
+        char next = pattern.charAt(i + 1);
+        if (next >= '1' && next <= '9') {
+          return true;
+        }
+        i++;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the category of the best matching rule for the upper-cased name. */
+  Optional<ExpenseCategory> match(String name) {
+    if (keywords != null) {
+      int keyword = keywords.longestMatch(name);
+      if (keyword != KeywordAutomaton.NO_MATCH) {
+        return Optional.of(keywordCategories.get(keyword));
+      }
+    }
+    if (patterns != null) {
+      Matcher matcher = patterns.matcher(name);
+      if (matcher.find()) {
+        for (int i = 0; i < patternGroups.length; i++) {
+          if (matcher.start(patternGroups[i]) >= 0) {
+            return Optional.of(patternCategories.get(i));
+          }
+        }
+      }
+    }
+    return Optional.empty();
+  }
+}
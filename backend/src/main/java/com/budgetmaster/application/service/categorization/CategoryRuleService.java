@@ -0,0 +1,88 @@
+package com.budgetmaster.application.service.categorization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.CategoryRuleRequest;
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.event.CategoryRulesChangedEvent;
+import com.budgetmaster.application.exception.CategoryRuleNotFoundException;
+import com.budgetmaster.application.exception.InvalidCategoryRuleException;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.application.repository.CategoryRuleRepository;
+import com.budgetmaster.application.service.core.EntityLookupService;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+@Service
+public class CategoryRuleService extends EntityLookupService {
+
+  private final CategoryRuleRepository categoryRuleRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public CategoryRuleService(
+      CategoryRuleRepository categoryRuleRepository, ApplicationEventPublisher eventPublisher) {
+    this.categoryRuleRepository = categoryRuleRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional(readOnly = true)
+  public List<CategoryRule> getAllRules() {
+    return categoryRuleRepository.findAllByOrderById();
+  }
+
+  @Transactional
+  public CategoryRule createRule(CategoryRuleRequest request) {
+    CategoryRule candidate = CategoryRule.from(request);
+    if (candidate.getType() == CategoryRuleType.PATTERN) {
+      validatePattern(candidate);
+    }
+    CategoryRule rule = categoryRuleRepository.save(candidate);
+    eventPublisher.publishEvent(CategoryRulesChangedEvent.of());
+    return rule;
+  }
+
+  @Transactional
+  public void deleteRule(Long id) {
+    CategoryRule rule =
+        findByIdOrThrow(
+            categoryRuleRepository,
+            id,
+            () ->
+                new CategoryRuleNotFoundException(
+                    String.format(ErrorMessages.CategoryRule.NOT_FOUND_WITH_ID, id)));
+    categoryRuleRepository.delete(rule);
+    eventPublisher.publishEvent(CategoryRulesChangedEvent.of());
+  }
+
+  /**
+   * Validates the candidate's pattern on its own and then joined with every stored rule, as {@link
+   * CategoryMatcher} compiles them. Some patterns only break once joined, such as a group name
+   * another rule already uses or an unterminated {@code \Q} quoting the closing parenthesis.
+   * Refusing them here keeps a stored rule from failing every later reload of the rules.
+   */
+  private void validatePattern(CategoryRule candidate) {
+    try {
+      Pattern.compile(candidate.getPattern());
+    } catch (PatternSyntaxException e) {
+      throw new InvalidCategoryRuleException(
+          String.format(ErrorMessages.CategoryRule.INVALID_PATTERN, e.getDescription()));
+    }
+    if (CategoryMatcher.hasNumberedBackreference(candidate.getPattern())) {
+      throw new InvalidCategoryRuleException(ErrorMessages.CategoryRule.BACKREFERENCE);
+    }
+    List<CategoryRule> rules = new ArrayList<>(categoryRuleRepository.findAllByOrderById());
+    rules.add(candidate);
+    try {
+      CategoryMatcher.compile(rules);
+    } catch (PatternSyntaxException e) {
+      throw new InvalidCategoryRuleException(
+          String.format(ErrorMessages.CategoryRule.CONFLICTING_PATTERN, e.getDescription()));
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.budgetmaster.application.service.categorization;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.event.CategoryRulesChangedEvent;
+import com.budgetmaster.application.repository.CategoryRuleRepository;
+
+/**
+ * Assigns a category to expense names from the category rules. The rules are compiled into one
+ * {@link CategoryMatcher} on startup and recompiled only after a rule change has committed; the
+ * compiled matcher is swapped in whole, so categorizing never touches the database and costs one
+ * scan of the name however many rules there are.
+ */
+@Service
+public class ExpenseCategorizer {
+
+  private final CategoryRuleRepository categoryRuleRepository;
+  private volatile CategoryMatcher matcher = CategoryMatcher.EMPTY;
+
+  public ExpenseCategorizer(CategoryRuleRepository categoryRuleRepository) {
+    this.categoryRuleRepository = categoryRuleRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    matcher = CategoryMatcher.compile(categoryRuleRepository.findAllByOrderById());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCategoryRulesChanged(CategoryRulesChangedEvent event) {
+    load();
+  }
+
+  /** Returns the category for the name, or MISCELLANEOUS when no rule matches. */
+  public ExpenseCategory categorize(String name) {
+    return matcher.match(name.toUpperCase()).orElse(ExpenseCategory.MISCELLANEOUS);
+  }
+}
@@ -0,0 +1,151 @@
+package com.budgetmaster.application.service.categorization;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over a fixed set of keywords. The failure links are resolved into a full
+ * transition table when the automaton is built, so a text is scanned with exactly one array lookup
+ * per character however many keywords there are. Characters that occur in no keyword share one
+ * column of the table, which keeps it at (states x distinct keyword characters) entries.
+ */
+final class KeywordAutomaton {
+
+  static final int NO_MATCH = -1;
+
+  private static final int ROOT = 0;
+  private static final int ASCII = 128;
+
+  /** Distinct keyword characters in ascending order; character i has column i + 1. */
+  private final char[] symbols;
+
+  private final int[] asciiColumns = new int[ASCII];
+  private final int width;
+  private final int[] transitions;
+
+  /** Per state, the index of the best keyword ending there, or {@link #NO_MATCH}. */
+  private final int[] outputs;
+
+  private final int[] lengths;
+
+  private KeywordAutomaton(char[] symbols, int[] transitions, int[] outputs, int[] lengths) {
+    this.symbols = symbols;
+    this.width = symbols.length + 1;
+    this.transitions = transitions;
+    this.outputs = outputs;
+    this.lengths = lengths;
+    for (int i = 0; i < symbols.length && symbols[i] < ASCII; i++) {
+      asciiColumns[symbols[i]] = i + 1;
+    }
+  }
+
+  /** Builds the automaton; keywords must not be empty and are matched case-sensitively. */
+  static KeywordAutomaton build(List<String> keywords) {
+    char[] symbols = distinctCharacters(keywords);
+    int width = symbols.length + 1;
+    int maxStates = 1 + keywords.stream().mapToInt(String::length).sum();
+    int[] transitions = new int[maxStates * width];
+    Arrays.fill(transitions, NO_MATCH);
+    int[] own = new int[maxStates];
+    Arrays.fill(own, NO_MATCH);
+    int[] lengths = new int[keywords.size()];
+
+    int states = 1;
+    for (int k = 0; k < keywords.size(); k++) {
+      String keyword = keywords.get(k);
+      lengths[k] = keyword.length();
+      int state = ROOT;
+      for (int i = 0; i < keyword.length(); i++) {
+        int cell = state * width + Arrays.binarySearch(symbols, keyword.charAt(i)) + 1;
+        if (transitions[cell] == NO_MATCH) {
+          transitions[cell] = states++;
+        }
+        state = transitions[cell];
+      }
+      if (own[state] == NO_MATCH) {
+        own[state] = k;
+      }
+    }
+
+    // Breadth-first, so a state's failure target is complete before the state is reached. The
+    // keyword a state itself spells is the longest one ending there; otherwise its failure target
+    // holds the best shorter one.
+    int[] failures = new int[states];
+    int[] outputs = new int[states];
+    outputs[ROOT] = own[ROOT];
+    int[] queue = new int[states];
+    int head = 0;
+    int tail = 0;
+    for (int column = 0; column < width; column++) {
+      int child = transitions[column];
+      if (child == NO_MATCH) {
+        transitions[column] = ROOT;
+      } else {
+        failures[child] = ROOT;
+        outputs[child] = own[child];
+        queue[tail++] = child;
+      }
+    }
+    while (head < tail) {
+      int state = queue[head++];
+      int failureRow = failures[state] * width;
+      for (int column = 0; column < width; column++) {
+        int cell = state * width + column;
+        int child = transitions[cell];
+        if (child == NO_MATCH) {
+          transitions[cell] = transitions[failureRow + column];
+        } else {
+          failures[child] = transitions[failureRow + column];
+          outputs[child] = own[child] != NO_MATCH ? own[child] : outputs[failures[child]];
+          queue[tail++] = child;
+        }
+      }
+    }
+    return new KeywordAutomaton(
+        symbols, Arrays.copyOf(transitions, states * width), outputs, lengths);
+  }
+
+  /**
+   * Returns the index of the longest keyword found anywhere in the text, the lowest index among
+   * equally long ones, or {@link #NO_MATCH}.
+   */
+  int longestMatch(String text) {
+    int state = ROOT;
+    int best = NO_MATCH;
+    for (int i = 0; i < text.length(); i++) {
+      state = transitions[state * width + column(text.charAt(i))];
+      int match = outputs[state];
+      if (match != NO_MATCH && (best == NO_MATCH || isBetter(match, best))) {
+        best = match;
+      }
+    }
+    return best;
+  }
+
+  private boolean isBetter(int keyword, int current) {
+    return lengths[keyword] > lengths[current]
+        || (lengths[keyword] == lengths[current] && keyword < current);
+  }
+
+  private int column(char c) {
+    if (c < ASCII) {
+      return asciiColumns[c];
+    }
+    int index = Arrays.binarySearch(symbols, c);
+    return index < 0 ? 0 : index + 1;
+  }
+
+  private static char[] distinctCharacters(List<String> keywords) {
+    StringBuilder all = new StringBuilder();
+    keywords.forEach(all::append);
+    char[] sorted = all.toString().toCharArray();
+    Arrays.sort(sorted);
+    int distinct = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, distinct);
+  }
+}
@@ -0,0 +1,223 @@
+package com.budgetmaster.application.service.forecast;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.IncomeChangedEvent;
+import com.budgetmaster.application.event.RecurringRolloverCompletedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.MonthlyTotal;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+
+/**
+ * In-memory projection of RECURRING income and expense totals per month, used to forecast future
+ * budgets. It is loaded once on startup and afterwards kept up to date incrementally from the
+ * change events published by the income and expense services, so a forecast never touches the
+ * database. Totals are kept in the FX base currency; a changed or deleted transaction is taken
+ * out with the base amount it was recorded with, so a change of rates in between leaves nothing
+ * behind. A load builds the totals aside and swaps them in whole, so forecasts made meanwhile
+ * still see the previous totals. Loads and changes are made under the projection's lock, so a
+ * change made during a load waits for it and applies to the loaded totals rather than to those
+ * being replaced.
+ *
+ * <p>Recurring transactions are copied forward every month, so every future month is projected
+ * with the totals of the latest fully materialized month: the latest month whose rollover has
+ * completed. Months after it may hold only some of their recurring transactions, such as one
+ * entered ahead of time or those a running rollover has copied so far.
+ */
+@Service
+public class RecurringForecastProjection {
+
+  private final IncomeRepository incomeRepository;
+  private final ExpenseRepository expenseRepository;
+  private final FxRateService fxRateService;
+  private final AtomicReference<YearMonth> materializedThrough = new AtomicReference<>();
+  private volatile Map<YearMonth, RecurringTotals> totalsByMonth = new ConcurrentHashMap<>();
+
+  public RecurringForecastProjection(
+      IncomeRepository incomeRepository,
+      ExpenseRepository expenseRepository,
+      FxRateService fxRateService) {
+    this.incomeRepository = incomeRepository;
+    this.expenseRepository = expenseRepository;
+    this.fxRateService = fxRateService;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    Map<YearMonth, RecurringTotals> loaded = new ConcurrentHashMap<>();
+    for (MonthlyTotal income : incomeRepository.sumAmountsByMonth(TransactionType.RECURRING)) {
+      loaded.merge(
+          income.getMonth(),
+          RecurringTotals.ofIncome(rates.toBase(income.toMoney())),
+          RecurringTotals::plus);
+    }
+    for (MonthlyTotal expense : expenseRepository.sumAmountsByMonth(TransactionType.RECURRING)) {
+      loaded.merge(
+          expense.getMonth(),
+          RecurringTotals.ofExpense(rates.toBase(expense.toMoney())),
+          RecurringTotals::plus);
+    }
+    totalsByMonth = loaded;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onIncomeChanged(IncomeChangedEvent event) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    Income before = event.getBefore();
+    if (before != null && before.getType() == TransactionType.RECURRING) {
+      adjust(
+          before.getMonth(),
+          RecurringTotals.ofIncome(
+              rates.recordedOrToBase(before.getMoney(), before.getBaseAmount()).negate()));
+    }
+    Income after = event.getAfter();
+    if (after != null && after.getType() == TransactionType.RECURRING) {
+      adjust(
+          after.getMonth(),
+          RecurringTotals.ofIncome(
+              rates.recordedOrToBase(after.getMoney(), after.getBaseAmount())));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onExpenseChanged(ExpenseChangedEvent event) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    Expense before = event.getBefore();
+    if (before != null && before.getType() == TransactionType.RECURRING) {
+      adjust(
+          before.getMonth(),
+          RecurringTotals.ofExpense(
+              rates.recordedOrToBase(before.getMoney(), before.getBaseAmount()).negate()));
+    }
+    Expense after = event.getAfter();
+    if (after != null && after.getType() == TransactionType.RECURRING) {
+      adjust(
+          after.getMonth(),
+          RecurringTotals.ofExpense(
+              rates.recordedOrToBase(after.getMoney(), after.getBaseAmount())));
+    }
+  }
+
+  /** Reloads a month whose recurring transactions were written in bulk, bypassing the services. */
+  @EventListener
+  public synchronized void onRecurringTransactionsMaterialized(
+      RecurringTransactionsMaterializedEvent event) {
+    reloadMonth(event.getMonth(), fxRateService.currentSnapshot());
+  }
+
+  /** Reloads every month a CSV import wrote rows into, bypassing the services. */
+  @EventListener
+  public synchronized void onTransactionsImported(TransactionsImportedEvent event) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    for (YearMonth month : event.getMonths()) {
+      reloadMonth(month, rates);
+    }
+  }
+
+  /** Marks the month as fully materialized, so forecasts are projected from it. */
+  @EventListener
+  public void onRecurringRolloverCompleted(RecurringRolloverCompletedEvent event) {
+    materializedThrough.accumulateAndGet(
+        event.getMonth(),
+        (latest, month) -> latest == null || month.isAfter(latest) ? month : latest);
+  }
+
+  /**
+   * Projects the given number of months following the given month, each with the totals of the
+   * latest fully materialized month up to {@code from}. Until a rollover has completed since
+   * startup, the month before {@code from} is taken as the latest fully materialized one.
+   */
+  public List<BudgetForecastResponse> forecast(YearMonth from, int months) {
+    RecurringTotals totals = totalsByMonth.getOrDefault(baseMonth(from), RecurringTotals.ZERO);
+    List<BudgetForecastResponse> forecast = new ArrayList<>(months);
+    for (int offset = 1; offset <= months; offset++) {
+      forecast.add(
+          BudgetForecastResponse.of(from.plusMonths(offset), totals.income, totals.expense));
+    }
+    return forecast;
+  }
+
+  private YearMonth baseMonth(YearMonth from) {
+    YearMonth materialized = materializedThrough.get();
+    if (materialized == null) {
+      return from.minusMonths(1);
+    }
+    return materialized.isAfter(from) ? from : materialized;
+  }
+
+  /**
+   * Replaces the totals of one month from the database. A month without recurring transactions is
+   * left out, as on load; a forecast from it projects zero totals, as nothing recurs from it.
+   */
+  private void reloadMonth(YearMonth month, FxRateSnapshot rates) {
+    List<MonthlyTotal> incomes =
+        incomeRepository.sumAmountsForMonth(TransactionType.RECURRING, month);
+    List<MonthlyTotal> expenses =
+        expenseRepository.sumAmountsForMonth(TransactionType.RECURRING, month);
+    if (incomes.isEmpty() && expenses.isEmpty()) {
+      totalsByMonth.remove(month);
+      return;
+    }
+    totalsByMonth.put(
+        month, new RecurringTotals(sumInBase(incomes, rates), sumInBase(expenses, rates)));
+  }
+
+  private BigDecimal sumInBase(List<MonthlyTotal> totals, FxRateSnapshot rates) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (MonthlyTotal total : totals) {
+      sum = sum.add(rates.toBase(total.toMoney()));
+    }
+    return sum;
+  }
+
+  private void adjust(YearMonth month, RecurringTotals delta) {
+    totalsByMonth.merge(month, delta, RecurringTotals::plus);
+  }
+
+  /** Immutable pair of totals, so map entries can be swapped atomically. */
+  private static final class RecurringTotals {
+    private static final RecurringTotals ZERO =
+        new RecurringTotals(BigDecimal.ZERO, BigDecimal.ZERO);
+
+    private final BigDecimal income;
+    private final BigDecimal expense;
+
+    private RecurringTotals(BigDecimal income, BigDecimal expense) {
+      this.income = income;
+      this.expense = expense;
+    }
+
+    private static RecurringTotals ofIncome(BigDecimal income) {
+      return new RecurringTotals(income, BigDecimal.ZERO);
+    }
+
+    private static RecurringTotals ofExpense(BigDecimal expense) {
+      return new RecurringTotals(BigDecimal.ZERO, expense);
+    }
+
+    private RecurringTotals plus(RecurringTotals other) {
+      return new RecurringTotals(income.add(other.income), expense.add(other.expense));
+    }
+  }
+}
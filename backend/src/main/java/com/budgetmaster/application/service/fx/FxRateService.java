@@ -0,0 +1,65 @@
+package com.budgetmaster.application.service.fx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Holds the current {@link FxRateSnapshot}, read from the rates file on startup. Callers take the
+ * snapshot once per operation and convert every amount against it, so a reload never mixes old and
+ * new rates within a single budget update or listing.
+ */
+@Service
+public class FxRateService {
+
+  private final Resource ratesFile;
+  private final Currency baseCurrency;
+  private final AtomicReference<FxRateSnapshot> snapshot = new AtomicReference<>();
+
+  public FxRateService(
+      @Value("${budgetmaster.fx.rates-file}") Resource ratesFile,
+      @Value("${budgetmaster.fx.base-currency}") Currency baseCurrency) {
+    this.ratesFile = ratesFile;
+    this.baseCurrency = baseCurrency;
+    reload();
+  }
+
+  public FxRateSnapshot currentSnapshot() {
+    return snapshot.get();
+  }
+
+  /** Re-reads the rates file and publishes it as a new snapshot. */
+  public void reload() {
+    snapshot.set(FxRateSnapshot.of(baseCurrency, readRates()));
+  }
+
+  private Map<SupportedCurrency, BigDecimal> readRates() {
+    Properties properties = new Properties();
+    try (InputStream in = ratesFile.getInputStream()) {
+      properties.load(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format(ErrorMessages.Fx.RATES_UNREADABLE, ratesFile.getDescription()), e);
+    }
+
+    Map<SupportedCurrency, BigDecimal> rates = new EnumMap<>(SupportedCurrency.class);
+    for (String code : properties.stringPropertyNames()) {
+      SupportedCurrency currency = SupportedCurrency.fromCurrency(Currency.getInstance(code));
+      rates.put(currency, new BigDecimal(properties.getProperty(code).trim()));
+    }
+    return rates;
+  }
+}
@@ -0,0 +1,118 @@
+package com.budgetmaster.application.service.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.UnaryOperator;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.error.ErrorMessages;
+import com.budgetmaster.constants.string.StringConstants;
+
+/**
+ * Immutable set of FX rates, each expressed as units of the base currency per unit of a supported
+ * currency. Rates are held in an array indexed by {@link SupportedCurrency} ordinal, so a
+ * conversion is a multiplication with no map lookup. A snapshot is never modified after creation;
+ * new rates are published by swapping in a new snapshot.
+ */
+public final class FxRateSnapshot {
+
+  private static final int SCALE = ColumnConstraints.Amount.SCALE;
+  /** Rounds half away from zero, as ROUND does in the native queries that convert in bulk. */
+  private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+  private final Currency baseCurrency;
+  private final BigDecimal[] toBaseRates;
+
+  private FxRateSnapshot(Currency baseCurrency, BigDecimal[] toBaseRates) {
+    this.baseCurrency = baseCurrency;
+    this.toBaseRates = toBaseRates;
+  }
+
+  /**
+   * Creates a snapshot from base currency rates. Every supported currency needs a positive rate
+   * and the base currency's own rate must be exactly one.
+   */
+  public static FxRateSnapshot of(Currency baseCurrency, Map<SupportedCurrency, BigDecimal> rates) {
+    SupportedCurrency base = SupportedCurrency.fromCurrency(baseCurrency);
+    BigDecimal[] toBaseRates = new BigDecimal[SupportedCurrency.all().size()];
+    for (SupportedCurrency currency : SupportedCurrency.all()) {
+      BigDecimal rate = rates.get(currency);
+      if (rate == null) {
+        throw new IllegalStateException(String.format(ErrorMessages.Fx.MISSING_RATE, currency));
+      }
+      if (rate.signum() <= 0) {
+        throw new IllegalStateException(
+            String.format(ErrorMessages.Fx.INVALID_RATE, currency, rate));
+      }
+      toBaseRates[currency.ordinal()] = rate;
+    }
+    if (toBaseRates[base.ordinal()].compareTo(BigDecimal.ONE) != 0) {
+      throw new IllegalStateException(
+          String.format(ErrorMessages.Fx.INVALID_BASE_RATE, base, toBaseRates[base.ordinal()]));
+    }
+    return new FxRateSnapshot(baseCurrency, toBaseRates);
+  }
+
+  public Currency getBaseCurrency() {
+    return baseCurrency;
+  }
+
+  /** Returns the amount of the given money expressed in the base currency. */
+  public BigDecimal toBase(Money money) {
+    return money.getAmount().multiply(rateFor(money.getCurrency())).setScale(SCALE, ROUNDING_MODE);
+  }
+
+  /**
+   * Returns the base amount recorded for a transaction, which reverses it exactly, or for one
+   * recorded before base amounts were stored its money converted at these rates.
+   */
+  public BigDecimal recordedOrToBase(Money money, BigDecimal recordedBaseAmount) {
+    return recordedBaseAmount != null ? recordedBaseAmount : toBase(money);
+  }
+
+  /**
+   * Returns the supported currency codes, comma-separated, in the order of {@link #joinedRates()},
+   * so native queries can convert rows in bulk from the same rates.
+   */
+  public String joinedCurrencyCodes() {
+    return SupportedCurrency.joinedCodes(StringConstants.Punctuation.COMMA);
+  }
+
+  /** Returns the rate of each supported currency, comma-separated. */
+  public String joinedRates() {
+    StringJoiner rates = new StringJoiner(StringConstants.Punctuation.COMMA);
+    for (BigDecimal rate : toBaseRates) {
+      rates.add(rate.toPlainString());
+    }
+    return rates.toString();
+  }
+
+  /**
+   * Returns a converter into the target currency. The cross rate for every source currency is
+   * computed once up front, so converting a whole listing costs one multiplication per item.
+   */
+  public UnaryOperator<Money> converterTo(Currency target) {
+    BigDecimal targetRate = rateFor(target);
+    BigDecimal[] factors = new BigDecimal[toBaseRates.length];
+    for (int i = 0; i < toBaseRates.length; i++) {
+      factors[i] = toBaseRates[i].divide(targetRate, MathContext.DECIMAL64);
+    }
+    return money -> {
+      if (money.getCurrency().equals(target)) {
+        return money;
+      }
+      BigDecimal factor = factors[SupportedCurrency.fromCurrency(money.getCurrency()).ordinal()];
+      return Money.of(money.getAmount().multiply(factor), target);
+    };
+  }
+
+  private BigDecimal rateFor(Currency currency) {
+    return toBaseRates[SupportedCurrency.fromCurrency(currency).ordinal()];
+  }
+}
@@ -0,0 +1,63 @@
+package com.budgetmaster.application.service.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Streams a CSV file into a staging table with Postgres COPY, on the connection of the current
+ * transaction. The file is never buffered whole; the driver forwards it to the server as it is
+ * read. Staged rows are tagged with the import id through a transaction-local setting that the
+ * staging tables use as their IMPORT_ID default.
+ */
+@Service
+public class CsvCopyLoader {
+
+  private static final String SET_IMPORT_ID =
+      "SELECT set_config('budgetmaster.import_id', ?, true)";
+
+  private final EntityManager entityManager;
+
+  public CsvCopyLoader(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Runs the given {@code COPY ... FROM STDIN} statement over the CSV and returns the number of
+   * staged rows. A file that is not valid CSV for the statement fails the whole import.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long copy(String copySql, UUID importId, InputStream csv) {
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (PreparedStatement setImportId = connection.prepareStatement(SET_IMPORT_ID)) {
+                setImportId.setString(1, importId.toString());
+                setImportId.execute();
+              }
+              try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql, csv);
+              } catch (SQLException e) {
+                throw new InvalidImportFileException(
+                    String.format(ErrorMessages.Import.UNREADABLE_CSV, e.getMessage()));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+}
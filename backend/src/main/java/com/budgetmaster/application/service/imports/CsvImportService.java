@@ -0,0 +1,56 @@
+package com.budgetmaster.application.service.imports;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.budgetmaster.application.dto.ImportRejectResponse;
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.repository.ImportRejectRepository;
+
+/**
+ * Entry point for bulk CSV imports. The import itself commits in {@link CsvImportWriter}; the
+ * in-memory projections are told about the imported months only once it has committed.
+ */
+@Service
+public class CsvImportService {
+
+  private final CsvImportWriter csvImportWriter;
+  private final ImportRejectRepository importRejectRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public CsvImportService(
+      CsvImportWriter csvImportWriter,
+      ImportRejectRepository importRejectRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.csvImportWriter = csvImportWriter;
+    this.importRejectRepository = importRejectRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  public ImportResponse importIncomes(InputStream csv) {
+    return published(csvImportWriter.importIncomes(csv));
+  }
+
+  public ImportResponse importExpenses(InputStream csv) {
+    return published(csvImportWriter.importExpenses(csv));
+  }
+
+  public Page<ImportRejectResponse> getRejects(UUID importId, int page, int size) {
+    return importRejectRepository
+        .findByImportIdOrderByRecordNumber(importId, PageRequest.of(page, size))
+        .map(ImportRejectResponse::from);
+  }
+
+  private ImportResponse published(ImportResponse response) {
+    if (response.getImported() > 0) {
+      eventPublisher.publishEvent(TransactionsImportedEvent.of(response.getMonths()));
+    }
+    return response;
+  }
+}
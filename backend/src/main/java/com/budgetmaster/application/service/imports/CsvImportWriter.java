@@ -0,0 +1,141 @@
+package com.budgetmaster.application.service.imports;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.projection.ImportedMonthTotal;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.constants.string.StringConstants;
+import com.budgetmaster.constants.validation.ValidationMessages;
+import com.budgetmaster.constants.validation.ValidationPatterns;
+
+/**
+ * Imports one CSV file of incomes or expenses in a single transaction: the file is copied into a
+ * staging table, invalid records are moved to IMPORT_REJECTS, the rest is merged in one statement
+ * and one ledger entry per affected month records its total. Either the whole file is imported,
+ * rejects included, or nothing is.
+ */
+@Service
+public class CsvImportWriter {
+
+  private static final String CATEGORIES = names(ExpenseCategory.values());
+  private static final String CURRENCIES = names(SupportedCurrency.values());
+  private static final String CURRENCY_MESSAGE =
+      String.format(
+          ValidationMessages.Filter.CURRENCY_UNSUPPORTED,
+          SupportedCurrency.joinedCodes(StringConstants.Punctuation.COMMA_SPACE));
+  private static final String TYPES = names(TransactionType.values());
+
+  private final IncomeRepository incomeRepository;
+  private final ExpenseRepository expenseRepository;
+  private final BudgetLedger budgetLedger;
+  private final FxRateService fxRateService;
+  private final CsvCopyLoader csvCopyLoader;
+
+  public CsvImportWriter(
+      IncomeRepository incomeRepository,
+      ExpenseRepository expenseRepository,
+      BudgetLedger budgetLedger,
+      FxRateService fxRateService,
+      CsvCopyLoader csvCopyLoader) {
+    this.incomeRepository = incomeRepository;
+    this.expenseRepository = expenseRepository;
+    this.budgetLedger = budgetLedger;
+    this.fxRateService = fxRateService;
+    this.csvCopyLoader = csvCopyLoader;
+  }
+
+  @Transactional
+  public ImportResponse importIncomes(InputStream csv) {
+    UUID importId = UUID.randomUUID();
+    csvCopyLoader.copy(IncomeRepository.COPY_IMPORT_STAGING, importId, csv);
+    int rejected =
+        incomeRepository.rejectInvalidImportRows(
+            importId.toString(),
+            CURRENCIES,
+            CURRENCY_MESSAGE,
+            TYPES,
+            ValidationPatterns.Date.YEAR_MONTH_REGEX);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    List<ImportedMonthTotal> totals =
+        incomeRepository.mergeImportedRows(
+            importId.toString(),
+            ColumnConstraints.Id.ALLOCATION_SIZE,
+            rates.joinedCurrencyCodes(),
+            rates.joinedRates());
+    return recordInLedger(importId, rejected, totals, LedgerKind.INCOME, rates);
+  }
+
+  @Transactional
+  public ImportResponse importExpenses(InputStream csv) {
+    UUID importId = UUID.randomUUID();
+    csvCopyLoader.copy(ExpenseRepository.COPY_IMPORT_STAGING, importId, csv);
+    int rejected =
+        expenseRepository.rejectInvalidImportRows(
+            importId.toString(),
+            CATEGORIES,
+            CURRENCIES,
+            CURRENCY_MESSAGE,
+            TYPES,
+            ValidationPatterns.Date.YEAR_MONTH_REGEX);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    List<ImportedMonthTotal> totals =
+        expenseRepository.mergeImportedRows(
+            importId.toString(),
+            ColumnConstraints.Id.ALLOCATION_SIZE,
+            rates.joinedCurrencyCodes(),
+            rates.joinedRates());
+    return recordInLedger(importId, rejected, totals, LedgerKind.EXPENSE, rates);
+  }
+
+  /**
+   * Appends the base-currency totals of the rows merged into each month to the ledger, as one
+   * entry per month. The rows were converted at the given rates when they were merged.
+   */
+  private ImportResponse recordInLedger(
+      UUID importId,
+      long rejected,
+      List<ImportedMonthTotal> totals,
+      LedgerKind kind,
+      FxRateSnapshot rates) {
+    NavigableMap<YearMonth, BigDecimal> deltas = new TreeMap<>();
+    long imported = 0;
+    for (ImportedMonthTotal total : totals) {
+      deltas.merge(
+          YearMonth.parse(total.getMonth()), total.getInsertedBaseTotal(), BigDecimal::add);
+      imported += total.getInsertedCount();
+    }
+    if (deltas.isEmpty()) {
+      return ImportResponse.of(importId, imported, rejected, List.of());
+    }
+
+    budgetLedger.recordImported(kind, deltas, rates.getBaseCurrency());
+    return ImportResponse.of(importId, imported, rejected, List.copyOf(deltas.keySet()));
+  }
+
+  private static String names(Enum<?>[] values) {
+    return Stream.of(values)
+        .map(Enum::name)
+        .collect(Collectors.joining(StringConstants.Punctuation.COMMA));
+  }
+}
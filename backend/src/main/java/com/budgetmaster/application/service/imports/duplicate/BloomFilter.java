@@ -0,0 +1,92 @@
+package com.budgetmaster.application.service.imports.duplicate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over string keys. {@link #mightContain} never returns false for a key
+ * that was put; it returns true for a key that was not with roughly the false-positive rate the
+ * filter was sized for, as long as no more keys than its capacity were put. Safe for concurrent
+ * puts and lookups.
+ *
+ * <p>Each key is hashed once into two 64-bit values and the probe positions are derived from
+ * them by double hashing, so a lookup costs one pass over the key whatever the number of probes.
+ */
+final class BloomFilter {
+
+  private static final double LN_2 = Math.log(2);
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final int capacity;
+  private final AtomicInteger size = new AtomicInteger();
+
+  private BloomFilter(int words, int hashCount, int capacity) {
+    this.words = new AtomicLongArray(words);
+    this.bitCount = (long) words * Long.SIZE;
+    this.hashCount = hashCount;
+    this.capacity = capacity;
+  }
+
+  /** Creates a filter that holds {@code capacity} keys at the given false-positive rate. */
+  static BloomFilter withCapacity(int capacity, double falsePositiveRate) {
+    if (capacity < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Invalid Bloom filter sizing");
+    }
+    double bits = -capacity * Math.log(falsePositiveRate) / (LN_2 * LN_2);
+    int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.ceil(bits / Long.SIZE));
+    int hashCount = Math.max(1, (int) Math.round(bits / capacity * LN_2));
+    return new BloomFilter(words, hashCount, capacity);
+  }
+
+  void put(String key) {
+    long first = mix(fnv1a(key));
+    long second = mix(first ^ GOLDEN_GAMMA) | 1;
+    for (int probe = 0; probe < hashCount; probe++) {
+      long bit = Long.remainderUnsigned(first + probe * second, bitCount);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      if ((words.get(word) & mask) == 0) {
+        words.getAndAccumulate(word, mask, (current, added) -> current | added);
+      }
+    }
+    size.incrementAndGet();
+  }
+
+  boolean mightContain(String key) {
+    long first = mix(fnv1a(key));
+    long second = mix(first ^ GOLDEN_GAMMA) | 1;
+    for (int probe = 0; probe < hashCount; probe++) {
+      long bit = Long.remainderUnsigned(first + probe * second, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Whether more keys were put than the filter was sized for, so its error rate has grown. */
+  boolean isSaturated() {
+    return size.get() > capacity;
+  }
+
+  private static long fnv1a(String key) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** Finalizer of MurmurHash3, spreading every input bit over the whole 64-bit result. */
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+    hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return hash ^ (hash >>> 33);
+  }
+}
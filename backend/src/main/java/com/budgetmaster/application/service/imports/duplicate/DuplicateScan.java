@@ -0,0 +1,71 @@
+package com.budgetmaster.application.service.imports.duplicate;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.budgetmaster.application.projection.TransactionFingerprint;
+
+/**
+ * Duplicate check for the entries of one import, asked once per entry in file order. An entry is
+ * a duplicate when the month already held a transaction with the same fingerprint before the
+ * import started. Repeats inside the file are matched one for one, so a file with three identical
+ * entries against two stored ones imports the third.
+ *
+ * <p>Each month's filter is taken once and kept for the whole import, so the batches the import
+ * commits itself are never mistaken for stored transactions. The database is only asked about
+ * fingerprints the filter reports as possibly present, and only for their first occurrence in the
+ * file. Not thread-safe; an import reads its file on one thread.
+ */
+public final class DuplicateScan {
+
+  private final Tally incomes;
+  private final Tally expenses;
+
+  DuplicateScan(
+      DuplicateTransactionFilter.MonthFilters incomes,
+      DuplicateTransactionFilter.MonthFilters expenses) {
+    this.incomes = new Tally(incomes);
+    this.expenses = new Tally(expenses);
+  }
+
+  public boolean isDuplicateIncome(YearMonth month, TransactionFingerprint fingerprint) {
+    return incomes.isDuplicate(month, fingerprint);
+  }
+
+  public boolean isDuplicateExpense(YearMonth month, TransactionFingerprint fingerprint) {
+    return expenses.isDuplicate(month, fingerprint);
+  }
+
+  /** Filters taken so far and occurrences of possibly stored fingerprints, for one kind. */
+  private static final class Tally {
+    private final DuplicateTransactionFilter.MonthFilters filters;
+    private final Map<YearMonth, BloomFilter> filtersByMonth = new HashMap<>();
+    private final Map<YearMonth, Map<String, Occurrences>> occurrencesByMonth = new HashMap<>();
+
+    private Tally(DuplicateTransactionFilter.MonthFilters filters) {
+      this.filters = filters;
+    }
+
+    private boolean isDuplicate(YearMonth month, TransactionFingerprint fingerprint) {
+      String key = fingerprint.key();
+      if (!filtersByMonth.computeIfAbsent(month, filters::get).mightContain(key)) {
+        return false;
+      }
+      Occurrences occurrences =
+          occurrencesByMonth
+              .computeIfAbsent(month, m -> new HashMap<>())
+              .computeIfAbsent(key, k -> new Occurrences(filters.count(month, fingerprint)));
+      return occurrences.seen++ < occurrences.stored;
+    }
+  }
+
+  private static final class Occurrences {
+    private final long stored;
+    private long seen;
+
+    private Occurrences(long stored) {
+      this.stored = stored;
+    }
+  }
+}
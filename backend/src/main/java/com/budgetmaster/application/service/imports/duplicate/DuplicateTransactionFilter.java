@@ -0,0 +1,166 @@
+package com.budgetmaster.application.service.imports.duplicate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.IncomeChangedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.TransactionFingerprint;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+
+/**
+ * Per-month Bloom filters over the {@link TransactionFingerprint fingerprints} of the stored
+ * incomes and expenses, so an import can tell that an entry is new without asking the database.
+ * Only entries the filter reports as possibly present are counted in the database by a {@link
+ * DuplicateScan}.
+ *
+ * <p>A month's filter is built from the database the first time it is needed, sized at twice the
+ * month's rows, and afterwards kept up to date from the income and expense change events. Deleted
+ * or changed rows cannot be taken out of a Bloom filter; they stay as false positives, which only
+ * cost a database count. Months written in bulk by an import or the recurring rollover are
+ * dropped and rebuilt on their next use, as is a filter that has filled up past its size.
+ */
+@Service
+public class DuplicateTransactionFilter {
+
+  private static final int MIN_CAPACITY = 1024;
+
+  private final MonthFilters incomes;
+  private final MonthFilters expenses;
+
+  public DuplicateTransactionFilter(
+      IncomeRepository incomeRepository,
+      ExpenseRepository expenseRepository,
+      @Value("${budgetmaster.import.duplicate-filter.false-positive-rate}")
+          double falsePositiveRate) {
+    this.incomes =
+        new MonthFilters(
+            incomeRepository::findFingerprintsByMonth,
+            (month, fingerprint) ->
+                incomeRepository.countByFingerprint(
+                    month,
+                    fingerprint.getType(),
+                    fingerprint.getName(),
+                    fingerprint.getAmount(),
+                    fingerprint.getCurrency()),
+            falsePositiveRate);
+    this.expenses =
+        new MonthFilters(
+            expenseRepository::findFingerprintsByMonth,
+            (month, fingerprint) ->
+                expenseRepository.countByFingerprint(
+                    month,
+                    fingerprint.getType(),
+                    fingerprint.getName(),
+                    fingerprint.getAmount(),
+                    fingerprint.getCurrency()),
+            falsePositiveRate);
+  }
+
+  /** Starts checking the entries of one import against what is stored now. */
+  public DuplicateScan startScan() {
+    return new DuplicateScan(incomes, expenses);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onIncomeChanged(IncomeChangedEvent event) {
+    Income after = event.getAfter();
+    if (after != null) {
+      incomes.add(after.getMonth(), TransactionFingerprint.from(after));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onExpenseChanged(ExpenseChangedEvent event) {
+    Expense after = event.getAfter();
+    if (after != null) {
+      expenses.add(after.getMonth(), TransactionFingerprint.from(after));
+    }
+  }
+
+  @EventListener
+  public void onTransactionsImported(TransactionsImportedEvent event) {
+    for (YearMonth month : event.getMonths()) {
+      incomes.drop(month);
+      expenses.drop(month);
+    }
+  }
+
+  @EventListener
+  public void onRecurringTransactionsMaterialized(RecurringTransactionsMaterializedEvent event) {
+    incomes.drop(event.getMonth());
+    expenses.drop(event.getMonth());
+  }
+
+  /**
+   * The filters of one kind of transaction, by month. A filter is built while holding its map
+   * entry, so a change event for a month that is being loaded waits for the load and is then
+   * added to the new filter instead of being lost.
+   */
+  static final class MonthFilters {
+    private final Function<YearMonth, List<TransactionFingerprint>> loader;
+    private final ToLongBiFunction<YearMonth, TransactionFingerprint> counter;
+    private final double falsePositiveRate;
+    private final Map<YearMonth, BloomFilter> filtersByMonth = new ConcurrentHashMap<>();
+
+    private MonthFilters(
+        Function<YearMonth, List<TransactionFingerprint>> loader,
+        ToLongBiFunction<YearMonth, TransactionFingerprint> counter,
+        double falsePositiveRate) {
+      this.loader = loader;
+      this.counter = counter;
+      this.falsePositiveRate = falsePositiveRate;
+    }
+
+    BloomFilter get(YearMonth month) {
+      BloomFilter filter = filtersByMonth.get(month);
+      if (filter != null && !filter.isSaturated()) {
+        return filter;
+      }
+      return filtersByMonth.compute(
+          month, (m, current) -> current == null || current.isSaturated() ? load(m) : current);
+    }
+
+    /** Counts the stored transactions of the month with the given fingerprint. */
+    long count(YearMonth month, TransactionFingerprint fingerprint) {
+      return counter.applyAsLong(month, fingerprint);
+    }
+
+    private void add(YearMonth month, TransactionFingerprint fingerprint) {
+      filtersByMonth.computeIfPresent(
+          month,
+          (m, filter) -> {
+            filter.put(fingerprint.key());
+            return filter.isSaturated() ? null : filter;
+          });
+    }
+
+    private void drop(YearMonth month) {
+      filtersByMonth.remove(month);
+    }
+
+    private BloomFilter load(YearMonth month) {
+      List<TransactionFingerprint> stored = loader.apply(month);
+      BloomFilter filter =
+          BloomFilter.withCapacity(Math.max(MIN_CAPACITY, stored.size() * 2), falsePositiveRate);
+      for (TransactionFingerprint fingerprint : stored) {
+        filter.put(fingerprint.key());
+      }
+      return filter;
+    }
+  }
+}
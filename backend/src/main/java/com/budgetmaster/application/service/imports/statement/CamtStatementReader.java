@@ -0,0 +1,221 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Component;
+
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Reads ISO 20022 CAMT.053 account statements with a StAX cursor. Only the path from the document
+ * root to the current element and the fields of the current {@code Ntry} are kept, so statements
+ * of any size are read in constant memory. Elements are matched by local name, which makes the
+ * reader independent of the camt.053 schema version. DTDs and external entities are not processed.
+ */
+@Component
+public class CamtStatementReader implements StatementReader {
+
+  private static final String ENTRY = "Ntry";
+  private static final String AMOUNT = "Amt";
+  private static final String CURRENCY = "Ccy";
+  private static final String CREDIT_DEBIT = "CdtDbtInd";
+  private static final String CREDIT = "CRDT";
+  private static final String BOOKING_DATE = "BookgDt";
+  private static final String VALUE_DATE = "ValDt";
+  private static final String DATE = "Dt";
+  private static final String DATE_TIME = "DtTm";
+  private static final String RELATED_PARTIES = "RltdPties";
+  private static final String CREDITOR = "Cdtr";
+  private static final String DEBTOR = "Dbtr";
+  private static final String NAME = "Nm";
+  private static final String UNSTRUCTURED = "Ustrd";
+  private static final String ADDITIONAL_INFO = "AddtlNtryInf";
+
+  private static final int ISO_DATE_LENGTH = 10;
+
+  private final XMLInputFactory xmlInputFactory;
+
+  public CamtStatementReader() {
+    xmlInputFactory = XMLInputFactory.newFactory();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  @Override
+  public void read(InputStream statement, Consumer<StatementEntry> entries) {
+    XMLStreamReader xml = null;
+    try {
+      xml = xmlInputFactory.createXMLStreamReader(statement);
+      Deque<String> path = new ArrayDeque<>();
+      EntryFields entry = null;
+      while (xml.hasNext()) {
+        int event = xml.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = xml.getLocalName();
+          if (ENTRY.equals(name)) {
+            entry = new EntryFields();
+          } else if (entry != null && readField(xml, name, path, entry)) {
+            continue;
+          }
+          path.push(name);
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          if (ENTRY.equals(path.pop()) && entry != null) {
+            entries.accept(entry.toEntry());
+            entry = null;
+          }
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new InvalidImportFileException(
+          String.format(ErrorMessages.Import.UNREADABLE_STATEMENT, e.getMessage()));
+    } finally {
+      close(xml);
+    }
+  }
+
+  /**
+   * Reads the element the cursor is on into the entry when it is one of the entry's fields. Field
+   * text is read with {@link XMLStreamReader#getElementText()}, which leaves the cursor on the
+   * field's end tag, so fields are never pushed onto the path. Returns false for any other element.
+   */
+  private static boolean readField(
+      XMLStreamReader xml, String name, Deque<String> path, EntryFields entry)
+      throws XMLStreamException {
+    String parent = path.peek();
+    switch (name) {
+      case AMOUNT:
+        if (!ENTRY.equals(parent)) {
+          return false;
+        }
+        entry.currency = xml.getAttributeValue(null, CURRENCY);
+        entry.amount = xml.getElementText();
+        return true;
+      case CREDIT_DEBIT:
+        if (!ENTRY.equals(parent)) {
+          return false;
+        }
+        entry.credit = CREDIT.equals(xml.getElementText().trim());
+        return true;
+      case DATE, DATE_TIME:
+        if (BOOKING_DATE.equals(parent)) {
+          entry.bookingDate = xml.getElementText();
+          return true;
+        }
+        if (VALUE_DATE.equals(parent)) {
+          entry.valueDate = xml.getElementText();
+          return true;
+        }
+        return false;
+      case NAME:
+        String party = relatedParty(path);
+        if (party == null) {
+          return false;
+        }
+        String partyName = xml.getElementText();
+        if (CREDITOR.equals(party)) {
+          entry.creditor = firstOf(entry.creditor, partyName);
+        } else {
+          entry.debtor = firstOf(entry.debtor, partyName);
+        }
+        return true;
+      case UNSTRUCTURED:
+        entry.remittance = firstOf(entry.remittance, xml.getElementText());
+        return true;
+      case ADDITIONAL_INFO:
+        if (!ENTRY.equals(parent)) {
+          return false;
+        }
+        entry.additionalInfo = xml.getElementText();
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Returns Cdtr or Dbtr when the path runs through that party inside RltdPties, else null. */
+  private static String relatedParty(Deque<String> path) {
+    String party = null;
+    for (String element : path) {
+      if (RELATED_PARTIES.equals(element)) {
+        return party;
+      }
+      if (party == null && (CREDITOR.equals(element) || DEBTOR.equals(element))) {
+        party = element;
+      }
+    }
+    return null;
+  }
+
+  private static String firstOf(String current, String candidate) {
+    return current != null ? current : candidate;
+  }
+
+  private static void close(XMLStreamReader xml) {
+    if (xml == null) {
+      return;
+    }
+    try {
+      xml.close();
+    } catch (XMLStreamException e) {
+      // Nothing was left to read; the input stream itself is closed by its owner.
+    }
+  }
+
+  /** Raw text of the fields of one {@code Ntry}, converted once the entry is complete. */
+  private static final class EntryFields {
+    private String amount;
+    private String currency;
+    private boolean credit;
+    private String bookingDate;
+    private String valueDate;
+    private String creditor;
+    private String debtor;
+    private String remittance;
+    private String additionalInfo;
+
+    private StatementEntry toEntry() {
+      String date = bookingDate != null ? bookingDate : valueDate;
+      return new StatementEntry(
+          parseDate(date),
+          credit,
+          parseAmount(amount),
+          StatementEntry.currencyOf(currency),
+          credit ? debtor : creditor,
+          remittance != null ? remittance : additionalInfo);
+    }
+
+    private static LocalDate parseDate(String text) {
+      if (text == null || text.trim().length() < ISO_DATE_LENGTH) {
+        return null;
+      }
+      try {
+        return LocalDate.parse(text.trim().substring(0, ISO_DATE_LENGTH));
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+
+    private static BigDecimal parseAmount(String text) {
+      if (text == null) {
+        return null;
+      }
+      try {
+        return new BigDecimal(text.trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Reads OFX bank statements. OFX 1.x is SGML whose leaf elements have no end tags, so it cannot be
+ * read by an XML parser; this reader instead tokenizes tags and text itself, which handles the
+ * SGML 1.x and the XML 2.x flavour alike. Only the current tag, the current text and the fields of
+ * the current {@code STMTTRN} are kept, and both tag and text are capped in length, so memory use
+ * does not depend on the size of the file.
+ */
+@Component
+public class OfxStatementReader implements StatementReader {
+
+  private static final String TRANSACTION = "STMTTRN";
+  private static final String TRANSACTION_END = "/" + TRANSACTION;
+  private static final String DEFAULT_CURRENCY = "CURDEF";
+  private static final String CURRENCY = "CURSYM";
+  private static final String AMOUNT = "TRNAMT";
+  private static final String DATE_POSTED = "DTPOSTED";
+  private static final String NAME = "NAME";
+  private static final String MEMO = "MEMO";
+
+  private static final int MAX_TAG_LENGTH = 64;
+  private static final int MAX_TEXT_LENGTH = 1024;
+  private static final int BASIC_DATE_LENGTH = 8;
+
+  @Override
+  public void read(InputStream statement, Consumer<StatementEntry> entries) {
+    Reader reader = new BufferedReader(new InputStreamReader(statement, StandardCharsets.UTF_8));
+    StringBuilder tag = new StringBuilder(MAX_TAG_LENGTH);
+    StringBuilder text = new StringBuilder();
+    String openTag = null;
+    String defaultCurrency = null;
+    TransactionFields transaction = null;
+    try {
+      int c;
+      while ((c = reader.read()) != -1) {
+        if (c != '<') {
+          if (openTag != null && text.length() < MAX_TEXT_LENGTH) {
+            text.append((char) c);
+          }
+          continue;
+        }
+        if (openTag != null) {
+          String value = unescape(text.toString().trim());
+          if (!value.isEmpty()) {
+            if (transaction != null) {
+              transaction.set(openTag, value);
+            } else if (DEFAULT_CURRENCY.equals(openTag)) {
+              defaultCurrency = value;
+            }
+          }
+        }
+        text.setLength(0);
+        readTag(reader, tag);
+        String name = tag.toString().trim().toUpperCase();
+        openTag = null;
+        if (TRANSACTION.equals(name)) {
+          transaction = new TransactionFields();
+        } else if (TRANSACTION_END.equals(name) && transaction != null) {
+          entries.accept(transaction.toEntry(defaultCurrency));
+          transaction = null;
+        } else if (!name.isEmpty() && Character.isLetter(name.charAt(0))) {
+          openTag = name;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Reads the rest of a tag after its {@code <} into the buffer, up to the closing {@code >}. */
+  private static void readTag(Reader reader, StringBuilder tag) throws IOException {
+    tag.setLength(0);
+    int c;
+    while ((c = reader.read()) != '>') {
+      if (c == -1) {
+        throw new InvalidImportFileException(
+            String.format(ErrorMessages.Import.UNREADABLE_STATEMENT, "unterminated tag"));
+      }
+      if (tag.length() < MAX_TAG_LENGTH) {
+        tag.append((char) c);
+      }
+    }
+  }
+
+  private static String unescape(String text) {
+    if (text.indexOf('&') < 0) {
+      return text;
+    }
+    return text.replace("&lt;", "<")
+        .replace("&gt;", ">")
+        .replace("&quot;", "\"")
+        .replace("&apos;", "'")
+        .replace("&nbsp;", " ")
+        .replace("&amp;", "&");
+  }
+
+  /** Raw text of the fields of one {@code STMTTRN}, converted once the transaction is closed. */
+  private static final class TransactionFields {
+    private String amount;
+    private String datePosted;
+    private String currency;
+    private String name;
+    private String memo;
+
+    private void set(String tag, String value) {
+      switch (tag) {
+        case AMOUNT -> amount = value;
+        case DATE_POSTED -> datePosted = value;
+        case CURRENCY -> currency = value;
+        case NAME -> name = value;
+        case MEMO -> memo = value;
+        default -> {}
+      }
+    }
+
+    private StatementEntry toEntry(String defaultCurrency) {
+      BigDecimal signed = parseAmount(amount);
+      return new StatementEntry(
+          parseDate(datePosted),
+          signed != null && signed.signum() > 0,
+          signed != null ? signed.abs() : null,
+          StatementEntry.currencyOf(currency != null ? currency : defaultCurrency),
+          name,
+          memo);
+    }
+
+    /** OFX dates start with yyyyMMdd, optionally followed by a time and a time zone. */
+    private static LocalDate parseDate(String text) {
+      if (text == null || text.length() < BASIC_DATE_LENGTH) {
+        return null;
+      }
+      try {
+        return LocalDate.parse(
+            text.substring(0, BASIC_DATE_LENGTH), DateTimeFormatter.BASIC_ISO_DATE);
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+
+    /** OFX amounts are signed; some banks write a decimal comma instead of a point. */
+    private static BigDecimal parseAmount(String text) {
+      if (text == null) {
+        return null;
+      }
+      try {
+        return new BigDecimal(text.replace(',', '.'));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.categorization.ExpenseCategorizer;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+
+/**
+ * Writes one batch of statement entries in its own transaction: credits become incomes, debits
+ * become expenses, both are inserted through JDBC batching with their base amounts, and the
+ * ledger gets one entry per affected month and kind that sums them. Statement entries are
+ * one-time, and since a bank statement carries no category, expenses are categorized from their
+ * name by the category rules.
+ */
+@Service
+public class StatementBatchWriter {
+
+  private final IncomeRepository incomeRepository;
+  private final ExpenseRepository expenseRepository;
+  private final BudgetLedger budgetLedger;
+  private final FxRateService fxRateService;
+  private final ExpenseCategorizer expenseCategorizer;
+
+  public StatementBatchWriter(
+      IncomeRepository incomeRepository,
+      ExpenseRepository expenseRepository,
+      BudgetLedger budgetLedger,
+      FxRateService fxRateService,
+      ExpenseCategorizer expenseCategorizer) {
+    this.incomeRepository = incomeRepository;
+    this.expenseRepository = expenseRepository;
+    this.budgetLedger = budgetLedger;
+    this.fxRateService = fxRateService;
+    this.expenseCategorizer = expenseCategorizer;
+  }
+
+  /** Writes the entries, which must all be {@link StatementEntry#isImportable() importable}. */
+  @Transactional
+  public void writeBatch(List<StatementEntry> entries) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    List<Income> incomes = new ArrayList<>();
+    List<Expense> expenses = new ArrayList<>();
+    NavigableMap<YearMonth, BigDecimal> incomeDeltas = new TreeMap<>();
+    NavigableMap<YearMonth, BigDecimal> expenseDeltas = new TreeMap<>();
+    for (StatementEntry entry : entries) {
+      Money money = Money.of(entry.getAmount(), entry.getCurrency());
+      BigDecimal baseAmount = rates.toBase(money);
+      YearMonth month = YearMonth.from(entry.getBookingDate());
+      if (entry.isCredit()) {
+        Income income =
+            Income.of(
+                entry.getTransactionName(),
+                entry.getTransactionSource(),
+                money,
+                TransactionType.ONE_TIME,
+                month);
+        income.setBaseAmount(baseAmount);
+        incomes.add(income);
+        incomeDeltas.merge(month, baseAmount, BigDecimal::add);
+      } else {
+        String name = entry.getTransactionName();
+        Expense expense =
+            Expense.of(
+                name, money, expenseCategorizer.categorize(name), TransactionType.ONE_TIME, month);
+        expense.setBaseAmount(baseAmount);
+        expenses.add(expense);
+        expenseDeltas.merge(month, baseAmount, BigDecimal::add);
+      }
+    }
+    incomeRepository.saveAll(incomes);
+    expenseRepository.saveAll(expenses);
+    budgetLedger.recordImported(LedgerKind.INCOME, incomeDeltas, rates.getBaseCurrency());
+    budgetLedger.recordImported(LedgerKind.EXPENSE, expenseDeltas, rates.getBaseCurrency());
+  }
+}
@@ -0,0 +1,124 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.projection.TransactionFingerprint;
+import com.budgetmaster.constants.database.ColumnConstraints;
+
+/**
+ * One booked transaction read from a bank statement. Fields the file did not provide, or provided
+ * in a form that could not be parsed, are null; such entries are skipped by the import.
+ */
+public final class StatementEntry {
+
+  private static final String UNNAMED = "BANK STATEMENT ENTRY";
+
+  private final LocalDate bookingDate;
+  private final boolean credit;
+  private final BigDecimal amount;
+  private final Currency currency;
+  private final String counterparty;
+  private final String description;
+
+  public StatementEntry(
+      LocalDate bookingDate,
+      boolean credit,
+      BigDecimal amount,
+      Currency currency,
+      String counterparty,
+      String description) {
+    this.bookingDate = bookingDate;
+    this.credit = credit;
+    this.amount = amount;
+    this.currency = currency;
+    this.counterparty = counterparty;
+    this.description = description;
+  }
+
+  /** Returns the currency with the given ISO 4217 code, or null when the code is unknown. */
+  static Currency currencyOf(String code) {
+    if (code == null) {
+      return null;
+    }
+    try {
+      return Currency.getInstance(code.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /** Whether the entry is complete, positive and in a supported currency. */
+  public boolean isImportable() {
+    return bookingDate != null
+        && amount != null
+        && amount.signum() > 0
+        && SupportedCurrency.validateSupportedCurrency(currency);
+  }
+
+  /**
+   * Name of the income or expense the entry becomes: the remittance text of a credit, the payee
+   * of a debit, each falling back to the other.
+   */
+  public String getTransactionName() {
+    return credit ? label(description, counterparty) : label(counterparty, description);
+  }
+
+  /** Source of the income a credit becomes: the payer, falling back to the remittance text. */
+  public String getTransactionSource() {
+    return label(counterparty, description);
+  }
+
+  /** Fingerprint of the one-time income or expense the entry becomes. */
+  public TransactionFingerprint toFingerprint() {
+    return new TransactionFingerprint(
+        getTransactionName(), amount, currency, TransactionType.ONE_TIME);
+  }
+
+  public LocalDate getBookingDate() {
+    return bookingDate;
+  }
+
+  /** True for money received, which becomes an income; false for money spent. */
+  public boolean isCredit() {
+    return credit;
+  }
+
+  /** Unsigned amount; the direction is given by {@link #isCredit()}. */
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /** Payee of a debit or payer of a credit. */
+  public String getCounterparty() {
+    return counterparty;
+  }
+
+  /** Free-text remittance information or memo. */
+  public String getDescription() {
+    return description;
+  }
+
+  /** Upper-cased first non-blank text, cut to the column length, like names entered by hand. */
+  private static String label(String preferred, String fallback) {
+    String text = isBlank(preferred) ? fallback : preferred;
+    if (isBlank(text)) {
+      return UNNAMED;
+    }
+    String label = text.trim().toUpperCase();
+    return label.length() > ColumnConstraints.Text.MAX_LENGTH
+        ? label.substring(0, ColumnConstraints.Text.MAX_LENGTH)
+        : label;
+  }
+
+  private static boolean isBlank(String text) {
+    return text == null || text.isBlank();
+  }
+}
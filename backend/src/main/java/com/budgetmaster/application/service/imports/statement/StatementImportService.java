@@ -0,0 +1,132 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.io.InputStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.budgetmaster.application.dto.StatementImportResponse;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.service.imports.duplicate.DuplicateScan;
+import com.budgetmaster.application.service.imports.duplicate.DuplicateTransactionFilter;
+
+/**
+ * Imports bank statements. Entries are handed over by the reader one at a time and written in
+ * batches of {@code budgetmaster.statement.batch-size}, each committed on its own by {@link
+ * StatementBatchWriter}, so at most one batch is held in memory however large the file is. A file
+ * that turns out to be unreadable part way keeps the batches committed before that point. The
+ * in-memory projections are told about the imported months once the whole file has been read.
+ *
+ * <p>Entries already recorded in their month, typically from importing an overlapping statement
+ * again, are left out as duplicates, as checked by a {@link DuplicateScan}.
+ */
+@Service
+public class StatementImportService {
+
+  private final CamtStatementReader camtStatementReader;
+  private final OfxStatementReader ofxStatementReader;
+  private final StatementBatchWriter statementBatchWriter;
+  private final DuplicateTransactionFilter duplicateTransactionFilter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int batchSize;
+
+  public StatementImportService(
+      CamtStatementReader camtStatementReader,
+      OfxStatementReader ofxStatementReader,
+      StatementBatchWriter statementBatchWriter,
+      DuplicateTransactionFilter duplicateTransactionFilter,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${budgetmaster.statement.batch-size}") int batchSize) {
+    this.camtStatementReader = camtStatementReader;
+    this.ofxStatementReader = ofxStatementReader;
+    this.statementBatchWriter = statementBatchWriter;
+    this.duplicateTransactionFilter = duplicateTransactionFilter;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+  }
+
+  public StatementImportResponse importCamt053(InputStream statement) {
+    return importStatement(camtStatementReader, statement);
+  }
+
+  public StatementImportResponse importOfx(InputStream statement) {
+    return importStatement(ofxStatementReader, statement);
+  }
+
+  private StatementImportResponse importStatement(StatementReader reader, InputStream statement) {
+    Progress progress = new Progress();
+    try {
+      reader.read(statement, progress::accept);
+      progress.flush();
+    } finally {
+      progress.publish();
+    }
+    return progress.toResponse();
+  }
+
+  /** Batch being filled and the totals of everything written so far. */
+  private final class Progress {
+    private final List<StatementEntry> batch = new ArrayList<>(batchSize);
+    private final NavigableSet<YearMonth> months = new TreeSet<>();
+    private final DuplicateScan duplicateScan = duplicateTransactionFilter.startScan();
+    private long incomes;
+    private long expenses;
+    private long skipped;
+    private long duplicates;
+
+    private void accept(StatementEntry entry) {
+      if (!entry.isImportable()) {
+        skipped++;
+        return;
+      }
+      if (isDuplicate(entry)) {
+        duplicates++;
+        return;
+      }
+      batch.add(entry);
+      if (batch.size() >= batchSize) {
+        flush();
+      }
+    }
+
+    private boolean isDuplicate(StatementEntry entry) {
+      YearMonth month = YearMonth.from(entry.getBookingDate());
+      return entry.isCredit()
+          ? duplicateScan.isDuplicateIncome(month, entry.toFingerprint())
+          : duplicateScan.isDuplicateExpense(month, entry.toFingerprint());
+    }
+
+    private void flush() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      statementBatchWriter.writeBatch(batch);
+      for (StatementEntry entry : batch) {
+        if (entry.isCredit()) {
+          incomes++;
+        } else {
+          expenses++;
+        }
+        months.add(YearMonth.from(entry.getBookingDate()));
+      }
+      batch.clear();
+    }
+
+    private void publish() {
+      if (!months.isEmpty()) {
+        eventPublisher.publishEvent(TransactionsImportedEvent.of(List.copyOf(months)));
+      }
+    }
+
+    private StatementImportResponse toResponse() {
+      return StatementImportResponse.of(
+          incomes, expenses, skipped, duplicates, List.copyOf(months));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads a bank statement file front to back and hands each booked transaction to the consumer as
+ * soon as it has been read. Implementations hold at most one transaction in memory, so memory use
+ * does not grow with the size of the file.
+ */
+public interface StatementReader {
+
+  /**
+   * Reads the whole statement. Throws {@link
+   * com.budgetmaster.application.exception.InvalidImportFileException} when the file is not in the
+   * reader's format; entries handed over before that point have already been consumed.
+   */
+  void read(InputStream statement, Consumer<StatementEntry> entries);
+}
@@ -0,0 +1,99 @@
+package com.budgetmaster.application.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.exception.BudgetNotFoundException;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.BudgetHistoryEntry;
+import com.budgetmaster.application.repository.BudgetHistoryRepository;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Records every change to a month's budget totals and reads a month back as it was at a past
+ * moment. Changes are stored as deltas from the month's previous entry, with a keyframe of the
+ * full totals every {@code keyframeInterval} versions, so reading a month takes one keyframe and
+ * fewer than that many deltas.
+ */
+@Service
+public class BudgetHistoryService {
+
+  private final BudgetHistoryRepository budgetHistoryRepository;
+  private final int keyframeInterval;
+
+  public BudgetHistoryService(
+      BudgetHistoryRepository budgetHistoryRepository,
+      @Value("${budgetmaster.budget-history.keyframe-interval}") int keyframeInterval) {
+    this.budgetHistoryRepository = budgetHistoryRepository;
+    this.keyframeInterval = keyframeInterval;
+  }
+
+  /**
+   * Records the change of the budget's totals from the given previous ones. Must run under the
+   * budget's row lock, which orders the month's versions. Set {@code keyframe} when the previous
+   * totals do not follow from the month's history, as for a budget created anew after a delete.
+   * Keyframes are also written when the interval is due and for a month without history; changes
+   * of zero are not recorded.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void record(
+      Budget budget, BigDecimal previousIncome, BigDecimal previousExpense, boolean keyframe) {
+    BigDecimal income = budget.getTotalIncome().subtract(previousIncome);
+    BigDecimal expense = budget.getTotalExpense().subtract(previousExpense);
+    Optional<BudgetHistoryEntry> latest =
+        budgetHistoryRepository.findFirstByMonthOrderByVersionDesc(budget.getMonth());
+    if (!keyframe && latest.isPresent() && income.signum() == 0 && expense.signum() == 0) {
+      return;
+    }
+    int version = latest.map(entry -> entry.getVersion() + 1).orElse(0);
+    if (keyframe || latest.isEmpty() || version % keyframeInterval == 0) {
+      budgetHistoryRepository.save(
+          BudgetHistoryEntry.keyframe(
+              budget.getMonth(),
+              version,
+              budget.getTotalIncome(),
+              budget.getTotalExpense(),
+              budget.getCurrency()));
+    } else {
+      budgetHistoryRepository.save(
+          BudgetHistoryEntry.delta(budget.getMonth(), version, income, expense));
+    }
+  }
+
+  /** Reconstructs the month's totals as they were at the given moment. */
+  @Transactional(readOnly = true)
+  public BudgetHistoryResponse findAsOf(YearMonth month, LocalDateTime asOf) {
+    BudgetHistoryEntry keyframe =
+        budgetHistoryRepository
+            .findLatestKeyframe(month, asOf)
+            .orElseThrow(createAsOfNotFoundException(month, asOf));
+    BigDecimal income = keyframe.getIncome();
+    BigDecimal expense = keyframe.getExpense();
+    LocalDateTime changedAt = keyframe.getChangedAt();
+    for (BudgetHistoryEntry delta :
+        budgetHistoryRepository.findChangesBetween(month, keyframe.getChangedAt(), asOf)) {
+      income = income.add(delta.getIncome());
+      expense = expense.add(delta.getExpense());
+      changedAt = delta.getChangedAt();
+    }
+    return BudgetHistoryResponse.of(
+        month, asOf, changedAt, income, expense, keyframe.getCurrency());
+  }
+
+  /** Creates a supplier for BudgetNotFoundException when the month has no history before asOf. */
+  private Supplier<BudgetNotFoundException> createAsOfNotFoundException(
+      YearMonth month, LocalDateTime asOf) {
+    return () ->
+        new BudgetNotFoundException(
+            String.format(ErrorMessages.Budget.NOT_FOUND_FOR_MONTH_AS_OF, month, asOf));
+  }
+}
@@ -0,0 +1,134 @@
+package com.budgetmaster.application.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.enums.LedgerEvent;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.event.LedgerAppendedEvent;
+import com.budgetmaster.application.model.LedgerEntry;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+
+/**
+ * Appends income and expense changes to the budget ledger. Appends are plain inserts into the
+ * writer's transaction, so concurrent writes to one month never wait on each other; budgets catch
+ * up once the transaction has committed, through the {@link LedgerAppendedEvent} published here.
+ * Amounts are in the base currency and signed: positive entries add to the month's total of their
+ * kind, negative ones take from it.
+ */
+@Service
+public class BudgetLedger {
+
+  private final LedgerEntryRepository ledgerEntryRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public BudgetLedger(
+      LedgerEntryRepository ledgerEntryRepository, ApplicationEventPublisher eventPublisher) {
+    this.ledgerEntryRepository = ledgerEntryRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordCreated(
+      LedgerKind kind, Long transactionId, YearMonth month, BigDecimal amount, Currency currency) {
+    append(
+        List.of(LedgerEntry.of(month, kind, LedgerEvent.CREATED, transactionId, amount, currency)));
+  }
+
+  /**
+   * Reverses the original amount in the original month and records the new amount in the target
+   * month, which may be the same one.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordAmended(
+      LedgerKind kind,
+      Long transactionId,
+      YearMonth originalMonth,
+      BigDecimal originalAmount,
+      YearMonth month,
+      BigDecimal amount,
+      Currency currency) {
+    append(
+        List.of(
+            LedgerEntry.of(
+                originalMonth,
+                kind,
+                LedgerEvent.AMENDED,
+                transactionId,
+                originalAmount.negate(),
+                currency),
+            LedgerEntry.of(month, kind, LedgerEvent.AMENDED, transactionId, amount, currency)));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDeleted(
+      LedgerKind kind, Long transactionId, YearMonth month, BigDecimal amount, Currency currency) {
+    append(
+        List.of(
+            LedgerEntry.of(
+                month, kind, LedgerEvent.DELETED, transactionId, amount.negate(), currency)));
+  }
+
+  /** Records one entry per month for transactions written in bulk, with their month's total. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordImported(
+      LedgerKind kind, Map<YearMonth, BigDecimal> totals, Currency currency) {
+    List<LedgerEntry> entries = new ArrayList<>(totals.size());
+    totals.forEach(
+        (month, total) ->
+            entries.add(LedgerEntry.of(month, kind, LedgerEvent.IMPORTED, null, total, currency)));
+    append(entries);
+  }
+
+  /**
+   * Reverses the totals a deleted budget held, one entry per kind, so the month's entries cancel
+   * out up to the budget's position and only later writes are folded into a new budget.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordCleared(
+      YearMonth month, BigDecimal totalIncome, BigDecimal totalExpense, Currency currency) {
+    List<LedgerEntry> entries = new ArrayList<>(2);
+    if (totalIncome.signum() != 0) {
+      entries.add(cleared(month, LedgerKind.INCOME, totalIncome, currency));
+    }
+    if (totalExpense.signum() != 0) {
+      entries.add(cleared(month, LedgerKind.EXPENSE, totalExpense, currency));
+    }
+    append(entries);
+  }
+
+  /**
+   * Announces entries that were appended by a database function rather than through this
+   * service, so the budgets of their months catch up as well.
+   */
+  public void announce(YearMonth... months) {
+    publish(Stream.of(months).distinct().sorted().toList());
+  }
+
+  private void append(List<LedgerEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    ledgerEntryRepository.saveAll(entries);
+    publish(entries.stream().map(LedgerEntry::getMonth).distinct().sorted().toList());
+  }
+
+  private static LedgerEntry cleared(
+      YearMonth month, LedgerKind kind, BigDecimal total, Currency currency) {
+    return LedgerEntry.of(month, kind, LedgerEvent.CLEARED, null, total.negate(), currency);
+  }
+
+  private void publish(List<YearMonth> months) {
+    eventPublisher.publishEvent(LedgerAppendedEvent.of(months));
+  }
+}
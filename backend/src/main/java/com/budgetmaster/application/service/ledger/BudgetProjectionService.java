@@ -0,0 +1,141 @@
+package com.budgetmaster.application.service.ledger;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.event.LedgerAppendedEvent;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+
+/**
+ * Keeps the budgets caught up with the ledger. Each month a write appended to is folded once,
+ * right after the write commits, so a caller normally reads its own write back from the budget.
+ * A fold cannot pass a transaction that started earlier and is still open, anywhere in the
+ * database; the month is then deferred rather than waited for on the caller's thread, and folded
+ * in the background every {@code budgetmaster.ledger.catch-up.retry-interval} until it has caught
+ * up. Until then its budget, and the in-memory totals, lag the ledger: reads are eventually
+ * consistent while an older transaction stays open.
+ *
+ * <p>The sweep, which also runs on startup, catches up every month the database shows behind the
+ * ledger, so budgets left stale by a restart or a crash between a write and its fold catch up
+ * too, and then snapshots every budget that advanced since its last snapshot. Months without a
+ * budget are looked for only among the entries since the position the previous sweep settled,
+ * so only the first sweep after startup reads the whole ledger.
+ */
+@Service
+public class BudgetProjectionService {
+
+  private static final Logger log = LoggerFactory.getLogger(BudgetProjectionService.class);
+
+  private final BudgetProjector budgetProjector;
+  private final LedgerEntryRepository ledgerEntryRepository;
+  private final int rebuildParallelism;
+  private final Set<YearMonth> deferredMonths = ConcurrentHashMap.newKeySet();
+  private final AtomicLong sweptPosition = new AtomicLong();
+
+  public BudgetProjectionService(
+      BudgetProjector budgetProjector,
+      LedgerEntryRepository ledgerEntryRepository,
+      @Value("${budgetmaster.ledger.rebuild.parallelism}") int rebuildParallelism) {
+    this.budgetProjector = budgetProjector;
+    this.ledgerEntryRepository = ledgerEntryRepository;
+    this.rebuildParallelism = rebuildParallelism;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLedgerAppended(LedgerAppendedEvent event) {
+    event.getMonths().forEach(this::catchUpOrDefer);
+  }
+
+  /** Folds the deferred months again, deferring those still behind to the next run. */
+  @Scheduled(fixedDelayString = "${budgetmaster.ledger.catch-up.retry-interval}")
+  public void retryDeferred() {
+    for (YearMonth month : new TreeSet<>(deferredMonths)) {
+      deferredMonths.remove(month);
+      catchUpOrDefer(month);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${budgetmaster.ledger.sweep-interval}")
+  public void sweep() {
+    long settled = ledgerEntryRepository.findSettledPosition();
+    Set<YearMonth> months = new TreeSet<>(ledgerEntryRepository.findMonthsBehindBudget());
+    months.addAll(ledgerEntryRepository.findMonthsWithoutBudgetSince(sweptPosition.get()));
+    months.forEach(this::catchUpOrDefer);
+    sweptPosition.set(settled);
+    budgetProjector.snapshotAdvancedBudgets();
+  }
+
+  /**
+   * Rebuilds the budget of every month in the ledger and returns the months. Months are rebuilt
+   * on a pool of {@code budgetmaster.ledger.rebuild.parallelism} threads, each rebuild holding a
+   * connection, so the pool is kept below the connection pool and leaves connections for
+   * requests. A failed rebuild is rethrown and the months not yet started are skipped. Run with
+   * {@code fromSnapshots} false after the aggregation has changed, so that no total folded the
+   * old way survives.
+   */
+  public List<YearMonth> rebuildAll(boolean fromSnapshots) {
+    List<YearMonth> months = ledgerEntryRepository.findMonths();
+    ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism);
+    try {
+      List<Future<?>> rebuilds = new ArrayList<>(months.size());
+      for (YearMonth month : months) {
+        rebuilds.add(executor.submit(() -> budgetProjector.rebuild(month, fromSnapshots)));
+      }
+      for (Future<?> rebuild : rebuilds) {
+        await(rebuild);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return months;
+  }
+
+  private void catchUpOrDefer(YearMonth month) {
+    try {
+      if (budgetProjector.catchUp(month)) {
+        return;
+      }
+    } catch (DataAccessException e) {
+      log.warn("Could not catch up the budget of {}, retrying in the background", month, e);
+    }
+    deferredMonths.add(month);
+  }
+
+  /** Waits for the rebuild, rethrowing what it failed with. */
+  private static void await(Future<?> rebuild) {
+    try {
+      rebuild.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
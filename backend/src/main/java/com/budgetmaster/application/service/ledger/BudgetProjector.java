@@ -0,0 +1,180 @@
+package com.budgetmaster.application.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.BudgetSnapshot;
+import com.budgetmaster.application.projection.LedgerTotal;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.BudgetSnapshotRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.synchronization.BudgetLockService;
+
+/**
+ * Folds the budget ledger into the {@link Budget} rows, one month per transaction. A budget holds
+ * the position it has folded up to, and each step adds the entries from there up to the {@link
+ * LedgerEntryRepository#findSettledPosition() settled position}, the point below which no entry
+ * can still appear. Entries of transactions that were open when the step started are left for
+ * the next one, so the ledger is consumed in order and no entry is folded twice or skipped.
+ *
+ * <p>Only the projector writes budget totals, always under the budget's row lock; ledger writers
+ * never touch the row. Months without a budget get one on their first fold, unless the month's
+ * committed entries cancel out, as they do once its budget was deleted. Every change of the
+ * totals is recorded in the {@link BudgetHistoryService budget history} and published as a {@link
+ * BudgetTotalsChangedEvent}; a budget created at position 0 starts from zero rather than from its
+ * history, so its first change is a keyframe.
+ */
+@Service
+public class BudgetProjector {
+
+  private final BudgetRepository budgetRepository;
+  private final BudgetLockService budgetLockService;
+  private final LedgerEntryRepository ledgerEntryRepository;
+  private final BudgetSnapshotRepository budgetSnapshotRepository;
+  private final FxRateService fxRateService;
+  private final BudgetHistoryService budgetHistoryService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public BudgetProjector(
+      BudgetRepository budgetRepository,
+      BudgetLockService budgetLockService,
+      LedgerEntryRepository ledgerEntryRepository,
+      BudgetSnapshotRepository budgetSnapshotRepository,
+      FxRateService fxRateService,
+      BudgetHistoryService budgetHistoryService,
+      ApplicationEventPublisher eventPublisher) {
+    this.budgetRepository = budgetRepository;
+    this.budgetLockService = budgetLockService;
+    this.ledgerEntryRepository = ledgerEntryRepository;
+    this.budgetSnapshotRepository = budgetSnapshotRepository;
+    this.fxRateService = fxRateService;
+    this.budgetHistoryService = budgetHistoryService;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Folds the month's settled entries into its budget. Returns false when the month already has
+   * entries past the settled position, which a later catch-up has to fold. The position is read
+   * before the lock is taken, so catch-ups queued on one budget do not hold each other back.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean catchUp(YearMonth month) {
+    long settled = ledgerEntryRepository.findSettledPosition();
+    Optional<Budget> locked = lockOrCreate(month);
+    if (locked.isEmpty()) {
+      return !ledgerEntryRepository.existsByMonthAndTxIdGreaterThanEqual(month, settled);
+    }
+    Budget budget = locked.get();
+    if (settled > budget.getLedgerPosition()) {
+      BigDecimal previousIncome = budget.getTotalIncome();
+      BigDecimal previousExpense = budget.getTotalExpense();
+      boolean created = budget.getLedgerPosition() == 0;
+      fold(budget, settled);
+      budgetRepository.save(budget);
+      recordChange(budget, previousIncome, previousExpense, created);
+    }
+    return !ledgerEntryRepository.existsByMonthAndTxIdGreaterThanEqual(
+        month, budget.getLedgerPosition());
+  }
+
+  /**
+   * Recomputes the month's budget from its latest snapshot, or from the first ledger entry when
+   * {@code fromSnapshot} is false. A rebuild from the first entry also drops the month's
+   * snapshots, as they were taken with the aggregation that is being replaced. A month whose
+   * budget was deleted and not written to since is left without one.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void rebuild(YearMonth month, boolean fromSnapshot) {
+    Optional<Budget> locked = lockOrCreate(month);
+    if (locked.isEmpty()) {
+      return;
+    }
+    Budget budget = locked.get();
+    BigDecimal previousIncome = budget.getTotalIncome();
+    BigDecimal previousExpense = budget.getTotalExpense();
+    boolean created = budget.getLedgerPosition() == 0;
+    Optional<BudgetSnapshot> snapshot = Optional.empty();
+    if (fromSnapshot) {
+      snapshot = budgetSnapshotRepository.findFirstByMonthOrderByLedgerPositionDesc(month);
+    } else {
+      budgetSnapshotRepository.deleteByMonth(month);
+    }
+    snapshot.ifPresentOrElse(
+        s -> budget.restore(s.getTotalIncome(), s.getTotalExpense(), s.getLedgerPosition()),
+        () -> budget.restore(BigDecimal.ZERO, BigDecimal.ZERO, 0));
+    fold(budget, ledgerEntryRepository.findSettledPosition());
+    budgetRepository.save(budget);
+    recordChange(budget, previousIncome, previousExpense, created);
+  }
+
+  /** Snapshots every budget that advanced since its latest snapshot. */
+  @Transactional
+  public int snapshotAdvancedBudgets() {
+    return budgetSnapshotRepository.snapshotAdvancedBudgets();
+  }
+
+  /** Adds the entries from the budget's position up to the given one. */
+  private void fold(Budget budget, long position) {
+    BigDecimal income = BigDecimal.ZERO;
+    BigDecimal expense = BigDecimal.ZERO;
+    for (LedgerTotal total :
+        ledgerEntryRepository.sumByMonthBetween(
+            budget.getMonth(), budget.getLedgerPosition(), position)) {
+      switch (total.getKind()) {
+        case INCOME -> income = total.getAmount();
+        case EXPENSE -> expense = total.getAmount();
+      }
+    }
+    budget.fold(income, expense, position);
+  }
+
+  /**
+   * Records the change of the budget's totals in its history and announces it, so the in-memory
+   * totals catch up once the transaction has committed.
+   */
+  private void recordChange(
+      Budget budget, BigDecimal previousIncome, BigDecimal previousExpense, boolean created) {
+    budgetHistoryService.record(budget, previousIncome, previousExpense, created);
+    BigDecimal incomeDelta = budget.getTotalIncome().subtract(previousIncome);
+    BigDecimal expenseDelta = budget.getTotalExpense().subtract(previousExpense);
+    if (incomeDelta.signum() != 0 || expenseDelta.signum() != 0) {
+      eventPublisher.publishEvent(
+          BudgetTotalsChangedEvent.of(budget.getMonth(), incomeDelta, expenseDelta));
+    }
+  }
+
+  /**
+   * Locks the month's budget, first inserting an empty one when there is none. The insert skips
+   * a budget another projector created in the meantime, so both end up locking the same row. No
+   * budget is inserted while the month's committed entries cancel out: the clearing entries of a
+   * deleted budget are committed with the deletion, so a projector that waited on the deleted row
+   * does not bring the budget back.
+   */
+  private Optional<Budget> lockOrCreate(YearMonth month) {
+    Budget budget = budgetLockService.lockInMonthOrder(month).get(month);
+    if (budget != null) {
+      return Optional.of(budget);
+    }
+    if (isCleared(month)) {
+      return Optional.empty();
+    }
+    budgetRepository.insertIfAbsent(
+        month.toString(), fxRateService.currentSnapshot().getBaseCurrency().getCurrencyCode());
+    return Optional.ofNullable(budgetLockService.lockInMonthOrder(month).get(month));
+  }
+
+  /** Whether the month's committed entries sum to zero in every kind, or there are none. */
+  private boolean isCleared(YearMonth month) {
+    return ledgerEntryRepository.sumByMonthBetween(month, 0, Long.MAX_VALUE).stream()
+        .allMatch(total -> total.getAmount().signum() == 0);
+  }
+}
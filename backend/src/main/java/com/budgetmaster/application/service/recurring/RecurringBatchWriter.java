@@ -0,0 +1,96 @@
+package com.budgetmaster.application.service.recurring;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.projection.RecurringBatchResult;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+
+/**
+ * Copies one batch of recurring transactions into the next month per transaction. The inserted
+ * rows and the ledger entry for them commit together, so an interrupted run never leaves the
+ * budget out of step with the rows that were actually copied.
+ */
+@Service
+public class RecurringBatchWriter {
+
+  private final IncomeRepository incomeRepository;
+  private final ExpenseRepository expenseRepository;
+  private final BudgetLedger budgetLedger;
+  private final FxRateService fxRateService;
+
+  public RecurringBatchWriter(
+      IncomeRepository incomeRepository,
+      ExpenseRepository expenseRepository,
+      BudgetLedger budgetLedger,
+      FxRateService fxRateService) {
+    this.incomeRepository = incomeRepository;
+    this.expenseRepository = expenseRepository;
+    this.budgetLedger = budgetLedger;
+    this.fxRateService = fxRateService;
+  }
+
+  @Transactional
+  public List<RecurringBatchResult> copyIncomeBatch(
+      YearMonth sourceMonth, YearMonth targetMonth, long afterId, int batchSize) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    List<RecurringBatchResult> results =
+        incomeRepository.materializeRecurringBatch(
+            sourceMonth.toString(),
+            targetMonth.toString(),
+            afterId,
+            batchSize,
+            rates.joinedCurrencyCodes(),
+            rates.joinedRates());
+    recordInLedger(targetMonth, results, rates, LedgerKind.INCOME);
+    return results;
+  }
+
+  @Transactional
+  public List<RecurringBatchResult> copyExpenseBatch(
+      YearMonth sourceMonth, YearMonth targetMonth, long afterId, int batchSize) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    List<RecurringBatchResult> results =
+        expenseRepository.materializeRecurringBatch(
+            sourceMonth.toString(),
+            targetMonth.toString(),
+            afterId,
+            batchSize,
+            rates.joinedCurrencyCodes(),
+            rates.joinedRates());
+    recordInLedger(targetMonth, results, rates, LedgerKind.EXPENSE);
+    return results;
+  }
+
+  /**
+   * Appends the base-currency total of the inserted rows, converted at the given rates as they
+   * were inserted, to the ledger as one entry for the target month.
+   */
+  private void recordInLedger(
+      YearMonth targetMonth,
+      List<RecurringBatchResult> results,
+      FxRateSnapshot rates,
+      LedgerKind kind) {
+    BigDecimal total = BigDecimal.ZERO;
+    long inserted = 0;
+    for (RecurringBatchResult result : results) {
+      inserted += result.getInsertedCount();
+      total = total.add(result.getInsertedBaseTotal());
+    }
+    if (inserted == 0) {
+      return;
+    }
+
+    budgetLedger.recordImported(kind, Map.of(targetMonth, total), rates.getBaseCurrency());
+  }
+}
@@ -0,0 +1,82 @@
+package com.budgetmaster.application.service.recurring;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.budgetmaster.application.event.RecurringRolloverCompletedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.projection.RecurringBatchResult;
+
+/**
+ * Materializes RECURRING incomes and expenses at month rollover by cloning every recurring entry of
+ * the previous month into the new month. Work is done in keyset-paged batches, each committed on
+ * its own, and already cloned rows are skipped, so a run can be interrupted and simply started
+ * again. A run is also triggered on startup to catch up on a rollover missed while the application
+ * was down.
+ */
+@Service
+public class RecurringTransactionService {
+
+  private final RecurringBatchWriter recurringBatchWriter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int batchSize;
+
+  public RecurringTransactionService(
+      RecurringBatchWriter recurringBatchWriter,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${budgetmaster.recurring.batch-size}") int batchSize) {
+    this.recurringBatchWriter = recurringBatchWriter;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${budgetmaster.recurring.cron}")
+  public void materializeCurrentMonth() {
+    materializeMonth(YearMonth.now());
+  }
+
+  /**
+   * Clones the recurring transactions of the month before the given one into it and returns the
+   * number of rows inserted by this run.
+   */
+  public long materializeMonth(YearMonth targetMonth) {
+    YearMonth sourceMonth = targetMonth.minusMonths(1);
+    long insertedIncomes =
+        copyAllBatches(
+            afterId ->
+                recurringBatchWriter.copyIncomeBatch(sourceMonth, targetMonth, afterId, batchSize));
+    long insertedExpenses =
+        copyAllBatches(
+            afterId ->
+                recurringBatchWriter.copyExpenseBatch(
+                    sourceMonth, targetMonth, afterId, batchSize));
+    long inserted = insertedIncomes + insertedExpenses;
+    if (inserted > 0) {
+      eventPublisher.publishEvent(RecurringTransactionsMaterializedEvent.of(targetMonth));
+    }
+    eventPublisher.publishEvent(RecurringRolloverCompletedEvent.of(targetMonth));
+    return inserted;
+  }
+
+  private long copyAllBatches(LongFunction<List<RecurringBatchResult>> copyBatch) {
+    long inserted = 0;
+    Long afterId = 0L;
+    do {
+      List<RecurringBatchResult> results = copyBatch.apply(afterId);
+      for (RecurringBatchResult result : results) {
+        inserted += result.getInsertedCount();
+      }
+      afterId = results.get(0).getLastSourceId();
+    } while (afterId != null);
+    return inserted;
+  }
+}
@@ -0,0 +1,213 @@
+package com.budgetmaster.application.service.search;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.repository.ExpenseRepository;
+
+/**
+ * In-memory prefix index over the names of the current month's expenses, so searches within the
+ * month most users look at never reach the database. Every suffix of every name is kept in a
+ * sorted set; a name contains the search term exactly when one of its suffixes starts with it, so
+ * the matches are one contiguous range of the set. Results are ranked like the database search:
+ * names starting with the term first, then shorter names, then by id.
+ *
+ * <p>The index is loaded on startup, kept up to date from expense change events and rebuilt when
+ * recurring transactions are materialized into a new month. It can be switched off with {@code
+ * budgetmaster.search.prefix-index.enabled}, in which case every search goes to the database.
+ */
+@Service
+public class ExpenseNameIndex {
+
+  private static final Comparator<Match> RANKING =
+      Comparator.comparing((Match match) -> !match.prefix)
+          .thenComparingInt(match -> match.summary.getName().length())
+          .thenComparing(match -> match.summary.getId());
+
+  private final ExpenseRepository expenseRepository;
+  private final boolean enabled;
+  private volatile MonthIndex index;
+
+  public ExpenseNameIndex(
+      ExpenseRepository expenseRepository,
+      @Value("${budgetmaster.search.prefix-index.enabled}") boolean enabled) {
+    this.expenseRepository = expenseRepository;
+    this.enabled = enabled;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    if (enabled) {
+      loadMonth(YearMonth.now());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onExpenseChanged(ExpenseChangedEvent event) {
+    MonthIndex current = index;
+    if (current == null) {
+      return;
+    }
+    Expense before = event.getBefore();
+    if (before != null) {
+      current.remove(before.getId());
+    }
+    Expense after = event.getAfter();
+    if (after != null && after.getMonth().equals(current.month)) {
+      current.add(ExpenseSummary.from(after));
+    }
+  }
+
+  /** Rebuilds the index once recurring expenses were copied into the new current month. */
+  @EventListener
+  public void onRecurringTransactionsMaterialized(RecurringTransactionsMaterializedEvent event) {
+    if (enabled && event.getMonth().equals(YearMonth.now())) {
+      loadMonth(event.getMonth());
+    }
+  }
+
+  /** Rebuilds the index when a CSV import wrote rows into the current month. */
+  @EventListener
+  public void onTransactionsImported(TransactionsImportedEvent event) {
+    YearMonth currentMonth = YearMonth.now();
+    if (enabled && event.getMonths().contains(currentMonth)) {
+      loadMonth(currentMonth);
+    }
+  }
+
+  /** Returns whether searches within the given month can be answered from this index. */
+  public boolean covers(YearMonth month) {
+    MonthIndex current = index;
+    return current != null && current.month.equals(month);
+  }
+
+  /** Returns one page of the indexed expenses whose name contains the upper-cased term. */
+  public Page<ExpenseSummary> search(String term, Pageable pageable) {
+    MonthIndex current = index;
+    Map<Long, Match> matches = new HashMap<>();
+    for (Suffix suffix : current.suffixes.tailSet(Suffix.lowest(term))) {
+      if (!suffix.text.startsWith(term)) {
+        break;
+      }
+      ExpenseSummary summary = current.summariesById.get(suffix.id);
+      if (summary != null) {
+        matches.merge(
+            suffix.id,
+            new Match(summary, suffix.offset == 0),
+            (first, second) -> first.prefix ? first : second);
+      }
+    }
+
+    List<ExpenseSummary> ranked =
+        matches.values().stream().sorted(RANKING).map(match -> match.summary).toList();
+    int from = (int) Math.min(pageable.getOffset(), ranked.size());
+    int to = Math.min(from + pageable.getPageSize(), ranked.size());
+    return new PageImpl<>(ranked.subList(from, to), pageable, ranked.size());
+  }
+
+  private void loadMonth(YearMonth month) {
+    MonthIndex loaded = new MonthIndex(month);
+    for (ExpenseSummary summary : expenseRepository.findSummariesByMonth(month)) {
+      loaded.add(summary);
+    }
+    index = loaded;
+  }
+
+  /** Names and suffixes of a single month. Replaced as a whole when the month is reloaded. */
+  private static final class MonthIndex {
+    private final YearMonth month;
+    private final Map<Long, ExpenseSummary> summariesById = new ConcurrentHashMap<>();
+    private final NavigableSet<Suffix> suffixes = new ConcurrentSkipListSet<>();
+
+    private MonthIndex(YearMonth month) {
+      this.month = month;
+    }
+
+    private void add(ExpenseSummary summary) {
+      summariesById.put(summary.getId(), summary);
+      String name = summary.getName();
+      for (int offset = 0; offset < name.length(); offset++) {
+        suffixes.add(new Suffix(name.substring(offset), summary.getId(), offset));
+      }
+    }
+
+    private void remove(Long id) {
+      ExpenseSummary removed = summariesById.remove(id);
+      if (removed == null) {
+        return;
+      }
+      String name = removed.getName();
+      for (int offset = 0; offset < name.length(); offset++) {
+        suffixes.remove(new Suffix(name.substring(offset), id, offset));
+      }
+    }
+  }
+
+  /** One suffix of an expense name, ordered by text so matching suffixes are contiguous. */
+  private static final class Suffix implements Comparable<Suffix> {
+    private final String text;
+    private final long id;
+    private final int offset;
+
+    private Suffix(String text, long id, int offset) {
+      this.text = text;
+      this.id = id;
+      this.offset = offset;
+    }
+
+    /** Sorts before every suffix that starts with the given term. */
+    private static Suffix lowest(String term) {
+      return new Suffix(term, Long.MIN_VALUE, Integer.MIN_VALUE);
+    }
+
+    @Override
+    public int compareTo(Suffix other) {
+      int byText = text.compareTo(other.text);
+      if (byText != 0) {
+        return byText;
+      }
+      int byId = Long.compare(id, other.id);
+      return byId != 0 ? byId : Integer.compare(offset, other.offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Suffix other && compareTo(other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return text.hashCode() * 31 + Long.hashCode(id);
+    }
+  }
+
+  private static final class Match {
+    private final ExpenseSummary summary;
+    private final boolean prefix;
+
+    private Match(ExpenseSummary summary, boolean prefix) {
+      this.summary = summary;
+      this.prefix = prefix;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.budgetmaster.application.service.synchronization;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+
+/**
+ * Acquires row locks on budgets in a single, deterministic order. Every code path that reads a
+ * budget in order to change it, the ledger projector folding entries and a budget delete, locks it
+ * through this service, so no change is made from totals another transaction is about to replace
+ * and two transactions can never wait on each other's rows.
+ */
+@Service
+public class BudgetLockService {
+
+  private final BudgetRepository budgetRepository;
+
+  public BudgetLockService(BudgetRepository budgetRepository) {
+    this.budgetRepository = budgetRepository;
+  }
+
+  /**
+   * Locks the budgets for the given months in chronological order and returns them keyed by month.
+   * Months without a budget are absent from the result. Must be called inside an existing
+   * transaction, as the locks are released when it ends.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Map<YearMonth, Budget> lockInMonthOrder(YearMonth... months) {
+    Map<YearMonth, Budget> lockedBudgets = new LinkedHashMap<>();
+    budgetRepository
+        .findAllByMonthInForUpdate(Stream.of(months).distinct().sorted().toList())
+        .forEach(budget -> lockedBudgets.put(budget.getMonth(), budget));
+    return lockedBudgets;
+  }
+}
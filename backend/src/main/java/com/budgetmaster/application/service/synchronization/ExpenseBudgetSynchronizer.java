@@ -1,66 +1,67 @@
 package com.budgetmaster.application.service.synchronization;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.budgetmaster.application.exception.BudgetNotFoundException;
-import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.enums.LedgerKind;
 import com.budgetmaster.application.model.Expense;
-import com.budgetmaster.application.repository.BudgetRepository;
-import com.budgetmaster.constants.error.ErrorMessages;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
 
+/**
+ * Records expense changes in the budget ledger, in the base currency. Each expense is converted
+ * against the current rates when it is written and keeps the converted amount, which is what the
+ * ledger records and what an update or delete later reverses, so a change of rates in between
+ * leaves no residue in the budget. The budget row itself is never read here: the month's budget
+ * is folded from the ledger after the transaction commits, under the row lock the {@link
+ * BudgetLockService} takes.
+ */
 @Service
 public class ExpenseBudgetSynchronizer {
 
-  private final BudgetRepository budgetRepository;
+  private final BudgetLedger budgetLedger;
+  private final FxRateService fxRateService;
 
-  public ExpenseBudgetSynchronizer(BudgetRepository budgetRepository) {
-    this.budgetRepository = budgetRepository;
+  public ExpenseBudgetSynchronizer(BudgetLedger budgetLedger, FxRateService fxRateService) {
+    this.budgetLedger = budgetLedger;
+    this.fxRateService = fxRateService;
   }
 
+  /** Sets the expense's base amount at the current rates; call before the expense is written. */
+  public void convert(Expense expense) {
+    expense.setBaseAmount(fxRateService.currentSnapshot().toBase(expense.getMoney()));
+  }
+
+  /** Records a {@link #convert converted} expense. */
   public void apply(Expense expense) {
-    Budget budget = findOrCreateBudgetFor(expense);
-    budget.addExpense(expense.getMoney().getAmount());
-    budgetRepository.save(budget);
+    budgetLedger.recordCreated(
+        LedgerKind.EXPENSE,
+        expense.getId(),
+        expense.getMonth(),
+        expense.getBaseAmount(),
+        fxRateService.currentSnapshot().getBaseCurrency());
   }
 
-  @Transactional
+  /** Reverses the original expense as recorded and records the {@link #convert converted} one. */
   public void reapply(Expense originalExpense, Expense updatedExpense) {
-    Budget originalBudget = getExistingBudgetFor(originalExpense);
-    originalBudget.subtractExpense(originalExpense.getMoney().getAmount());
-
-    Budget targetBudget = findOrCreateBudgetFor(updatedExpense);
-    targetBudget.addExpense(updatedExpense.getMoney().getAmount());
-    budgetRepository.save(targetBudget);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    budgetLedger.recordAmended(
+        LedgerKind.EXPENSE,
+        updatedExpense.getId(),
+        originalExpense.getMonth(),
+        rates.recordedOrToBase(originalExpense.getMoney(), originalExpense.getBaseAmount()),
+        updatedExpense.getMonth(),
+        updatedExpense.getBaseAmount(),
+        rates.getBaseCurrency());
   }
 
   public void retract(Expense expense) {
-    Budget budget = getExistingBudgetFor(expense);
-    budget.subtractExpense(expense.getMoney().getAmount());
-    budgetRepository.save(budget);
-  }
-
-  /**
-   * Returns the budget associated with the given expense. If no budget exists, a new one is
-   * created.
-   */
-  private Budget findOrCreateBudgetFor(Expense expense) {
-    return budgetRepository
-        .findByMonth(expense.getMonth())
-        .orElseGet(() -> Budget.of(expense.getMonth(), expense.getMoney().getCurrency()));
-  }
-
-  /**
-   * Returns the budget associated with the given income. If no budget exists, an exception is
-   * thrown.
-   */
-  private Budget getExistingBudgetFor(Expense expense) {
-    return budgetRepository
-        .findByMonth(expense.getMonth())
-        .orElseThrow(
-            () ->
-                new BudgetNotFoundException(
-                    String.format(
-                        ErrorMessages.Budget.NOT_FOUND_BY_ASSOCIATED_EXPENSE, expense.getMonth())));
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    budgetLedger.recordDeleted(
+        LedgerKind.EXPENSE,
+        expense.getId(),
+        expense.getMonth(),
+        rates.recordedOrToBase(expense.getMoney(), expense.getBaseAmount()),
+        rates.getBaseCurrency());
   }
 }
@@ -1,65 +1,67 @@
 package com.budgetmaster.application.service.synchronization;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.budgetmaster.application.exception.BudgetNotFoundException;
-import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.enums.LedgerKind;
 import com.budgetmaster.application.model.Income;
-import com.budgetmaster.application.repository.BudgetRepository;
-import com.budgetmaster.constants.error.ErrorMessages;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
 
+/**
+ * Records income changes in the budget ledger, in the base currency. Each income is converted
+ * against the current rates when it is written and keeps the converted amount, which is what the
+ * ledger records and what an update or delete later reverses, so a change of rates in between
+ * leaves no residue in the budget. The budget row itself is never read here: the month's budget
+ * is folded from the ledger after the transaction commits, under the row lock the {@link
+ * BudgetLockService} takes.
+ */
 @Service
 public class IncomeBudgetSynchronizer {
 
-  private final BudgetRepository budgetRepository;
+  private final BudgetLedger budgetLedger;
+  private final FxRateService fxRateService;
 
-  public IncomeBudgetSynchronizer(BudgetRepository budgetRepository) {
-    this.budgetRepository = budgetRepository;
+  public IncomeBudgetSynchronizer(BudgetLedger budgetLedger, FxRateService fxRateService) {
+    this.budgetLedger = budgetLedger;
+    this.fxRateService = fxRateService;
   }
 
+  /** Sets the income's base amount at the current rates; call before the income is written. */
+  public void convert(Income income) {
+    income.setBaseAmount(fxRateService.currentSnapshot().toBase(income.getMoney()));
+  }
+
+  /** Records a {@link #convert converted} income. */
   public void apply(Income income) {
-    Budget budget = findOrCreateBudgetFor(income);
-    budget.addIncome(income.getMoney().getAmount());
-    budgetRepository.save(budget);
+    budgetLedger.recordCreated(
+        LedgerKind.INCOME,
+        income.getId(),
+        income.getMonth(),
+        income.getBaseAmount(),
+        fxRateService.currentSnapshot().getBaseCurrency());
   }
 
-  @Transactional
+  /** Reverses the original income as recorded and records the {@link #convert converted} one. */
   public void reapply(Income originalIncome, Income updatedIncome) {
-    Budget originalBudget = getExistingBudgetFor(originalIncome);
-    originalBudget.subtractIncome(originalIncome.getMoney().getAmount());
-
-    Budget targetBudget = findOrCreateBudgetFor(updatedIncome);
-    targetBudget.addIncome(updatedIncome.getMoney().getAmount());
-    budgetRepository.save(targetBudget);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    budgetLedger.recordAmended(
+        LedgerKind.INCOME,
+        updatedIncome.getId(),
+        originalIncome.getMonth(),
+        rates.recordedOrToBase(originalIncome.getMoney(), originalIncome.getBaseAmount()),
+        updatedIncome.getMonth(),
+        updatedIncome.getBaseAmount(),
+        rates.getBaseCurrency());
   }
 
   public void retract(Income income) {
-    Budget budget = getExistingBudgetFor(income);
-    budget.subtractIncome(income.getMoney().getAmount());
-    budgetRepository.save(budget);
-  }
-
-  /**
-   * Returns the budget associated with the given income. If no budget exists, a new one is created.
-   */
-  private Budget findOrCreateBudgetFor(Income income) {
-    return budgetRepository
-        .findByMonth(income.getMonth())
-        .orElseGet(() -> Budget.of(income.getMonth(), income.getMoney().getCurrency()));
-  }
-
-  /**
-   * Returns the budget associated with the given income. If no budget exists, an exception is
-   * thrown.
-   */
-  private Budget getExistingBudgetFor(Income income) {
-    return budgetRepository
-        .findByMonth(income.getMonth())
-        .orElseThrow(
-            () ->
-                new BudgetNotFoundException(
-                    String.format(
-                        ErrorMessages.Budget.NOT_FOUND_BY_ASSOCIATED_INCOME, income.getMonth())));
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    budgetLedger.recordDeleted(
+        LedgerKind.INCOME,
+        income.getId(),
+        income.getMonth(),
+        rates.recordedOrToBase(income.getMoney(), income.getBaseAmount()),
+        rates.getBaseCurrency());
   }
 }
@@ -0,0 +1,141 @@
+package com.budgetmaster.application.service.totals;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+
+/**
+ * In-memory sums of the budget totals over any range of months, so cumulative balances never
+ * aggregate the budget rows. Income and expense totals are kept in one {@link FenwickTree} each,
+ * indexed by the number of months since the first month with a budget; a range sum and an update
+ * both take O(log n). Savings follow from the two.
+ *
+ * <p>The index is loaded from the budgets on startup and afterwards kept up to date from the
+ * {@link BudgetTotalsChangedEvent}s published as budgets change. A change outside the months the
+ * trees cover rebuilds them with room for twice the months in use.
+ */
+@Service
+public class BudgetTotalsIndex {
+
+  private static final int MIN_CAPACITY = 12;
+
+  private final BudgetRepository budgetRepository;
+  private YearMonth firstMonth;
+  private YearMonth lastMonth;
+  private FenwickTree incomes = FenwickTree.empty(0);
+  private FenwickTree expenses = FenwickTree.empty(0);
+
+  public BudgetTotalsIndex(BudgetRepository budgetRepository) {
+    this.budgetRepository = budgetRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    List<Budget> budgets = budgetRepository.findAll();
+    firstMonth = budgets.stream().map(Budget::getMonth).min(YearMonth::compareTo).orElse(null);
+    lastMonth = budgets.stream().map(Budget::getMonth).max(YearMonth::compareTo).orElse(null);
+    int size = firstMonth == null ? 0 : indexOf(lastMonth) + 1;
+    BigDecimal[] income = zeros(size);
+    BigDecimal[] expense = zeros(size);
+    for (Budget budget : budgets) {
+      income[indexOf(budget.getMonth())] = budget.getTotalIncome();
+      expense[indexOf(budget.getMonth())] = budget.getTotalExpense();
+    }
+    incomes = FenwickTree.of(income);
+    expenses = FenwickTree.of(expense);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onBudgetTotalsChanged(BudgetTotalsChangedEvent event) {
+    YearMonth month = event.getMonth();
+    cover(month);
+    incomes.add(indexOf(month), event.getIncomeDelta());
+    expenses.add(indexOf(month), event.getExpenseDelta());
+  }
+
+  /** Sums the totals of the months {@code from..to}, inclusive. */
+  public synchronized BudgetTotalsResponse sum(YearMonth from, YearMonth to) {
+    if (firstMonth == null) {
+      return BudgetTotalsResponse.of(from, to, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+    int fromIndex = Math.max(indexOf(from), 0);
+    int toIndex = indexOf(to);
+    return BudgetTotalsResponse.of(
+        from, to, incomes.rangeSum(fromIndex, toIndex), expenses.rangeSum(fromIndex, toIndex));
+  }
+
+  /**
+   * Returns the totals summed from the first month with a budget up to each month of {@code
+   * from..to}. Months before the first or after the last month with a budget are left out.
+   */
+  public synchronized List<BudgetTotalsResponse> cumulative(YearMonth from, YearMonth to) {
+    List<BudgetTotalsResponse> balances = new ArrayList<>();
+    if (firstMonth == null) {
+      return balances;
+    }
+    YearMonth start = from.isBefore(firstMonth) ? firstMonth : from;
+    YearMonth end = to.isAfter(lastMonth) ? lastMonth : to;
+    for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+      balances.add(
+          BudgetTotalsResponse.of(
+              firstMonth,
+              month,
+              incomes.prefixSum(indexOf(month)),
+              expenses.prefixSum(indexOf(month))));
+    }
+    return balances;
+  }
+
+  /** Grows the trees, keeping their sums, until they cover the given month. */
+  private void cover(YearMonth month) {
+    if (firstMonth == null) {
+      firstMonth = month;
+      lastMonth = month;
+      incomes = FenwickTree.empty(MIN_CAPACITY);
+      expenses = FenwickTree.empty(MIN_CAPACITY);
+      return;
+    }
+    YearMonth first = month.isBefore(firstMonth) ? month : firstMonth;
+    YearMonth last = month.isAfter(lastMonth) ? month : lastMonth;
+    if (first.equals(firstMonth) && indexOf(last) < incomes.size()) {
+      lastMonth = last;
+      return;
+    }
+    int capacity = Math.max(MIN_CAPACITY, 2 * ((int) first.until(last, ChronoUnit.MONTHS) + 1));
+    int offset = (int) first.until(firstMonth, ChronoUnit.MONTHS);
+    int used = indexOf(lastMonth) + 1;
+    incomes = regrow(incomes, offset, used, capacity);
+    expenses = regrow(expenses, offset, used, capacity);
+    firstMonth = first;
+    lastMonth = last;
+  }
+
+  private int indexOf(YearMonth month) {
+    return (int) firstMonth.until(month, ChronoUnit.MONTHS);
+  }
+
+  private static FenwickTree regrow(FenwickTree tree, int offset, int used, int capacity) {
+    BigDecimal[] amounts = zeros(capacity);
+    System.arraycopy(tree.amounts(), 0, amounts, offset, used);
+    return FenwickTree.of(amounts);
+  }
+
+  private static BigDecimal[] zeros(int size) {
+    BigDecimal[] amounts = new BigDecimal[size];
+    Arrays.fill(amounts, BigDecimal.ZERO);
+    return amounts;
+  }
+}
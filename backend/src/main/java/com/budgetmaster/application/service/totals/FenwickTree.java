@@ -0,0 +1,75 @@
+package com.budgetmaster.application.service.totals;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Binary indexed tree over a fixed number of amounts. Adding to one amount and summing any range
+ * both take O(log n). Node {@code i} (1-based) holds the sum of the {@code i & -i} amounts ending
+ * at it, so a prefix sum walks down by clearing the lowest set bit and an update walks up by
+ * adding it. Not thread-safe.
+ */
+final class FenwickTree {
+
+  private final BigDecimal[] nodes;
+
+  private FenwickTree(BigDecimal[] nodes) {
+    this.nodes = nodes;
+  }
+
+  /** Builds the tree over the given amounts in O(n), each node pushing its sum to its parent. */
+  static FenwickTree of(BigDecimal[] amounts) {
+    BigDecimal[] nodes = new BigDecimal[amounts.length + 1];
+    nodes[0] = BigDecimal.ZERO;
+    System.arraycopy(amounts, 0, nodes, 1, amounts.length);
+    for (int i = 1; i < nodes.length; i++) {
+      int parent = i + (i & -i);
+      if (parent < nodes.length) {
+        nodes[parent] = nodes[parent].add(nodes[i]);
+      }
+    }
+    return new FenwickTree(nodes);
+  }
+
+  static FenwickTree empty(int size) {
+    BigDecimal[] amounts = new BigDecimal[size];
+    Arrays.fill(amounts, BigDecimal.ZERO);
+    return of(amounts);
+  }
+
+  int size() {
+    return nodes.length - 1;
+  }
+
+  void add(int index, BigDecimal delta) {
+    for (int i = index + 1; i < nodes.length; i += i & -i) {
+      nodes[i] = nodes[i].add(delta);
+    }
+  }
+
+  /** Sums the amounts at indexes {@code 0..index}, inclusive. */
+  BigDecimal prefixSum(int index) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = Math.min(index + 1, size()); i > 0; i -= i & -i) {
+      sum = sum.add(nodes[i]);
+    }
+    return sum;
+  }
+
+  /** Sums the amounts at indexes {@code from..to}, inclusive. */
+  BigDecimal rangeSum(int from, int to) {
+    if (from > to) {
+      return BigDecimal.ZERO;
+    }
+    return from > 0 ? prefixSum(to).subtract(prefixSum(from - 1)) : prefixSum(to);
+  }
+
+  /** Returns the amounts the tree sums, in index order. */
+  BigDecimal[] amounts() {
+    BigDecimal[] amounts = new BigDecimal[size()];
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = rangeSum(i, i);
+    }
+    return amounts;
+  }
+}
@@ -0,0 +1,115 @@
+package com.budgetmaster.application.service.write;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.exception.ExpenseNotFoundException;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.projection.RevisedTransaction;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Writes expenses through the record_expense, revise_expense and forget_expense database
+ * functions. Each write and its ledger entries take a single round-trip, where the JPA path needs
+ * one for the expense and one for the entries. Amounts are converted into the base currency here,
+ * against one rate snapshot per write, and stored with the expense, whose recorded base amount an
+ * update or delete reverses, as the budget synchronizer does.
+ */
+@Service
+public class ExpenseFunctionWriter {
+
+  private final ExpenseRepository expenseRepository;
+  private final FxRateService fxRateService;
+  private final WriteCacheEvictor writeCacheEvictor;
+  private final BudgetLedger budgetLedger;
+
+  public ExpenseFunctionWriter(
+      ExpenseRepository expenseRepository,
+      FxRateService fxRateService,
+      WriteCacheEvictor writeCacheEvictor,
+      BudgetLedger budgetLedger) {
+    this.expenseRepository = expenseRepository;
+    this.fxRateService = fxRateService;
+    this.writeCacheEvictor = writeCacheEvictor;
+    this.budgetLedger = budgetLedger;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Expense create(ExpenseRequest request) {
+    Expense expense = Expense.from(request);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    expense.setBaseAmount(rates.toBase(expense.getMoney()));
+    RecordedTransaction recorded =
+        expenseRepository.recordExpense(
+            expense.getName(),
+            expense.getCategory().name(),
+            expense.getMoney().getAmount(),
+            expense.getMoney().getCurrency().getCurrencyCode(),
+            expense.getMonth().toString(),
+            expense.getType().name(),
+            expense.getBaseAmount(),
+            rates.getBaseCurrency().getCurrencyCode());
+
+    expense.setId(recorded.getId());
+    expense.setAuditTimestamps(recorded.getCreatedAt(), recorded.getLastUpdatedAt());
+    budgetLedger.announce(expense.getMonth());
+    return expense;
+  }
+
+  /**
+   * Applies the request to a copy of the original expense and writes it. The original is left
+   * untouched, so a managed entity is not flushed a second time at commit.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Expense update(Expense original, ExpenseRequest request) {
+    Expense updated = original.deepCopy();
+    updated.updateFrom(request);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    updated.setBaseAmount(rates.toBase(updated.getMoney()));
+    RevisedTransaction revised =
+        expenseRepository.reviseExpense(
+            updated.getId(),
+            updated.getName(),
+            updated.getCategory().name(),
+            updated.getMoney().getAmount(),
+            updated.getMoney().getCurrency().getCurrencyCode(),
+            updated.getMonth().toString(),
+            updated.getType().name(),
+            original.getMonth().toString(),
+            rates.recordedOrToBase(original.getMoney(), original.getBaseAmount()),
+            updated.getBaseAmount(),
+            rates.getBaseCurrency().getCurrencyCode());
+    if (revised == null) {
+      throw new ExpenseNotFoundException(
+          String.format(ErrorMessages.Expense.NOT_FOUND_WITH_ID, updated.getId()));
+    }
+
+    updated.setAuditTimestamps(original.getCreatedAt(), revised.getLastUpdatedAt());
+    writeCacheEvictor.evictAfterCommit(Expense.class, updated.getId());
+    budgetLedger.announce(original.getMonth(), updated.getMonth());
+    return updated;
+  }
+
+  /** Deletes the expense; one that is already gone leaves the ledger untouched. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void delete(Expense expense) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    String month =
+        expenseRepository.forgetExpense(
+            expense.getId(),
+            rates.recordedOrToBase(expense.getMoney(), expense.getBaseAmount()),
+            rates.getBaseCurrency().getCurrencyCode());
+
+    writeCacheEvictor.evictAfterCommit(Expense.class, expense.getId());
+    if (month != null) {
+      budgetLedger.announce(expense.getMonth());
+    }
+  }
+}
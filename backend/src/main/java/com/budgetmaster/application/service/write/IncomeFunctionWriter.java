@@ -0,0 +1,115 @@
+package com.budgetmaster.application.service.write;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.budgetmaster.application.dto.IncomeRequest;
+import com.budgetmaster.application.exception.IncomeNotFoundException;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.projection.RevisedTransaction;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.constants.error.ErrorMessages;
+
+/**
+ * Writes incomes through the record_income, revise_income and forget_income database functions.
+ * Each write and its ledger entries take a single round-trip, where the JPA path needs one for the
+ * income and one for the entries. Amounts are converted into the base currency here, against one
+ * rate snapshot per write, and stored with the income, whose recorded base amount an update or
+ * delete reverses, as the budget synchronizer does.
+ */
+@Service
+public class IncomeFunctionWriter {
+
+  private final IncomeRepository incomeRepository;
+  private final FxRateService fxRateService;
+  private final WriteCacheEvictor writeCacheEvictor;
+  private final BudgetLedger budgetLedger;
+
+  public IncomeFunctionWriter(
+      IncomeRepository incomeRepository,
+      FxRateService fxRateService,
+      WriteCacheEvictor writeCacheEvictor,
+      BudgetLedger budgetLedger) {
+    this.incomeRepository = incomeRepository;
+    this.fxRateService = fxRateService;
+    this.writeCacheEvictor = writeCacheEvictor;
+    this.budgetLedger = budgetLedger;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Income create(IncomeRequest request) {
+    Income income = Income.from(request);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    income.setBaseAmount(rates.toBase(income.getMoney()));
+    RecordedTransaction recorded =
+        incomeRepository.recordIncome(
+            income.getName(),
+            income.getSource(),
+            income.getMoney().getAmount(),
+            income.getMoney().getCurrency().getCurrencyCode(),
+            income.getMonth().toString(),
+            income.getType().name(),
+            income.getBaseAmount(),
+            rates.getBaseCurrency().getCurrencyCode());
+
+    income.setId(recorded.getId());
+    income.setAuditTimestamps(recorded.getCreatedAt(), recorded.getLastUpdatedAt());
+    budgetLedger.announce(income.getMonth());
+    return income;
+  }
+
+  /**
+   * Applies the request to a copy of the original income and writes it. The original is left
+   * untouched, so a managed entity is not flushed a second time at commit.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Income update(Income original, IncomeRequest request) {
+    Income updated = original.deepCopy();
+    updated.updateFrom(request);
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    updated.setBaseAmount(rates.toBase(updated.getMoney()));
+    RevisedTransaction revised =
+        incomeRepository.reviseIncome(
+            updated.getId(),
+            updated.getName(),
+            updated.getSource(),
+            updated.getMoney().getAmount(),
+            updated.getMoney().getCurrency().getCurrencyCode(),
+            updated.getMonth().toString(),
+            updated.getType().name(),
+            original.getMonth().toString(),
+            rates.recordedOrToBase(original.getMoney(), original.getBaseAmount()),
+            updated.getBaseAmount(),
+            rates.getBaseCurrency().getCurrencyCode());
+    if (revised == null) {
+      throw new IncomeNotFoundException(
+          String.format(ErrorMessages.Income.NOT_FOUND_WITH_ID, updated.getId()));
+    }
+
+    updated.setAuditTimestamps(original.getCreatedAt(), revised.getLastUpdatedAt());
+    writeCacheEvictor.evictAfterCommit(Income.class, updated.getId());
+    budgetLedger.announce(original.getMonth(), updated.getMonth());
+    return updated;
+  }
+
+  /** Deletes the income; one that is already gone leaves the ledger untouched. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void delete(Income income) {
+    FxRateSnapshot rates = fxRateService.currentSnapshot();
+    String month =
+        incomeRepository.forgetIncome(
+            income.getId(),
+            rates.recordedOrToBase(income.getMoney(), income.getBaseAmount()),
+            rates.getBaseCurrency().getCurrencyCode());
+
+    writeCacheEvictor.evictAfterCommit(Income.class, income.getId());
+    if (month != null) {
+      budgetLedger.announce(income.getMonth());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.budgetmaster.application.service.write;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts second-level cache entries for rows changed by native SQL, which Hibernate cannot see.
+ * Eviction runs once the transaction has committed, so a concurrent reader cannot cache the old
+ * row again between the eviction and the commit.
+ */
+@Service
+public class WriteCacheEvictor {
+
+  private final Cache cache;
+
+  public WriteCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+  }
+
+  public void evictAfterCommit(Class<?> entityClass, Long id) {
+    afterCommit(() -> cache.evictEntityData(entityClass, id));
+  }
+
+  private void afterCommit(Runnable eviction) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      eviction.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            eviction.run();
+          }
+        });
+  }
+}
@@ -2,6 +2,8 @@ package com.budgetmaster.application.util;
 
 import java.time.YearMonth;
 
+import com.budgetmaster.constants.validation.ValidationPatterns;
+
 public class DateUtils {
 
   /**
@@ -14,4 +16,19 @@ public class DateUtils {
     }
     return YearMonth.parse(monthString);
   }
+
+  /**
+   * Returns whether the from month is not after the to month. A missing or malformed month is
+   * reported by its own field constraint, so such a range is not rejected here.
+   */
+  public static boolean isOrderedRange(String fromMonth, String toMonth) {
+    if (!isYearMonth(fromMonth) || !isYearMonth(toMonth)) {
+      return true;
+    }
+    return !getValidYearMonth(fromMonth).isAfter(getValidYearMonth(toMonth));
+  }
+
+  private static boolean isYearMonth(String monthString) {
+    return monthString != null && monthString.matches(ValidationPatterns.Date.YEAR_MONTH_REGEX);
+  }
 }
@@ -0,0 +1,25 @@
+package com.budgetmaster.application.validation;
+
+import java.lang.annotation.*;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import com.budgetmaster.constants.validation.ValidationMessages;
+
+/**
+ * A currency code that is one of the {@link com.budgetmaster.application.enums.SupportedCurrency
+ * supported currencies}; {@code null} is valid. The message is a format that is given the
+ * supported codes.
+ */
+@Documented
+@Constraint(validatedBy = SupportedCurrencyCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SupportedCurrencyCode {
+  String message() default ValidationMessages.Filter.CURRENCY_UNSUPPORTED;
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
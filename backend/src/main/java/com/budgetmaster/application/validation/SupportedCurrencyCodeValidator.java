@@ -0,0 +1,31 @@
+package com.budgetmaster.application.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.constants.string.StringConstants;
+
+public class SupportedCurrencyCodeValidator
+    implements ConstraintValidator<SupportedCurrencyCode, String> {
+
+  private String message;
+
+  @Override
+  public void initialize(SupportedCurrencyCode constraint) {
+    message =
+        String.format(
+            constraint.message(),
+            SupportedCurrency.joinedCodes(StringConstants.Punctuation.COMMA_SPACE));
+  }
+
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    if (value == null || SupportedCurrency.validateSupportedCode(value)) {
+      return true;
+    }
+    context.disableDefaultConstraintViolation();
+    context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+    return false;
+  }
+}
@@ -5,13 +5,18 @@ import java.time.format.DateTimeFormatter;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import com.budgetmaster.constants.date.DateFormats;
 import com.budgetmaster.json.deserialization.BigDecimalToStringDeserializer;
 import com.budgetmaster.json.serialization.BigDecimalToStringSerializer;
+import com.budgetmaster.json.serialization.ExpenseSummarySerializer;
+import com.budgetmaster.json.serialization.IncomeSummarySerializer;
 import com.budgetmaster.json.serialization.YearMonthSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 
@@ -33,9 +38,22 @@ public class JacksonConfig {
             .serializers(
                 new LocalDateTimeSerializer(STANDARD_DATE_TIME_FORMATTER),
                 new BigDecimalToStringSerializer(),
-                new YearMonthSerializer())
+                new YearMonthSerializer(),
+                new IncomeSummarySerializer(),
+                new ExpenseSummarySerializer())
             .deserializers(
                 new LocalDateTimeDeserializer(STANDARD_DATE_TIME_FORMATTER),
                 new BigDecimalToStringDeserializer());
   }
+
+  /**
+   * Serves {@code application/cbor} to clients that ask for it. The mapper comes from the same
+   * auto-configured builder as the JSON one, so naming, inclusion and the custom serializers above
+   * apply unchanged; only the wire format differs.
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
 }
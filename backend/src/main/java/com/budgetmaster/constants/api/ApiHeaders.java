@@ -0,0 +1,7 @@
+package com.budgetmaster.constants.api;
+
+public class ApiHeaders {
+  private ApiHeaders() {}
+
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+}
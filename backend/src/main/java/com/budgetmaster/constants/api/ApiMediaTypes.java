@@ -0,0 +1,8 @@
+package com.budgetmaster.constants.api;
+
+public class ApiMediaTypes {
+  private ApiMediaTypes() {}
+
+  public static final String TEXT_CSV = "text/csv";
+  public static final String APPLICATION_OFX = "application/x-ofx";
+}
@@ -6,5 +6,14 @@ public class ApiMessages {
     private ValidationMessages() {}
 
     public static final String MONTH_FORMAT_INVALID = "Month must be in format YYYY-MM";
+    public static final String IDEMPOTENCY_KEY_TOO_LONG =
+        "Idempotency-Key must not exceed 255 characters";
+    public static final String FORECAST_MONTHS_OUT_OF_RANGE = "Months must be between 1 and 120";
+    public static final String CURRENCY_UNSUPPORTED = "Currency must be one of %s";
+    public static final String SEARCH_QUERY_LENGTH_INVALID =
+        "Search query must be between 1 and 100 characters";
+    public static final String PAGE_NEGATIVE = "Page must not be negative";
+    public static final String PAGE_SIZE_OUT_OF_RANGE = "Page size must be between 1 and 100";
+    public static final String TOP_LIMIT_OUT_OF_RANGE = "Limit must be between 1 and 50";
   }
 }
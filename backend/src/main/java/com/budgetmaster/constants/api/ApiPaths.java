@@ -9,6 +9,11 @@ public class ApiPaths {
     private Budgets() {}
 
     public static final String ROOT = BASE + "/budgets";
+    public static final String FORECAST = "/forecast";
+    public static final String REBUILD = "/rebuild";
+    public static final String TOTALS = "/totals";
+    public static final String CUMULATIVE = "/cumulative";
+    public static final String AS_OF_PARAM = "asOf";
   }
 
   public static class Incomes {
@@ -21,5 +26,35 @@ public class ApiPaths {
     private Expenses() {}
 
     public static final String ROOT = BASE + "/expenses";
+    public static final String SEARCH = "/search";
+    public static final String FILTER = "/filter";
+    public static final String ANALYTICS = ROOT + "/analytics";
+    public static final String TOP = "/top";
+    public static final String PERCENTILES = "/percentiles";
+    public static final String QUANTILES = "/quantiles";
+  }
+
+  public static class Imports {
+    private Imports() {}
+
+    public static final String ROOT = BASE + "/imports";
+    public static final String EXPENSES = "/expenses";
+    public static final String INCOMES = "/incomes";
+    public static final String REJECTS = "/{importId}/rejects";
+    public static final String CAMT_053 = "/statements/camt053";
+    public static final String OFX = "/statements/ofx";
+  }
+
+  public static class CategoryRules {
+    private CategoryRules() {}
+
+    public static final String ROOT = BASE + "/category-rules";
+  }
+
+  public static class Cache {
+    private Cache() {}
+
+    public static final String ROOT = BASE + "/cache";
+    public static final String STATISTICS = "/statistics";
   }
 }
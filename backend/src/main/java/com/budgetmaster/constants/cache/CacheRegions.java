@@ -0,0 +1,10 @@
+package com.budgetmaster.constants.cache;
+
+public class CacheRegions {
+  private CacheRegions() {}
+
+  public static final String INCOMES = "INCOMES";
+  public static final String EXPENSES = "EXPENSES";
+  public static final String BUDGETS = "BUDGETS";
+  public static final String BUDGETS_BY_MONTH = "BUDGETS_BY_MONTH";
+}
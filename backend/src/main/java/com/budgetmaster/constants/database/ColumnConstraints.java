@@ -2,10 +2,24 @@ package com.budgetmaster.constants.database;
 
 public class ColumnConstraints {
 
+  public static class Id {
+    private Id() {}
+
+    /** Ids handed out per sequence call; must match the INCREMENT BY of the id sequences. */
+    public static final int ALLOCATION_SIZE = 50;
+  }
+
   public static class Amount {
     private Amount() {}
 
     public static final int SCALE = 2;
     public static final int PRECISION = 19;
   }
+
+  public static class Text {
+    private Text() {}
+
+    /** Length of the VARCHAR name and source columns. */
+    public static final int MAX_LENGTH = 255;
+  }
 }
@@ -18,6 +18,7 @@ public class ColumnNames {
     public static final String SAVINGS = "SAVINGS";
     public static final String CURRENCY = "CURRENCY";
     public static final String MONTH = "MONTH";
+    public static final String LEDGER_POSITION = "LEDGER_POSITION";
   }
 
   public static class Income {
@@ -27,6 +28,7 @@ public class ColumnNames {
     public static final String SOURCE = "SOURCE";
     public static final String TYPE = "TYPE";
     public static final String MONTH = "MONTH";
+    public static final String BASE_AMOUNT = "BASE_AMOUNT";
   }
 
   public static class Expense {
@@ -36,6 +38,77 @@ public class ColumnNames {
     public static final String CATEGORY = "CATEGORY";
     public static final String TYPE = "TYPE";
     public static final String MONTH = "MONTH";
+    public static final String BASE_AMOUNT = "BASE_AMOUNT";
+  }
+
+  public static class IdempotencyKey {
+    private IdempotencyKey() {}
+
+    public static final String IDEMPOTENCY_KEY = "IDEMPOTENCY_KEY";
+    public static final String RESOURCE_TYPE = "RESOURCE_TYPE";
+    public static final String RESOURCE_ID = "RESOURCE_ID";
+    public static final String REQUEST_HASH = "REQUEST_HASH";
+  }
+
+  public static class ImportReject {
+    private ImportReject() {}
+
+    public static final String IMPORT_ID = "IMPORT_ID";
+    public static final String RECORD_NUMBER = "RECORD_NUMBER";
+    public static final String REASON = "REASON";
+  }
+
+  public static class CategoryRule {
+    private CategoryRule() {}
+
+    public static final String TYPE = "TYPE";
+    public static final String PATTERN = "PATTERN";
+    public static final String CATEGORY = "CATEGORY";
+  }
+
+  public static class LedgerEntry {
+    private LedgerEntry() {}
+
+    public static final String TX_ID = "TX_ID";
+    public static final String MONTH = "MONTH";
+    public static final String KIND = "KIND";
+    public static final String EVENT = "EVENT";
+    public static final String TRANSACTION_ID = "TRANSACTION_ID";
+    public static final String AMOUNT = "AMOUNT";
+    public static final String CURRENCY = "CURRENCY";
+    public static final String RECORDED_AT = "RECORDED_AT";
+  }
+
+  public static class BudgetSnapshot {
+    private BudgetSnapshot() {}
+
+    public static final String MONTH = "MONTH";
+    public static final String LEDGER_POSITION = "LEDGER_POSITION";
+    public static final String TOTAL_INCOME = "TOTAL_INCOME";
+    public static final String TOTAL_EXPENSE = "TOTAL_EXPENSE";
+    public static final String CURRENCY = "CURRENCY";
+    public static final String TAKEN_AT = "TAKEN_AT";
+  }
+
+  public static class BudgetHistory {
+    private BudgetHistory() {}
+
+    public static final String MONTH = "MONTH";
+    public static final String VERSION = "VERSION";
+    public static final String KEYFRAME = "KEYFRAME";
+    public static final String INCOME = "INCOME";
+    public static final String EXPENSE = "EXPENSE";
+    public static final String CURRENCY = "CURRENCY";
+    public static final String CHANGED_AT = "CHANGED_AT";
+  }
+
+  public static class ExpenseDigest {
+    private ExpenseDigest() {}
+
+    public static final String MONTH = "MONTH";
+    public static final String CATEGORY = "CATEGORY";
+    public static final String DIGEST = "DIGEST";
+    public static final String UPDATED_AT = "UPDATED_AT";
   }
 
   public static class Money {
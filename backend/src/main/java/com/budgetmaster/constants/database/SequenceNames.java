@@ -0,0 +1,11 @@
+package com.budgetmaster.constants.database;
+
+public class SequenceNames {
+  private SequenceNames() {}
+
+  public static final String BUDGETS = "BUDGETS_SEQ";
+  public static final String INCOMES = "INCOMES_SEQ";
+  public static final String EXPENSES = "EXPENSES_SEQ";
+  public static final String CATEGORY_RULES = "CATEGORY_RULES_SEQ";
+  public static final String LEDGER_ENTRIES = "LEDGER_ENTRIES_SEQ";
+}
@@ -5,4 +5,11 @@ public class TableNames {
   public static final String BUDGETS = "BUDGETS";
   public static final String INCOMES = "INCOMES";
   public static final String EXPENSES = "EXPENSES";
+  public static final String IDEMPOTENCY_KEYS = "IDEMPOTENCY_KEYS";
+  public static final String IMPORT_REJECTS = "IMPORT_REJECTS";
+  public static final String CATEGORY_RULES = "CATEGORY_RULES";
+  public static final String LEDGER_ENTRIES = "LEDGER_ENTRIES";
+  public static final String BUDGET_SNAPSHOTS = "BUDGET_SNAPSHOTS";
+  public static final String BUDGET_HISTORY = "BUDGET_HISTORY";
+  public static final String EXPENSE_DIGESTS = "EXPENSE_DIGESTS";
 }
@@ -11,6 +11,8 @@ public class ErrorMessages {
         "Income's original budget not found for month: %s";
     public static final String NOT_FOUND_BY_ASSOCIATED_EXPENSE =
         "Expense's original budget not found for month: %s";
+    public static final String NOT_FOUND_FOR_MONTH_AS_OF =
+        "Budget history not found for month: %s as of: %s";
   }
 
   public static class Expense {
@@ -27,6 +29,17 @@ public class ErrorMessages {
     public static final String NOT_FOUND_WITH_ID = "Income not found with id: %s";
   }
 
+  public static class CategoryRule {
+    private CategoryRule() {}
+
+    public static final String NOT_FOUND_WITH_ID = "Category rule not found with id: %s";
+    public static final String INVALID_PATTERN = "Invalid category rule pattern: %s";
+    public static final String CONFLICTING_PATTERN =
+        "Category rule pattern cannot be combined with the existing rules: %s";
+    public static final String BACKREFERENCE =
+        "Numbered backreferences are not supported in category rule patterns";
+  }
+
   public static class Currency {
     private Currency() {}
 
@@ -36,6 +49,31 @@ public class ErrorMessages {
     public static final String MISMATCH = "Currency mismatch: %s vs %s";
   }
 
+  public static class Fx {
+    private Fx() {}
+
+    public static final String MISSING_RATE = "No FX rate configured for %s";
+    public static final String INVALID_RATE = "FX rate for %s must be positive: %s";
+    public static final String INVALID_BASE_RATE = "FX rate for base currency %s must be 1: %s";
+    public static final String RATES_UNREADABLE = "FX rates could not be read from %s";
+  }
+
+  public static class Import {
+    private Import() {}
+
+    public static final String UNREADABLE_CSV = "CSV file could not be imported: %s";
+    public static final String UNREADABLE_STATEMENT = "Statement file could not be read: %s";
+  }
+
+  public static class Idempotency {
+    private Idempotency() {}
+
+    public static final String KEY_REUSED =
+        "Idempotency-Key %s was already used with a different request";
+    public static final String KEY_NOT_COMPLETED =
+        "The request first made with Idempotency-Key %s has not completed";
+  }
+
   public static class Enum {
     private Enum() {}
 
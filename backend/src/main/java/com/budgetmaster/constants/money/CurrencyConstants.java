@@ -6,5 +6,7 @@ public class CurrencyConstants {
     private Codes() {}
 
     public static final String GBP = "GBP";
+    public static final String EUR = "EUR";
+    public static final String USD = "USD";
   }
 }
@@ -9,6 +9,7 @@ public class StringConstants {
     public static final String SPACE = " ";
     public static final String UNDERSCORE = "_";
     public static final String DOT = ".";
+    public static final String COMMA = ",";
     public static final String NEW_LINE = "\n";
     public static final String COMMA_SPACE = ", ";
   }
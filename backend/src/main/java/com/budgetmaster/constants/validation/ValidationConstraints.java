@@ -7,4 +7,49 @@ public class ValidationConstraints {
 
     public static final String MIN_AMOUNT = "0.00";
   }
+
+  public static class IdempotencyKey {
+    private IdempotencyKey() {}
+
+    public static final int MAX_LENGTH = 255;
+  }
+
+  public static class Forecast {
+    private Forecast() {}
+
+    public static final int MIN_MONTHS = 1;
+    public static final int MAX_MONTHS = 120;
+    public static final String DEFAULT_MONTHS = "12";
+  }
+
+  public static class Rebuild {
+    private Rebuild() {}
+
+    public static final String DEFAULT_FROM_SNAPSHOTS = "true";
+  }
+
+  public static class Search {
+    private Search() {}
+
+    public static final int MIN_QUERY_LENGTH = 1;
+    public static final int MAX_QUERY_LENGTH = 100;
+  }
+
+  public static class Paging {
+    private Paging() {}
+
+    public static final int MIN_PAGE = 0;
+    public static final int MIN_PAGE_SIZE = 1;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String DEFAULT_PAGE = "0";
+    public static final String DEFAULT_PAGE_SIZE = "20";
+  }
+
+  public static class Analytics {
+    private Analytics() {}
+
+    public static final int MIN_LIMIT = 1;
+    public static final int MAX_LIMIT = 50;
+    public static final String DEFAULT_LIMIT = "5";
+  }
 }
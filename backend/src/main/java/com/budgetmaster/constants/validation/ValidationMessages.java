@@ -21,7 +21,24 @@ public class ValidationMessages {
     private Expense() {}
 
     public static final String NAME_IS_REQUIRED = "Expense name is required.";
-    public static final String CATEGORY_IS_REQUIRED = "Expense category is required.";
+  }
+
+  public static class CategoryRule {
+    private CategoryRule() {}
+
+    public static final String TYPE_IS_REQUIRED = "Rule type is required.";
+    public static final String PATTERN_IS_REQUIRED = "Rule pattern is required.";
+    public static final String PATTERN_TOO_LONG = "Rule pattern must be at most 255 characters.";
+    public static final String CATEGORY_IS_REQUIRED = "Rule category is required.";
+  }
+
+  public static class Filter {
+    private Filter() {}
+
+    public static final String AMOUNT_RANGE_INVALID =
+        "Minimum amount must not be greater than maximum amount.";
+    public static final String MONTH_RANGE_INVALID = "From month must not be after to month.";
+    public static final String CURRENCY_UNSUPPORTED = "Currency must be one of %s.";
   }
 
   public static class Income {
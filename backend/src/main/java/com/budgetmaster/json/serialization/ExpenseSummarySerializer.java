@@ -0,0 +1,42 @@
+package com.budgetmaster.json.serialization;
+
+import java.io.IOException;
+
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes expense summaries field by field with pre-encoded names instead of going through the
+ * reflective bean serializer. Month listings serialize one summary per row, so this is the hot
+ * path of the expense listing endpoint.
+ */
+public class ExpenseSummarySerializer extends JsonSerializer<ExpenseSummary> {
+
+  @Override
+  public void serialize(ExpenseSummary value, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    if (value == null) {
+      gen.writeNull();
+      return;
+    }
+
+    gen.writeStartObject(value);
+    SummaryJsonWriter.writeId(gen, value.getId());
+    SummaryJsonWriter.writeString(gen, SummaryJsonWriter.NAME, value.getName());
+    SummaryJsonWriter.writeMoney(gen, value.getMoney());
+    SummaryJsonWriter.writeCategory(gen, value.getCategory());
+    SummaryJsonWriter.writeType(gen, value.getType());
+    SummaryJsonWriter.writeMonth(gen, value.getMonth());
+    SummaryJsonWriter.writeDateTime(gen, SummaryJsonWriter.CREATED_AT, value.getCreatedAt());
+    SummaryJsonWriter.writeDateTime(
+        gen, SummaryJsonWriter.LAST_UPDATED_AT, value.getLastUpdatedAt());
+    gen.writeEndObject();
+  }
+
+  @Override
+  public Class<ExpenseSummary> handledType() {
+    return ExpenseSummary.class;
+  }
+}
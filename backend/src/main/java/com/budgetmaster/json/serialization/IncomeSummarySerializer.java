@@ -0,0 +1,42 @@
+package com.budgetmaster.json.serialization;
+
+import java.io.IOException;
+
+import com.budgetmaster.application.projection.IncomeSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes income summaries field by field with pre-encoded names instead of going through the
+ * reflective bean serializer. Month listings serialize one summary per row, so this is the hot
+ * path of the income listing endpoint.
+ */
+public class IncomeSummarySerializer extends JsonSerializer<IncomeSummary> {
+
+  @Override
+  public void serialize(IncomeSummary value, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    if (value == null) {
+      gen.writeNull();
+      return;
+    }
+
+    gen.writeStartObject(value);
+    SummaryJsonWriter.writeId(gen, value.getId());
+    SummaryJsonWriter.writeString(gen, SummaryJsonWriter.NAME, value.getName());
+    SummaryJsonWriter.writeString(gen, SummaryJsonWriter.SOURCE, value.getSource());
+    SummaryJsonWriter.writeMoney(gen, value.getMoney());
+    SummaryJsonWriter.writeType(gen, value.getType());
+    SummaryJsonWriter.writeMonth(gen, value.getMonth());
+    SummaryJsonWriter.writeDateTime(gen, SummaryJsonWriter.CREATED_AT, value.getCreatedAt());
+    SummaryJsonWriter.writeDateTime(
+        gen, SummaryJsonWriter.LAST_UPDATED_AT, value.getLastUpdatedAt());
+    gen.writeEndObject();
+  }
+
+  @Override
+  public Class<IncomeSummary> handledType() {
+    return IncomeSummary.class;
+  }
+}
@@ -0,0 +1,152 @@
+package com.budgetmaster.json.serialization;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Field writers shared by the listing summary serializers. Field names and enum values are encoded
+ * once up front, and the output matches what the bean serializer produces under {@link
+ * JacksonConfig}: kebab-case names, plain string amounts, {@code [year, month]} arrays and null
+ * fields omitted.
+ */
+final class SummaryJsonWriter {
+
+  static final SerializedString ID = new SerializedString("id");
+  static final SerializedString NAME = new SerializedString("name");
+  static final SerializedString SOURCE = new SerializedString("source");
+  static final SerializedString MONEY = new SerializedString("money");
+  static final SerializedString CATEGORY = new SerializedString("category");
+  static final SerializedString TYPE = new SerializedString("type");
+  static final SerializedString MONTH = new SerializedString("month");
+  static final SerializedString CREATED_AT = new SerializedString("created-at");
+  static final SerializedString LAST_UPDATED_AT = new SerializedString("last-updated-at");
+
+  private static final SerializedString AMOUNT = new SerializedString("amount");
+  private static final SerializedString CURRENCY = new SerializedString("currency");
+
+  private static final SerializedString[] CATEGORY_VALUES = encode(ExpenseCategory.values());
+  private static final SerializedString[] TYPE_VALUES = encode(TransactionType.values());
+
+  /** Amounts up to this many digits have an unscaled value that fits in a long. */
+  private static final int MAX_FAST_PRECISION = 18;
+
+  /** Sign, leading zero and decimal point on top of the digits. */
+  private static final int MAX_FAST_LENGTH = MAX_FAST_PRECISION + 3;
+
+  private SummaryJsonWriter() {}
+
+  static void writeId(JsonGenerator gen, Long id) throws IOException {
+    if (id != null) {
+      gen.writeFieldName(ID);
+      gen.writeNumber(id);
+    }
+  }
+
+  static void writeString(JsonGenerator gen, SerializableString field, String value)
+      throws IOException {
+    if (value != null) {
+      gen.writeFieldName(field);
+      gen.writeString(value);
+    }
+  }
+
+  static void writeMoney(JsonGenerator gen, Money money) throws IOException {
+    if (money == null) {
+      return;
+    }
+    gen.writeFieldName(MONEY);
+    gen.writeStartObject();
+    if (money.getAmount() != null) {
+      gen.writeFieldName(AMOUNT);
+      writeAmount(gen, money.getAmount());
+    }
+    if (money.getCurrency() != null) {
+      gen.writeFieldName(CURRENCY);
+      gen.writeString(money.getCurrency().getCurrencyCode());
+    }
+    gen.writeEndObject();
+  }
+
+  static void writeCategory(JsonGenerator gen, ExpenseCategory category) throws IOException {
+    if (category != null) {
+      gen.writeFieldName(CATEGORY);
+      gen.writeString(CATEGORY_VALUES[category.ordinal()]);
+    }
+  }
+
+  static void writeType(JsonGenerator gen, TransactionType type) throws IOException {
+    if (type != null) {
+      gen.writeFieldName(TYPE);
+      gen.writeString(TYPE_VALUES[type.ordinal()]);
+    }
+  }
+
+  static void writeMonth(JsonGenerator gen, YearMonth month) throws IOException {
+    if (month != null) {
+      gen.writeFieldName(MONTH);
+      gen.writeStartArray(month, 2);
+      gen.writeNumber(month.getYear());
+      gen.writeNumber(month.getMonthValue());
+      gen.writeEndArray();
+    }
+  }
+
+  static void writeDateTime(JsonGenerator gen, SerializableString field, LocalDateTime value)
+      throws IOException {
+    if (value != null) {
+      gen.writeFieldName(field);
+      gen.writeString(JacksonConfig.STANDARD_DATE_TIME_FORMATTER.format(value));
+    }
+  }
+
+  /**
+   * Writes the amount exactly as {@link BigDecimal#toPlainString()} would. Amounts whose unscaled
+   * value fits in a long are formatted straight into a char buffer, skipping the intermediate
+   * string; anything larger falls back to {@code toPlainString()}.
+   */
+  static void writeAmount(JsonGenerator gen, BigDecimal value) throws IOException {
+    int scale = value.scale();
+    if (scale < 0 || scale > MAX_FAST_PRECISION || value.precision() > MAX_FAST_PRECISION) {
+      gen.writeString(value.toPlainString());
+      return;
+    }
+
+    long unscaled = value.unscaledValue().longValue();
+    long remaining = Math.abs(unscaled);
+    char[] buffer = new char[MAX_FAST_LENGTH];
+    int pos = buffer.length;
+    for (int i = 0; i < scale; i++) {
+      buffer[--pos] = (char) ('0' + remaining % 10);
+      remaining /= 10;
+    }
+    if (scale > 0) {
+      buffer[--pos] = '.';
+    }
+    do {
+      buffer[--pos] = (char) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0);
+    if (unscaled < 0) {
+      buffer[--pos] = '-';
+    }
+    gen.writeString(buffer, pos, buffer.length - pos);
+  }
+
+  private static SerializedString[] encode(Enum<?>[] values) {
+    SerializedString[] encoded = new SerializedString[values.length];
+    for (Enum<?> value : values) {
+      encoded[value.ordinal()] = new SerializedString(value.name());
+    }
+    return encoded;
+  }
+}
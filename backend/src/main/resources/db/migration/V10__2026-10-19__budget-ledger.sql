@@ -0,0 +1,168 @@
+-- Append-only ledger of income and expense changes in base-currency amounts, which becomes the
+-- source of truth for budget totals. Writers only insert here, so concurrent writes to one month no
+-- longer queue on its BUDGETS row; BUDGETS is a projection folded from the ledger by the
+-- application. Bulk writers (CSV imports, statement imports, recurring rollover) record one entry
+-- per month instead of one per transaction, so TRANSACTION_ID is null for them.
+--
+-- TX_ID is the id of the inserting transaction. Every entry whose TX_ID is below the xmin of a
+-- snapshot belongs to a transaction that has ended, so it is visible or will never be; the
+-- projector folds up to that point and keeps it as the budget's LEDGER_POSITION.
+CREATE SEQUENCE public.LEDGER_ENTRIES_SEQ INCREMENT BY 50;
+
+CREATE TABLE public.LEDGER_ENTRIES (
+    ID BIGINT PRIMARY KEY DEFAULT nextval('public.LEDGER_ENTRIES_SEQ'),
+    TX_ID BIGINT NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT),
+    MONTH VARCHAR(255) NOT NULL,
+    KIND VARCHAR(255) NOT NULL,
+    EVENT VARCHAR(255) NOT NULL,
+    TRANSACTION_ID BIGINT,
+    AMOUNT NUMERIC(19, 2) NOT NULL,
+    CURRENCY VARCHAR(3) NOT NULL,
+    RECORDED_AT TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+ALTER SEQUENCE public.LEDGER_ENTRIES_SEQ OWNED BY public.LEDGER_ENTRIES.ID;
+CREATE INDEX idx_ledger_entries_month_tx ON public.LEDGER_ENTRIES (MONTH, TX_ID);
+
+-- Budget totals at a ledger position, so a rebuild can start from the latest one instead of from
+-- the first entry of the month.
+CREATE TABLE public.BUDGET_SNAPSHOTS (
+    MONTH VARCHAR(255) NOT NULL,
+    LEDGER_POSITION BIGINT NOT NULL,
+    TOTAL_INCOME NUMERIC(19, 2) NOT NULL,
+    TOTAL_EXPENSE NUMERIC(19, 2) NOT NULL,
+    CURRENCY VARCHAR(3) NOT NULL,
+    TAKEN_AT TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (MONTH, LEDGER_POSITION)
+);
+
+-- Existing totals become opening entries, and every budget is positioned just past them.
+ALTER TABLE public.BUDGETS ADD COLUMN LEDGER_POSITION BIGINT NOT NULL DEFAULT 0;
+
+INSERT INTO public.LEDGER_ENTRIES (MONTH, KIND, EVENT, AMOUNT, CURRENCY)
+SELECT MONTH, 'INCOME', 'OPENING', TOTAL_INCOME, CURRENCY FROM public.BUDGETS
+WHERE TOTAL_INCOME <> 0
+UNION ALL
+SELECT MONTH, 'EXPENSE', 'OPENING', TOTAL_EXPENSE, CURRENCY FROM public.BUDGETS
+WHERE TOTAL_EXPENSE <> 0;
+
+UPDATE public.BUDGETS
+SET LEDGER_POSITION = CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT) + 1;
+
+-- The write functions now append to the ledger instead of updating BUDGETS, so they no longer
+-- lock budget rows or fail when the original month has no budget.
+DROP FUNCTION record_expense(
+    VARCHAR, VARCHAR, NUMERIC, VARCHAR, VARCHAR, VARCHAR, NUMERIC, VARCHAR);
+DROP FUNCTION record_income(
+    VARCHAR, VARCHAR, NUMERIC, VARCHAR, VARCHAR, VARCHAR, NUMERIC, VARCHAR);
+DROP FUNCTION revise_expense(
+    BIGINT, VARCHAR, VARCHAR, NUMERIC, VARCHAR, VARCHAR, VARCHAR, VARCHAR, NUMERIC, NUMERIC,
+    VARCHAR);
+DROP FUNCTION revise_income(
+    BIGINT, VARCHAR, VARCHAR, NUMERIC, VARCHAR, VARCHAR, VARCHAR, VARCHAR, NUMERIC, NUMERIC,
+    VARCHAR);
+DROP FUNCTION forget_expense(BIGINT, NUMERIC);
+DROP FUNCTION forget_income(BIGINT, NUMERIC);
+
+CREATE FUNCTION record_expense(
+    p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (expense_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO EXPENSES (NAME, CATEGORY, AMOUNT, CURRENCY, MONTH, TYPE)
+        VALUES (p_name, p_category, p_amount, p_currency, p_month, p_type)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), entry AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_month, 'EXPENSE', 'CREATED', ID, p_base_amount, p_base_currency FROM inserted
+    )
+    SELECT ID, CREATED_AT, LAST_UPDATED_AT FROM inserted;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION record_income(
+    p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (income_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO INCOMES (NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE)
+        VALUES (p_name, p_source, p_amount, p_currency, p_month, p_type)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), entry AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_month, 'INCOME', 'CREATED', ID, p_base_amount, p_base_currency FROM inserted
+    )
+    SELECT ID, CREATED_AT, LAST_UPDATED_AT FROM inserted;
+$$ LANGUAGE sql;
+
+-- An amendment reverses the original amount in the original month and records the new amount in
+-- the target month, which may be the same one. No row is returned when the transaction is gone.
+CREATE FUNCTION revise_expense(
+    p_id BIGINT, p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (last_updated_at TIMESTAMP)
+AS $$
+    WITH updated AS (
+        UPDATE EXPENSES
+        SET NAME = p_name, CATEGORY = p_category, AMOUNT = p_amount, CURRENCY = p_currency,
+            MONTH = p_month, TYPE = p_type
+        WHERE ID = p_id
+        RETURNING LAST_UPDATED_AT
+    ), entries AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_original_month, 'EXPENSE', 'AMENDED', p_id, -p_original_base_amount,
+            p_base_currency
+        FROM updated
+        UNION ALL
+        SELECT p_month, 'EXPENSE', 'AMENDED', p_id, p_base_amount, p_base_currency FROM updated
+    )
+    SELECT LAST_UPDATED_AT FROM updated;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION revise_income(
+    p_id BIGINT, p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (last_updated_at TIMESTAMP)
+AS $$
+    WITH updated AS (
+        UPDATE INCOMES
+        SET NAME = p_name, SOURCE = p_source, AMOUNT = p_amount, CURRENCY = p_currency,
+            MONTH = p_month, TYPE = p_type
+        WHERE ID = p_id
+        RETURNING LAST_UPDATED_AT
+    ), entries AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_original_month, 'INCOME', 'AMENDED', p_id, -p_original_base_amount,
+            p_base_currency
+        FROM updated
+        UNION ALL
+        SELECT p_month, 'INCOME', 'AMENDED', p_id, p_base_amount, p_base_currency FROM updated
+    )
+    SELECT LAST_UPDATED_AT FROM updated;
+$$ LANGUAGE sql;
+
+-- Returns the month the transaction was deleted from, or NULL when it was already gone.
+CREATE FUNCTION forget_expense(p_id BIGINT, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS VARCHAR
+AS $$
+    WITH deleted AS (
+        DELETE FROM EXPENSES WHERE ID = p_id RETURNING ID, MONTH
+    )
+    INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+    SELECT MONTH, 'EXPENSE', 'DELETED', ID, -p_base_amount, p_base_currency FROM deleted
+    RETURNING MONTH;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION forget_income(p_id BIGINT, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS VARCHAR
+AS $$
+    WITH deleted AS (
+        DELETE FROM INCOMES WHERE ID = p_id RETURNING ID, MONTH
+    )
+    INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+    SELECT MONTH, 'INCOME', 'DELETED', ID, -p_base_amount, p_base_currency FROM deleted
+    RETURNING MONTH;
+$$ LANGUAGE sql;
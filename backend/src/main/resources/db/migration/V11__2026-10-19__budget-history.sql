@@ -0,0 +1,25 @@
+-- Every change to a month's budget totals, so a month can be read as it was at any past moment.
+-- Rows are either keyframes, which hold the full totals, or deltas, which hold the change from
+-- the previous row of the month; NUMERIC stores small deltas in a few bytes, and savings is never
+-- stored as it follows from the totals. A keyframe is written every few versions, so a month is
+-- reconstructed from its latest keyframe before the moment plus a bounded number of deltas.
+--
+-- CHANGED_AT is the clock time of the insert rather than the transaction start. Rows of a month
+-- are inserted under its budget's row lock, so it grows with VERSION and one index range over
+-- (MONTH, CHANGED_AT) finds both the keyframe and the deltas after it.
+CREATE TABLE public.BUDGET_HISTORY (
+    MONTH VARCHAR(255) NOT NULL,
+    VERSION INTEGER NOT NULL,
+    KEYFRAME BOOLEAN NOT NULL,
+    INCOME NUMERIC(19, 2) NOT NULL,
+    EXPENSE NUMERIC(19, 2) NOT NULL,
+    CURRENCY VARCHAR(3),
+    CHANGED_AT TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+    PRIMARY KEY (MONTH, VERSION)
+);
+
+CREATE INDEX idx_budget_history_month_changed_at ON public.BUDGET_HISTORY (MONTH, CHANGED_AT);
+
+-- Existing budgets start their history with a keyframe of their current totals.
+INSERT INTO public.BUDGET_HISTORY (MONTH, VERSION, KEYFRAME, INCOME, EXPENSE, CURRENCY)
+SELECT MONTH, 0, TRUE, TOTAL_INCOME, TOTAL_EXPENSE, CURRENCY FROM public.BUDGETS;
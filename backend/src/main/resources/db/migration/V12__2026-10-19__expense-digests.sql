@@ -0,0 +1,13 @@
+-- A t-digest of the base-currency expense amounts of each month and category, so approximate
+-- quantiles over any range of months are answered by merging a few small sketches instead of
+-- sorting the expenses. DIGEST holds the compression, bounds and centroids in the encoding of the
+-- application's TDigest, a few hundred bytes to a few kilobytes per row whatever the number of
+-- expenses. Rows are written by the application; months with expenses but no row are built from
+-- the expenses on startup.
+CREATE TABLE public.EXPENSE_DIGESTS (
+    MONTH VARCHAR(255) NOT NULL,
+    CATEGORY VARCHAR(255) NOT NULL,
+    DIGEST BYTEA NOT NULL,
+    UPDATED_AT TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (MONTH, CATEGORY)
+);
@@ -0,0 +1,117 @@
+-- The base-currency amount each income and expense was recorded in the ledger with. Updates and
+-- deletes reverse exactly this amount instead of converting the original amount again at the
+-- current rates, which would leave the difference between the two conversions in the budget once
+-- the rates changed. Rows written before this column existed have no base amount; they are
+-- reversed at the current rates, as before.
+ALTER TABLE public.INCOMES ADD COLUMN BASE_AMOUNT NUMERIC(19, 2);
+ALTER TABLE public.EXPENSES ADD COLUMN BASE_AMOUNT NUMERIC(19, 2);
+
+-- The write functions store the base amount they record, and a delete reverses the stored one.
+CREATE OR REPLACE FUNCTION record_expense(
+    p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (expense_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO EXPENSES (NAME, CATEGORY, AMOUNT, CURRENCY, MONTH, TYPE, BASE_AMOUNT)
+        VALUES (p_name, p_category, p_amount, p_currency, p_month, p_type, p_base_amount)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), entry AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_month, 'EXPENSE', 'CREATED', ID, p_base_amount, p_base_currency FROM inserted
+    )
+    SELECT ID, CREATED_AT, LAST_UPDATED_AT FROM inserted;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION record_income(
+    p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (income_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO INCOMES (NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE, BASE_AMOUNT)
+        VALUES (p_name, p_source, p_amount, p_currency, p_month, p_type, p_base_amount)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), entry AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_month, 'INCOME', 'CREATED', ID, p_base_amount, p_base_currency FROM inserted
+    )
+    SELECT ID, CREATED_AT, LAST_UPDATED_AT FROM inserted;
+$$ LANGUAGE sql;
+
+-- p_original_base_amount is the base amount stored on the row being amended, which the caller
+-- read with it.
+CREATE OR REPLACE FUNCTION revise_expense(
+    p_id BIGINT, p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (last_updated_at TIMESTAMP)
+AS $$
+    WITH updated AS (
+        UPDATE EXPENSES
+        SET NAME = p_name, CATEGORY = p_category, AMOUNT = p_amount, CURRENCY = p_currency,
+            MONTH = p_month, TYPE = p_type, BASE_AMOUNT = p_base_amount
+        WHERE ID = p_id
+        RETURNING LAST_UPDATED_AT
+    ), entries AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_original_month, 'EXPENSE', 'AMENDED', p_id, -p_original_base_amount,
+            p_base_currency
+        FROM updated
+        UNION ALL
+        SELECT p_month, 'EXPENSE', 'AMENDED', p_id, p_base_amount, p_base_currency FROM updated
+    )
+    SELECT LAST_UPDATED_AT FROM updated;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION revise_income(
+    p_id BIGINT, p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (last_updated_at TIMESTAMP)
+AS $$
+    WITH updated AS (
+        UPDATE INCOMES
+        SET NAME = p_name, SOURCE = p_source, AMOUNT = p_amount, CURRENCY = p_currency,
+            MONTH = p_month, TYPE = p_type, BASE_AMOUNT = p_base_amount
+        WHERE ID = p_id
+        RETURNING LAST_UPDATED_AT
+    ), entries AS (
+        INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+        SELECT p_original_month, 'INCOME', 'AMENDED', p_id, -p_original_base_amount,
+            p_base_currency
+        FROM updated
+        UNION ALL
+        SELECT p_month, 'INCOME', 'AMENDED', p_id, p_base_amount, p_base_currency FROM updated
+    )
+    SELECT LAST_UPDATED_AT FROM updated;
+$$ LANGUAGE sql;
+
+-- p_base_amount only stands in for rows that have no stored base amount.
+CREATE OR REPLACE FUNCTION forget_expense(
+    p_id BIGINT, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS VARCHAR
+AS $$
+    WITH deleted AS (
+        DELETE FROM EXPENSES WHERE ID = p_id RETURNING ID, MONTH, BASE_AMOUNT
+    )
+    INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+    SELECT MONTH, 'EXPENSE', 'DELETED', ID, -COALESCE(BASE_AMOUNT, p_base_amount),
+        p_base_currency
+    FROM deleted
+    RETURNING MONTH;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION forget_income(
+    p_id BIGINT, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS VARCHAR
+AS $$
+    WITH deleted AS (
+        DELETE FROM INCOMES WHERE ID = p_id RETURNING ID, MONTH, BASE_AMOUNT
+    )
+    INSERT INTO LEDGER_ENTRIES (MONTH, KIND, EVENT, TRANSACTION_ID, AMOUNT, CURRENCY)
+    SELECT MONTH, 'INCOME', 'DELETED', ID, -COALESCE(BASE_AMOUNT, p_base_amount),
+        p_base_currency
+    FROM deleted
+    RETURNING MONTH;
+$$ LANGUAGE sql;
@@ -0,0 +1,4 @@
+-- The SHA-256 hash of the request each Idempotency-Key was first used with, so a retry carrying a
+-- different request under the same key is refused instead of being answered with the resource of
+-- the first one. Keys claimed before this column existed have no hash and are not checked.
+ALTER TABLE public.IDEMPOTENCY_KEYS ADD COLUMN REQUEST_HASH VARCHAR(64);
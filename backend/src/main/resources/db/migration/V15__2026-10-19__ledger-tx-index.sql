@@ -0,0 +1,3 @@
+-- The sweep looks for months without a budget only among the entries appended since its previous
+-- run, which this index finds without reading the rest of the ledger.
+CREATE INDEX idx_ledger_entries_tx ON public.LEDGER_ENTRIES (TX_ID);
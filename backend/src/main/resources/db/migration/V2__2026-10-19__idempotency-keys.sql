@@ -0,0 +1,12 @@
+-- Create Idempotency Key Table
+-- Stores the id of the resource created for each client supplied Idempotency-Key so that retried
+-- create requests can be answered without re-running them. Rows are purged once they exceed the
+-- configured TTL.
+CREATE TABLE public.IDEMPOTENCY_KEYS (
+    IDEMPOTENCY_KEY VARCHAR(255) NOT NULL,
+    RESOURCE_TYPE VARCHAR(32) NOT NULL,
+    RESOURCE_ID BIGINT,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (IDEMPOTENCY_KEY, RESOURCE_TYPE)
+);
+CREATE INDEX idx_idempotency_key_created_at ON public.IDEMPOTENCY_KEYS (CREATED_AT);
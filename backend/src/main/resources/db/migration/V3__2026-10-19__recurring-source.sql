@@ -0,0 +1,16 @@
+-- Link materialized recurring transactions to the row they were cloned from.
+-- The unique constraint guarantees that a row is cloned into the next month at most once, which
+-- makes the month rollover job idempotent: re-running it skips rows that were already copied.
+ALTER TABLE public.INCOMES
+    ADD COLUMN RECURRING_SOURCE_ID BIGINT
+        REFERENCES public.INCOMES (ID) ON DELETE SET NULL,
+    ADD CONSTRAINT uq_income_recurring_source_id UNIQUE (RECURRING_SOURCE_ID);
+
+ALTER TABLE public.EXPENSES
+    ADD COLUMN RECURRING_SOURCE_ID BIGINT
+        REFERENCES public.EXPENSES (ID) ON DELETE SET NULL,
+    ADD CONSTRAINT uq_expense_recurring_source_id UNIQUE (RECURRING_SOURCE_ID);
+
+-- Supports the keyset scan over a month's recurring rows.
+CREATE INDEX idx_income_month_type_id ON public.INCOMES (MONTH, TYPE, ID);
+CREATE INDEX idx_expense_month_type_id ON public.EXPENSES (MONTH, TYPE, ID);
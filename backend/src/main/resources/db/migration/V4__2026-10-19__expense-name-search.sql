@@ -0,0 +1,5 @@
+-- Trigram index behind the expense name search. Names are stored upper-cased, so the search
+-- upper-cases its query and a plain LIKE '%term%' stays case-insensitive while using the index.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_expense_name_trgm ON public.EXPENSES USING GIN (NAME gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Composite indexes behind the expense filter endpoint. A month range leads the first index, with
+-- category and amount narrowing the scan; category filters without a month range use the second.
+CREATE INDEX idx_expense_month_category_amount ON public.EXPENSES (MONTH, CATEGORY, AMOUNT);
+CREATE INDEX idx_expense_category_month ON public.EXPENSES (CATEGORY, MONTH);
@@ -0,0 +1,18 @@
+-- Replace identity columns with sequences that hand out blocks of 50 ids (pooled-lo), so Hibernate
+-- can assign ids without a round-trip per insert and batch the inserts. Each sequence continues
+-- after the highest existing id. Native inserts that rely on the column default still work; each
+-- row simply takes a whole block.
+ALTER TABLE public.BUDGETS ALTER COLUMN ID DROP IDENTITY;
+CREATE SEQUENCE public.BUDGETS_SEQ INCREMENT BY 50 OWNED BY public.BUDGETS.ID;
+SELECT setval('public.BUDGETS_SEQ', COALESCE(MAX(ID), 0) + 1, false) FROM public.BUDGETS;
+ALTER TABLE public.BUDGETS ALTER COLUMN ID SET DEFAULT nextval('public.BUDGETS_SEQ');
+
+ALTER TABLE public.INCOMES ALTER COLUMN ID DROP IDENTITY;
+CREATE SEQUENCE public.INCOMES_SEQ INCREMENT BY 50 OWNED BY public.INCOMES.ID;
+SELECT setval('public.INCOMES_SEQ', COALESCE(MAX(ID), 0) + 1, false) FROM public.INCOMES;
+ALTER TABLE public.INCOMES ALTER COLUMN ID SET DEFAULT nextval('public.INCOMES_SEQ');
+
+ALTER TABLE public.EXPENSES ALTER COLUMN ID DROP IDENTITY;
+CREATE SEQUENCE public.EXPENSES_SEQ INCREMENT BY 50 OWNED BY public.EXPENSES.ID;
+SELECT setval('public.EXPENSES_SEQ', COALESCE(MAX(ID), 0) + 1, false) FROM public.EXPENSES;
+ALTER TABLE public.EXPENSES ALTER COLUMN ID SET DEFAULT nextval('public.EXPENSES_SEQ');
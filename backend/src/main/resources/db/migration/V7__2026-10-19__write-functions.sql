@@ -0,0 +1,149 @@
+-- Single round-trip writes for incomes and expenses. Each function changes the transaction row and
+-- its month's budget together; amounts in the base currency are converted by the caller. When the
+-- budget of the original month does not exist, revise returns no row and forget returns NULL, and
+-- the caller rolls the transaction back.
+
+CREATE FUNCTION record_expense(
+    p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (expense_id BIGINT, budget_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO EXPENSES (NAME, CATEGORY, AMOUNT, CURRENCY, MONTH, TYPE)
+        VALUES (p_name, p_category, p_amount, p_currency, p_month, p_type)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), budget AS (
+        INSERT INTO BUDGETS AS b (MONTH, TOTAL_EXPENSE, SAVINGS, CURRENCY)
+        VALUES (p_month, p_base_amount, -p_base_amount, p_base_currency)
+        ON CONFLICT (MONTH) DO UPDATE SET
+            TOTAL_EXPENSE = b.TOTAL_EXPENSE + EXCLUDED.TOTAL_EXPENSE,
+            SAVINGS = b.SAVINGS + EXCLUDED.SAVINGS
+        RETURNING b.ID
+    )
+    SELECT inserted.ID, budget.ID, inserted.CREATED_AT, inserted.LAST_UPDATED_AT
+    FROM inserted, budget;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION record_income(
+    p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR, p_month VARCHAR,
+    p_type VARCHAR, p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (income_id BIGINT, budget_id BIGINT, created_at TIMESTAMP, last_updated_at TIMESTAMP)
+AS $$
+    WITH inserted AS (
+        INSERT INTO INCOMES (NAME, SOURCE, AMOUNT, CURRENCY, MONTH, TYPE)
+        VALUES (p_name, p_source, p_amount, p_currency, p_month, p_type)
+        RETURNING ID, CREATED_AT, LAST_UPDATED_AT
+    ), budget AS (
+        INSERT INTO BUDGETS AS b (MONTH, TOTAL_INCOME, SAVINGS, CURRENCY)
+        VALUES (p_month, p_base_amount, p_base_amount, p_base_currency)
+        ON CONFLICT (MONTH) DO UPDATE SET
+            TOTAL_INCOME = b.TOTAL_INCOME + EXCLUDED.TOTAL_INCOME,
+            SAVINGS = b.SAVINGS + EXCLUDED.SAVINGS
+        RETURNING b.ID
+    )
+    SELECT inserted.ID, budget.ID, inserted.CREATED_AT, inserted.LAST_UPDATED_AT
+    FROM inserted, budget;
+$$ LANGUAGE sql;
+
+-- Both budgets are locked in month order first, like BudgetLockService does, so that concurrent
+-- moves in opposite directions cannot deadlock. Within one month both steps hit the same row,
+-- which is why these are procedural rather than a single writable CTE.
+CREATE FUNCTION revise_expense(
+    p_id BIGINT, p_name VARCHAR, p_category VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (original_budget_id BIGINT, budget_id BIGINT, last_updated_at TIMESTAMP)
+AS $$
+BEGIN
+    PERFORM 1 FROM BUDGETS
+    WHERE MONTH IN (p_original_month, p_month)
+    ORDER BY MONTH
+    FOR UPDATE;
+
+    UPDATE BUDGETS
+    SET TOTAL_EXPENSE = TOTAL_EXPENSE - p_original_base_amount,
+        SAVINGS = SAVINGS + p_original_base_amount
+    WHERE MONTH = p_original_month
+    RETURNING ID INTO original_budget_id;
+    IF original_budget_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO BUDGETS AS b (MONTH, TOTAL_EXPENSE, SAVINGS, CURRENCY)
+    VALUES (p_month, p_base_amount, -p_base_amount, p_base_currency)
+    ON CONFLICT (MONTH) DO UPDATE SET
+        TOTAL_EXPENSE = b.TOTAL_EXPENSE + EXCLUDED.TOTAL_EXPENSE,
+        SAVINGS = b.SAVINGS + EXCLUDED.SAVINGS
+    RETURNING b.ID INTO budget_id;
+
+    UPDATE EXPENSES e
+    SET NAME = p_name, CATEGORY = p_category, AMOUNT = p_amount, CURRENCY = p_currency,
+        MONTH = p_month, TYPE = p_type
+    WHERE e.ID = p_id
+    RETURNING e.LAST_UPDATED_AT INTO last_updated_at;
+    RETURN NEXT;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION revise_income(
+    p_id BIGINT, p_name VARCHAR, p_source VARCHAR, p_amount NUMERIC, p_currency VARCHAR,
+    p_month VARCHAR, p_type VARCHAR, p_original_month VARCHAR, p_original_base_amount NUMERIC,
+    p_base_amount NUMERIC, p_base_currency VARCHAR)
+RETURNS TABLE (original_budget_id BIGINT, budget_id BIGINT, last_updated_at TIMESTAMP)
+AS $$
+BEGIN
+    PERFORM 1 FROM BUDGETS
+    WHERE MONTH IN (p_original_month, p_month)
+    ORDER BY MONTH
+    FOR UPDATE;
+
+    UPDATE BUDGETS
+    SET TOTAL_INCOME = TOTAL_INCOME - p_original_base_amount,
+        SAVINGS = SAVINGS - p_original_base_amount
+    WHERE MONTH = p_original_month
+    RETURNING ID INTO original_budget_id;
+    IF original_budget_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO BUDGETS AS b (MONTH, TOTAL_INCOME, SAVINGS, CURRENCY)
+    VALUES (p_month, p_base_amount, p_base_amount, p_base_currency)
+    ON CONFLICT (MONTH) DO UPDATE SET
+        TOTAL_INCOME = b.TOTAL_INCOME + EXCLUDED.TOTAL_INCOME,
+        SAVINGS = b.SAVINGS + EXCLUDED.SAVINGS
+    RETURNING b.ID INTO budget_id;
+
+    UPDATE INCOMES i
+    SET NAME = p_name, SOURCE = p_source, AMOUNT = p_amount, CURRENCY = p_currency,
+        MONTH = p_month, TYPE = p_type
+    WHERE i.ID = p_id
+    RETURNING i.LAST_UPDATED_AT INTO last_updated_at;
+    RETURN NEXT;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION forget_expense(p_id BIGINT, p_base_amount NUMERIC)
+RETURNS BIGINT
+AS $$
+    WITH deleted AS (
+        DELETE FROM EXPENSES WHERE ID = p_id RETURNING MONTH
+    )
+    UPDATE BUDGETS b
+    SET TOTAL_EXPENSE = b.TOTAL_EXPENSE - p_base_amount, SAVINGS = b.SAVINGS + p_base_amount
+    FROM deleted
+    WHERE b.MONTH = deleted.MONTH
+    RETURNING b.ID;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION forget_income(p_id BIGINT, p_base_amount NUMERIC)
+RETURNS BIGINT
+AS $$
+    WITH deleted AS (
+        DELETE FROM INCOMES WHERE ID = p_id RETURNING MONTH
+    )
+    UPDATE BUDGETS b
+    SET TOTAL_INCOME = b.TOTAL_INCOME - p_base_amount, SAVINGS = b.SAVINGS - p_base_amount
+    FROM deleted
+    WHERE b.MONTH = deleted.MONTH
+    RETURNING b.ID;
+$$ LANGUAGE sql;
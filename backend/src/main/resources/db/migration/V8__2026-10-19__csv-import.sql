@@ -0,0 +1,39 @@
+-- Staging for bulk CSV imports. COPY streams the file into these tables as raw text, so a badly
+-- typed value never aborts the load; validation and normalization then run as set-based SQL and
+-- valid rows are merged into INCOMES / EXPENSES. The tables are UNLOGGED: rows only live for the
+-- duration of one import transaction, so skipping the WAL costs nothing on a crash.
+-- IMPORT_ID defaults to a transaction-local setting, because COPY cannot bind a value per call.
+CREATE UNLOGGED TABLE public.IMPORT_STAGING_EXPENSES (
+    STAGING_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    IMPORT_ID UUID NOT NULL DEFAULT CAST(current_setting('budgetmaster.import_id') AS UUID),
+    NAME TEXT,
+    CATEGORY TEXT,
+    AMOUNT TEXT,
+    CURRENCY TEXT,
+    MONTH TEXT,
+    TYPE TEXT
+);
+CREATE INDEX idx_import_staging_expense_import_id
+    ON public.IMPORT_STAGING_EXPENSES (IMPORT_ID, STAGING_ID);
+
+CREATE UNLOGGED TABLE public.IMPORT_STAGING_INCOMES (
+    STAGING_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    IMPORT_ID UUID NOT NULL DEFAULT CAST(current_setting('budgetmaster.import_id') AS UUID),
+    NAME TEXT,
+    SOURCE TEXT,
+    AMOUNT TEXT,
+    CURRENCY TEXT,
+    MONTH TEXT,
+    TYPE TEXT
+);
+CREATE INDEX idx_import_staging_income_import_id
+    ON public.IMPORT_STAGING_INCOMES (IMPORT_ID, STAGING_ID);
+
+-- Records that failed validation, by their 1-based position in the file (header excluded).
+CREATE TABLE public.IMPORT_REJECTS (
+    IMPORT_ID UUID NOT NULL,
+    RECORD_NUMBER BIGINT NOT NULL,
+    REASON VARCHAR(255) NOT NULL,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (IMPORT_ID, RECORD_NUMBER)
+);
@@ -0,0 +1,15 @@
+-- Rules that assign a category to expenses created without one. KEYWORD rules match literal text
+-- (stored upper-cased, like expense names), PATTERN rules a regular expression. Rules are few and
+-- always read all at once, so the table needs no index beyond its keys.
+CREATE SEQUENCE public.CATEGORY_RULES_SEQ INCREMENT BY 50;
+
+CREATE TABLE public.CATEGORY_RULES (
+    ID BIGINT PRIMARY KEY DEFAULT nextval('public.CATEGORY_RULES_SEQ'),
+    TYPE VARCHAR(255) NOT NULL,
+    PATTERN VARCHAR(255) NOT NULL,
+    CATEGORY VARCHAR(255) NOT NULL,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT NOW(),
+    UNIQUE (TYPE, PATTERN)
+);
+
+ALTER SEQUENCE public.CATEGORY_RULES_SEQ OWNED BY public.CATEGORY_RULES.ID;
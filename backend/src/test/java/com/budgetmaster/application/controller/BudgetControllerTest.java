@@ -3,6 +3,9 @@ package com.budgetmaster.application.controller;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
+import java.time.YearMonth;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,7 +16,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
 import com.budgetmaster.application.exception.BudgetNotFoundException;
 import com.budgetmaster.application.exception.codes.ErrorCode;
 import com.budgetmaster.application.model.Budget;
@@ -23,7 +31,10 @@ import com.budgetmaster.testsupport.assertions.controller.BudgetControllerAssert
 import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
 import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.AnalyticsConstants;
 import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.ForecastConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
 
 @WebMvcTest(BudgetController.class)
 @Import(JacksonConfig.class)
@@ -107,6 +118,227 @@ class BudgetControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("GET /budget/forecast Operations")
+  class GetForecastOperations {
+
+    @Test
+    @DisplayName("Should return one projection per requested month")
+    void getForecast_withValidMonths_returnsOk() throws Exception {
+      BudgetForecastResponse projection =
+          BudgetForecastResponse.of(
+              ForecastConstants.Default.FROM,
+              ForecastConstants.Default.INCOME,
+              ForecastConstants.Default.EXPENSE);
+      when(budgetService.getForecast(ForecastConstants.Default.MONTHS))
+          .thenReturn(List.of(projection, projection, projection));
+
+      ResultActions validForecastRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.BUDGET_FORECAST)
+                  .param(
+                      PathConstants.RequestParams.MONTHS,
+                      String.valueOf(ForecastConstants.Default.MONTHS)));
+
+      BudgetControllerAssertions.assertThat(validForecastRequest)
+          .isOk()
+          .hasForecastMonths(ForecastConstants.Default.MONTHS);
+
+      verify(budgetService).getForecast(ForecastConstants.Default.MONTHS);
+    }
+
+    @Test
+    @DisplayName("Should return bad request when months is out of range")
+    void getForecast_withMonthsOutOfRange_returnsBadRequest() throws Exception {
+      ResultActions invalidForecastRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.BUDGET_FORECAST)
+                  .param(
+                      PathConstants.RequestParams.MONTHS,
+                      String.valueOf(ForecastConstants.Invalid.MONTHS)));
+
+      BudgetControllerAssertions.assertThat(invalidForecastRequest).isBadRequest();
+
+      verify(budgetService, never()).getForecast(anyInt());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /budget as of Operations")
+  class GetBudgetAsOfOperations {
+
+    @Test
+    @DisplayName("Should return the month's totals as of the given moment")
+    void getBudgetAsOf_withValidMonth_returnsOk() throws Exception {
+      when(budgetService.getBudgetByMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH_STRING, LedgerConstants.History.AS_OF))
+          .thenReturn(
+              BudgetHistoryResponse.of(
+                  BudgetConstants.Default.YEAR_MONTH,
+                  LedgerConstants.History.AS_OF,
+                  LedgerConstants.History.CHANGED_AT,
+                  BudgetConstants.Default.TOTAL_INCOME,
+                  BudgetConstants.Default.TOTAL_EXPENSE,
+                  BudgetConstants.Default.CURRENCY));
+
+      ResultActions asOfRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.BUDGET)
+                  .param(
+                      PathConstants.RequestParams.MONTH, BudgetConstants.Default.YEAR_MONTH_STRING)
+                  .param(
+                      PathConstants.RequestParams.AS_OF,
+                      LedgerConstants.History.AS_OF.toString()));
+
+      BudgetControllerAssertions.assertThat(asOfRequest)
+          .isOk()
+          .hasTotalIncome(BudgetConstants.Default.TOTAL_INCOME)
+          .hasTotalExpense(BudgetConstants.Default.TOTAL_EXPENSE)
+          .hasSavings(BudgetConstants.Default.SAVINGS);
+
+      verify(budgetService, never()).getBudgetByMonth(any());
+    }
+
+    @Test
+    @DisplayName("Should return not found when the month has no history before the moment")
+    void getBudgetAsOf_withoutHistory_returnsNotFound() throws Exception {
+      when(budgetService.getBudgetByMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH_STRING, LedgerConstants.History.AS_OF))
+          .thenThrow(
+              new BudgetNotFoundException(
+                  String.format(
+                      ErrorConstants.Budget.NOT_FOUND_FOR_MONTH_AS_OF,
+                      BudgetConstants.Default.YEAR_MONTH,
+                      LedgerConstants.History.AS_OF)));
+
+      ResultActions asOfRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.BUDGET)
+                  .param(
+                      PathConstants.RequestParams.MONTH, BudgetConstants.Default.YEAR_MONTH_STRING)
+                  .param(
+                      PathConstants.RequestParams.AS_OF,
+                      LedgerConstants.History.AS_OF.toString()));
+
+      BudgetControllerAssertions.assertThat(asOfRequest)
+          .isNotFoundForMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH, LedgerConstants.History.AS_OF);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /budget/totals Operations")
+  class GetTotalsOperations {
+
+    @Test
+    @DisplayName("Should return the totals summed over the range")
+    void getTotals_withValidRange_returnsOk() throws Exception {
+      when(budgetService.getTotals(any(MonthRangeRequest.class)))
+          .thenReturn(
+              BudgetTotalsResponse.of(
+                  YearMonth.parse(AnalyticsConstants.Default.FROM_MONTH),
+                  YearMonth.parse(AnalyticsConstants.Default.TO_MONTH),
+                  BudgetConstants.Default.TOTAL_INCOME,
+                  BudgetConstants.Default.TOTAL_EXPENSE));
+
+      ResultActions totalsRequest = mockMvc.perform(inRange(PathConstants.Endpoints.BUDGET_TOTALS));
+
+      BudgetControllerAssertions.assertThat(totalsRequest)
+          .isOk()
+          .hasTotalIncome(BudgetConstants.Default.TOTAL_INCOME)
+          .hasTotalExpense(BudgetConstants.Default.TOTAL_EXPENSE)
+          .hasSavings(BudgetConstants.Default.SAVINGS);
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the range is inverted")
+    void getTotals_withInvertedRange_returnsBadRequest() throws Exception {
+      ResultActions invertedRangeRequest =
+          mockMvc.perform(
+              inRange(
+                  PathConstants.Endpoints.BUDGET_TOTALS,
+                  AnalyticsConstants.Default.TO_MONTH,
+                  AnalyticsConstants.Default.FROM_MONTH));
+
+      BudgetControllerAssertions.assertThat(invertedRangeRequest).isBadRequest();
+
+      verify(budgetService, never()).getTotals(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /budget/cumulative Operations")
+  class GetCumulativeTotalsOperations {
+
+    @Test
+    @DisplayName("Should return one cumulative balance per month")
+    void getCumulativeTotals_withValidRange_returnsOk() throws Exception {
+      YearMonth fromMonth = YearMonth.parse(AnalyticsConstants.Default.FROM_MONTH);
+      when(budgetService.getCumulativeTotals(any(MonthRangeRequest.class)))
+          .thenReturn(
+              List.of(
+                  BudgetTotalsResponse.of(
+                      fromMonth,
+                      fromMonth,
+                      BudgetConstants.Default.TOTAL_INCOME,
+                      BudgetConstants.Default.TOTAL_EXPENSE)));
+
+      ResultActions cumulativeRequest =
+          mockMvc.perform(inRange(PathConstants.Endpoints.BUDGET_CUMULATIVE));
+
+      BudgetControllerAssertions.assertThat(cumulativeRequest).isOk().hasCumulativeMonths(1);
+    }
+
+    @Test
+    @DisplayName("Should return bad request when a month is missing")
+    void getCumulativeTotals_withoutToMonth_returnsBadRequest() throws Exception {
+      ResultActions missingMonthRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.BUDGET_CUMULATIVE)
+                  .param(
+                      PathConstants.RequestParams.FROM_MONTH,
+                      AnalyticsConstants.Default.FROM_MONTH));
+
+      BudgetControllerAssertions.assertThat(missingMonthRequest).isBadRequest();
+
+      verify(budgetService, never()).getCumulativeTotals(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("POST /budget/rebuild Operations")
+  class RebuildBudgetOperations {
+
+    @Test
+    @DisplayName("Should rebuild from snapshots by default and return the months")
+    void rebuildBudgets_withoutParameter_rebuildsFromSnapshots() throws Exception {
+      when(budgetService.rebuildBudgets(true)).thenReturn(LedgerConstants.Default.MONTHS);
+
+      ResultActions rebuildRequest = mockMvc.perform(post(PathConstants.Endpoints.BUDGET_REBUILD));
+
+      BudgetControllerAssertions.assertThat(rebuildRequest)
+          .isOk()
+          .hasRebuiltMonths(LedgerConstants.Default.MONTHS.size());
+
+      verify(budgetService).rebuildBudgets(true);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the first ledger entry when snapshots are skipped")
+    void rebuildBudgets_withoutSnapshots_rebuildsFromLedger() throws Exception {
+      when(budgetService.rebuildBudgets(false)).thenReturn(LedgerConstants.Default.MONTHS);
+
+      ResultActions rebuildRequest =
+          mockMvc.perform(
+              post(PathConstants.Endpoints.BUDGET_REBUILD)
+                  .param(PathConstants.RequestParams.FROM_SNAPSHOTS, String.valueOf(false)));
+
+      BudgetControllerAssertions.assertThat(rebuildRequest).isOk();
+
+      verify(budgetService).rebuildBudgets(false);
+    }
+  }
+
   @Nested
   @DisplayName("DELETE /budget/{id} Operations")
   class DeleteBudgetOperations {
@@ -145,4 +377,15 @@ class BudgetControllerTest {
       verify(budgetService).deleteBudget(BudgetConstants.NonExistent.ID);
     }
   }
+
+  private MockHttpServletRequestBuilder inRange(String endpoint) {
+    return inRange(
+        endpoint, AnalyticsConstants.Default.FROM_MONTH, AnalyticsConstants.Default.TO_MONTH);
+  }
+
+  private MockHttpServletRequestBuilder inRange(String endpoint, String fromMonth, String toMonth) {
+    return get(endpoint)
+        .param(PathConstants.RequestParams.FROM_MONTH, fromMonth)
+        .param(PathConstants.RequestParams.TO_MONTH, toMonth);
+  }
 }
@@ -0,0 +1,153 @@
+package com.budgetmaster.application.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.budgetmaster.application.dto.CategoryRuleRequest;
+import com.budgetmaster.application.exception.CategoryRuleNotFoundException;
+import com.budgetmaster.application.exception.InvalidCategoryRuleException;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.application.service.categorization.CategoryRuleService;
+import com.budgetmaster.config.JacksonConfig;
+import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.CategoryRuleConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(CategoryRuleController.class)
+@Import(JacksonConfig.class)
+@DisplayName("Category Rule Controller Tests")
+class CategoryRuleControllerTest {
+
+  private static final String FIRST_RULE =
+      String.format(PathConstants.JsonProperties.SINGLE_OBJECT, 0);
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  private CategoryRuleService categoryRuleService;
+
+  private final CategoryRule rule =
+      CategoryRule.of(
+          CategoryRuleConstants.Default.TYPE,
+          CategoryRuleConstants.Default.NORMALIZED_PATTERN,
+          CategoryRuleConstants.Default.CATEGORY);
+
+  @Nested
+  @DisplayName("POST /category-rules Operations")
+  class CreateOperations {
+
+    @Test
+    @DisplayName("Should create a rule when the request is valid")
+    void createRule_withValidRequest_returnsOk() throws Exception {
+      when(categoryRuleService.createRule(any(CategoryRuleRequest.class))).thenReturn(rule);
+
+      mockMvc
+          .perform(
+              post(PathConstants.Endpoints.CATEGORY_RULE)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(validRequest())))
+          .andExpect(status().isOk())
+          .andExpect(
+              jsonPath(PathConstants.JsonProperties.BASE + PathConstants.JsonProperties.PATTERN)
+                  .value(CategoryRuleConstants.Default.NORMALIZED_PATTERN));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the pattern is missing")
+    void createRule_withoutPattern_returnsBadRequest() throws Exception {
+      CategoryRuleRequest request = validRequest();
+      request.setPattern(null);
+
+      mockMvc
+          .perform(
+              post(PathConstants.Endpoints.CATEGORY_RULE)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(categoryRuleService);
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the pattern does not compile")
+    void createRule_withInvalidPattern_returnsBadRequest() throws Exception {
+      when(categoryRuleService.createRule(any(CategoryRuleRequest.class)))
+          .thenThrow(
+              new InvalidCategoryRuleException(CategoryRuleConstants.Errors.INVALID_PATTERN));
+
+      mockMvc
+          .perform(
+              post(PathConstants.Endpoints.CATEGORY_RULE)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(validRequest())))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET and DELETE /category-rules Operations")
+  class ReadAndDeleteOperations {
+
+    @Test
+    @DisplayName("Should list all rules")
+    void getAllRules_returnsOk() throws Exception {
+      when(categoryRuleService.getAllRules()).thenReturn(List.of(rule));
+
+      mockMvc
+          .perform(get(PathConstants.Endpoints.CATEGORY_RULE))
+          .andExpect(status().isOk())
+          .andExpect(
+              jsonPath(FIRST_RULE + PathConstants.JsonProperties.CATEGORY)
+                  .value(CategoryRuleConstants.Default.CATEGORY.name()));
+    }
+
+    @Test
+    @DisplayName("Should return no content when a rule is deleted")
+    void deleteRule_withExistingId_returnsNoContent() throws Exception {
+      mockMvc
+          .perform(
+              delete(
+                  PathConstants.Endpoints.CATEGORY_RULE_WITH_ID, CategoryRuleConstants.Default.ID))
+          .andExpect(status().isNoContent());
+
+      verify(categoryRuleService).deleteRule(CategoryRuleConstants.Default.ID);
+    }
+
+    @Test
+    @DisplayName("Should return not found when the rule does not exist")
+    void deleteRule_withNonExistentId_returnsNotFound() throws Exception {
+      doThrow(new CategoryRuleNotFoundException(CategoryRuleConstants.Errors.NOT_FOUND))
+          .when(categoryRuleService)
+          .deleteRule(CategoryRuleConstants.Default.ID);
+
+      mockMvc
+          .perform(
+              delete(
+                  PathConstants.Endpoints.CATEGORY_RULE_WITH_ID, CategoryRuleConstants.Default.ID))
+          .andExpect(status().isNotFound());
+    }
+  }
+
+  private CategoryRuleRequest validRequest() {
+    CategoryRuleRequest request = new CategoryRuleRequest();
+    request.setType(CategoryRuleConstants.Default.TYPE);
+    request.setPattern(CategoryRuleConstants.Default.PATTERN);
+    request.setCategory(CategoryRuleConstants.Default.CATEGORY);
+    return request;
+  }
+}
@@ -0,0 +1,195 @@
+package com.budgetmaster.application.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.budgetmaster.application.dto.CategoryPercentilesResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.dto.TopExpenseResponse;
+import com.budgetmaster.application.service.analytics.ExpenseAnalyticsService;
+import com.budgetmaster.config.JacksonConfig;
+import com.budgetmaster.testsupport.assertions.controller.ExpenseControllerAssertions;
+import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.AnalyticsConstants;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+
+@WebMvcTest(ExpenseAnalyticsController.class)
+@Import(JacksonConfig.class)
+@DisplayName("Expense Analytics Controller Tests")
+class ExpenseAnalyticsControllerTest {
+
+  private static final String FIRST = String.format(PathConstants.JsonProperties.SINGLE_OBJECT, 0);
+
+  @Autowired private MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  private ExpenseAnalyticsService expenseAnalyticsService;
+
+  @Nested
+  @DisplayName("GET /expenses/analytics/top Operations")
+  class TopExpensesOperations {
+
+    @Test
+    @DisplayName("Should return the top expenses when the range is valid")
+    void getTopExpenses_withValidRange_returnsOk() throws Exception {
+      when(expenseAnalyticsService.getTopExpenses(
+              any(MonthRangeRequest.class), eq(AnalyticsConstants.Default.LIMIT)))
+          .thenReturn(List.of(TopExpenseResponse.from(AnalyticsConstants.defaultRankedRow())));
+
+      ResultActions validTopRequest =
+          mockMvc.perform(inRange(PathConstants.Endpoints.EXPENSE_TOP));
+
+      ExpenseControllerAssertions.assertThat(validTopRequest).isOk();
+      validTopRequest
+          .andExpect(jsonPath(FIRST + PathConstants.JsonProperties.RANK).value(1))
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.NAME)
+                  .value(ExpenseConstants.Default.NAME));
+
+      verify(expenseAnalyticsService)
+          .getTopExpenses(
+              argThat(
+                  (MonthRangeRequest range) ->
+                      AnalyticsConstants.Default.FROM_MONTH.equals(range.getFromMonth())
+                          && AnalyticsConstants.Default.TO_MONTH.equals(range.getToMonth())),
+              eq(AnalyticsConstants.Default.LIMIT));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the limit is too large")
+    void getTopExpenses_withLimitTooLarge_returnsBadRequest() throws Exception {
+      ResultActions largeLimitRequest =
+          mockMvc.perform(
+              inRange(PathConstants.Endpoints.EXPENSE_TOP)
+                  .param(PathConstants.RequestParams.LIMIT, AnalyticsConstants.Invalid.LIMIT));
+
+      ExpenseControllerAssertions.assertThat(largeLimitRequest).isBadRequest();
+
+      verify(expenseAnalyticsService, never()).getTopExpenses(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the range is inverted")
+    void getTopExpenses_withInvertedRange_returnsBadRequest() throws Exception {
+      ResultActions invertedRangeRequest =
+          mockMvc.perform(
+              inRange(
+                  PathConstants.Endpoints.EXPENSE_TOP,
+                  AnalyticsConstants.Default.TO_MONTH,
+                  AnalyticsConstants.Default.FROM_MONTH));
+
+      ExpenseControllerAssertions.assertThat(invertedRangeRequest).isBadRequest();
+
+      verify(expenseAnalyticsService, never()).getTopExpenses(any(), anyInt());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /expenses/analytics/percentiles Operations")
+  class PercentilesOperations {
+
+    @Test
+    @DisplayName("Should return per-category percentiles when the range is valid")
+    void getPercentiles_withValidRange_returnsOk() throws Exception {
+      when(expenseAnalyticsService.getPercentiles(any(MonthRangeRequest.class)))
+          .thenReturn(
+              List.of(
+                  CategoryPercentilesResponse.from(AnalyticsConstants.defaultPercentilesRow())));
+
+      ResultActions validPercentilesRequest =
+          mockMvc.perform(inRange(PathConstants.Endpoints.EXPENSE_PERCENTILES));
+
+      ExpenseControllerAssertions.assertThat(validPercentilesRequest).isOk();
+      validPercentilesRequest
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.MEDIAN)
+                  .value(AnalyticsConstants.Amounts.MEDIAN.doubleValue()))
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.P90)
+                  .value(AnalyticsConstants.Amounts.P90.doubleValue()));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when a month is missing")
+    void getPercentiles_withoutToMonth_returnsBadRequest() throws Exception {
+      ResultActions missingMonthRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_PERCENTILES)
+                  .param(
+                      PathConstants.RequestParams.FROM_MONTH,
+                      AnalyticsConstants.Default.FROM_MONTH));
+
+      ExpenseControllerAssertions.assertThat(missingMonthRequest).isBadRequest();
+
+      verify(expenseAnalyticsService, never()).getPercentiles(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /expenses/analytics/quantiles Operations")
+  class QuantilesOperations {
+
+    @Test
+    @DisplayName("Should return per-category quantiles when the range is valid")
+    void getQuantiles_withValidRange_returnsOk() throws Exception {
+      when(expenseAnalyticsService.getQuantiles(any(MonthRangeRequest.class)))
+          .thenReturn(List.of(AnalyticsConstants.defaultQuantiles()));
+
+      ResultActions validQuantilesRequest =
+          mockMvc.perform(inRange(PathConstants.Endpoints.EXPENSE_QUANTILES));
+
+      ExpenseControllerAssertions.assertThat(validQuantilesRequest).isOk();
+      validQuantilesRequest
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.P50)
+                  .value(AnalyticsConstants.Amounts.MEDIAN.doubleValue()))
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.P90)
+                  .value(AnalyticsConstants.Amounts.P90.doubleValue()))
+          .andExpect(
+              jsonPath(FIRST + PathConstants.JsonProperties.P99)
+                  .value(AnalyticsConstants.Amounts.P99.doubleValue()));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the range is inverted")
+    void getQuantiles_withInvertedRange_returnsBadRequest() throws Exception {
+      ResultActions invertedRangeRequest =
+          mockMvc.perform(
+              inRange(
+                  PathConstants.Endpoints.EXPENSE_QUANTILES,
+                  AnalyticsConstants.Default.TO_MONTH,
+                  AnalyticsConstants.Default.FROM_MONTH));
+
+      ExpenseControllerAssertions.assertThat(invertedRangeRequest).isBadRequest();
+
+      verify(expenseAnalyticsService, never()).getQuantiles(any());
+    }
+  }
+
+  private MockHttpServletRequestBuilder inRange(String endpoint) {
+    return inRange(
+        endpoint, AnalyticsConstants.Default.FROM_MONTH, AnalyticsConstants.Default.TO_MONTH);
+  }
+
+  private MockHttpServletRequestBuilder inRange(String endpoint, String fromMonth, String toMonth) {
+    return get(endpoint)
+        .param(PathConstants.RequestParams.FROM_MONTH, fromMonth)
+        .param(PathConstants.RequestParams.TO_MONTH, toMonth);
+  }
+}
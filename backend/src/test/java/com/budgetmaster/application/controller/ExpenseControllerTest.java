@@ -14,14 +14,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
 import com.budgetmaster.application.dto.ExpenseRequest;
 import com.budgetmaster.application.exception.ExpenseNotFoundException;
 import com.budgetmaster.application.exception.codes.ErrorCode;
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.application.service.ExpenseService;
 import com.budgetmaster.config.JacksonConfig;
 import com.budgetmaster.testsupport.assertions.controller.ExpenseControllerAssertions;
@@ -30,7 +34,10 @@ import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
 import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
 import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.FilterConstants;
+import com.budgetmaster.testsupport.constants.domain.SearchConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(ExpenseController.class)
@@ -42,6 +49,8 @@ class ExpenseControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
+  @Autowired private MappingJackson2CborHttpMessageConverter cborConverter;
+
   @SuppressWarnings("removal")
   @MockBean
   private ExpenseService expenseService;
@@ -66,7 +75,8 @@ class ExpenseControllerTest {
     @Test
     @DisplayName("Should create expense when request is valid")
     void createExpense_withValidRequest_returnsCreated() throws Exception {
-      when(expenseService.createExpense(any(ExpenseRequest.class))).thenReturn(defaultExpense);
+      when(expenseService.createExpense(any(ExpenseRequest.class), isNull()))
+          .thenReturn(defaultExpense);
 
       ResultActions validPostRequest =
           mockMvc.perform(
@@ -76,13 +86,13 @@ class ExpenseControllerTest {
 
       ExpenseControllerAssertions.assertThat(validPostRequest).isDefaultExpenseResponse();
 
-      verify(expenseService).createExpense(any(ExpenseRequest.class));
+      verify(expenseService).createExpense(any(ExpenseRequest.class), isNull());
     }
 
     @Test
     @DisplayName("Should return internal server error when service error occurs")
     void createExpense_withServiceError_returnsInternalServerError() throws Exception {
-      when(expenseService.createExpense(any(ExpenseRequest.class)))
+      when(expenseService.createExpense(any(ExpenseRequest.class), isNull()))
           .thenThrow(new RuntimeException(ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
 
       ResultActions serviceErrorRequest =
@@ -93,13 +103,13 @@ class ExpenseControllerTest {
 
       ExpenseControllerAssertions.assertThat(serviceErrorRequest).isInternalServerError();
 
-      verify(expenseService).createExpense(any(ExpenseRequest.class));
+      verify(expenseService).createExpense(any(ExpenseRequest.class), isNull());
     }
 
     @Test
     @DisplayName("Should return conflict when data integrity violation occurs")
     void createExpense_withDataIntegrityViolation_returnsConflict() throws Exception {
-      when(expenseService.createExpense(any(ExpenseRequest.class)))
+      when(expenseService.createExpense(any(ExpenseRequest.class), isNull()))
           .thenThrow(new DataIntegrityViolationException(ErrorCode.DATABASE_ERROR.getMessage()));
 
       ResultActions conflictRequest =
@@ -110,7 +120,27 @@ class ExpenseControllerTest {
 
       ExpenseControllerAssertions.assertThat(conflictRequest).isConflict();
 
-      verify(expenseService).createExpense(any(ExpenseRequest.class));
+      verify(expenseService).createExpense(any(ExpenseRequest.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should pass idempotency key to service when header is present")
+    void createExpense_withIdempotencyKeyHeader_passesKeyToService() throws Exception {
+      when(expenseService.createExpense(
+              any(ExpenseRequest.class), eq(IdempotencyConstants.Default.KEY)))
+          .thenReturn(defaultExpense);
+
+      ResultActions idempotentPostRequest =
+          mockMvc.perform(
+              post(PathConstants.Endpoints.EXPENSE)
+                  .header(IdempotencyConstants.HEADER, IdempotencyConstants.Default.KEY)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(defaultExpenseRequest)));
+
+      ExpenseControllerAssertions.assertThat(idempotentPostRequest).isDefaultExpenseResponse();
+
+      verify(expenseService)
+          .createExpense(any(ExpenseRequest.class), eq(IdempotencyConstants.Default.KEY));
     }
   }
 
@@ -157,9 +187,11 @@ class ExpenseControllerTest {
     @DisplayName("Should return all expenses when month is valid")
     void getAllExpenses_withValidMonth_returnsOk() throws Exception {
       Expense updatedExpense = ExpenseBuilder.updatedExpense().build();
-      List<Expense> expenseList = List.of(defaultExpense, updatedExpense);
+      List<ExpenseSummary> expenseList =
+          List.of(ExpenseSummary.from(defaultExpense), ExpenseSummary.from(updatedExpense));
 
-      when(expenseService.getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH.toString()))
+      when(expenseService.getAllExpensesForMonth(
+              ExpenseConstants.Default.YEAR_MONTH.toString(), null))
           .thenReturn(expenseList);
 
       ResultActions validGetRequest =
@@ -177,7 +209,157 @@ class ExpenseControllerTest {
           .next()
           .isUpdatedExpense();
 
-      verify(expenseService).getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH.toString());
+      verify(expenseService)
+          .getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH.toString(), null);
+    }
+
+    @Test
+    @DisplayName("Should return expenses as CBOR when CBOR is accepted")
+    void getAllExpenses_withCborAccepted_returnsCbor() throws Exception {
+      List<ExpenseSummary> expenseList =
+          List.of(ExpenseSummary.from(defaultExpense), ExpenseSummary.from(updatedExpense));
+
+      when(expenseService.getAllExpensesForMonth(
+              ExpenseConstants.Default.YEAR_MONTH.toString(), null))
+          .thenReturn(expenseList);
+
+      ResultActions cborGetRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE)
+                  .param(
+                      PathConstants.RequestParams.MONTH,
+                      ExpenseConstants.Default.YEAR_MONTH.toString())
+                  .accept(MediaType.APPLICATION_CBOR));
+
+      ExpenseControllerListAssertions.assertThat(cborGetRequest)
+          .isCborOf(cborConverter.getObjectMapper(), objectMapper.valueToTree(expenseList));
+
+      verify(expenseService)
+          .getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH.toString(), null);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /expense/search Operations")
+  class SearchExpenseOperations {
+
+    @Test
+    @DisplayName("Should return a page of matching expenses when query is valid")
+    void searchExpenses_withValidQuery_returnsOk() throws Exception {
+      when(expenseService.searchExpenses(
+              SearchConstants.Default.QUERY,
+              null,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE))
+          .thenReturn(
+              new PageImpl<>(
+                  List.of(ExpenseSummary.from(defaultExpense)),
+                  SearchConstants.Default.PAGEABLE,
+                  1));
+
+      ResultActions validSearchRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_SEARCH)
+                  .param(PathConstants.RequestParams.QUERY, SearchConstants.Default.QUERY)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      ExpenseControllerAssertions.assertThat(validSearchRequest).isOk().hasSearchResults(1, 1);
+      ExpenseControllerAssertions.assertThat(
+              validSearchRequest, String.format(PathConstants.JsonProperties.PAGE_ITEM, 0))
+          .isDefaultExpenseResponse();
+
+      verify(expenseService)
+          .searchExpenses(
+              SearchConstants.Default.QUERY,
+              null,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE);
+    }
+
+    @Test
+    @DisplayName("Should return bad request when query is blank")
+    void searchExpenses_withBlankQuery_returnsBadRequest() throws Exception {
+      ResultActions blankSearchRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_SEARCH)
+                  .param(PathConstants.RequestParams.QUERY, SearchConstants.Invalid.BLANK_QUERY)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      ExpenseControllerAssertions.assertThat(blankSearchRequest).isBadRequest();
+
+      verify(expenseService, never()).searchExpenses(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return bad request when page size is too large")
+    void searchExpenses_withOversizedPage_returnsBadRequest() throws Exception {
+      ResultActions oversizedSearchRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_SEARCH)
+                  .param(PathConstants.RequestParams.QUERY, SearchConstants.Default.QUERY)
+                  .param(PathConstants.RequestParams.SIZE, SearchConstants.Invalid.SIZE)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      ExpenseControllerAssertions.assertThat(oversizedSearchRequest).isBadRequest();
+
+      verify(expenseService, never()).searchExpenses(any(), any(), anyInt(), anyInt());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /expense/filter Operations")
+  class FilterExpenseOperations {
+
+    @Test
+    @DisplayName("Should return a page of filtered expenses when filters are valid")
+    void filterExpenses_withValidFilters_returnsOk() throws Exception {
+      when(expenseService.filterExpenses(
+              any(ExpenseFilterRequest.class),
+              eq(SearchConstants.Default.PAGE),
+              eq(SearchConstants.Default.SIZE)))
+          .thenReturn(
+              new PageImpl<>(
+                  List.of(ExpenseSummary.from(defaultExpense)),
+                  SearchConstants.Default.PAGEABLE,
+                  1));
+
+      ResultActions validFilterRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_FILTER)
+                  .param(
+                      PathConstants.RequestParams.CATEGORY,
+                      FilterConstants.Default.CATEGORY.name())
+                  .param(PathConstants.RequestParams.MIN_AMOUNT, FilterConstants.Default.MIN_AMOUNT)
+                  .param(PathConstants.RequestParams.MAX_AMOUNT, FilterConstants.Default.MAX_AMOUNT)
+                  .param(PathConstants.RequestParams.FROM_MONTH, FilterConstants.Default.FROM_MONTH)
+                  .param(PathConstants.RequestParams.TO_MONTH, FilterConstants.Default.TO_MONTH)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      ExpenseControllerAssertions.assertThat(validFilterRequest).isOk().hasSearchResults(1, 1);
+
+      verify(expenseService)
+          .filterExpenses(
+              argThat(
+                  (ExpenseFilterRequest filter) ->
+                      filter.getCategory().contains(FilterConstants.Default.CATEGORY)
+                          && FilterConstants.Default.FROM_MONTH.equals(filter.getFromMonth())),
+              eq(SearchConstants.Default.PAGE),
+              eq(SearchConstants.Default.SIZE));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when amount range is inverted")
+    void filterExpenses_withInvertedAmountRange_returnsBadRequest() throws Exception {
+      ResultActions invertedRangeRequest =
+          mockMvc.perform(
+              get(PathConstants.Endpoints.EXPENSE_FILTER)
+                  .param(PathConstants.RequestParams.MIN_AMOUNT, FilterConstants.Invalid.MIN_AMOUNT)
+                  .param(PathConstants.RequestParams.MAX_AMOUNT, FilterConstants.Default.MAX_AMOUNT)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      ExpenseControllerAssertions.assertThat(invertedRangeRequest).isBadRequest();
+
+      verify(expenseService, never()).filterExpenses(any(), anyInt(), anyInt());
     }
   }
 
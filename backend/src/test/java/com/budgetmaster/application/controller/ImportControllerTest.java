@@ -0,0 +1,176 @@
+package com.budgetmaster.application.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.budgetmaster.application.dto.ImportRejectResponse;
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.dto.StatementImportResponse;
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.application.model.ImportReject;
+import com.budgetmaster.application.service.imports.CsvImportService;
+import com.budgetmaster.application.service.imports.statement.StatementImportService;
+import com.budgetmaster.config.JacksonConfig;
+import com.budgetmaster.constants.api.ApiMediaTypes;
+import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.ImportConstants;
+import com.budgetmaster.testsupport.constants.domain.StatementConstants;
+
+@WebMvcTest(ImportController.class)
+@Import(JacksonConfig.class)
+@DisplayName("Import Controller Tests")
+class ImportControllerTest {
+
+  private static final String FIRST_REJECT =
+      String.format(PathConstants.JsonProperties.PAGE_ITEM, 0);
+
+  @Autowired private MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  private CsvImportService csvImportService;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  private StatementImportService statementImportService;
+
+  @Nested
+  @DisplayName("POST /imports Operations")
+  class ImportOperations {
+
+    @Test
+    @DisplayName("Should import an expense file and report the counts")
+    void importExpenses_withCsvBody_returnsOk() throws Exception {
+      when(csvImportService.importExpenses(any(InputStream.class)))
+          .thenReturn(
+              ImportResponse.of(
+                  ImportConstants.Default.IMPORT_ID,
+                  ImportConstants.Default.IMPORTED,
+                  ImportConstants.Default.REJECTED,
+                  List.of(ImportConstants.Default.YEAR_MONTH)));
+
+      mockMvc
+          .perform(csvPost(PathConstants.Endpoints.IMPORT_EXPENSES, ImportConstants.Expenses.CSV))
+          .andExpect(status().isOk())
+          .andExpect(
+              jsonPath(PathConstants.JsonProperties.IMPORT_ID)
+                  .value(ImportConstants.Default.IMPORT_ID.toString()))
+          .andExpect(
+              jsonPath(PathConstants.JsonProperties.IMPORTED)
+                  .value(ImportConstants.Default.IMPORTED))
+          .andExpect(
+              jsonPath(PathConstants.JsonProperties.REJECTED)
+                  .value(ImportConstants.Default.REJECTED));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the file is not valid CSV")
+    void importIncomes_withMalformedCsv_returnsBadRequest() throws Exception {
+      when(csvImportService.importIncomes(any(InputStream.class)))
+          .thenThrow(new InvalidImportFileException(ImportConstants.Invalid.UNTERMINATED_CSV));
+
+      mockMvc
+          .perform(csvPost(PathConstants.Endpoints.IMPORT_INCOMES, ImportConstants.Incomes.CSV))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
+  @Nested
+  @DisplayName("POST /imports/statements Operations")
+  class StatementOperations {
+
+    @Test
+    @DisplayName("Should import a CAMT.053 statement and report the counts")
+    void importCamt053_withXmlBody_returnsOk() throws Exception {
+      when(statementImportService.importCamt053(any(InputStream.class)))
+          .thenReturn(
+              StatementImportResponse.of(
+                  1, 2, 0, 1, List.of(StatementConstants.Default.YEAR_MONTH)));
+
+      mockMvc
+          .perform(
+              post(PathConstants.Endpoints.IMPORT_CAMT_053)
+                  .contentType(MediaType.APPLICATION_XML)
+                  .content(StatementConstants.Camt.STATEMENT))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath(PathConstants.JsonProperties.INCOMES).value(1))
+          .andExpect(jsonPath(PathConstants.JsonProperties.EXPENSES).value(2))
+          .andExpect(jsonPath(PathConstants.JsonProperties.SKIPPED).value(0))
+          .andExpect(jsonPath(PathConstants.JsonProperties.DUPLICATES).value(1));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the OFX file cannot be read")
+    void importOfx_withUnreadableFile_returnsBadRequest() throws Exception {
+      when(statementImportService.importOfx(any(InputStream.class)))
+          .thenThrow(new InvalidImportFileException(StatementConstants.Ofx.UNTERMINATED));
+
+      mockMvc
+          .perform(
+              post(PathConstants.Endpoints.IMPORT_OFX)
+                  .contentType(ApiMediaTypes.APPLICATION_OFX)
+                  .content(StatementConstants.Ofx.UNTERMINATED))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /imports/{importId}/rejects Operations")
+  class RejectOperations {
+
+    @Test
+    @DisplayName("Should return a page of rejected records")
+    void getRejects_withImportId_returnsOk() throws Exception {
+      ImportReject reject = mock(ImportReject.class);
+      when(reject.getRecordNumber()).thenReturn(ImportConstants.Rejects.MISSING_NAME_RECORD);
+      when(reject.getReason()).thenReturn(ImportConstants.Rejects.MISSING_NAME);
+      when(csvImportService.getRejects(ImportConstants.Default.IMPORT_ID, 0, 20))
+          .thenReturn(
+              new PageImpl<>(
+                  List.of(ImportRejectResponse.from(reject)), PageRequest.of(0, 20), 1));
+
+      mockMvc
+          .perform(get(PathConstants.Endpoints.IMPORT_REJECTS, ImportConstants.Default.IMPORT_ID))
+          .andExpect(status().isOk())
+          .andExpect(
+              jsonPath(FIRST_REJECT + PathConstants.JsonProperties.RECORD_NUMBER)
+                  .value(ImportConstants.Rejects.MISSING_NAME_RECORD))
+          .andExpect(
+              jsonPath(FIRST_REJECT + PathConstants.JsonProperties.REASON)
+                  .value(ImportConstants.Rejects.MISSING_NAME));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the page size is too large")
+    void getRejects_withPageSizeTooLarge_returnsBadRequest() throws Exception {
+      mockMvc
+          .perform(
+              get(PathConstants.Endpoints.IMPORT_REJECTS, ImportConstants.Default.IMPORT_ID)
+                  .param(PathConstants.RequestParams.SIZE, ImportConstants.Invalid.PAGE_SIZE))
+          .andExpect(status().isBadRequest());
+
+      verify(csvImportService, never()).getRejects(any(), anyInt(), anyInt());
+    }
+  }
+
+  private MockHttpServletRequestBuilder csvPost(String endpoint, String csv) {
+    return post(endpoint).contentType(ApiMediaTypes.TEXT_CSV).content(csv);
+  }
+}
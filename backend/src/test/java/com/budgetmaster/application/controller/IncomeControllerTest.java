@@ -22,6 +22,7 @@ import com.budgetmaster.application.dto.IncomeRequest;
 import com.budgetmaster.application.exception.IncomeNotFoundException;
 import com.budgetmaster.application.exception.codes.ErrorCode;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.application.service.IncomeService;
 import com.budgetmaster.config.JacksonConfig;
 import com.budgetmaster.testsupport.assertions.controller.IncomeControllerAssertions;
@@ -30,6 +31,7 @@ import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
 import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
 import com.budgetmaster.testsupport.constants.PathConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -66,7 +68,8 @@ class IncomeControllerTest {
     @Test
     @DisplayName("Should create income when request is valid")
     void createIncome_withValidRequest_returnsCreated() throws Exception {
-      when(incomeService.createIncome(any(IncomeRequest.class))).thenReturn(defaultIncome);
+      when(incomeService.createIncome(any(IncomeRequest.class), isNull()))
+          .thenReturn(defaultIncome);
 
       ResultActions validPostRequest =
           mockMvc.perform(
@@ -76,13 +79,13 @@ class IncomeControllerTest {
 
       IncomeControllerAssertions.assertThat(validPostRequest).isDefaultIncomeResponse();
 
-      verify(incomeService).createIncome(any(IncomeRequest.class));
+      verify(incomeService).createIncome(any(IncomeRequest.class), isNull());
     }
 
     @Test
     @DisplayName("Should return internal server error when service error occurs")
     void createIncome_withServiceError_returnsInternalServerError() throws Exception {
-      when(incomeService.createIncome(any(IncomeRequest.class)))
+      when(incomeService.createIncome(any(IncomeRequest.class), isNull()))
           .thenThrow(new RuntimeException(ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
 
       ResultActions serviceErrorRequest =
@@ -93,13 +96,13 @@ class IncomeControllerTest {
 
       IncomeControllerAssertions.assertThat(serviceErrorRequest).isInternalServerError();
 
-      verify(incomeService).createIncome(any(IncomeRequest.class));
+      verify(incomeService).createIncome(any(IncomeRequest.class), isNull());
     }
 
     @Test
     @DisplayName("Should return conflict when data integrity violation occurs")
     void createIncome_withDataIntegrityViolation_returnsConflict() throws Exception {
-      when(incomeService.createIncome(any(IncomeRequest.class)))
+      when(incomeService.createIncome(any(IncomeRequest.class), isNull()))
           .thenThrow(new DataIntegrityViolationException(ErrorCode.DATABASE_ERROR.getMessage()));
 
       ResultActions conflictRequest =
@@ -110,7 +113,27 @@ class IncomeControllerTest {
 
       IncomeControllerAssertions.assertThat(conflictRequest).isConflict();
 
-      verify(incomeService).createIncome(any(IncomeRequest.class));
+      verify(incomeService).createIncome(any(IncomeRequest.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should pass idempotency key to service when header is present")
+    void createIncome_withIdempotencyKeyHeader_passesKeyToService() throws Exception {
+      when(incomeService.createIncome(
+              any(IncomeRequest.class), eq(IdempotencyConstants.Default.KEY)))
+          .thenReturn(defaultIncome);
+
+      ResultActions idempotentPostRequest =
+          mockMvc.perform(
+              post(PathConstants.Endpoints.INCOME)
+                  .header(IdempotencyConstants.HEADER, IdempotencyConstants.Default.KEY)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(defaultIncomeRequest)));
+
+      IncomeControllerAssertions.assertThat(idempotentPostRequest).isDefaultIncomeResponse();
+
+      verify(incomeService)
+          .createIncome(any(IncomeRequest.class), eq(IdempotencyConstants.Default.KEY));
     }
   }
 
@@ -157,9 +180,10 @@ class IncomeControllerTest {
     @DisplayName("Should return all incomes when month is valid")
     void getAllIncomes_withValidMonth_returnsOk() throws Exception {
       Income updatedIncome = IncomeBuilder.updatedIncome().build();
-      List<Income> incomeList = List.of(defaultIncome, updatedIncome);
+      List<IncomeSummary> incomeList =
+          List.of(IncomeSummary.from(defaultIncome), IncomeSummary.from(updatedIncome));
 
-      when(incomeService.getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH.toString()))
+      when(incomeService.getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH.toString(), null))
           .thenReturn(incomeList);
 
       ResultActions validGetRequest =
@@ -177,7 +201,8 @@ class IncomeControllerTest {
           .next()
           .isUpdatedIncome();
 
-      verify(incomeService).getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH.toString());
+      verify(incomeService)
+          .getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH.toString(), null);
     }
   }
 
@@ -67,15 +67,14 @@ class ExpenseRequestTest {
     }
 
     @Test
-    @DisplayName("Should reject when category is null")
-    void validateCategory_whenNull_hasCategoryRequiredViolation() {
+    @DisplayName("Should accept a null category, which is then assigned by the category rules")
+    void validateCategory_whenNull_hasNoViolations() {
       ExpenseRequest expenseRequest =
           ExpenseRequestBuilder.defaultExpenseRequest().withCategory(null).buildRequest();
 
       Set<ConstraintViolation<ExpenseRequest>> violations = validator.validate(expenseRequest);
 
-      ExpenseDtoAssertions.assertExpenseRequest(violations)
-          .hasExactlyOneViolationMessage(ErrorConstants.Expense.CATEGORY_IS_REQUIRED);
+      ExpenseDtoAssertions.assertExpenseRequest(violations).hasNoViolations();
     }
 
     @Test
@@ -74,7 +74,7 @@ class MoneyRequestTest {
     void validateCurrency_whenUnsupported_hasUnsupportedCurrencyViolation() {
       MoneyRequest request =
           MoneyRequestBuilder.defaultIncome()
-              .withCurrency(MoneyConstants.InvalidValues.EUR)
+              .withCurrency(MoneyConstants.InvalidValues.JPY)
               .buildRequest();
 
       Set<ConstraintViolation<MoneyRequest>> violations = validator.validate(request);
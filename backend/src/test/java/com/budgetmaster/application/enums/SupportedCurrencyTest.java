@@ -8,13 +8,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.budgetmaster.constants.string.StringConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
 import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
 
 @DisplayName("SupportedCurrency Enum Tests")
 class SupportedCurrencyTest {
 
   private static final Currency GBP = MoneyConstants.GBP;
-  private static final Currency EUR = MoneyConstants.InvalidValues.EUR;
+  private static final Currency JPY = MoneyConstants.InvalidValues.JPY;
 
   @Nested
   @DisplayName("Currency Validation Tests")
@@ -29,7 +31,29 @@ class SupportedCurrencyTest {
     @Test
     @DisplayName("Should reject unsupported currency")
     void validateSupportedCurrency_withUnsupportedCurrency_returnsFalse() {
-      assertFalse(SupportedCurrency.validateSupportedCurrency(EUR));
+      assertFalse(SupportedCurrency.validateSupportedCurrency(JPY));
+    }
+
+    @Test
+    @DisplayName("Should reject null currency")
+    void validateSupportedCurrency_withNullCurrency_returnsFalse() {
+      assertFalse(SupportedCurrency.validateSupportedCurrency(null));
+    }
+
+    @Test
+    @DisplayName("Should validate supported code and reject unsupported or null code")
+    void validateSupportedCode_withCodes_matchesSupportedCurrencies() {
+      assertTrue(SupportedCurrency.validateSupportedCode(GBP.getCurrencyCode()));
+      assertFalse(SupportedCurrency.validateSupportedCode(JPY.getCurrencyCode()));
+      assertFalse(SupportedCurrency.validateSupportedCode(null));
+    }
+
+    @Test
+    @DisplayName("Should join the supported codes in declaration order")
+    void joinedCodes_withDelimiter_joinsCodesInOrder() {
+      assertEquals(
+          FxConstants.Default.JOINED_CURRENCY_CODES,
+          SupportedCurrency.joinedCodes(StringConstants.Punctuation.COMMA));
     }
   }
 
@@ -43,10 +67,18 @@ class SupportedCurrencyTest {
       assertEquals(SupportedCurrency.GBP, SupportedCurrency.fromCurrency(GBP));
     }
 
+    @Test
+    @DisplayName("Should resolve every supported currency to its own enum")
+    void fromCurrency_withEachSupportedCurrency_returnsMatchingEnum() {
+      for (SupportedCurrency supported : SupportedCurrency.all()) {
+        assertSame(supported, SupportedCurrency.fromCurrency(supported.getCurrency()));
+      }
+    }
+
     @Test
     @DisplayName("Should throw exception for unsupported currency")
     void fromCurrency_withUnsupportedCurrency_throwsIllegalArgumentException() {
-      assertThrows(IllegalArgumentException.class, () -> SupportedCurrency.fromCurrency(EUR));
+      assertThrows(IllegalArgumentException.class, () -> SupportedCurrency.fromCurrency(JPY));
     }
   }
 }
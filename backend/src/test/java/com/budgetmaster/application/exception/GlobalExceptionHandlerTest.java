@@ -14,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
@@ -145,6 +146,42 @@ class GlobalExceptionHandlerTest {
     }
   }
 
+  @Nested
+  @DisplayName("Idempotency Exception Handling")
+  class IdempotencyExceptionHandling {
+
+    @Test
+    @DisplayName("Should handle a key reused with a different request as unprocessable")
+    void handleIdempotencyKeyReused_returnsUnprocessableEntity() {
+      IdempotencyKeyReusedException ex =
+          new IdempotencyKeyReusedException(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+
+      ResponseEntity<ErrorResponse> response =
+          globalExceptionHandler.handleIdempotencyKeyReused(ex, webRequest);
+
+      ErrorResponseAssertions.assertErrorResponse(response)
+          .hasStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+          .hasErrorCode(ErrorCode.IDEMPOTENCY_KEY_REUSED)
+          .hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle a key whose first request has not completed as a conflict")
+    void handleIdempotencyKeyNotCompleted_returnsConflict() {
+      IdempotencyKeyNotCompletedException ex =
+          new IdempotencyKeyNotCompletedException(
+              ErrorCode.IDEMPOTENCY_KEY_NOT_COMPLETED.getMessage());
+
+      ResponseEntity<ErrorResponse> response =
+          globalExceptionHandler.handleIdempotencyKeyNotCompleted(ex, webRequest);
+
+      ErrorResponseAssertions.assertErrorResponse(response)
+          .hasStatus(HttpStatus.CONFLICT)
+          .hasErrorCode(ErrorCode.IDEMPOTENCY_KEY_NOT_COMPLETED)
+          .hasMessage(ErrorCode.IDEMPOTENCY_KEY_NOT_COMPLETED.getMessage());
+    }
+  }
+
   @Nested
   @DisplayName("Resource Not Found Handling")
   class ResourceNotFoundHandling {
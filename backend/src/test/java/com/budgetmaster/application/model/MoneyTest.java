@@ -1,6 +1,7 @@
 package com.budgetmaster.application.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Currency;
 
@@ -86,6 +87,17 @@ class MoneyTest {
 
       MoneyModelAssertions.assertMoney(money).isZeroMoney();
     }
+
+    @Test
+    @DisplayName("Should reject unsupported currency")
+    void of_withUnsupportedCurrency_throwsException() {
+      assertThatThrownBy(
+              () ->
+                  Money.of(
+                      MoneyConstants.CreationInputs.BIGDECIMAL_TWO_DP,
+                      MoneyConstants.InvalidValues.JPY))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
   }
 
   @Nested
@@ -1,7 +1,15 @@
 package com.budgetmaster.application.repository;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,15 +18,38 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
+import com.budgetmaster.application.enums.LedgerEvent;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.application.model.ImportReject;
+import com.budgetmaster.application.model.LedgerEntry;
+import com.budgetmaster.application.projection.CategoryPercentilesRow;
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.projection.ImportedMonthTotal;
+import com.budgetmaster.application.projection.RankedExpenseRow;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.repository.criteria.ExpenseFilter;
+import com.budgetmaster.application.service.imports.CsvCopyLoader;
+import com.budgetmaster.constants.database.ColumnConstraints;
 import com.budgetmaster.integration.config.TestContainersConfig;
 import com.budgetmaster.testsupport.assertions.integration.ExpenseIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.list.ExpenseIntegrationListAssertions;
 import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.constants.domain.AnalyticsConstants;
 import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.FilterConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.ImportConstants;
+import com.budgetmaster.testsupport.constants.domain.SearchConstants;
 
 @Testcontainers
 @DataJpaTest
@@ -30,6 +61,12 @@ class ExpenseRepositoryTest {
 
   @Autowired private ExpenseRepository expenseRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
+  @Autowired private ImportRejectRepository importRejectRepository;
+
+  @Autowired private EntityManager entityManager;
+
   private Expense savedExpense;
 
   @BeforeEach
@@ -88,4 +125,403 @@ class ExpenseRepositoryTest {
       ExpenseIntegrationListAssertions.assertExpenses(foundExpenses).hasSize(0);
     }
   }
+
+  @Nested
+  @DisplayName("Expense Search")
+  class ExpenseSearch {
+
+    @BeforeEach
+    void setUp() {
+      expenseRepository.saveAll(
+          List.of(
+              ExpenseBuilder.defaultExpense().withName(SearchConstants.Names.ICED_COFFEE).build(),
+              ExpenseBuilder.defaultExpense().withName(SearchConstants.Names.COFFEE_BEANS).build(),
+              ExpenseBuilder.defaultExpense().withName(SearchConstants.Names.COFFEE).build(),
+              ExpenseBuilder.defaultExpense().withName(SearchConstants.Names.TEA).build()));
+    }
+
+    @Test
+    @DisplayName("Should rank prefix matches first, then shorter names")
+    void searchSummariesByName_withMatchingTerm_ranksPrefixMatchesFirst() {
+      Page<ExpenseSummary> page =
+          expenseRepository.searchSummariesByName(
+              SearchConstants.Default.CONTAINS_PATTERN,
+              SearchConstants.Default.PREFIX_PATTERN,
+              SearchConstants.Default.PAGEABLE);
+
+      assertEquals(
+          List.of(
+              SearchConstants.Names.COFFEE,
+              SearchConstants.Names.COFFEE_BEANS,
+              SearchConstants.Names.ICED_COFFEE),
+          page.getContent().stream().map(ExpenseSummary::getName).toList());
+      assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should find no matches in another month")
+    void searchSummariesByNameInMonth_withOtherMonth_returnsEmptyPage() {
+      Page<ExpenseSummary> page =
+          expenseRepository.searchSummariesByNameInMonth(
+              ExpenseConstants.NonExistent.YEAR_MONTH,
+              SearchConstants.Default.CONTAINS_PATTERN,
+              SearchConstants.Default.PREFIX_PATTERN,
+              SearchConstants.Default.PAGEABLE);
+
+      assertTrue(page.isEmpty());
+      assertEquals(0, page.getTotalElements());
+    }
+  }
+
+  @Nested
+  @DisplayName("Expense Filtering")
+  class ExpenseFiltering {
+
+    @BeforeEach
+    void setUp() {
+      expenseRepository.save(ExpenseBuilder.updatedExpense().build());
+    }
+
+    @Test
+    @DisplayName("Should return only expenses matching every filter")
+    void findSummaries_withCombinedFilters_returnsMatchingExpenses() {
+      Page<ExpenseSummary> page =
+          expenseRepository.findSummaries(
+              ExpenseFilter.from(FilterConstants.defaultRequest()),
+              SearchConstants.Default.PAGEABLE);
+
+      assertEquals(
+          List.of(savedExpense.getId()),
+          page.getContent().stream().map(ExpenseSummary::getId).toList());
+      assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should return every expense in month order when no filter is applied")
+    void findSummaries_withoutFilters_returnsAllExpenses() {
+      Page<ExpenseSummary> page =
+          expenseRepository.findSummaries(
+              ExpenseFilter.from(new ExpenseFilterRequest()), SearchConstants.Default.PAGEABLE);
+
+      assertEquals(
+          List.of(ExpenseConstants.Updated.YEAR_MONTH, ExpenseConstants.Default.YEAR_MONTH),
+          page.getContent().stream().map(ExpenseSummary::getMonth).toList());
+    }
+
+    @Test
+    @DisplayName("Should filter by transaction type")
+    void findSummaries_withType_returnsExpensesOfType() {
+      ExpenseFilterRequest request = new ExpenseFilterRequest();
+      request.setType(TransactionType.RECURRING);
+
+      Page<ExpenseSummary> page =
+          expenseRepository.findSummaries(
+              ExpenseFilter.from(request), SearchConstants.Default.PAGEABLE);
+
+      assertEquals(1, page.getTotalElements());
+      assertEquals(ExpenseConstants.Updated.NAME, page.getContent().get(0).getName());
+    }
+  }
+
+  @Nested
+  @DisplayName("Expense Analytics")
+  class ExpenseAnalytics {
+
+    @BeforeEach
+    void setUp() {
+      expenseRepository.saveAll(
+          List.of(
+              defaultCategoryExpense(AnalyticsConstants.Amounts.SMALL),
+              defaultCategoryExpense(AnalyticsConstants.Amounts.MEDIUM),
+              ExpenseBuilder.updatedExpense().build()));
+    }
+
+    @Test
+    @DisplayName("Should return the largest expenses of each category up to the limit")
+    void findTopExpensesPerCategory_withLimit_returnsLargestPerCategory() {
+      List<RankedExpenseRow> rows =
+          expenseRepository.findTopExpensesPerCategory(
+              AnalyticsConstants.Default.FROM_MONTH, AnalyticsConstants.Default.TO_MONTH, 2);
+
+      List<RankedExpenseRow> defaultCategory =
+          rows.stream()
+              .filter(row -> row.getCategory().equals(ExpenseConstants.Default.CATEGORY.name()))
+              .toList();
+      assertEquals(
+          List.of(1L, 2L), defaultCategory.stream().map(RankedExpenseRow::getRank).toList());
+      assertEquals(savedExpense.getId(), defaultCategory.get(0).getId());
+      assertEquals(
+          0, AnalyticsConstants.Amounts.MEDIUM.compareTo(defaultCategory.get(1).getAmount()));
+      assertEquals(3, rows.size());
+    }
+
+    @Test
+    @DisplayName("Should compute median and 90th percentile per category")
+    void findPercentilesPerCategory_withExpenses_returnsPercentiles() {
+      CategoryPercentilesRow row =
+          expenseRepository
+              .findPercentilesPerCategory(
+                  AnalyticsConstants.Default.FROM_MONTH, AnalyticsConstants.Default.TO_MONTH)
+              .stream()
+              .filter(r -> r.getCategory().equals(ExpenseConstants.Default.CATEGORY.name()))
+              .findFirst()
+              .orElseThrow();
+
+      assertEquals(3L, row.getCount());
+      assertEquals(0, AnalyticsConstants.Amounts.MEDIAN.compareTo(row.getMedian()));
+      assertEquals(0, AnalyticsConstants.Amounts.P90.compareTo(row.getP90()));
+    }
+
+    @Test
+    @DisplayName("Should ignore expenses outside the month range")
+    void findPercentilesPerCategory_outsideRange_returnsNoRows() {
+      String month = ExpenseConstants.NonExistent.YEAR_MONTH_STRING;
+
+      assertTrue(expenseRepository.findPercentilesPerCategory(month, month).isEmpty());
+    }
+
+    private Expense defaultCategoryExpense(BigDecimal amount) {
+      return ExpenseBuilder.defaultExpense()
+          .withMoney(Money.of(amount, ExpenseConstants.Default.CURRENCY))
+          .build();
+    }
+  }
+
+  @Nested
+  @DisplayName("Stored Function Writes")
+  class StoredFunctionWrites {
+
+    @BeforeEach
+    void setUp() {
+      ledgerEntryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should insert the expense and its ledger entry in one call")
+    void recordExpense_withValidExpense_insertsExpenseAndLedgerEntry() {
+      RecordedTransaction recorded = recordDefaultExpense();
+
+      Expense recordedExpense = expenseRepository.findById(recorded.getId()).orElseThrow();
+      assertEquals(ExpenseConstants.Default.NAME, recordedExpense.getName());
+      LedgerEntry entry = ledgerEntryRepository.findAll().get(0);
+      assertEquals(LedgerEvent.CREATED, entry.getEvent());
+      assertEquals(LedgerKind.EXPENSE, entry.getKind());
+      assertEquals(recorded.getId(), entry.getTransactionId());
+      assertEquals(ExpenseConstants.Default.YEAR_MONTH, entry.getMonth());
+      assertEquals(0, ExpenseConstants.Default.AMOUNT.compareTo(entry.getAmount()));
+    }
+
+    @Test
+    @DisplayName("Should reverse the original amount and record the new one on revise")
+    void reviseExpense_withNewMonth_appendsReversalAndNewAmount() {
+      RecordedTransaction recorded = recordDefaultExpense();
+
+      expenseRepository.reviseExpense(
+          recorded.getId(),
+          ExpenseConstants.Updated.NAME,
+          ExpenseConstants.Updated.CATEGORY.name(),
+          ExpenseConstants.Updated.AMOUNT,
+          ExpenseConstants.Default.CURRENCY.getCurrencyCode(),
+          ExpenseConstants.Updated.YEAR_MONTH_STRING,
+          ExpenseConstants.Updated.TYPE.name(),
+          ExpenseConstants.Default.YEAR_MONTH_STRING,
+          ExpenseConstants.Default.AMOUNT,
+          ExpenseConstants.Updated.AMOUNT,
+          ExpenseConstants.Default.CURRENCY.getCurrencyCode());
+
+      List<LedgerEntry> amended =
+          ledgerEntryRepository.findAll().stream()
+              .filter(e -> e.getEvent() == LedgerEvent.AMENDED)
+              .toList();
+      assertEquals(2, amended.size());
+      assertEquals(
+          0,
+          ExpenseConstants.Default.AMOUNT
+              .negate()
+              .compareTo(totalFor(amended, ExpenseConstants.Default.YEAR_MONTH)));
+      assertEquals(
+          0,
+          ExpenseConstants.Updated.AMOUNT.compareTo(
+              totalFor(amended, ExpenseConstants.Updated.YEAR_MONTH)));
+    }
+
+    @Test
+    @DisplayName("Should delete the expense and append the reversal of its amount")
+    void forgetExpense_withExistingExpense_appendsReversal() {
+      RecordedTransaction recorded = recordDefaultExpense();
+
+      String month =
+          expenseRepository.forgetExpense(
+              recorded.getId(),
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Default.CURRENCY.getCurrencyCode());
+
+      assertEquals(ExpenseConstants.Default.YEAR_MONTH_STRING, month);
+      assertTrue(expenseRepository.findById(recorded.getId()).isEmpty());
+      BigDecimal total =
+          totalFor(ledgerEntryRepository.findAll(), ExpenseConstants.Default.YEAR_MONTH);
+      assertEquals(0, total.signum());
+    }
+
+    @Test
+    @DisplayName("Should return null and append nothing when the expense is already gone")
+    void forgetExpense_withMissingExpense_returnsNull() {
+      assertNull(
+          expenseRepository.forgetExpense(
+              ExpenseConstants.NonExistent.ID,
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Default.CURRENCY.getCurrencyCode()));
+      assertEquals(0, ledgerEntryRepository.count());
+    }
+
+    private RecordedTransaction recordDefaultExpense() {
+      return expenseRepository.recordExpense(
+          ExpenseConstants.Default.NAME,
+          ExpenseConstants.Default.CATEGORY.name(),
+          ExpenseConstants.Default.AMOUNT,
+          ExpenseConstants.Default.CURRENCY.getCurrencyCode(),
+          ExpenseConstants.Default.YEAR_MONTH_STRING,
+          ExpenseConstants.Default.TYPE.name(),
+          ExpenseConstants.Default.AMOUNT,
+          ExpenseConstants.Default.CURRENCY.getCurrencyCode());
+    }
+
+    private BigDecimal totalFor(List<LedgerEntry> entries, YearMonth month) {
+      return entries.stream()
+          .filter(e -> e.getMonth().equals(month))
+          .map(LedgerEntry::getAmount)
+          .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+  }
+
+  @Nested
+  @DisplayName("CSV Imports")
+  class CsvImports {
+
+    private static final String IMPORT_ID = ImportConstants.Default.IMPORT_ID.toString();
+
+    @Test
+    @DisplayName("Should move invalid records to the rejects table with their reason")
+    void rejectInvalidImportRows_withInvalidRecords_recordsReasons() {
+      stage(ImportConstants.Expenses.CSV);
+
+      int rejected = rejectInvalidRows();
+
+      assertEquals(ImportConstants.Default.REJECTED, rejected);
+      List<ImportReject> rejects =
+          importRejectRepository
+              .findByImportIdOrderByRecordNumber(
+                  ImportConstants.Default.IMPORT_ID, PageRequest.of(0, 10))
+              .getContent();
+      assertEquals(
+          List.of(
+              ImportConstants.Rejects.MISSING_NAME_RECORD,
+              ImportConstants.Rejects.INVALID_AMOUNT_RECORD),
+          rejects.stream().map(ImportReject::getRecordNumber).toList());
+      assertEquals(
+          List.of(ImportConstants.Rejects.MISSING_NAME, ImportConstants.Rejects.INVALID_AMOUNT),
+          rejects.stream().map(ImportReject::getReason).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject a record in an unsupported currency with the supported ones listed")
+    void rejectInvalidImportRows_withUnsupportedCurrency_listsSupportedCurrencies() {
+      stage(ImportConstants.Invalid.UNSUPPORTED_CURRENCY_CSV);
+
+      int rejected = rejectInvalidRows();
+
+      assertEquals(1, rejected);
+      List<ImportReject> rejects =
+          importRejectRepository
+              .findByImportIdOrderByRecordNumber(
+                  ImportConstants.Default.IMPORT_ID, PageRequest.of(0, 10))
+              .getContent();
+      assertEquals(
+          ImportConstants.Rejects.UNSUPPORTED_CURRENCY_RECORD, rejects.get(0).getRecordNumber());
+      assertEquals(ImportConstants.Rejects.UNSUPPORTED_CURRENCY, rejects.get(0).getReason());
+    }
+
+    @Test
+    @DisplayName("Should merge the valid records normalized and converted, totalled per currency")
+    void mergeImportedRows_afterRejecting_insertsNormalizedRows() {
+      stage(ImportConstants.Expenses.CSV);
+      rejectInvalidRows();
+
+      List<ImportedMonthTotal> totals = mergeRows();
+
+      assertEquals(2, totals.size());
+      assertEquals(ImportConstants.Default.YEAR_MONTH.toString(), totals.get(0).getMonth());
+      BigDecimal eurTotal = totals.get(0).getInsertedTotal();
+      BigDecimal gbpTotal = totals.get(1).getInsertedTotal();
+      assertEquals(0, ImportConstants.Expenses.EUR_TOTAL.compareTo(eurTotal));
+      assertEquals(0, ImportConstants.Expenses.GBP_TOTAL.compareTo(gbpTotal));
+      assertEquals(
+          0,
+          ImportConstants.Expenses.EUR_BASE_TOTAL.compareTo(
+              totals.get(0).getInsertedBaseTotal()));
+      assertEquals(
+          0, ImportConstants.Expenses.GBP_TOTAL.compareTo(totals.get(1).getInsertedBaseTotal()));
+
+      entityManager.clear();
+      Expense imported =
+          expenseRepository.findByMonth(ImportConstants.Default.YEAR_MONTH).stream()
+              .filter(e -> e.getName().equals(ImportConstants.Expenses.NORMALIZED_NAME))
+              .findFirst()
+              .orElseThrow();
+      assertEquals(ImportConstants.Expenses.NORMALIZED_CATEGORY, imported.getCategory());
+      assertEquals(TransactionType.ONE_TIME, imported.getType());
+      assertEquals(ExpenseConstants.Default.CURRENCY, imported.getMoney().getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should take consecutive ids from a single sequence block")
+    void mergeImportedRows_withSeveralRows_usesOneIdBlock() {
+      stage(ImportConstants.Expenses.CSV);
+      rejectInvalidRows();
+
+      mergeRows();
+
+      entityManager.clear();
+      List<Long> ids =
+          expenseRepository.findByMonth(ImportConstants.Default.YEAR_MONTH).stream()
+              .map(Expense::getId)
+              .sorted()
+              .toList();
+      assertEquals(ImportConstants.Default.IMPORTED, ids.size());
+      assertEquals(ids.get(0) + 1, ids.get(1));
+    }
+
+    @Test
+    @DisplayName("Should fail the import when the file is not valid CSV")
+    void copy_withUnterminatedQuote_throwsInvalidImportFileException() {
+      assertThrows(
+          InvalidImportFileException.class, () -> stage(ImportConstants.Invalid.UNTERMINATED_CSV));
+    }
+
+    private void stage(String csv) {
+      new CsvCopyLoader(entityManager)
+          .copy(
+              ExpenseRepository.COPY_IMPORT_STAGING,
+              ImportConstants.Default.IMPORT_ID,
+              new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private int rejectInvalidRows() {
+      return expenseRepository.rejectInvalidImportRows(
+          IMPORT_ID,
+          ImportConstants.Allowed.CATEGORIES,
+          ImportConstants.Allowed.CURRENCIES,
+          ImportConstants.Allowed.CURRENCY_MESSAGE,
+          ImportConstants.Allowed.TYPES,
+          ImportConstants.Default.MONTH_PATTERN);
+    }
+
+    private List<ImportedMonthTotal> mergeRows() {
+      return expenseRepository.mergeImportedRows(
+          IMPORT_ID,
+          ColumnConstraints.Id.ALLOCATION_SIZE,
+          FxConstants.Default.JOINED_CURRENCY_CODES,
+          FxConstants.Default.JOINED_RATES);
+    }
+  }
 }
@@ -1,7 +1,13 @@
 package com.budgetmaster.application.repository;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +19,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.DirtiesContext;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.ImportRejectId;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.ImportedMonthTotal;
+import com.budgetmaster.application.service.imports.CsvCopyLoader;
+import com.budgetmaster.constants.database.ColumnConstraints;
 import com.budgetmaster.integration.config.TestContainersConfig;
 import com.budgetmaster.testsupport.assertions.integration.IncomeIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.list.IncomeIntegrationListAssertions;
 import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.ImportConstants;
 import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
 
 @Testcontainers
@@ -30,6 +43,10 @@ class IncomeRepositoryTest {
 
   @Autowired private IncomeRepository incomeRepository;
 
+  @Autowired private ImportRejectRepository importRejectRepository;
+
+  @Autowired private EntityManager entityManager;
+
   private Income savedIncome;
 
   @BeforeEach
@@ -86,4 +103,55 @@ class IncomeRepositoryTest {
       IncomeIntegrationListAssertions.assertIncomes(foundIncomes).hasSize(0);
     }
   }
+
+  @Nested
+  @DisplayName("CSV Imports")
+  class CsvImports {
+
+    @Test
+    @DisplayName("Should reject invalid records and merge the rest normalized")
+    void mergeImportedRows_afterRejecting_insertsNormalizedRows() {
+      String importId = ImportConstants.Default.IMPORT_ID.toString();
+      new CsvCopyLoader(entityManager)
+          .copy(
+              IncomeRepository.COPY_IMPORT_STAGING,
+              ImportConstants.Default.IMPORT_ID,
+              new ByteArrayInputStream(
+                  ImportConstants.Incomes.CSV.getBytes(StandardCharsets.UTF_8)));
+
+      int rejected =
+          incomeRepository.rejectInvalidImportRows(
+              importId,
+              ImportConstants.Allowed.CURRENCIES,
+              ImportConstants.Allowed.CURRENCY_MESSAGE,
+              ImportConstants.Allowed.TYPES,
+              ImportConstants.Default.MONTH_PATTERN);
+      List<ImportedMonthTotal> totals =
+          incomeRepository.mergeImportedRows(
+              importId,
+              ColumnConstraints.Id.ALLOCATION_SIZE,
+              FxConstants.Default.JOINED_CURRENCY_CODES,
+              FxConstants.Default.JOINED_RATES);
+
+      assertEquals(1, rejected);
+      assertEquals(
+          ImportConstants.Rejects.MISSING_SOURCE,
+          importRejectRepository
+              .findById(
+                  new ImportRejectId(
+                      ImportConstants.Default.IMPORT_ID,
+                      ImportConstants.Rejects.MISSING_SOURCE_RECORD))
+              .orElseThrow()
+              .getReason());
+      assertEquals(1, totals.size());
+      assertEquals(
+          0, ImportConstants.Incomes.USD_TOTAL.compareTo(totals.get(0).getInsertedTotal()));
+
+      entityManager.clear();
+      Income imported = incomeRepository.findByMonth(ImportConstants.Default.YEAR_MONTH).get(0);
+      assertEquals(ImportConstants.Incomes.NORMALIZED_NAME, imported.getName());
+      assertEquals(ImportConstants.Incomes.NORMALIZED_SOURCE, imported.getSource());
+      assertEquals(TransactionType.RECURRING, imported.getType());
+    }
+  }
 }
@@ -3,31 +3,67 @@ package com.budgetmaster.application.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
 import com.budgetmaster.application.exception.BudgetNotFoundException;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.service.forecast.RecurringForecastProjection;
+import com.budgetmaster.application.service.ledger.BudgetHistoryService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.application.service.ledger.BudgetProjectionService;
+import com.budgetmaster.application.service.synchronization.BudgetLockService;
+import com.budgetmaster.application.service.totals.BudgetTotalsIndex;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.config.JacksonConfig;
 import com.budgetmaster.testsupport.assertions.model.BudgetModelAssertions;
 import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
+import com.budgetmaster.testsupport.constants.domain.AnalyticsConstants;
 import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.ForecastConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
 
 @Import(JacksonConfig.class)
 @DisplayName("Budget Service Tests")
 class BudgetServiceTest {
 
   private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
-  private final BudgetService budgetService = new BudgetService(budgetRepository);
+  private final BudgetLockService budgetLockService = mock(BudgetLockService.class);
+  private final RecurringForecastProjection recurringForecastProjection =
+      mock(RecurringForecastProjection.class);
+  private final BudgetProjectionService budgetProjectionService =
+      mock(BudgetProjectionService.class);
+  private final BudgetHistoryService budgetHistoryService = mock(BudgetHistoryService.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final BudgetTotalsIndex budgetTotalsIndex = mock(BudgetTotalsIndex.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final BudgetService budgetService =
+      new BudgetService(
+          budgetRepository,
+          budgetLockService,
+          recurringForecastProjection,
+          budgetProjectionService,
+          budgetHistoryService,
+          budgetLedger,
+          budgetTotalsIndex,
+          eventPublisher);
 
   private Budget defaultBudget;
 
@@ -113,21 +149,166 @@ class BudgetServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("Forecast Operations")
+  class ForecastOperations {
+
+    @Test
+    @DisplayName("Should project the months following the current month")
+    void getForecast_withValidMonths_delegatesFromCurrentMonth() {
+      List<BudgetForecastResponse> forecast =
+          List.of(
+              BudgetForecastResponse.of(
+                  ForecastConstants.Default.FROM,
+                  ForecastConstants.Default.INCOME,
+                  ForecastConstants.Default.EXPENSE));
+      when(recurringForecastProjection.forecast(
+              any(YearMonth.class), eq(ForecastConstants.Default.MONTHS)))
+          .thenReturn(forecast);
+
+      List<BudgetForecastResponse> result =
+          budgetService.getForecast(ForecastConstants.Default.MONTHS);
+
+      assertSame(forecast, result);
+      verify(recurringForecastProjection)
+          .forecast(YearMonth.now(), ForecastConstants.Default.MONTHS);
+    }
+  }
+
+  @Nested
+  @DisplayName("As-Of Operations")
+  class AsOfOperations {
+
+    @Test
+    @DisplayName("Should read the month's totals as of the given moment from the history")
+    void getBudgetByMonthAsOf_withValidMonth_delegatesToHistory() {
+      BudgetHistoryResponse expected =
+          BudgetHistoryResponse.of(
+              BudgetConstants.Default.YEAR_MONTH,
+              LedgerConstants.History.AS_OF,
+              LedgerConstants.History.CHANGED_AT,
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE,
+              BudgetConstants.Default.CURRENCY);
+      when(budgetHistoryService.findAsOf(
+              BudgetConstants.Default.YEAR_MONTH, LedgerConstants.History.AS_OF))
+          .thenReturn(expected);
+
+      BudgetHistoryResponse response =
+          budgetService.getBudgetByMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH_STRING, LedgerConstants.History.AS_OF);
+
+      assertSame(expected, response);
+      verifyNoInteractions(budgetRepository);
+    }
+  }
+
+  @Nested
+  @DisplayName("Totals Operations")
+  class TotalsOperations {
+
+    @Test
+    @DisplayName("Should sum the range from the in-memory index without reading budgets")
+    void getTotals_withRange_delegatesToIndex() {
+      YearMonth from = YearMonth.parse(AnalyticsConstants.Default.FROM_MONTH);
+      YearMonth to = YearMonth.parse(AnalyticsConstants.Default.TO_MONTH);
+      BudgetTotalsResponse expected =
+          BudgetTotalsResponse.of(
+              from,
+              to,
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE);
+      when(budgetTotalsIndex.sum(from, to)).thenReturn(expected);
+
+      BudgetTotalsResponse totals = budgetService.getTotals(AnalyticsConstants.defaultRange());
+
+      assertSame(expected, totals);
+      verifyNoInteractions(budgetRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the cumulative balances from the in-memory index")
+    void getCumulativeTotals_withRange_delegatesToIndex() {
+      YearMonth from = YearMonth.parse(AnalyticsConstants.Default.FROM_MONTH);
+      YearMonth to = YearMonth.parse(AnalyticsConstants.Default.TO_MONTH);
+      when(budgetTotalsIndex.cumulative(from, to)).thenReturn(List.of());
+
+      List<BudgetTotalsResponse> balances =
+          budgetService.getCumulativeTotals(AnalyticsConstants.defaultRange());
+
+      assertTrue(balances.isEmpty());
+      verify(budgetTotalsIndex).cumulative(from, to);
+      verifyNoInteractions(budgetRepository);
+    }
+  }
+
+  @Nested
+  @DisplayName("Rebuild Operations")
+  class RebuildOperations {
+
+    @Test
+    @DisplayName("Should rebuild every month through the projection and return the months")
+    void rebuildBudgets_withSnapshots_delegatesToProjection() {
+      when(budgetProjectionService.rebuildAll(true)).thenReturn(LedgerConstants.Default.MONTHS);
+
+      List<YearMonth> months = budgetService.rebuildBudgets(true);
+
+      assertEquals(LedgerConstants.Default.MONTHS, months);
+      verify(budgetProjectionService).rebuildAll(true);
+    }
+  }
+
   @Nested
   @DisplayName("Delete Budget Operations")
   class DeleteBudgetOperations {
 
+    @BeforeEach
+    void setUp() {
+      defaultBudget.setId(BudgetConstants.Default.ID);
+    }
+
     @Test
-    @DisplayName("Should delete budget when found by ID")
-    void deleteBudget_withValidId_deletesBudget() {
-      when(budgetRepository.findById(BudgetConstants.Default.ID))
-          .thenReturn(Optional.of(defaultBudget));
-      doNothing().when(budgetRepository).deleteById(BudgetConstants.Default.ID);
+    @DisplayName("Should lock the budget by its month and delete it")
+    void deleteBudget_withValidId_locksAndDeletesBudget() {
+      givenLockedDefaultBudget();
 
       budgetService.deleteBudget(BudgetConstants.Default.ID);
 
-      verify(budgetRepository, times(1)).findById(BudgetConstants.Default.ID);
-      verify(budgetRepository, times(1)).deleteById(BudgetConstants.Default.ID);
+      verify(budgetLockService).lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH);
+      verify(budgetRepository).delete(defaultBudget);
+      verify(budgetRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reverse the locked budget's totals in the ledger")
+    void deleteBudget_withValidId_recordsClearedTotals() {
+      givenLockedDefaultBudget();
+
+      budgetService.deleteBudget(BudgetConstants.Default.ID);
+
+      verify(budgetLedger)
+          .recordCleared(
+              BudgetConstants.Default.YEAR_MONTH,
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE,
+              BudgetConstants.Default.CURRENCY);
+    }
+
+    @Test
+    @DisplayName("Should take the locked budget's totals out of the in-memory sums")
+    void deleteBudget_withValidId_publishesNegatedTotals() {
+      givenLockedDefaultBudget();
+
+      budgetService.deleteBudget(BudgetConstants.Default.ID);
+
+      ArgumentCaptor<BudgetTotalsChangedEvent> captor =
+          ArgumentCaptor.forClass(BudgetTotalsChangedEvent.class);
+      verify(eventPublisher).publishEvent(captor.capture());
+      assertEquals(BudgetConstants.Default.YEAR_MONTH, captor.getValue().getMonth());
+      assertEquals(
+          BudgetConstants.Default.TOTAL_INCOME.negate(), captor.getValue().getIncomeDelta());
+      assertEquals(
+          BudgetConstants.Default.TOTAL_EXPENSE.negate(), captor.getValue().getExpenseDelta());
     }
 
     @Test
@@ -135,7 +316,8 @@ class BudgetServiceTest {
     void deleteBudget_withNonExistentId_throwsException() {
       String errorMessage =
           String.format(ErrorConstants.Budget.NOT_FOUND_WITH_ID, BudgetConstants.NonExistent.ID);
-      when(budgetRepository.findById(BudgetConstants.NonExistent.ID)).thenReturn(Optional.empty());
+      when(budgetRepository.findMonthById(BudgetConstants.NonExistent.ID))
+          .thenReturn(Optional.empty());
 
       BudgetNotFoundException exception =
           assertThrows(
@@ -145,7 +327,31 @@ class BudgetServiceTest {
 
       assertEquals(errorMessage, exception.getMessage());
 
-      verify(budgetRepository, never()).deleteById(anyLong());
+      verifyNoInteractions(budgetLockService, budgetLedger, eventPublisher);
+      verify(budgetRepository, never()).delete(any(Budget.class));
+    }
+
+    @Test
+    @DisplayName("Should throw when the budget is deleted before its lock is taken")
+    void deleteBudget_withBudgetGoneWhenLocked_throwsException() {
+      when(budgetRepository.findMonthById(BudgetConstants.Default.ID))
+          .thenReturn(Optional.of(BudgetConstants.Default.YEAR_MONTH));
+      when(budgetLockService.lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(Map.of());
+
+      assertThrows(
+          BudgetNotFoundException.class,
+          () -> budgetService.deleteBudget(BudgetConstants.Default.ID));
+
+      verify(budgetRepository, never()).delete(any(Budget.class));
+      verifyNoInteractions(budgetLedger, eventPublisher);
+    }
+
+    private void givenLockedDefaultBudget() {
+      when(budgetRepository.findMonthById(BudgetConstants.Default.ID))
+          .thenReturn(Optional.of(BudgetConstants.Default.YEAR_MONTH));
+      when(budgetLockService.lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(Map.of(BudgetConstants.Default.YEAR_MONTH, defaultBudget));
     }
   }
 }
@@ -0,0 +1,76 @@
+package com.budgetmaster.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.CacheRegionStatisticsResponse;
+import com.budgetmaster.testsupport.constants.domain.CacheConstants;
+
+@DisplayName("Cache Statistics Service Tests")
+class CacheStatisticsServiceTest {
+
+  private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+  private final SessionFactory sessionFactory = mock(SessionFactory.class);
+  private final Statistics statistics = mock(Statistics.class);
+  private final CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+
+  private CacheStatisticsService cacheStatisticsService;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getStatistics()).thenReturn(statistics);
+    cacheStatisticsService = new CacheStatisticsService(entityManagerFactory);
+  }
+
+  @Nested
+  @DisplayName("Region Statistics Operations")
+  class RegionStatisticsOperations {
+
+    @Test
+    @DisplayName("Should report hit ratio for each cache region")
+    void getRegionStatistics_withActiveRegion_returnsHitRatio() {
+      when(statistics.getSecondLevelCacheRegionNames())
+          .thenReturn(new String[] {CacheConstants.Region.EXPENSES});
+      when(statistics.getCacheRegionStatistics(CacheConstants.Region.EXPENSES))
+          .thenReturn(regionStatistics);
+      when(regionStatistics.getHitCount()).thenReturn(CacheConstants.Counts.HITS);
+      when(regionStatistics.getMissCount()).thenReturn(CacheConstants.Counts.MISSES);
+      when(regionStatistics.getPutCount()).thenReturn(CacheConstants.Counts.PUTS);
+      when(regionStatistics.getElementCountInMemory()).thenReturn(CacheConstants.Counts.ELEMENTS);
+
+      List<CacheRegionStatisticsResponse> result = cacheStatisticsService.getRegionStatistics();
+
+      assertEquals(1, result.size());
+      assertEquals(CacheConstants.Region.EXPENSES, result.get(0).getRegion());
+      assertEquals(CacheConstants.Counts.HITS, result.get(0).getHitCount());
+      assertEquals(CacheConstants.Counts.RATIO, result.get(0).getHitRatio());
+    }
+
+    @Test
+    @DisplayName("Should include query cache region alongside entity regions")
+    void getRegionStatistics_withQueryRegion_includesQueryRegion() {
+      when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+      when(statistics.getCacheRegionStatistics(CacheConstants.Region.BUDGETS_BY_MONTH))
+          .thenReturn(regionStatistics);
+
+      List<CacheRegionStatisticsResponse> result = cacheStatisticsService.getRegionStatistics();
+
+      assertEquals(1, result.size());
+      assertEquals(CacheConstants.Region.BUDGETS_BY_MONTH, result.get(0).getRegion());
+      assertEquals(0.0, result.get(0).getHitRatio());
+    }
+  }
+}
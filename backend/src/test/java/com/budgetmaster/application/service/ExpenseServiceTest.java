@@ -3,6 +3,8 @@ package com.budgetmaster.application.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,24 +12,42 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 
 import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.repository.criteria.ExpenseFilter;
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.enums.WriteStrategy;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
 import com.budgetmaster.application.exception.ExpenseNotFoundException;
 import com.budgetmaster.application.exception.codes.ErrorCode;
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.service.categorization.ExpenseCategorizer;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.search.ExpenseNameIndex;
 import com.budgetmaster.application.service.synchronization.ExpenseBudgetSynchronizer;
+import com.budgetmaster.application.service.write.ExpenseFunctionWriter;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.config.JacksonConfig;
 import com.budgetmaster.testsupport.assertions.model.ExpenseModelAssertions;
-import com.budgetmaster.testsupport.assertions.model.list.ExpenseListAssertions;
 import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
 import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
+import com.budgetmaster.testsupport.constants.StringConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.FilterConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.SearchConstants;
 
 @Import(JacksonConfig.class)
 @DisplayName("Expense Service Tests")
@@ -36,8 +56,13 @@ class ExpenseServiceTest {
   private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
   private final ExpenseBudgetSynchronizer expenseBudgetSynchronizer =
       mock(ExpenseBudgetSynchronizer.class);
-  private final ExpenseService expenseService =
-      new ExpenseService(expenseRepository, expenseBudgetSynchronizer);
+  private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final ExpenseNameIndex expenseNameIndex = mock(ExpenseNameIndex.class);
+  private final ExpenseFunctionWriter expenseFunctionWriter = mock(ExpenseFunctionWriter.class);
+  private final ExpenseCategorizer expenseCategorizer = mock(ExpenseCategorizer.class);
+  private final ExpenseService expenseService = serviceWith(WriteStrategy.JPA);
 
   private Expense defaultExpense;
   private ExpenseRequest defaultExpenseRequest =
@@ -62,8 +87,36 @@ class ExpenseServiceTest {
 
       ExpenseModelAssertions.assertExpense(savedExpense).isDefaultExpense();
 
+      verify(expenseBudgetSynchronizer).convert(any(Expense.class));
       verify(expenseBudgetSynchronizer).apply(any(Expense.class));
       verify(expenseRepository).saveAndFlush(any(Expense.class));
+      verify(eventPublisher).publishEvent(any(ExpenseChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should take the category from the category rules when the request has none")
+    void createExpense_withoutCategory_categorizesByName() {
+      ExpenseRequest request =
+          ExpenseRequestBuilder.defaultExpenseRequest().withCategory(null).buildRequest();
+      when(expenseCategorizer.categorize(ExpenseConstants.Default.NAME))
+          .thenReturn(ExpenseConstants.Updated.CATEGORY);
+      when(expenseRepository.saveAndFlush(any(Expense.class))).thenReturn(defaultExpense);
+
+      expenseService.createExpense(request);
+
+      ArgumentCaptor<Expense> captor = ArgumentCaptor.forClass(Expense.class);
+      verify(expenseRepository).saveAndFlush(captor.capture());
+      assertEquals(ExpenseConstants.Updated.CATEGORY, captor.getValue().getCategory());
+    }
+
+    @Test
+    @DisplayName("Should keep the category given in the request")
+    void createExpense_withCategory_skipsCategoryRules() {
+      when(expenseRepository.saveAndFlush(any(Expense.class))).thenReturn(defaultExpense);
+
+      expenseService.createExpense(defaultExpenseRequest);
+
+      verifyNoInteractions(expenseCategorizer);
     }
 
     @Test
@@ -83,6 +136,57 @@ class ExpenseServiceTest {
 
       verify(expenseBudgetSynchronizer, never()).apply(any(Expense.class));
     }
+
+    @Test
+    @DisplayName("Should create expense and record key when idempotency key is new")
+    void createExpense_withNewIdempotencyKey_createsAndRecordsKey() {
+      when(idempotencyService.claim(
+              IdempotencyConstants.Default.KEY, IdempotentResource.EXPENSE, defaultExpenseRequest))
+          .thenReturn(Optional.empty());
+      when(expenseRepository.saveAndFlush(any(Expense.class))).thenReturn(defaultExpense);
+
+      Expense savedExpense =
+          expenseService.createExpense(defaultExpenseRequest, IdempotencyConstants.Default.KEY);
+
+      ExpenseModelAssertions.assertExpense(savedExpense).isDefaultExpense();
+
+      verify(expenseBudgetSynchronizer).apply(defaultExpense);
+      verify(idempotencyService)
+          .complete(
+              IdempotencyConstants.Default.KEY,
+              IdempotentResource.EXPENSE,
+              defaultExpense.getId());
+    }
+
+    @Test
+    @DisplayName("Should return existing expense without creating when idempotency key is repeated")
+    void createExpense_withRepeatedIdempotencyKey_returnsExistingExpense() {
+      when(idempotencyService.claim(
+              IdempotencyConstants.Default.KEY, IdempotentResource.EXPENSE, defaultExpenseRequest))
+          .thenReturn(Optional.of(ExpenseConstants.Default.ID));
+      when(expenseRepository.findById(ExpenseConstants.Default.ID))
+          .thenReturn(Optional.of(defaultExpense));
+
+      Expense existingExpense =
+          expenseService.createExpense(defaultExpenseRequest, IdempotencyConstants.Default.KEY);
+
+      ExpenseModelAssertions.assertExpense(existingExpense).isDefaultExpense();
+
+      verify(expenseRepository, never()).saveAndFlush(any(Expense.class));
+      verify(expenseBudgetSynchronizer, never()).apply(any(Expense.class));
+      verify(idempotencyService, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip idempotency handling when no key is given")
+    void createExpense_withoutIdempotencyKey_createsWithoutClaiming() {
+      when(expenseRepository.saveAndFlush(any(Expense.class))).thenReturn(defaultExpense);
+
+      expenseService.createExpense(defaultExpenseRequest, null);
+
+      verify(expenseBudgetSynchronizer).apply(defaultExpense);
+      verifyNoInteractions(idempotencyService);
+    }
   }
 
   @Nested
@@ -92,24 +196,45 @@ class ExpenseServiceTest {
     @Test
     @DisplayName("Should return all expenses for valid month")
     void getAllExpensesForMonth_withValidMonth_returnsExpenses() {
-      List<Expense> expenses = List.of(defaultExpense, defaultExpense);
+      List<ExpenseSummary> expenses =
+          List.of(ExpenseSummary.from(defaultExpense), ExpenseSummary.from(defaultExpense));
 
       try (MockedStatic<DateUtils> mockedDateUtils = mockStatic(DateUtils.class)) {
         mockedDateUtils
             .when(() -> DateUtils.getValidYearMonth(ExpenseConstants.Default.YEAR_MONTH.toString()))
             .thenReturn(ExpenseConstants.Default.YEAR_MONTH);
-        when(expenseRepository.findByMonth(ExpenseConstants.Default.YEAR_MONTH))
+        when(expenseRepository.findSummariesByMonth(ExpenseConstants.Default.YEAR_MONTH))
             .thenReturn(expenses);
 
-        List<Expense> result =
+        List<ExpenseSummary> result =
             expenseService.getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH.toString());
 
-        ExpenseListAssertions.assertExpenses(result).hasSize(2).first().isDefaultExpense();
+        assertEquals(expenses, result);
 
-        verify(expenseRepository).findByMonth(ExpenseConstants.Default.YEAR_MONTH);
+        verify(expenseRepository).findSummariesByMonth(ExpenseConstants.Default.YEAR_MONTH);
       }
     }
 
+    @Test
+    @DisplayName("Should convert every expense of the month into the requested currency")
+    void getAllExpensesForMonth_withCurrency_convertsAmounts() {
+      when(expenseRepository.findSummariesByMonth(ExpenseConstants.Default.YEAR_MONTH))
+          .thenReturn(List.of(ExpenseSummary.from(defaultExpense)));
+      when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+
+      List<ExpenseSummary> result =
+          expenseService.getAllExpensesForMonth(
+              ExpenseConstants.Default.YEAR_MONTH_STRING, MoneyConstants.USD.getCurrencyCode());
+
+      BigDecimal expectedAmount =
+          ExpenseConstants.Default.AMOUNT
+              .divide(FxConstants.Default.USD_RATE)
+              .setScale(MoneyConstants.SCALE);
+      assertEquals(MoneyConstants.USD, result.get(0).getMoney().getCurrency());
+      assertEquals(expectedAmount, result.get(0).getMoney().getAmount());
+      verify(fxRateService).currentSnapshot();
+    }
+
     @Test
     @DisplayName("Should return expense when found by ID")
     void getExpenseById_withValidId_returnsExpense() {
@@ -135,7 +260,7 @@ class ExpenseServiceTest {
         mockedDateUtils
             .when(() -> DateUtils.getValidYearMonth(ExpenseConstants.Default.YEAR_MONTH.toString()))
             .thenReturn(ExpenseConstants.Default.YEAR_MONTH);
-        when(expenseRepository.findByMonth(ExpenseConstants.Default.YEAR_MONTH))
+        when(expenseRepository.findSummariesByMonth(ExpenseConstants.Default.YEAR_MONTH))
             .thenThrow(new ExpenseNotFoundException(errorMessage));
 
         ExpenseNotFoundException exception =
@@ -167,6 +292,136 @@ class ExpenseServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("Search Expense Operations")
+  class SearchExpenseOperations {
+
+    private final Page<ExpenseSummary> results =
+        new PageImpl<>(
+            List.of(ExpenseSummary.from(ExpenseBuilder.defaultExpense().build())),
+            SearchConstants.Default.PAGEABLE,
+            1);
+
+    @Test
+    @DisplayName("Should search all months in the database when no month is given")
+    void searchExpenses_withoutMonth_searchesDatabase() {
+      when(expenseRepository.searchSummariesByName(
+              SearchConstants.Default.CONTAINS_PATTERN,
+              SearchConstants.Default.PREFIX_PATTERN,
+              SearchConstants.Default.PAGEABLE))
+          .thenReturn(results);
+
+      Page<ExpenseSummary> page =
+          expenseService.searchExpenses(
+              SearchConstants.Default.QUERY,
+              null,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE);
+
+      assertSame(results, page);
+      verifyNoInteractions(expenseNameIndex);
+    }
+
+    @Test
+    @DisplayName("Should answer from the name index when it covers the month")
+    void searchExpenses_withIndexedMonth_searchesIndex() {
+      when(expenseNameIndex.covers(ExpenseConstants.Default.YEAR_MONTH)).thenReturn(true);
+      when(expenseNameIndex.search(SearchConstants.Default.TERM, SearchConstants.Default.PAGEABLE))
+          .thenReturn(results);
+
+      Page<ExpenseSummary> page =
+          expenseService.searchExpenses(
+              SearchConstants.Default.QUERY,
+              ExpenseConstants.Default.YEAR_MONTH_STRING,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE);
+
+      assertSame(results, page);
+      verify(expenseRepository, never())
+          .searchSummariesByNameInMonth(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should search the month in the database when the index does not cover it")
+    void searchExpenses_withUnindexedMonth_searchesDatabase() {
+      when(expenseNameIndex.covers(ExpenseConstants.Default.YEAR_MONTH)).thenReturn(false);
+      when(expenseRepository.searchSummariesByNameInMonth(
+              ExpenseConstants.Default.YEAR_MONTH,
+              SearchConstants.Default.CONTAINS_PATTERN,
+              SearchConstants.Default.PREFIX_PATTERN,
+              SearchConstants.Default.PAGEABLE))
+          .thenReturn(results);
+
+      Page<ExpenseSummary> page =
+          expenseService.searchExpenses(
+              SearchConstants.Default.QUERY,
+              ExpenseConstants.Default.YEAR_MONTH_STRING,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE);
+
+      assertSame(results, page);
+      verify(expenseNameIndex, never()).search(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should search the current month when an empty month is given")
+    void searchExpenses_withEmptyMonth_searchesCurrentMonth() {
+      when(expenseNameIndex.covers(YearMonth.now())).thenReturn(true);
+      when(expenseNameIndex.search(SearchConstants.Default.TERM, SearchConstants.Default.PAGEABLE))
+          .thenReturn(results);
+
+      Page<ExpenseSummary> page =
+          expenseService.searchExpenses(
+              SearchConstants.Default.QUERY,
+              StringConstants.EMPTY,
+              SearchConstants.Default.PAGE,
+              SearchConstants.Default.SIZE);
+
+      assertSame(results, page);
+    }
+
+    @Test
+    @DisplayName("Should match LIKE wildcards in the query literally")
+    void searchExpenses_withWildcardsInQuery_escapesWildcards() {
+      expenseService.searchExpenses(
+          SearchConstants.Wildcard.QUERY,
+          null,
+          SearchConstants.Default.PAGE,
+          SearchConstants.Default.SIZE);
+
+      verify(expenseRepository)
+          .searchSummariesByName(
+              SearchConstants.Wildcard.CONTAINS_PATTERN,
+              SearchConstants.Wildcard.PREFIX_PATTERN,
+              SearchConstants.Default.PAGEABLE);
+    }
+  }
+
+  @Nested
+  @DisplayName("Filter Expense Operations")
+  class FilterExpenseOperations {
+
+    @Test
+    @DisplayName("Should pass the parsed filter and page to the repository")
+    void filterExpenses_withRequest_queriesParsedFilter() {
+      expenseService.filterExpenses(
+          FilterConstants.defaultRequest(),
+          SearchConstants.Default.PAGE,
+          SearchConstants.Default.SIZE);
+
+      verify(expenseRepository)
+          .findSummaries(
+              argThat(
+                  (ExpenseFilter filter) ->
+                      filter.getCategories().contains(FilterConstants.Default.CATEGORY)
+                          && filter.getFromMonth().equals(ExpenseConstants.Updated.YEAR_MONTH)
+                          && filter.getToMonth().equals(ExpenseConstants.Default.YEAR_MONTH)
+                          && filter.getType() == null
+                          && filter.getCurrency() == null),
+              eq(SearchConstants.Default.PAGEABLE));
+    }
+  }
+
   @Nested
   @DisplayName("Update Expense Operations")
   class UpdateExpenseOperations {
@@ -187,7 +442,9 @@ class ExpenseServiceTest {
 
       ExpenseModelAssertions.assertExpense(updatedExpense).isUpdatedExpense();
 
+      verify(expenseBudgetSynchronizer).convert(any(Expense.class));
       verify(expenseBudgetSynchronizer).reapply(any(Expense.class), any(Expense.class));
+      verify(eventPublisher).publishEvent(any(ExpenseChangedEvent.class));
       verify(expenseRepository).saveAndFlush(any(Expense.class));
     }
 
@@ -231,6 +488,7 @@ class ExpenseServiceTest {
       verify(expenseBudgetSynchronizer).retract(any(Expense.class));
       verify(expenseRepository).findById(ExpenseConstants.Default.ID);
       verify(expenseRepository).deleteById(ExpenseConstants.Default.ID);
+      verify(eventPublisher).publishEvent(any(ExpenseChangedEvent.class));
     }
 
     @Test
@@ -253,4 +511,67 @@ class ExpenseServiceTest {
       verify(expenseRepository, never()).deleteById(anyLong());
     }
   }
+
+  @Nested
+  @DisplayName("Stored Function Write Operations")
+  class StoredFunctionWriteOperations {
+
+    private final ExpenseService functionService = serviceWith(WriteStrategy.STORED_FUNCTION);
+
+    @Test
+    @DisplayName("Should create expense through the function writer")
+    void createExpense_withStoredFunctionStrategy_usesFunctionWriter() {
+      when(expenseFunctionWriter.create(defaultExpenseRequest)).thenReturn(defaultExpense);
+
+      Expense savedExpense = functionService.createExpense(defaultExpenseRequest);
+
+      assertSame(defaultExpense, savedExpense);
+      verify(expenseRepository, never()).saveAndFlush(any(Expense.class));
+      verify(expenseBudgetSynchronizer, never()).apply(any(Expense.class));
+      verify(eventPublisher).publishEvent(any(ExpenseChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should update expense through the function writer")
+    void updateExpense_withStoredFunctionStrategy_usesFunctionWriter() {
+      Expense updatedExpense = ExpenseBuilder.updatedExpense().build();
+      when(expenseRepository.findById(ExpenseConstants.Default.ID))
+          .thenReturn(Optional.of(defaultExpense));
+      when(expenseFunctionWriter.update(any(Expense.class), eq(defaultExpenseRequest)))
+          .thenReturn(updatedExpense);
+
+      Expense result =
+          functionService.updateExpense(ExpenseConstants.Default.ID, defaultExpenseRequest);
+
+      assertSame(updatedExpense, result);
+      verify(expenseRepository, never()).saveAndFlush(any(Expense.class));
+      verify(expenseBudgetSynchronizer, never()).reapply(any(Expense.class), any(Expense.class));
+    }
+
+    @Test
+    @DisplayName("Should delete expense through the function writer")
+    void deleteExpense_withStoredFunctionStrategy_usesFunctionWriter() {
+      when(expenseRepository.findById(ExpenseConstants.Default.ID))
+          .thenReturn(Optional.of(defaultExpense));
+
+      functionService.deleteExpense(ExpenseConstants.Default.ID);
+
+      verify(expenseFunctionWriter).delete(defaultExpense);
+      verify(expenseRepository, never()).deleteById(anyLong());
+      verify(expenseBudgetSynchronizer, never()).retract(any(Expense.class));
+    }
+  }
+
+  private ExpenseService serviceWith(WriteStrategy writeStrategy) {
+    return new ExpenseService(
+        expenseRepository,
+        expenseBudgetSynchronizer,
+        idempotencyService,
+        eventPublisher,
+        fxRateService,
+        expenseNameIndex,
+        expenseFunctionWriter,
+        expenseCategorizer,
+        writeStrategy);
+  }
 }
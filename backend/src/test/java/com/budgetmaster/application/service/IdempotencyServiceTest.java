@@ -0,0 +1,171 @@
+package com.budgetmaster.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.budgetmaster.application.dto.IncomeRequest;
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.exception.IdempotencyKeyNotCompletedException;
+import com.budgetmaster.application.exception.IdempotencyKeyReusedException;
+import com.budgetmaster.application.model.IdempotencyKey;
+import com.budgetmaster.application.model.IdempotencyKeyId;
+import com.budgetmaster.application.repository.IdempotencyKeyRepository;
+import com.budgetmaster.constants.error.ErrorMessages;
+import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
+import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+
+  private static final Duration TTL = Duration.ofHours(24);
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository =
+      mock(IdempotencyKeyRepository.class);
+  private final IdempotencyService idempotencyService =
+      new IdempotencyService(idempotencyKeyRepository, new ObjectMapper(), TTL);
+
+  private final IncomeRequest defaultIncomeRequest =
+      IncomeRequestBuilder.defaultIncomeRequest().buildRequest();
+
+  @Nested
+  @DisplayName("Claim Operations")
+  class ClaimOperations {
+
+    @Test
+    @DisplayName("Should return empty when key is claimed for the first time")
+    void claim_withNewKey_returnsEmpty() {
+      when(idempotencyKeyRepository.insertIfAbsent(
+              eq(IdempotencyConstants.Default.KEY),
+              eq(IdempotentResource.INCOME.name()),
+              anyString()))
+          .thenReturn(1);
+
+      Optional<Long> result = claim(defaultIncomeRequest);
+
+      assertTrue(result.isEmpty());
+      verify(idempotencyKeyRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should return existing resource id when key is retried with an equal request")
+    void claim_withRepeatedRequest_returnsExistingResourceId() {
+      givenClaimed(hashStoredFor(defaultIncomeRequest), IncomeConstants.Default.ID);
+
+      Optional<Long> result = claim(IncomeRequestBuilder.defaultIncomeRequest().buildRequest());
+
+      assertEquals(Optional.of(IncomeConstants.Default.ID), result);
+    }
+
+    @Test
+    @DisplayName("Should reject a key retried with a different request")
+    void claim_withDifferentRequest_throwsIdempotencyKeyReusedException() {
+      givenClaimed(hashStoredFor(defaultIncomeRequest), IncomeConstants.Default.ID);
+
+      IdempotencyKeyReusedException exception =
+          assertThrows(
+              IdempotencyKeyReusedException.class,
+              () -> claim(IncomeRequestBuilder.updatedIncomeRequest().buildRequest()));
+
+      assertEquals(
+          String.format(ErrorMessages.Idempotency.KEY_REUSED, IdempotencyConstants.Default.KEY),
+          exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a key whose first request recorded no resource")
+    void claim_withoutRecordedResource_throwsIdempotencyKeyNotCompletedException() {
+      givenClaimed(hashStoredFor(defaultIncomeRequest), null);
+
+      assertThrows(IdempotencyKeyNotCompletedException.class, () -> claim(defaultIncomeRequest));
+    }
+
+    @Test
+    @DisplayName("Should not compare requests for a key stored without a request hash")
+    void claim_withKeyStoredWithoutHash_returnsExistingResourceId() {
+      givenClaimed(null, IncomeConstants.Default.ID);
+
+      Optional<Long> result = claim(IncomeRequestBuilder.updatedIncomeRequest().buildRequest());
+
+      assertEquals(Optional.of(IncomeConstants.Default.ID), result);
+    }
+
+    private Optional<Long> claim(IncomeRequest request) {
+      return idempotencyService.claim(
+          IdempotencyConstants.Default.KEY, IdempotentResource.INCOME, request);
+    }
+
+    /** Claims the key with the request for the first time and returns the hash stored with it. */
+    private String hashStoredFor(IncomeRequest request) {
+      when(idempotencyKeyRepository.insertIfAbsent(
+              eq(IdempotencyConstants.Default.KEY),
+              eq(IdempotentResource.INCOME.name()),
+              anyString()))
+          .thenReturn(1);
+      claim(request);
+
+      ArgumentCaptor<String> requestHash = ArgumentCaptor.forClass(String.class);
+      verify(idempotencyKeyRepository)
+          .insertIfAbsent(
+              eq(IdempotencyConstants.Default.KEY),
+              eq(IdempotentResource.INCOME.name()),
+              requestHash.capture());
+      return requestHash.getValue();
+    }
+
+    /** Makes further claims of the key find it taken, with the given hash and resource id. */
+    private void givenClaimed(String requestHash, Long resourceId) {
+      IdempotencyKey claimed = mock(IdempotencyKey.class);
+      when(claimed.getRequestHash()).thenReturn(requestHash);
+      when(claimed.getResourceId()).thenReturn(resourceId);
+      when(idempotencyKeyRepository.insertIfAbsent(
+              eq(IdempotencyConstants.Default.KEY),
+              eq(IdempotentResource.INCOME.name()),
+              anyString()))
+          .thenReturn(0);
+      when(idempotencyKeyRepository.findById(
+              new IdempotencyKeyId(IdempotencyConstants.Default.KEY, IdempotentResource.INCOME)))
+          .thenReturn(Optional.of(claimed));
+    }
+  }
+
+  @Nested
+  @DisplayName("Complete Operations")
+  class CompleteOperations {
+
+    @Test
+    @DisplayName("Should record resource id against the claimed key")
+    void complete_withClaimedKey_updatesResourceId() {
+      idempotencyService.complete(
+          IdempotencyConstants.Default.KEY, IdempotentResource.INCOME, IncomeConstants.Default.ID);
+
+      verify(idempotencyKeyRepository)
+          .updateResourceId(
+              IdempotencyConstants.Default.KEY,
+              IdempotentResource.INCOME,
+              IncomeConstants.Default.ID);
+    }
+  }
+
+  @Nested
+  @DisplayName("Purge Operations")
+  class PurgeOperations {
+
+    @Test
+    @DisplayName("Should delete keys older than the configured TTL")
+    void purgeExpiredKeys_withConfiguredTtl_deletesOlderKeys() {
+      idempotencyService.purgeExpiredKeys();
+
+      verify(idempotencyKeyRepository).deleteOlderThan(TTL.toSeconds());
+    }
+  }
+}
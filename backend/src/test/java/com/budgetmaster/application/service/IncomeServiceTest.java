@@ -3,6 +3,7 @@ package com.budgetmaster.application.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,23 +12,32 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import com.budgetmaster.application.dto.IncomeRequest;
+import com.budgetmaster.application.enums.IdempotentResource;
+import com.budgetmaster.application.enums.WriteStrategy;
+import com.budgetmaster.application.event.IncomeChangedEvent;
 import com.budgetmaster.application.exception.IncomeNotFoundException;
 import com.budgetmaster.application.exception.codes.ErrorCode;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
 import com.budgetmaster.application.service.synchronization.IncomeBudgetSynchronizer;
+import com.budgetmaster.application.service.write.IncomeFunctionWriter;
 import com.budgetmaster.application.util.DateUtils;
 import com.budgetmaster.config.JacksonConfig;
 import com.budgetmaster.testsupport.assertions.model.IncomeModelAssertions;
-import com.budgetmaster.testsupport.assertions.model.list.IncomeListAssertions;
 import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
 import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
 import com.budgetmaster.testsupport.constants.ErrorConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
 
 @Import(JacksonConfig.class)
 @DisplayName("Income Service Tests")
@@ -36,8 +46,11 @@ class IncomeServiceTest {
   private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
   private final IncomeBudgetSynchronizer incomeBudgetSynchronizer =
       mock(IncomeBudgetSynchronizer.class);
-  private final IncomeService incomeService =
-      new IncomeService(incomeRepository, incomeBudgetSynchronizer);
+  private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final IncomeFunctionWriter incomeFunctionWriter = mock(IncomeFunctionWriter.class);
+  private final IncomeService incomeService = serviceWith(WriteStrategy.JPA);
 
   private Income defaultIncome;
   private IncomeRequest defaultIncomeRequest =
@@ -62,8 +75,10 @@ class IncomeServiceTest {
 
       IncomeModelAssertions.assertIncome(savedIncome).isDefaultIncome();
 
+      verify(incomeBudgetSynchronizer).convert(any(Income.class));
       verify(incomeBudgetSynchronizer).apply(defaultIncome);
       verify(incomeRepository).saveAndFlush(any(Income.class));
+      verify(eventPublisher).publishEvent(any(IncomeChangedEvent.class));
     }
 
     @Test
@@ -83,6 +98,57 @@ class IncomeServiceTest {
 
       verify(incomeBudgetSynchronizer, never()).apply(any(Income.class));
     }
+
+    @Test
+    @DisplayName("Should create income and record key when idempotency key is new")
+    void createIncome_withNewIdempotencyKey_createsAndRecordsKey() {
+      when(idempotencyService.claim(
+              IdempotencyConstants.Default.KEY, IdempotentResource.INCOME, defaultIncomeRequest))
+          .thenReturn(Optional.empty());
+      when(incomeRepository.saveAndFlush(any(Income.class))).thenReturn(defaultIncome);
+
+      Income savedIncome =
+          incomeService.createIncome(defaultIncomeRequest, IdempotencyConstants.Default.KEY);
+
+      IncomeModelAssertions.assertIncome(savedIncome).isDefaultIncome();
+
+      verify(incomeBudgetSynchronizer).apply(defaultIncome);
+      verify(idempotencyService)
+          .complete(
+              IdempotencyConstants.Default.KEY,
+              IdempotentResource.INCOME,
+              defaultIncome.getId());
+    }
+
+    @Test
+    @DisplayName("Should return existing income without creating when idempotency key is repeated")
+    void createIncome_withRepeatedIdempotencyKey_returnsExistingIncome() {
+      when(idempotencyService.claim(
+              IdempotencyConstants.Default.KEY, IdempotentResource.INCOME, defaultIncomeRequest))
+          .thenReturn(Optional.of(IncomeConstants.Default.ID));
+      when(incomeRepository.findById(IncomeConstants.Default.ID))
+          .thenReturn(Optional.of(defaultIncome));
+
+      Income existingIncome =
+          incomeService.createIncome(defaultIncomeRequest, IdempotencyConstants.Default.KEY);
+
+      IncomeModelAssertions.assertIncome(existingIncome).isDefaultIncome();
+
+      verify(incomeRepository, never()).saveAndFlush(any(Income.class));
+      verify(incomeBudgetSynchronizer, never()).apply(any(Income.class));
+      verify(idempotencyService, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip idempotency handling when no key is given")
+    void createIncome_withoutIdempotencyKey_createsWithoutClaiming() {
+      when(incomeRepository.saveAndFlush(any(Income.class))).thenReturn(defaultIncome);
+
+      incomeService.createIncome(defaultIncomeRequest, null);
+
+      verify(incomeBudgetSynchronizer).apply(defaultIncome);
+      verifyNoInteractions(idempotencyService);
+    }
   }
 
   @Nested
@@ -92,23 +158,45 @@ class IncomeServiceTest {
     @Test
     @DisplayName("Should return all incomes for valid month")
     void getAllIncomesForMonth_withValidMonth_returnsIncomes() {
-      List<Income> incomes = List.of(defaultIncome, defaultIncome);
+      List<IncomeSummary> incomes =
+          List.of(IncomeSummary.from(defaultIncome), IncomeSummary.from(defaultIncome));
 
       try (MockedStatic<DateUtils> mockedDateUtils = mockStatic(DateUtils.class)) {
         mockedDateUtils
             .when(() -> DateUtils.getValidYearMonth(IncomeConstants.Default.YEAR_MONTH.toString()))
             .thenReturn(IncomeConstants.Default.YEAR_MONTH);
-        when(incomeRepository.findByMonth(IncomeConstants.Default.YEAR_MONTH)).thenReturn(incomes);
+        when(incomeRepository.findSummariesByMonth(IncomeConstants.Default.YEAR_MONTH))
+            .thenReturn(incomes);
 
-        List<Income> result =
+        List<IncomeSummary> result =
             incomeService.getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH.toString());
 
-        IncomeListAssertions.assertIncomes(result).hasSize(2).first().isDefaultIncome();
+        assertEquals(incomes, result);
 
-        verify(incomeRepository).findByMonth(IncomeConstants.Default.YEAR_MONTH);
+        verify(incomeRepository).findSummariesByMonth(IncomeConstants.Default.YEAR_MONTH);
       }
     }
 
+    @Test
+    @DisplayName("Should convert every income of the month into the requested currency")
+    void getAllIncomesForMonth_withCurrency_convertsAmounts() {
+      when(incomeRepository.findSummariesByMonth(IncomeConstants.Default.YEAR_MONTH))
+          .thenReturn(List.of(IncomeSummary.from(defaultIncome)));
+      when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+
+      List<IncomeSummary> result =
+          incomeService.getAllIncomesForMonth(
+              IncomeConstants.Default.YEAR_MONTH_STRING, MoneyConstants.USD.getCurrencyCode());
+
+      BigDecimal expectedAmount =
+          IncomeConstants.Default.AMOUNT
+              .divide(FxConstants.Default.USD_RATE)
+              .setScale(MoneyConstants.SCALE);
+      assertEquals(MoneyConstants.USD, result.get(0).getMoney().getCurrency());
+      assertEquals(expectedAmount, result.get(0).getMoney().getAmount());
+      verify(fxRateService).currentSnapshot();
+    }
+
     @Test
     @DisplayName("Should return income when found by ID")
     void getIncomeById_withValidId_returnsIncome() {
@@ -135,7 +223,7 @@ class IncomeServiceTest {
                 () ->
                     DateUtils.getValidYearMonth(IncomeConstants.NonExistent.YEAR_MONTH.toString()))
             .thenReturn(IncomeConstants.NonExistent.YEAR_MONTH);
-        when(incomeRepository.findByMonth(IncomeConstants.NonExistent.YEAR_MONTH))
+        when(incomeRepository.findSummariesByMonth(IncomeConstants.NonExistent.YEAR_MONTH))
             .thenThrow(new IncomeNotFoundException(errorMessage));
 
         IncomeNotFoundException exception =
@@ -184,7 +272,9 @@ class IncomeServiceTest {
 
       IncomeModelAssertions.assertIncome(updatedIncome).isUpdatedIncome();
 
+      verify(incomeBudgetSynchronizer).convert(any(Income.class));
       verify(incomeBudgetSynchronizer).reapply(any(Income.class), any(Income.class));
+      verify(eventPublisher).publishEvent(any(IncomeChangedEvent.class));
       verify(incomeRepository).saveAndFlush(any(Income.class));
     }
 
@@ -226,6 +316,7 @@ class IncomeServiceTest {
       verify(incomeBudgetSynchronizer).retract(any(Income.class));
       verify(incomeRepository).findById(IncomeConstants.Default.ID);
       verify(incomeRepository).deleteById(IncomeConstants.Default.ID);
+      verify(eventPublisher).publishEvent(any(IncomeChangedEvent.class));
     }
 
     @Test
@@ -247,4 +338,65 @@ class IncomeServiceTest {
       verify(incomeRepository, never()).deleteById(anyLong());
     }
   }
+
+  @Nested
+  @DisplayName("Stored Function Write Operations")
+  class StoredFunctionWriteOperations {
+
+    private final IncomeService functionService = serviceWith(WriteStrategy.STORED_FUNCTION);
+
+    @Test
+    @DisplayName("Should create income through the function writer")
+    void createIncome_withStoredFunctionStrategy_usesFunctionWriter() {
+      when(incomeFunctionWriter.create(defaultIncomeRequest)).thenReturn(defaultIncome);
+
+      Income savedIncome = functionService.createIncome(defaultIncomeRequest);
+
+      assertSame(defaultIncome, savedIncome);
+      verify(incomeRepository, never()).saveAndFlush(any(Income.class));
+      verify(incomeBudgetSynchronizer, never()).apply(any(Income.class));
+      verify(eventPublisher).publishEvent(any(IncomeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should update income through the function writer")
+    void updateIncome_withStoredFunctionStrategy_usesFunctionWriter() {
+      Income updatedIncome = IncomeBuilder.updatedIncome().build();
+      when(incomeRepository.findById(IncomeConstants.Default.ID))
+          .thenReturn(Optional.of(defaultIncome));
+      when(incomeFunctionWriter.update(any(Income.class), eq(defaultIncomeRequest)))
+          .thenReturn(updatedIncome);
+
+      Income result =
+          functionService.updateIncome(IncomeConstants.Default.ID, defaultIncomeRequest);
+
+      assertSame(updatedIncome, result);
+      verify(incomeRepository, never()).saveAndFlush(any(Income.class));
+      verify(incomeBudgetSynchronizer, never()).reapply(any(Income.class), any(Income.class));
+    }
+
+    @Test
+    @DisplayName("Should delete income through the function writer")
+    void deleteIncome_withStoredFunctionStrategy_usesFunctionWriter() {
+      when(incomeRepository.findById(IncomeConstants.Default.ID))
+          .thenReturn(Optional.of(defaultIncome));
+
+      functionService.deleteIncome(IncomeConstants.Default.ID);
+
+      verify(incomeFunctionWriter).delete(defaultIncome);
+      verify(incomeRepository, never()).deleteById(anyLong());
+      verify(incomeBudgetSynchronizer, never()).retract(any(Income.class));
+    }
+  }
+
+  private IncomeService serviceWith(WriteStrategy writeStrategy) {
+    return new IncomeService(
+        incomeRepository,
+        incomeBudgetSynchronizer,
+        idempotencyService,
+        eventPublisher,
+        fxRateService,
+        incomeFunctionWriter,
+        writeStrategy);
+  }
 }
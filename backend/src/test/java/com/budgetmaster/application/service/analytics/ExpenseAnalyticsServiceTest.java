@@ -0,0 +1,101 @@
+package com.budgetmaster.application.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.CategoryPercentilesResponse;
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.dto.TopExpenseResponse;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.testsupport.constants.domain.AnalyticsConstants;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+
+@DisplayName("Expense Analytics Service Tests")
+class ExpenseAnalyticsServiceTest {
+
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final ExpenseDigestService expenseDigestService = mock(ExpenseDigestService.class);
+  private final ExpenseAnalyticsService expenseAnalyticsService =
+      new ExpenseAnalyticsService(expenseRepository, expenseDigestService);
+
+  @Nested
+  @DisplayName("Top Expenses Operations")
+  class TopExpensesOperations {
+
+    @Test
+    @DisplayName("Should map ranked rows into top expense responses")
+    void getTopExpenses_withRankedRows_returnsResponses() {
+      when(expenseRepository.findTopExpensesPerCategory(
+              AnalyticsConstants.Default.FROM_MONTH,
+              AnalyticsConstants.Default.TO_MONTH,
+              AnalyticsConstants.Default.LIMIT))
+          .thenReturn(List.of(AnalyticsConstants.defaultRankedRow()));
+
+      List<TopExpenseResponse> topExpenses =
+          expenseAnalyticsService.getTopExpenses(
+              AnalyticsConstants.defaultRange(), AnalyticsConstants.Default.LIMIT);
+
+      assertEquals(1, topExpenses.size());
+      TopExpenseResponse top = topExpenses.get(0);
+      assertEquals(ExpenseConstants.Default.CATEGORY, top.getCategory());
+      assertEquals(1L, top.getRank());
+      assertEquals(ExpenseConstants.Default.ID, top.getId());
+      assertEquals(
+          Money.of(ExpenseConstants.Default.AMOUNT, ExpenseConstants.Default.CURRENCY),
+          top.getMoney());
+      assertEquals(ExpenseConstants.Default.TYPE, top.getType());
+      assertEquals(ExpenseConstants.Default.YEAR_MONTH, top.getMonth());
+    }
+  }
+
+  @Nested
+  @DisplayName("Percentiles Operations")
+  class PercentilesOperations {
+
+    @Test
+    @DisplayName("Should map percentile rows into per-category responses")
+    void getPercentiles_withRows_returnsResponses() {
+      when(expenseRepository.findPercentilesPerCategory(
+              AnalyticsConstants.Default.FROM_MONTH, AnalyticsConstants.Default.TO_MONTH))
+          .thenReturn(List.of(AnalyticsConstants.defaultPercentilesRow()));
+
+      List<CategoryPercentilesResponse> percentiles =
+          expenseAnalyticsService.getPercentiles(AnalyticsConstants.defaultRange());
+
+      assertEquals(1, percentiles.size());
+      CategoryPercentilesResponse response = percentiles.get(0);
+      assertEquals(ExpenseConstants.Default.CATEGORY, response.getCategory());
+      assertEquals(ExpenseConstants.Default.CURRENCY, response.getCurrency());
+      assertEquals(3L, response.getCount());
+      assertEquals(AnalyticsConstants.Amounts.MEDIAN, response.getMedian());
+      assertEquals(AnalyticsConstants.Amounts.P90, response.getP90());
+    }
+  }
+
+  @Nested
+  @DisplayName("Quantiles Operations")
+  class QuantilesOperations {
+
+    @Test
+    @DisplayName("Should answer quantiles from the digests of the parsed month range")
+    void getQuantiles_withRange_delegatesToDigests() {
+      List<CategoryQuantilesResponse> expected = List.of(AnalyticsConstants.defaultQuantiles());
+      when(expenseDigestService.quantiles(
+              ExpenseConstants.Updated.YEAR_MONTH, ExpenseConstants.Default.YEAR_MONTH))
+          .thenReturn(expected);
+
+      List<CategoryQuantilesResponse> quantiles =
+          expenseAnalyticsService.getQuantiles(AnalyticsConstants.defaultRange());
+
+      assertEquals(expected, quantiles);
+      verifyNoInteractions(expenseRepository);
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package com.budgetmaster.application.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.ExpenseDigest;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.repository.ExpenseDigestRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.constants.domain.DigestConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+
+@DisplayName("Expense Digest Service Tests")
+class ExpenseDigestServiceTest {
+
+  private final ExpenseDigestRepository expenseDigestRepository =
+      mock(ExpenseDigestRepository.class);
+  private final ExpenseDigestWriter expenseDigestWriter = mock(ExpenseDigestWriter.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final ExpenseDigestService expenseDigestService =
+      new ExpenseDigestService(
+          expenseDigestRepository,
+          expenseDigestWriter,
+          expenseRepository,
+          fxRateService,
+          DigestConstants.Default.COMPRESSION);
+
+  @BeforeEach
+  void setUp() {
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+  }
+
+  @Nested
+  @DisplayName("Load Operations")
+  class LoadOperations {
+
+    @Test
+    @DisplayName("Should restore the stored digests without reading the expenses")
+    void load_withStoredDigests_restoresQuantiles() {
+      loadStoredDigest();
+
+      assertDefaultQuantiles(
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH));
+      verify(expenseRepository, never()).findByMonth(any());
+    }
+
+    @Test
+    @DisplayName("Should build and store the digests of a month with expenses but none stored")
+    void load_withMonthWithoutDigest_buildsAndStoresDigests() {
+      when(expenseDigestRepository.findAll()).thenReturn(List.of());
+      when(expenseRepository.findMonths()).thenReturn(List.of(DigestConstants.Default.MONTH));
+      when(expenseRepository.findByMonth(DigestConstants.Default.MONTH))
+          .thenReturn(defaultExpenses());
+
+      expenseDigestService.load();
+      expenseDigestService.flush();
+
+      assertDefaultQuantiles(
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH));
+      verify(expenseDigestWriter)
+          .replaceMonth(
+              eq(DigestConstants.Default.MONTH),
+              argThat(
+                  digests -> digests.keySet().equals(Set.of(DigestConstants.Default.CATEGORY))));
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Operations")
+  class ChangeOperations {
+
+    @Test
+    @DisplayName("Should add a created expense in the base currency without writing the digest")
+    void onExpenseChanged_withCreated_addsBaseAmount() {
+      loadNothing();
+
+      expenseDigestService.onExpenseChanged(
+          ExpenseChangedEvent.created(expense(DigestConstants.Amounts.IN_EUR)));
+
+      CategoryQuantilesResponse quantiles =
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH);
+      assertEquals(1L, quantiles.getCount());
+      assertEquals(FxConstants.Conversion.EUR_IN_GBP, quantiles.getP50());
+      verifyNoInteractions(expenseDigestWriter);
+      verify(expenseRepository, never()).findByMonthAndCategory(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should drop the digest when the last expense of its category is deleted")
+    void onExpenseChanged_withLastDeleted_removesDigest() {
+      loadStoredDigest();
+      when(expenseRepository.findByMonthAndCategory(
+              DigestConstants.Default.MONTH, DigestConstants.Default.CATEGORY))
+          .thenReturn(List.of());
+
+      expenseDigestService.onExpenseChanged(
+          ExpenseChangedEvent.deleted(expense(DigestConstants.Amounts.LARGE)));
+
+      expenseDigestService.flush();
+
+      assertTrue(
+          expenseDigestService
+              .quantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH)
+              .isEmpty());
+      verify(expenseDigestWriter).replaceMonth(DigestConstants.Default.MONTH, Map.of());
+    }
+
+    @Test
+    @DisplayName("Should rebuild both digests when an expense moves to another category")
+    void onExpenseChanged_withCategoryChanged_rebuildsBothDigests() {
+      loadStoredDigest();
+      when(expenseRepository.findByMonthAndCategory(
+              DigestConstants.Default.MONTH, DigestConstants.Default.CATEGORY))
+          .thenReturn(
+              List.of(
+                  expense(DigestConstants.Amounts.SMALL),
+                  expense(DigestConstants.Amounts.MEDIUM)));
+      Expense moved =
+          ExpenseBuilder.defaultExpense()
+              .withMoney(DigestConstants.Amounts.LARGE)
+              .withCategory(DigestConstants.Default.OTHER_CATEGORY)
+              .build();
+      when(expenseRepository.findByMonthAndCategory(
+              DigestConstants.Default.MONTH, DigestConstants.Default.OTHER_CATEGORY))
+          .thenReturn(List.of(moved));
+
+      expenseDigestService.onExpenseChanged(
+          ExpenseChangedEvent.updated(expense(DigestConstants.Amounts.LARGE), moved));
+
+      List<CategoryQuantilesResponse> quantiles =
+          expenseDigestService.quantiles(
+              DigestConstants.Default.MONTH, DigestConstants.Default.MONTH);
+      assertEquals(2L, countOf(quantiles, DigestConstants.Default.CATEGORY));
+      assertEquals(1L, countOf(quantiles, DigestConstants.Default.OTHER_CATEGORY));
+    }
+
+    @Test
+    @DisplayName("Should keep the digest when an update leaves the amount where it was")
+    void onExpenseChanged_withSameAmountAndCategory_keepsDigest() {
+      loadStoredDigest();
+
+      expenseDigestService.onExpenseChanged(
+          ExpenseChangedEvent.updated(
+              expense(DigestConstants.Amounts.LARGE), expense(DigestConstants.Amounts.LARGE)));
+
+      assertDefaultQuantiles(
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH));
+      expenseDigestService.flush();
+
+      verify(expenseRepository, never()).findByMonthAndCategory(any(), any());
+      verifyNoInteractions(expenseDigestWriter);
+    }
+  }
+
+  @Nested
+  @DisplayName("Flush Operations")
+  class FlushOperations {
+
+    @Test
+    @DisplayName("Should write each changed month once and nothing on the next flush")
+    void flush_afterChanges_writesChangedMonthsOnce() {
+      loadNothing();
+      create(DigestConstants.Default.MONTH, DigestConstants.Amounts.SMALL);
+      create(DigestConstants.Default.MONTH, DigestConstants.Amounts.MEDIUM);
+      create(DigestConstants.Default.OTHER_MONTH, DigestConstants.Amounts.LARGE);
+
+      expenseDigestService.flush();
+      expenseDigestService.flush();
+
+      verify(expenseDigestWriter)
+          .replaceMonth(
+              eq(DigestConstants.Default.MONTH),
+              argThat(
+                  digests -> digests.keySet().equals(Set.of(DigestConstants.Default.CATEGORY))));
+      verify(expenseDigestWriter).replaceMonth(eq(DigestConstants.Default.OTHER_MONTH), any());
+      verifyNoMoreInteractions(expenseDigestWriter);
+    }
+
+    @Test
+    @DisplayName("Should write a month again on the next flush when its write fails")
+    void flush_withFailedWrite_retriesMonthOnNextFlush() {
+      loadNothing();
+      create(DigestConstants.Default.MONTH, DigestConstants.Amounts.SMALL);
+      doThrow(new QueryTimeoutException(DigestConstants.Default.MONTH.toString()))
+          .doNothing()
+          .when(expenseDigestWriter)
+          .replaceMonth(eq(DigestConstants.Default.MONTH), any());
+
+      expenseDigestService.flush();
+      expenseDigestService.flush();
+      expenseDigestService.flush();
+
+      verify(expenseDigestWriter, times(2)).replaceMonth(eq(DigestConstants.Default.MONTH), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("Bulk Write Operations")
+  class BulkWriteOperations {
+
+    @Test
+    @DisplayName("Should rebuild every digest of an imported month from its expenses")
+    void onTransactionsImported_rebuildsMonthDigests() {
+      loadStoredDigest();
+      when(expenseRepository.findByMonth(DigestConstants.Default.MONTH))
+          .thenReturn(
+              List.of(
+                  ExpenseBuilder.defaultExpense()
+                      .withMoney(DigestConstants.Amounts.LARGE)
+                      .withCategory(DigestConstants.Default.OTHER_CATEGORY)
+                      .build()));
+
+      expenseDigestService.onTransactionsImported(
+          TransactionsImportedEvent.of(List.of(DigestConstants.Default.MONTH)));
+      expenseDigestService.flush();
+
+      CategoryQuantilesResponse quantiles =
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH);
+      assertEquals(DigestConstants.Default.OTHER_CATEGORY, quantiles.getCategory());
+      verify(expenseDigestWriter)
+          .replaceMonth(
+              eq(DigestConstants.Default.MONTH),
+              argThat(
+                  digests ->
+                      digests.keySet().equals(Set.of(DigestConstants.Default.OTHER_CATEGORY))));
+    }
+
+    @Test
+    @DisplayName("Should rebuild a month the recurring rollover wrote into")
+    void onRecurringTransactionsMaterialized_rebuildsMonthDigests() {
+      loadNothing();
+      when(expenseRepository.findByMonth(DigestConstants.Default.MONTH))
+          .thenReturn(defaultExpenses());
+
+      expenseDigestService.onRecurringTransactionsMaterialized(
+          RecurringTransactionsMaterializedEvent.of(DigestConstants.Default.MONTH));
+
+      assertDefaultQuantiles(
+          onlyQuantiles(DigestConstants.Default.MONTH, DigestConstants.Default.MONTH));
+    }
+  }
+
+  @Nested
+  @DisplayName("Quantile Operations")
+  class QuantileOperations {
+
+    @Test
+    @DisplayName("Should merge the digests of the months in the range only")
+    void quantiles_acrossMonths_mergesDigestsInRange() {
+      loadNothing();
+      create(DigestConstants.Default.OTHER_MONTH, DigestConstants.Amounts.SMALL);
+      create(DigestConstants.Default.MONTH, DigestConstants.Amounts.MEDIUM);
+      create(DigestConstants.Default.MONTH, DigestConstants.Amounts.LARGE);
+      create(DigestConstants.Default.OUTSIDE_MONTH, DigestConstants.Amounts.IN_EUR);
+
+      assertDefaultQuantiles(
+          onlyQuantiles(DigestConstants.Default.OTHER_MONTH, DigestConstants.Default.MONTH));
+    }
+
+    @Test
+    @DisplayName("Should return no quantiles for a range without expenses")
+    void quantiles_withoutExpenses_returnsEmpty() {
+      loadNothing();
+
+      assertTrue(
+          expenseDigestService
+              .quantiles(DigestConstants.Default.OTHER_MONTH, DigestConstants.Default.MONTH)
+              .isEmpty());
+    }
+  }
+
+  private void loadNothing() {
+    when(expenseDigestRepository.findAll()).thenReturn(List.of());
+    when(expenseRepository.findMonths()).thenReturn(List.of());
+    expenseDigestService.load();
+  }
+
+  /** Loads a stored digest of the default expenses in the default month and category. */
+  private void loadStoredDigest() {
+    TDigest digest = new TDigest(DigestConstants.Default.COMPRESSION);
+    for (Expense expense : defaultExpenses()) {
+      digest.add(expense.getMoney().getAmount().doubleValue());
+    }
+    when(expenseDigestRepository.findAll())
+        .thenReturn(
+            List.of(
+                ExpenseDigest.of(
+                    DigestConstants.Default.MONTH,
+                    DigestConstants.Default.CATEGORY,
+                    digest.toBytes())));
+    when(expenseRepository.findMonths()).thenReturn(List.of(DigestConstants.Default.MONTH));
+    expenseDigestService.load();
+  }
+
+  private void create(YearMonth month, Money money) {
+    expenseDigestService.onExpenseChanged(
+        ExpenseChangedEvent.created(
+            ExpenseBuilder.defaultExpense().withMonth(month).withMoney(money).build()));
+  }
+
+  private CategoryQuantilesResponse onlyQuantiles(YearMonth from, YearMonth to) {
+    List<CategoryQuantilesResponse> quantiles = expenseDigestService.quantiles(from, to);
+    assertEquals(1, quantiles.size());
+    return quantiles.get(0);
+  }
+
+  private static void assertDefaultQuantiles(CategoryQuantilesResponse quantiles) {
+    assertEquals(DigestConstants.Default.CATEGORY, quantiles.getCategory());
+    assertEquals(FxConstants.Default.BASE_CURRENCY, quantiles.getCurrency());
+    assertEquals(3L, quantiles.getCount());
+    assertEquals(DigestConstants.Amounts.MEDIUM.getAmount(), quantiles.getP50());
+    assertEquals(DigestConstants.Amounts.LARGE.getAmount(), quantiles.getP90());
+    assertEquals(DigestConstants.Amounts.LARGE.getAmount(), quantiles.getP99());
+  }
+
+  private static long countOf(
+      List<CategoryQuantilesResponse> quantiles, ExpenseCategory category) {
+    return quantiles.stream()
+        .filter(response -> response.getCategory() == category)
+        .mapToLong(CategoryQuantilesResponse::getCount)
+        .findFirst()
+        .orElse(0L);
+  }
+
+  private static List<Expense> defaultExpenses() {
+    return List.of(
+        expense(DigestConstants.Amounts.SMALL),
+        expense(DigestConstants.Amounts.MEDIUM),
+        expense(DigestConstants.Amounts.LARGE));
+  }
+
+  private static Expense expense(Money money) {
+    return ExpenseBuilder.defaultExpense().withMoney(money).build();
+  }
+}
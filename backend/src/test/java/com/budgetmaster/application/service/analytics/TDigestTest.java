@@ -0,0 +1,116 @@
+package com.budgetmaster.application.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.testsupport.constants.domain.DigestConstants;
+
+@DisplayName("T-Digest Tests")
+class TDigestTest {
+
+  @Test
+  @DisplayName("Should estimate quantiles within a small rank error, tails included")
+  void quantile_withUniformValues_staysCloseToExact() {
+    TDigest digest = uniformDigest(shuffledValues());
+
+    assertEquals(DigestConstants.Uniform.VALUES, digest.count());
+    for (double q : DigestConstants.Uniform.QUANTILES) {
+      assertWithinRankError(q, digest.quantile(q));
+    }
+    assertEquals(1, digest.quantile(0));
+    assertEquals(DigestConstants.Uniform.VALUES, digest.quantile(1));
+  }
+
+  @Test
+  @DisplayName("Should return the values themselves when only a few were added")
+  void quantile_withFewValues_returnsAddedValues() {
+    TDigest digest = new TDigest(DigestConstants.Default.COMPRESSION);
+    digest.add(5);
+    digest.add(1);
+    digest.add(3);
+
+    assertEquals(3, digest.quantile(0.5));
+    assertEquals(5, digest.quantile(0.99));
+    assertEquals(1, digest.quantile(0.01));
+  }
+
+  @Test
+  @DisplayName("Should return NaN when no value was added")
+  void quantile_withoutValues_returnsNaN() {
+    assertTrue(Double.isNaN(new TDigest(DigestConstants.Default.COMPRESSION).quantile(0.5)));
+  }
+
+  @Test
+  @DisplayName("Should merge digests into one that summarizes all their values")
+  void merge_withSplitValues_matchesSingleDigest() {
+    List<Double> values = shuffledValues();
+    int half = values.size() / 2;
+
+    TDigest merged =
+        TDigest.merge(
+            DigestConstants.Default.COMPRESSION,
+            List.of(
+                uniformDigest(values.subList(0, half)),
+                uniformDigest(values.subList(half, values.size()))));
+
+    assertEquals(DigestConstants.Uniform.VALUES, merged.count());
+    for (double q : DigestConstants.Uniform.QUANTILES) {
+      assertWithinRankError(q, merged.quantile(q));
+    }
+  }
+
+  @Test
+  @DisplayName("Should decode to a digest with the same quantiles, in a bounded size")
+  void fromBytes_afterToBytes_keepsQuantiles() {
+    TDigest digest = uniformDigest(shuffledValues());
+
+    byte[] encoded = digest.toBytes();
+    TDigest decoded = TDigest.fromBytes(encoded);
+
+    assertTrue(encoded.length < DigestConstants.Uniform.MAX_ENCODED_BYTES);
+    assertEquals(digest.count(), decoded.count());
+    for (double q : DigestConstants.Uniform.QUANTILES) {
+      assertEquals(digest.quantile(q), decoded.quantile(q));
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject an encoding it does not know")
+  void fromBytes_withUnknownVersion_throwsIllegalArgument() {
+    byte[] encoded = new TDigest(DigestConstants.Default.COMPRESSION).toBytes();
+    encoded[0]++;
+
+    assertThrows(IllegalArgumentException.class, () -> TDigest.fromBytes(encoded));
+  }
+
+  private static TDigest uniformDigest(List<Double> values) {
+    TDigest digest = new TDigest(DigestConstants.Default.COMPRESSION);
+    values.forEach(digest::add);
+    return digest;
+  }
+
+  private static List<Double> shuffledValues() {
+    List<Double> values = new ArrayList<>(DigestConstants.Uniform.VALUES);
+    for (int i = 1; i <= DigestConstants.Uniform.VALUES; i++) {
+      values.add((double) i);
+    }
+    Collections.shuffle(values, new Random(DigestConstants.Uniform.SEED));
+    return values;
+  }
+
+  private static void assertWithinRankError(double q, double estimate) {
+    double exact = q * DigestConstants.Uniform.VALUES;
+    assertEquals(
+        exact,
+        estimate,
+        DigestConstants.Uniform.MAX_RANK_ERROR * DigestConstants.Uniform.VALUES,
+        "quantile " + q);
+  }
+}
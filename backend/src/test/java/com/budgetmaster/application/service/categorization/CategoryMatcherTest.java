@@ -0,0 +1,87 @@
+package com.budgetmaster.application.service.categorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.testsupport.constants.domain.CategoryRuleConstants;
+
+@DisplayName("Category Matcher Tests")
+class CategoryMatcherTest {
+
+  private final CategoryMatcher matcher =
+      CategoryMatcher.compile(
+          List.of(
+              CategoryRule.of(
+                  CategoryRuleType.PATTERN,
+                  CategoryRuleConstants.Patterns.CARD_PAYMENT,
+                  ExpenseCategory.CLOTHING_AND_ACCESSORIES),
+              CategoryRule.of(
+                  CategoryRuleType.PATTERN,
+                  CategoryRuleConstants.Patterns.GROUPED,
+                  ExpenseCategory.TRANSPORT),
+              CategoryRule.of(
+                  CategoryRuleType.KEYWORD,
+                  CategoryRuleConstants.Keywords.COFFEE,
+                  ExpenseCategory.DINING_OUT),
+              CategoryRule.of(
+                  CategoryRuleType.KEYWORD,
+                  CategoryRuleConstants.Keywords.COFFEE_BEANS,
+                  ExpenseCategory.GROCERIES)));
+
+  @Test
+  @DisplayName("Should prefer the longest keyword")
+  void match_withNestedKeywords_returnsLongestKeywordCategory() {
+    assertEquals(
+        Optional.of(ExpenseCategory.GROCERIES),
+        matcher.match(CategoryRuleConstants.Names.COFFEE_BEANS));
+  }
+
+  @Test
+  @DisplayName("Should match patterns ignoring case when no keyword matches")
+  void match_withPatternOnly_returnsPatternCategory() {
+    assertEquals(
+        Optional.of(ExpenseCategory.CLOTHING_AND_ACCESSORIES),
+        matcher.match(CategoryRuleConstants.Names.CARD_PAYMENT));
+  }
+
+  @Test
+  @DisplayName("Should attribute a match to the right rule when patterns have their own groups")
+  void match_withGroupedPattern_returnsItsCategory() {
+    assertEquals(
+        Optional.of(ExpenseCategory.TRANSPORT),
+        matcher.match(CategoryRuleConstants.Names.TAXI));
+  }
+
+  @Test
+  @DisplayName("Should prefer keywords over patterns")
+  void match_withKeywordAndPattern_returnsKeywordCategory() {
+    assertEquals(
+        Optional.of(ExpenseCategory.DINING_OUT),
+        matcher.match(CategoryRuleConstants.Names.CARD_PAYMENT + " COFFEE"));
+  }
+
+  @Test
+  @DisplayName("Should match nothing without rules or without a matching rule")
+  void match_withoutMatchingRule_returnsEmpty() {
+    assertEquals(Optional.empty(), matcher.match(CategoryRuleConstants.Names.UNMATCHED));
+    assertEquals(
+        Optional.empty(), CategoryMatcher.EMPTY.match(CategoryRuleConstants.Names.UNMATCHED));
+  }
+
+  @Test
+  @DisplayName("Should detect numbered backreferences but not escaped backslashes")
+  void hasNumberedBackreference_detectsOnlyRealBackreferences() {
+    assertTrue(
+        CategoryMatcher.hasNumberedBackreference(CategoryRuleConstants.Patterns.BACKREFERENCE));
+    assertFalse(
+        CategoryMatcher.hasNumberedBackreference(CategoryRuleConstants.Patterns.ESCAPED_BACKSLASH));
+  }
+}
@@ -0,0 +1,130 @@
+package com.budgetmaster.application.service.categorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.dto.CategoryRuleRequest;
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.event.CategoryRulesChangedEvent;
+import com.budgetmaster.application.exception.CategoryRuleNotFoundException;
+import com.budgetmaster.application.exception.InvalidCategoryRuleException;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.application.repository.CategoryRuleRepository;
+import com.budgetmaster.testsupport.constants.domain.CategoryRuleConstants;
+
+@DisplayName("Category Rule Service Tests")
+class CategoryRuleServiceTest {
+
+  private final CategoryRuleRepository categoryRuleRepository = mock(CategoryRuleRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final CategoryRuleService categoryRuleService =
+      new CategoryRuleService(categoryRuleRepository, eventPublisher);
+
+  @Test
+  @DisplayName("Should store keywords upper-cased and announce the change")
+  void createRule_withKeyword_savesNormalizedAndPublishes() {
+    when(categoryRuleRepository.save(any(CategoryRule.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    CategoryRule rule =
+        categoryRuleService.createRule(
+            request(CategoryRuleType.KEYWORD, CategoryRuleConstants.Default.PATTERN));
+
+    assertEquals(CategoryRuleConstants.Default.NORMALIZED_PATTERN, rule.getPattern());
+    assertEquals(CategoryRuleConstants.Default.CATEGORY, rule.getCategory());
+    verify(eventPublisher).publishEvent(any(CategoryRulesChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("Should store patterns as given")
+  void createRule_withPattern_keepsPatternCase() {
+    when(categoryRuleRepository.save(any(CategoryRule.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    categoryRuleService.createRule(
+        request(CategoryRuleType.PATTERN, CategoryRuleConstants.Patterns.CARD_PAYMENT));
+
+    ArgumentCaptor<CategoryRule> captor = ArgumentCaptor.forClass(CategoryRule.class);
+    verify(categoryRuleRepository).save(captor.capture());
+    assertEquals(CategoryRuleConstants.Patterns.CARD_PAYMENT, captor.getValue().getPattern());
+  }
+
+  @Test
+  @DisplayName("Should reject a pattern that does not compile")
+  void createRule_withInvalidPattern_throwsInvalidCategoryRule() {
+    CategoryRuleRequest request =
+        request(CategoryRuleType.PATTERN, CategoryRuleConstants.Patterns.UNCLOSED_GROUP);
+
+    assertThrows(InvalidCategoryRuleException.class, () -> categoryRuleService.createRule(request));
+
+    verifyNoInteractions(categoryRuleRepository, eventPublisher);
+  }
+
+  @Test
+  @DisplayName("Should reject a pattern with a numbered backreference")
+  void createRule_withBackreference_throwsInvalidCategoryRule() {
+    CategoryRuleRequest request =
+        request(CategoryRuleType.PATTERN, CategoryRuleConstants.Patterns.BACKREFERENCE);
+
+    assertThrows(InvalidCategoryRuleException.class, () -> categoryRuleService.createRule(request));
+  }
+
+  @Test
+  @DisplayName("Should reject a pattern reusing a group name of a stored rule")
+  void createRule_withDuplicateGroupName_throwsInvalidCategoryRule() {
+    when(categoryRuleRepository.findAllByOrderById())
+        .thenReturn(
+            List.of(
+                CategoryRule.of(
+                    CategoryRuleType.PATTERN,
+                    CategoryRuleConstants.Patterns.NAMED_CARD,
+                    CategoryRuleConstants.Default.CATEGORY)));
+    CategoryRuleRequest request =
+        request(CategoryRuleType.PATTERN, CategoryRuleConstants.Patterns.NAMED_CARD_AGAIN);
+
+    assertThrows(InvalidCategoryRuleException.class, () -> categoryRuleService.createRule(request));
+
+    verify(categoryRuleRepository, never()).save(any(CategoryRule.class));
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @DisplayName("Should reject a pattern that only compiles outside the joined rules")
+  void createRule_withUnterminatedQuote_throwsInvalidCategoryRule() {
+    CategoryRuleRequest request =
+        request(CategoryRuleType.PATTERN, CategoryRuleConstants.Patterns.UNTERMINATED_QUOTE);
+
+    assertThrows(InvalidCategoryRuleException.class, () -> categoryRuleService.createRule(request));
+
+    verify(categoryRuleRepository, never()).save(any(CategoryRule.class));
+  }
+
+  @Test
+  @DisplayName("Should throw when deleting a rule that does not exist")
+  void deleteRule_withNonExistentId_throwsNotFound() {
+    when(categoryRuleRepository.findById(CategoryRuleConstants.Default.ID))
+        .thenReturn(Optional.empty());
+
+    assertThrows(
+        CategoryRuleNotFoundException.class,
+        () -> categoryRuleService.deleteRule(CategoryRuleConstants.Default.ID));
+
+    verifyNoInteractions(eventPublisher);
+  }
+
+  private CategoryRuleRequest request(CategoryRuleType type, String pattern) {
+    CategoryRuleRequest request = new CategoryRuleRequest();
+    request.setType(type);
+    request.setPattern(pattern);
+    request.setCategory(CategoryRuleConstants.Default.CATEGORY);
+    return request;
+  }
+}
@@ -0,0 +1,69 @@
+package com.budgetmaster.application.service.categorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.event.CategoryRulesChangedEvent;
+import com.budgetmaster.application.model.CategoryRule;
+import com.budgetmaster.application.repository.CategoryRuleRepository;
+import com.budgetmaster.testsupport.constants.domain.CategoryRuleConstants;
+
+@DisplayName("Expense Categorizer Tests")
+class ExpenseCategorizerTest {
+
+  private final CategoryRuleRepository categoryRuleRepository = mock(CategoryRuleRepository.class);
+  private final ExpenseCategorizer expenseCategorizer =
+      new ExpenseCategorizer(categoryRuleRepository);
+
+  private final CategoryRule coffeeRule =
+      CategoryRule.of(
+          CategoryRuleConstants.Default.TYPE,
+          CategoryRuleConstants.Default.NORMALIZED_PATTERN,
+          CategoryRuleConstants.Default.CATEGORY);
+
+  @Test
+  @DisplayName("Should fall back to MISCELLANEOUS before the rules are loaded")
+  void categorize_beforeLoad_returnsMiscellaneous() {
+    assertEquals(
+        ExpenseCategory.MISCELLANEOUS,
+        expenseCategorizer.categorize(CategoryRuleConstants.Names.COFFEE_BEANS));
+  }
+
+  @Test
+  @DisplayName("Should match names of any case against the loaded rules")
+  void categorize_afterLoad_usesRules() {
+    when(categoryRuleRepository.findAllByOrderById()).thenReturn(List.of(coffeeRule));
+
+    expenseCategorizer.load();
+
+    assertEquals(
+        CategoryRuleConstants.Default.CATEGORY,
+        expenseCategorizer.categorize(CategoryRuleConstants.Names.COFFEE_BEANS.toLowerCase()));
+  }
+
+  @Test
+  @DisplayName("Should recompile the rules when they change")
+  void onCategoryRulesChanged_reloadsRules() {
+    when(categoryRuleRepository.findAllByOrderById())
+        .thenReturn(List.of(coffeeRule))
+        .thenReturn(List.of());
+    expenseCategorizer.load();
+
+    assertEquals(
+        CategoryRuleConstants.Default.CATEGORY,
+        expenseCategorizer.categorize(CategoryRuleConstants.Names.COFFEE_BEANS));
+
+    expenseCategorizer.onCategoryRulesChanged(CategoryRulesChangedEvent.of());
+
+    verify(categoryRuleRepository, times(2)).findAllByOrderById();
+    assertEquals(
+        ExpenseCategory.MISCELLANEOUS,
+        expenseCategorizer.categorize(CategoryRuleConstants.Names.COFFEE_BEANS));
+  }
+}
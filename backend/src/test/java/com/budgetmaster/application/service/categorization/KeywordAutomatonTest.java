@@ -0,0 +1,54 @@
+package com.budgetmaster.application.service.categorization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.testsupport.constants.domain.CategoryRuleConstants;
+
+@DisplayName("Keyword Automaton Tests")
+class KeywordAutomatonTest {
+
+  private final KeywordAutomaton overlapping =
+      KeywordAutomaton.build(CategoryRuleConstants.Keywords.OVERLAPPING);
+
+  @Test
+  @DisplayName("Should find keywords reached only through failure links")
+  void longestMatch_withOverlappingKeywords_findsLongest() {
+    assertEquals(3, overlapping.longestMatch("USHERS"));
+    assertEquals(2, overlapping.longestMatch("AHISH"));
+  }
+
+  @Test
+  @DisplayName("Should report no match when no keyword occurs")
+  void longestMatch_withoutKeyword_returnsNoMatch() {
+    assertEquals(KeywordAutomaton.NO_MATCH, overlapping.longestMatch("XYZ"));
+    assertEquals(KeywordAutomaton.NO_MATCH, overlapping.longestMatch(""));
+  }
+
+  @Test
+  @DisplayName("Should prefer the longer keyword, then the earlier one")
+  void longestMatch_withNestedKeywords_prefersLongerThenEarlier() {
+    KeywordAutomaton automaton =
+        KeywordAutomaton.build(
+            List.of(
+                CategoryRuleConstants.Keywords.COFFEE,
+                CategoryRuleConstants.Keywords.COFFEE_BEANS,
+                CategoryRuleConstants.Keywords.COFFEE));
+
+    assertEquals(1, automaton.longestMatch(CategoryRuleConstants.Names.COFFEE_BEANS));
+    assertEquals(0, automaton.longestMatch(CategoryRuleConstants.Keywords.COFFEE));
+  }
+
+  @Test
+  @DisplayName("Should match characters outside ASCII")
+  void longestMatch_withNonAsciiKeyword_matches() {
+    KeywordAutomaton automaton =
+        KeywordAutomaton.build(List.of(CategoryRuleConstants.Keywords.ACCENTED));
+
+    assertEquals(0, automaton.longestMatch("LE " + CategoryRuleConstants.Keywords.ACCENTED));
+  }
+}
@@ -0,0 +1,391 @@
+package com.budgetmaster.application.service.forecast;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.BudgetForecastResponse;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.IncomeChangedEvent;
+import com.budgetmaster.application.event.RecurringRolloverCompletedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.MonthlyTotal;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.ForecastConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("Recurring Forecast Projection Tests")
+class RecurringForecastProjectionTest {
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final RecurringForecastProjection recurringForecastProjection =
+      new RecurringForecastProjection(incomeRepository, expenseRepository, fxRateService);
+
+  private Income recurringIncome;
+  private Expense recurringExpense;
+
+  @BeforeEach
+  void setUp() {
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+    recurringIncome = IncomeBuilder.updatedIncome().build();
+    recurringExpense =
+        ExpenseBuilder.defaultExpense()
+            .withType(TransactionType.RECURRING)
+            .withMonth(ExpenseConstants.Updated.YEAR_MONTH)
+            .build();
+  }
+
+  @Nested
+  @DisplayName("Load Operations")
+  class LoadOperations {
+
+    @Test
+    @DisplayName("Should carry the materialized month's recurring totals into later months")
+    void forecast_afterLoad_carriesLatestTotalsForward() {
+      when(incomeRepository.sumAmountsByMonth(TransactionType.RECURRING))
+          .thenReturn(
+              List.of(
+                  new MonthlyTotal(
+                      IncomeConstants.Updated.YEAR_MONTH,
+                      MoneyConstants.GBP,
+                      ForecastConstants.Default.INCOME)));
+      when(expenseRepository.sumAmountsByMonth(TransactionType.RECURRING))
+          .thenReturn(
+              List.of(
+                  new MonthlyTotal(
+                      IncomeConstants.Updated.YEAR_MONTH,
+                      MoneyConstants.GBP,
+                      ForecastConstants.Default.EXPENSE)));
+
+      recurringForecastProjection.load();
+      rolledOverInto(IncomeConstants.Updated.YEAR_MONTH);
+      List<BudgetForecastResponse> forecast =
+          recurringForecastProjection.forecast(
+              IncomeConstants.Updated.YEAR_MONTH, ForecastConstants.Default.MONTHS);
+
+      assertEquals(ForecastConstants.Default.MONTHS, forecast.size());
+      for (int i = 0; i < forecast.size(); i++) {
+        BudgetForecastResponse month = forecast.get(i);
+        assertEquals(IncomeConstants.Updated.YEAR_MONTH.plusMonths(i + 1L), month.getMonth());
+        assertEquals(ForecastConstants.Default.INCOME, month.getProjectedIncome());
+        assertEquals(ForecastConstants.Default.EXPENSE, month.getProjectedExpense());
+        assertEquals(ForecastConstants.Default.SAVINGS, month.getProjectedSavings());
+      }
+    }
+
+    @Test
+    @DisplayName("Should total recurring amounts of different currencies in the base currency")
+    void forecast_afterLoadWithSeveralCurrencies_projectsBaseCurrencyTotals() {
+      when(incomeRepository.sumAmountsByMonth(TransactionType.RECURRING))
+          .thenReturn(
+              List.of(
+                  new MonthlyTotal(
+                      IncomeConstants.Updated.YEAR_MONTH,
+                      MoneyConstants.GBP,
+                      FxConstants.Conversion.GBP_AMOUNT),
+                  new MonthlyTotal(
+                      IncomeConstants.Updated.YEAR_MONTH,
+                      MoneyConstants.EUR,
+                      FxConstants.Conversion.EUR_AMOUNT)));
+
+      recurringForecastProjection.load();
+      BudgetForecastResponse month = projectedFrom(IncomeConstants.Updated.YEAR_MONTH);
+
+      assertEquals(
+          FxConstants.Conversion.GBP_AMOUNT.add(FxConstants.Conversion.EUR_IN_GBP),
+          month.getProjectedIncome());
+    }
+
+    @Test
+    @DisplayName("Should project zero for months before any recurring activity")
+    void forecast_beforeAnyRecurringMonth_projectsZero() {
+      List<BudgetForecastResponse> forecast =
+          recurringForecastProjection.forecast(ForecastConstants.Default.FROM.minusMonths(2), 1);
+
+      assertEquals(0, BigDecimal.ZERO.compareTo(forecast.get(0).getProjectedIncome()));
+      assertEquals(0, BigDecimal.ZERO.compareTo(forecast.get(0).getProjectedExpense()));
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Event Operations")
+  class ChangeEventOperations {
+
+    @Test
+    @DisplayName("Should add recurring transactions and ignore one-time ones")
+    void onChanged_withCreatedTransactions_addsOnlyRecurringAmounts() {
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+      recurringForecastProjection.onIncomeChanged(
+          IncomeChangedEvent.created(IncomeBuilder.defaultIncome().build()));
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.created(recurringExpense));
+
+      BudgetForecastResponse month = projectedFrom(IncomeConstants.Updated.YEAR_MONTH);
+
+      assertEquals(ForecastConstants.Default.INCOME, month.getProjectedIncome());
+      assertEquals(ForecastConstants.Default.EXPENSE, month.getProjectedExpense());
+    }
+
+    @Test
+    @DisplayName("Should move the amount when a recurring income changes month")
+    void onIncomeChanged_withMonthChange_movesAmount() {
+      Income moved =
+          IncomeBuilder.updatedIncome().withMonth(IncomeConstants.Default.YEAR_MONTH).build();
+
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+      recurringForecastProjection.onIncomeChanged(
+          IncomeChangedEvent.updated(recurringIncome, moved));
+
+      BudgetForecastResponse before = projectedFrom(IncomeConstants.Updated.YEAR_MONTH);
+      BudgetForecastResponse after = projectedFrom(IncomeConstants.Default.YEAR_MONTH);
+
+      assertEquals(0, BigDecimal.ZERO.compareTo(before.getProjectedIncome()));
+      assertEquals(ForecastConstants.Default.INCOME, after.getProjectedIncome());
+    }
+
+    @Test
+    @DisplayName("Should remove the amount when a recurring expense is deleted")
+    void onExpenseChanged_withDeletedExpense_removesAmount() {
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.created(recurringExpense));
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.deleted(recurringExpense));
+
+      BudgetForecastResponse month = projectedFrom(ExpenseConstants.Updated.YEAR_MONTH);
+
+      assertEquals(0, BigDecimal.ZERO.compareTo(month.getProjectedExpense()));
+    }
+
+    @Test
+    @DisplayName("Should move the amount recorded at create when the rates change before an update")
+    void onExpenseChanged_withRatesChangedSinceCreate_movesRecordedAmount() {
+      when(fxRateService.currentSnapshot())
+          .thenReturn(FxConstants.Earlier.SNAPSHOT, FxConstants.Default.SNAPSHOT);
+      Expense created = recordedEurExpense(ExpenseConstants.Updated.YEAR_MONTH);
+      Expense moved = ExpenseBuilder.defaultExpense().withType(TransactionType.RECURRING).build();
+      moved.setBaseAmount(ExpenseConstants.Default.AMOUNT);
+
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.created(created));
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.updated(created, moved));
+
+      BudgetForecastResponse before = projectedFrom(ExpenseConstants.Updated.YEAR_MONTH);
+      BudgetForecastResponse after = projectedFrom(ExpenseConstants.Default.YEAR_MONTH);
+
+      assertEquals(0, BigDecimal.ZERO.compareTo(before.getProjectedExpense()));
+      assertEquals(ExpenseConstants.Default.AMOUNT, after.getProjectedExpense());
+    }
+
+    @Test
+    @DisplayName("Should remove the amount recorded at create when the rates change before delete")
+    void onIncomeChanged_withRatesChangedSinceCreate_removesRecordedAmount() {
+      when(fxRateService.currentSnapshot())
+          .thenReturn(FxConstants.Earlier.SNAPSHOT, FxConstants.Default.SNAPSHOT);
+      Income created =
+          IncomeBuilder.updatedIncome()
+              .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+              .build();
+      created.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(created));
+      BudgetForecastResponse recorded = projectedFrom(created.getMonth());
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.deleted(created));
+
+      assertEquals(FxConstants.Conversion.EUR_RECORDED_IN_GBP, recorded.getProjectedIncome());
+      assertEquals(
+          0, BigDecimal.ZERO.compareTo(projectedFrom(created.getMonth()).getProjectedIncome()));
+    }
+
+    @Test
+    @DisplayName("Should reload a month after its recurring transactions were materialized")
+    void onRecurringTransactionsMaterialized_reloadsMonthTotals() {
+      when(incomeRepository.sumAmountsForMonth(
+              TransactionType.RECURRING, IncomeConstants.Default.YEAR_MONTH))
+          .thenReturn(
+              List.of(
+                  new MonthlyTotal(
+                      IncomeConstants.Default.YEAR_MONTH,
+                      MoneyConstants.GBP,
+                      ForecastConstants.Default.INCOME)));
+      when(expenseRepository.sumAmountsForMonth(
+              TransactionType.RECURRING, IncomeConstants.Default.YEAR_MONTH))
+          .thenReturn(
+              List.of(
+                  new MonthlyTotal(
+                      IncomeConstants.Default.YEAR_MONTH,
+                      MoneyConstants.GBP,
+                      ForecastConstants.Default.EXPENSE)));
+
+      recurringForecastProjection.onRecurringTransactionsMaterialized(
+          RecurringTransactionsMaterializedEvent.of(IncomeConstants.Default.YEAR_MONTH));
+
+      BudgetForecastResponse month = projectedFrom(IncomeConstants.Default.YEAR_MONTH);
+
+      assertEquals(ForecastConstants.Default.INCOME, month.getProjectedIncome());
+      assertEquals(ForecastConstants.Default.EXPENSE, month.getProjectedExpense());
+    }
+
+    @Test
+    @DisplayName("Should keep earlier totals for an imported month without recurring rows")
+    void onTransactionsImported_withoutRecurringRows_keepsEarlierTotals() {
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+      YearMonth importedMonth = recurringIncome.getMonth().plusMonths(1);
+
+      recurringForecastProjection.onTransactionsImported(
+          TransactionsImportedEvent.of(List.of(importedMonth)));
+
+      assertEquals(
+          ForecastConstants.Default.INCOME,
+          projectedFrom(recurringIncome.getMonth()).getProjectedIncome());
+    }
+
+    @Test
+    @DisplayName("Should drop a reloaded month without recurring rows, as on load")
+    void onTransactionsImported_withRecurringRowsGone_dropsMonth() {
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+
+      recurringForecastProjection.onTransactionsImported(
+          TransactionsImportedEvent.of(List.of(recurringIncome.getMonth())));
+
+      BudgetForecastResponse month = projectedFrom(recurringIncome.getMonth());
+
+      assertEquals(0, BigDecimal.ZERO.compareTo(month.getProjectedIncome()));
+      assertEquals(0, BigDecimal.ZERO.compareTo(month.getProjectedExpense()));
+    }
+  }
+
+  @Nested
+  @DisplayName("Materialized Month Operations")
+  class MaterializedMonthOperations {
+
+    @Test
+    @DisplayName("Should not project from a month past the latest materialized one")
+    void forecast_withRecurringIncomeEnteredAhead_projectsFromMaterializedMonth() {
+      Income enteredAhead =
+          IncomeBuilder.updatedIncome().withMonth(IncomeConstants.Default.YEAR_MONTH).build();
+      recurringForecastProjection.onExpenseChanged(ExpenseChangedEvent.created(recurringExpense));
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(enteredAhead));
+      rolledOverInto(ExpenseConstants.Updated.YEAR_MONTH);
+
+      List<BudgetForecastResponse> forecast =
+          recurringForecastProjection.forecast(
+              IncomeConstants.Default.YEAR_MONTH, ForecastConstants.Default.MONTHS);
+
+      for (BudgetForecastResponse month : forecast) {
+        assertEquals(0, BigDecimal.ZERO.compareTo(month.getProjectedIncome()));
+        assertEquals(ForecastConstants.Default.EXPENSE, month.getProjectedExpense());
+      }
+    }
+
+    @Test
+    @DisplayName("Should project from the month before until a rollover has completed")
+    void forecast_beforeAnyRolloverCompleted_projectsFromPreviousMonth() {
+      Income partial =
+          IncomeBuilder.updatedIncome().withMonth(IncomeConstants.Default.YEAR_MONTH).build();
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(partial));
+
+      BudgetForecastResponse month =
+          recurringForecastProjection.forecast(IncomeConstants.Default.YEAR_MONTH, 1).get(0);
+
+      assertEquals(ForecastConstants.Default.INCOME, month.getProjectedIncome());
+    }
+
+    @Test
+    @DisplayName("Should keep projecting the previous totals while a reload is running")
+    void forecast_duringLoad_projectsPreviousTotals() {
+      recurringForecastProjection.onIncomeChanged(IncomeChangedEvent.created(recurringIncome));
+      List<BudgetForecastResponse> duringLoad = new ArrayList<>();
+      when(expenseRepository.sumAmountsByMonth(TransactionType.RECURRING))
+          .thenAnswer(
+              invocation -> {
+                duringLoad.add(projectedFrom(recurringIncome.getMonth()));
+                return List.of();
+              });
+
+      recurringForecastProjection.load();
+
+      assertEquals(ForecastConstants.Default.INCOME, duringLoad.get(0).getProjectedIncome());
+      assertEquals(
+          0,
+          BigDecimal.ZERO.compareTo(
+              projectedFrom(recurringIncome.getMonth()).getProjectedIncome()));
+    }
+
+    @Test
+    @DisplayName("Should apply a change made during a load to the loaded totals")
+    void onIncomeChanged_duringLoad_appliesToLoadedTotals() throws InterruptedException {
+      Thread change =
+          new Thread(
+              () ->
+                  recurringForecastProjection.onIncomeChanged(
+                      IncomeChangedEvent.created(recurringIncome)));
+      when(expenseRepository.sumAmountsByMonth(TransactionType.RECURRING))
+          .thenAnswer(
+              invocation -> {
+                change.start();
+                awaitBlockedOrDone(change);
+                return List.of();
+              });
+
+      recurringForecastProjection.load();
+      change.join();
+
+      assertEquals(
+          ForecastConstants.Default.INCOME,
+          projectedFrom(recurringIncome.getMonth()).getProjectedIncome());
+    }
+  }
+
+  /** Waits until the thread waits for the projection's lock, or has finished without it. */
+  private static void awaitBlockedOrDone(Thread thread) {
+    long deadline = System.nanoTime() + ForecastConstants.Concurrency.TIMEOUT.toNanos();
+    while (thread.getState() != Thread.State.BLOCKED
+        && thread.getState() != Thread.State.TERMINATED
+        && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+
+  /** A recurring EUR expense recorded at the earlier, higher EUR rate. */
+  private static Expense recordedEurExpense(YearMonth month) {
+    Expense expense =
+        ExpenseBuilder.defaultExpense()
+            .withType(TransactionType.RECURRING)
+            .withMonth(month)
+            .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+            .build();
+    expense.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+    return expense;
+  }
+
+  /** Projects the month after the given one, once the given one is fully materialized. */
+  private BudgetForecastResponse projectedFrom(YearMonth month) {
+    rolledOverInto(month);
+    return recurringForecastProjection.forecast(month, 1).get(0);
+  }
+
+  private void rolledOverInto(YearMonth month) {
+    recurringForecastProjection.onRecurringRolloverCompleted(
+        RecurringRolloverCompletedEvent.of(month));
+  }
+}
@@ -0,0 +1,53 @@
+package com.budgetmaster.application.service.fx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("FX Rate Service Tests")
+class FxRateServiceTest {
+
+  @Test
+  @DisplayName("Should load a snapshot from the rates file on creation")
+  void constructor_withValidRatesFile_loadsSnapshot() {
+    FxRateService fxRateService =
+        new FxRateService(ratesFile(FxConstants.Default.RATES_FILE), FxConstants.BASE_CURRENCY);
+
+    FxRateSnapshot snapshot = fxRateService.currentSnapshot();
+
+    assertEquals(FxConstants.BASE_CURRENCY, snapshot.getBaseCurrency());
+    assertEquals(
+        FxConstants.Conversion.EUR_IN_GBP,
+        snapshot.toBase(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR)));
+  }
+
+  @Test
+  @DisplayName("Should fail fast when a supported currency has no rate")
+  void constructor_withMissingRate_throwsIllegalStateException() {
+    ByteArrayResource ratesFile = ratesFile(FxConstants.Invalid.RATES_FILE_MISSING_USD);
+
+    assertThrows(
+        IllegalStateException.class, () -> new FxRateService(ratesFile, FxConstants.BASE_CURRENCY));
+  }
+
+  @Test
+  @DisplayName("Should fail fast when the base currency rate is not one")
+  void constructor_withInvalidBaseRate_throwsIllegalStateException() {
+    ByteArrayResource ratesFile = ratesFile(FxConstants.Invalid.RATES_FILE_BAD_BASE);
+
+    assertThrows(
+        IllegalStateException.class, () -> new FxRateService(ratesFile, FxConstants.BASE_CURRENCY));
+  }
+
+  private ByteArrayResource ratesFile(String contents) {
+    return new ByteArrayResource(contents.getBytes(StandardCharsets.ISO_8859_1));
+  }
+}
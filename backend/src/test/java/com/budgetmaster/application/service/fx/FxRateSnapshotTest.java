@@ -0,0 +1,120 @@
+package com.budgetmaster.application.service.fx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("FX Rate Snapshot Tests")
+class FxRateSnapshotTest {
+
+  private final FxRateSnapshot snapshot = FxConstants.Default.SNAPSHOT;
+
+  @Nested
+  @DisplayName("Creation Tests")
+  class CreationTests {
+
+    @Test
+    @DisplayName("Should reject rates missing a supported currency")
+    void of_withMissingRate_throwsIllegalStateException() {
+      Map<SupportedCurrency, BigDecimal> rates = new EnumMap<>(FxConstants.Default.RATES);
+      rates.remove(SupportedCurrency.USD);
+
+      assertThrows(
+          IllegalStateException.class, () -> FxRateSnapshot.of(FxConstants.BASE_CURRENCY, rates));
+    }
+
+    @Test
+    @DisplayName("Should reject a base currency rate other than one")
+    void of_withBaseRateNotOne_throwsIllegalStateException() {
+      Map<SupportedCurrency, BigDecimal> rates = new EnumMap<>(FxConstants.Default.RATES);
+      rates.put(SupportedCurrency.GBP, FxConstants.Default.EUR_RATE);
+
+      assertThrows(
+          IllegalStateException.class, () -> FxRateSnapshot.of(FxConstants.BASE_CURRENCY, rates));
+    }
+  }
+
+  @Nested
+  @DisplayName("Conversion Tests")
+  class ConversionTests {
+
+    @Test
+    @DisplayName("Should convert foreign money into the base currency")
+    void toBase_withForeignCurrency_appliesRate() {
+      BigDecimal amount =
+          snapshot.toBase(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR));
+
+      assertEquals(FxConstants.Conversion.EUR_IN_GBP, amount);
+    }
+
+    @Test
+    @DisplayName("Should round half a penny away from zero as the native queries do")
+    void toBase_withHalfPenny_roundsHalfUp() {
+      BigDecimal amount =
+          snapshot.toBase(
+              Money.of(FxConstants.Conversion.USD_HALF_CENT_AMOUNT, MoneyConstants.USD));
+
+      assertEquals(FxConstants.Conversion.USD_HALF_CENT_IN_GBP, amount);
+    }
+
+    @Test
+    @DisplayName("Should reverse a recorded base amount rather than convert again")
+    void recordedOrToBase_withRecordedAmount_returnsRecordedAmount() {
+      BigDecimal amount =
+          snapshot.recordedOrToBase(
+              Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR),
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+
+      assertEquals(FxConstants.Conversion.EUR_RECORDED_IN_GBP, amount);
+    }
+
+    @Test
+    @DisplayName("Should convert money without a recorded base amount at the current rates")
+    void recordedOrToBase_withoutRecordedAmount_appliesRate() {
+      BigDecimal amount =
+          snapshot.recordedOrToBase(
+              Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR), null);
+
+      assertEquals(FxConstants.Conversion.EUR_IN_GBP, amount);
+    }
+
+    @Test
+    @DisplayName("Should join the rates in the order of the joined currency codes")
+    void joinedRates_withDefaultRates_matchesCurrencyOrder() {
+      assertEquals(FxConstants.Default.JOINED_CURRENCY_CODES, snapshot.joinedCurrencyCodes());
+      assertEquals(FxConstants.Default.JOINED_RATES, snapshot.joinedRates());
+    }
+
+    @Test
+    @DisplayName("Should convert money of any currency into the target currency")
+    void converterTo_withMixedCurrencies_appliesCrossRates() {
+      UnaryOperator<Money> toUsd = snapshot.converterTo(MoneyConstants.USD);
+
+      Money fromGbp = toUsd.apply(Money.of(FxConstants.Conversion.GBP_AMOUNT, MoneyConstants.GBP));
+      Money fromEur = toUsd.apply(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR));
+
+      assertEquals(Money.of(FxConstants.Conversion.GBP_IN_USD, MoneyConstants.USD), fromGbp);
+      assertEquals(Money.of(FxConstants.Conversion.EUR_IN_USD, MoneyConstants.USD), fromEur);
+    }
+
+    @Test
+    @DisplayName("Should return money already in the target currency unchanged")
+    void converterTo_withTargetCurrency_returnsSameMoney() {
+      Money money = Money.of(FxConstants.Conversion.GBP_AMOUNT, MoneyConstants.GBP);
+
+      assertSame(money, snapshot.converterTo(MoneyConstants.GBP).apply(money));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.budgetmaster.application.service.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.repository.ImportRejectRepository;
+import com.budgetmaster.testsupport.constants.domain.ImportConstants;
+
+@DisplayName("CSV Import Service Tests")
+class CsvImportServiceTest {
+
+  private final CsvImportWriter csvImportWriter = mock(CsvImportWriter.class);
+  private final ImportRejectRepository importRejectRepository = mock(ImportRejectRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final CsvImportService csvImportService =
+      new CsvImportService(csvImportWriter, importRejectRepository, eventPublisher);
+
+  private final InputStream csv =
+      new ByteArrayInputStream(ImportConstants.Expenses.CSV.getBytes(StandardCharsets.UTF_8));
+
+  @Test
+  @DisplayName("Should announce the imported months once the import has committed")
+  void importExpenses_withImportedRows_publishesMonths() {
+    when(csvImportWriter.importExpenses(csv))
+        .thenReturn(
+            ImportResponse.of(
+                ImportConstants.Default.IMPORT_ID,
+                ImportConstants.Default.IMPORTED,
+                ImportConstants.Default.REJECTED,
+                List.of(ImportConstants.Default.YEAR_MONTH)));
+
+    csvImportService.importExpenses(csv);
+
+    ArgumentCaptor<TransactionsImportedEvent> captor =
+        ArgumentCaptor.forClass(TransactionsImportedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertEquals(List.of(ImportConstants.Default.YEAR_MONTH), captor.getValue().getMonths());
+  }
+
+  @Test
+  @DisplayName("Should not publish anything when no record was imported")
+  void importIncomes_withNothingImported_publishesNothing() {
+    when(csvImportWriter.importIncomes(csv))
+        .thenReturn(
+            ImportResponse.of(
+                ImportConstants.Default.IMPORT_ID, 0, ImportConstants.Default.REJECTED, List.of()));
+
+    csvImportService.importIncomes(csv);
+
+    verifyNoInteractions(eventPublisher);
+  }
+}
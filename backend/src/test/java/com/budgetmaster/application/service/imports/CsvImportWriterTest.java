@@ -0,0 +1,162 @@
+package com.budgetmaster.application.service.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.ImportResponse;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.projection.ImportedMonthTotal;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.constants.database.ColumnConstraints;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.ImportConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("CSV Import Writer Tests")
+class CsvImportWriterTest {
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final CsvCopyLoader csvCopyLoader = mock(CsvCopyLoader.class);
+  private final CsvImportWriter csvImportWriter =
+      new CsvImportWriter(
+          incomeRepository, expenseRepository, budgetLedger, fxRateService, csvCopyLoader);
+
+  private final InputStream csv =
+      new ByteArrayInputStream(ImportConstants.Expenses.CSV.getBytes(StandardCharsets.UTF_8));
+
+  @BeforeEach
+  void setUp() {
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+  }
+
+  @Test
+  @DisplayName("Should stage, validate against the enums and merge the expense file")
+  void importExpenses_withFile_runsSetBasedSteps() {
+    when(expenseRepository.rejectInvalidImportRows(
+            anyString(),
+            eq(ImportConstants.Allowed.CATEGORIES),
+            eq(ImportConstants.Allowed.CURRENCIES),
+            eq(ImportConstants.Allowed.CURRENCY_MESSAGE),
+            eq(ImportConstants.Allowed.TYPES),
+            eq(ImportConstants.Default.MONTH_PATTERN)))
+        .thenReturn(ImportConstants.Default.REJECTED);
+
+    ImportResponse response = csvImportWriter.importExpenses(csv);
+
+    String importId = response.getImportId().toString();
+    verify(csvCopyLoader).copy(ExpenseRepository.COPY_IMPORT_STAGING, response.getImportId(), csv);
+    verify(expenseRepository)
+        .mergeImportedRows(
+            importId,
+            ColumnConstraints.Id.ALLOCATION_SIZE,
+            FxConstants.Default.JOINED_CURRENCY_CODES,
+            FxConstants.Default.JOINED_RATES);
+    assertEquals(ImportConstants.Default.REJECTED, response.getRejected());
+  }
+
+  @Test
+  @DisplayName("Should record each month's total of the merged base amounts in the ledger once")
+  void importExpenses_withSeveralCurrencies_recordsOneEntryPerMonth() {
+    when(expenseRepository.mergeImportedRows(anyString(), anyInt(), anyString(), anyString()))
+        .thenReturn(
+            List.of(
+                total(
+                    ImportConstants.Default.YEAR_MONTH.toString(),
+                    MoneyConstants.EUR.getCurrencyCode(),
+                    FxConstants.Conversion.EUR_AMOUNT,
+                    FxConstants.Conversion.EUR_IN_GBP),
+                total(
+                    ImportConstants.Default.YEAR_MONTH.toString(),
+                    MoneyConstants.GBP.getCurrencyCode(),
+                    FxConstants.Conversion.GBP_AMOUNT)));
+
+    ImportResponse response = csvImportWriter.importExpenses(csv);
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.EXPENSE,
+            Map.of(
+                ImportConstants.Default.YEAR_MONTH,
+                FxConstants.Conversion.GBP_AMOUNT.add(FxConstants.Conversion.EUR_IN_GBP)),
+            FxConstants.BASE_CURRENCY);
+    assertEquals(ImportConstants.Default.IMPORTED, response.getImported());
+    assertEquals(List.of(ImportConstants.Default.YEAR_MONTH), response.getMonths());
+  }
+
+  @Test
+  @DisplayName("Should record every month the file touched")
+  void importIncomes_withSeveralMonths_recordsEveryMonth() {
+    when(incomeRepository.mergeImportedRows(anyString(), anyInt(), anyString(), anyString()))
+        .thenReturn(
+            List.of(
+                total(
+                    ImportConstants.Default.YEAR_MONTH.toString(),
+                    MoneyConstants.GBP.getCurrencyCode(),
+                    FxConstants.Conversion.GBP_AMOUNT),
+                total(
+                    ImportConstants.Default.NEXT_YEAR_MONTH.toString(),
+                    MoneyConstants.GBP.getCurrencyCode(),
+                    FxConstants.Conversion.GBP_AMOUNT)));
+
+    ImportResponse response = csvImportWriter.importIncomes(csv);
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.INCOME,
+            Map.of(
+                ImportConstants.Default.YEAR_MONTH,
+                FxConstants.Conversion.GBP_AMOUNT,
+                ImportConstants.Default.NEXT_YEAR_MONTH,
+                FxConstants.Conversion.GBP_AMOUNT),
+            FxConstants.BASE_CURRENCY);
+    assertEquals(
+        List.of(ImportConstants.Default.YEAR_MONTH, ImportConstants.Default.NEXT_YEAR_MONTH),
+        response.getMonths());
+  }
+
+  @Test
+  @DisplayName("Should leave the ledger untouched when every record was rejected")
+  void importIncomes_withNothingMerged_skipsLedger() {
+    when(incomeRepository.mergeImportedRows(anyString(), anyInt(), anyString(), anyString()))
+        .thenReturn(List.of());
+
+    ImportResponse response = csvImportWriter.importIncomes(csv);
+
+    assertEquals(0, response.getImported());
+    assertTrue(response.getMonths().isEmpty());
+    verifyNoInteractions(budgetLedger);
+  }
+
+  /** A total of rows in the base currency, whose base amounts equal their amounts. */
+  private ImportedMonthTotal total(String month, String currency, BigDecimal insertedTotal) {
+    return total(month, currency, insertedTotal, insertedTotal);
+  }
+
+  private ImportedMonthTotal total(
+      String month, String currency, BigDecimal insertedTotal, BigDecimal insertedBaseTotal) {
+    ImportedMonthTotal total = mock(ImportedMonthTotal.class);
+    when(total.getMonth()).thenReturn(month);
+    when(total.getCurrency()).thenReturn(currency);
+    when(total.getInsertedCount()).thenReturn(1L);
+    when(total.getInsertedTotal()).thenReturn(insertedTotal);
+    when(total.getInsertedBaseTotal()).thenReturn(insertedBaseTotal);
+    return total;
+  }
+}
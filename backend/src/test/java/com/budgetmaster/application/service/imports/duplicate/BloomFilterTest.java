@@ -0,0 +1,71 @@
+package com.budgetmaster.application.service.imports.duplicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.testsupport.constants.domain.DuplicateConstants;
+
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest {
+
+  private final BloomFilter bloomFilter =
+      BloomFilter.withCapacity(
+          DuplicateConstants.Bloom.CAPACITY, DuplicateConstants.Default.FALSE_POSITIVE_RATE);
+
+  @Test
+  @DisplayName("Should report every key that was put")
+  void mightContain_withPutKeys_returnsTrue() {
+    fill(DuplicateConstants.Bloom.CAPACITY);
+
+    for (int i = 0; i < DuplicateConstants.Bloom.CAPACITY; i++) {
+      assertTrue(bloomFilter.mightContain(DuplicateConstants.Bloom.KEY_PREFIX + i));
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep false positives near the rate it was sized for")
+  void mightContain_withUnknownKeys_rarelyReturnsTrue() {
+    fill(DuplicateConstants.Bloom.CAPACITY);
+
+    int falsePositives = 0;
+    for (int i = 0; i < DuplicateConstants.Bloom.PROBES; i++) {
+      if (bloomFilter.mightContain(DuplicateConstants.Bloom.PROBE_PREFIX + i)) {
+        falsePositives++;
+      }
+    }
+
+    double rate = (double) falsePositives / DuplicateConstants.Bloom.PROBES;
+    assertTrue(rate < DuplicateConstants.Bloom.MAX_OBSERVED_FALSE_POSITIVE_RATE);
+  }
+
+  @Test
+  @DisplayName("Should report nothing while empty")
+  void mightContain_whenEmpty_returnsFalse() {
+    assertFalse(bloomFilter.mightContain(DuplicateConstants.Default.NAME));
+  }
+
+  @Test
+  @DisplayName("Should be saturated only once more keys than its capacity were put")
+  void isSaturated_pastCapacity_returnsTrue() {
+    fill(DuplicateConstants.Bloom.CAPACITY);
+    assertFalse(bloomFilter.isSaturated());
+
+    bloomFilter.put(DuplicateConstants.Default.NAME);
+
+    assertTrue(bloomFilter.isSaturated());
+  }
+
+  @Test
+  @DisplayName("Should reject a false-positive rate outside (0, 1)")
+  void withCapacity_withInvalidRate_throws() {
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.withCapacity(1, 1.0));
+  }
+
+  private void fill(int keys) {
+    for (int i = 0; i < keys; i++) {
+      bloomFilter.put(DuplicateConstants.Bloom.KEY_PREFIX + i);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.budgetmaster.application.service.imports.duplicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.event.IncomeChangedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.TransactionFingerprint;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
+import com.budgetmaster.testsupport.builder.model.MoneyBuilder;
+import com.budgetmaster.testsupport.constants.domain.DuplicateConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("Duplicate Transaction Filter Tests")
+class DuplicateTransactionFilterTest {
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final DuplicateTransactionFilter duplicateTransactionFilter =
+      new DuplicateTransactionFilter(
+          incomeRepository, expenseRepository, DuplicateConstants.Default.FALSE_POSITIVE_RATE);
+
+  @Nested
+  @DisplayName("Scan Operations")
+  class ScanOperations {
+
+    @Test
+    @DisplayName("Should pass new entries without counting them in the database")
+    void isDuplicateExpense_withNewFingerprint_skipsDatabase() {
+      storeExpenses(fingerprint(DuplicateConstants.Default.OTHER_NAME));
+
+      DuplicateScan scan = duplicateTransactionFilter.startScan();
+
+      assertFalse(
+          scan.isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME)));
+      verify(expenseRepository, never()).countByFingerprint(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should flag as many repeats as are stored and pass the rest")
+    void isDuplicateExpense_withRepeatsInFile_matchesOneForOne() {
+      storeExpenses(fingerprint(DuplicateConstants.Default.NAME));
+      when(expenseRepository.countByFingerprint(
+              DuplicateConstants.Default.YEAR_MONTH,
+              TransactionType.ONE_TIME,
+              DuplicateConstants.Default.NAME,
+              DuplicateConstants.Default.AMOUNT,
+              MoneyConstants.GBP))
+          .thenReturn(1L);
+      DuplicateScan scan = duplicateTransactionFilter.startScan();
+      TransactionFingerprint entry = fingerprint(DuplicateConstants.Default.NAME);
+
+      assertTrue(scan.isDuplicateExpense(DuplicateConstants.Default.YEAR_MONTH, entry));
+      assertFalse(scan.isDuplicateExpense(DuplicateConstants.Default.YEAR_MONTH, entry));
+      assertFalse(scan.isDuplicateExpense(DuplicateConstants.Default.YEAR_MONTH, entry));
+      verify(expenseRepository, times(1)).countByFingerprint(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should pass a false positive that the database does not hold")
+    void isDuplicateExpense_withFalsePositive_passesEntry() {
+      storeExpenses(fingerprint(DuplicateConstants.Default.NAME));
+      DuplicateScan scan = duplicateTransactionFilter.startScan();
+
+      assertFalse(
+          scan.isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME)));
+    }
+
+    @Test
+    @DisplayName("Should treat amounts of equal value as the same fingerprint")
+    void isDuplicateIncome_withRescaledAmount_isDuplicate() {
+      when(incomeRepository.findFingerprintsByMonth(DuplicateConstants.Default.YEAR_MONTH))
+          .thenReturn(List.of(fingerprint(DuplicateConstants.Default.NAME)));
+      when(incomeRepository.countByFingerprint(any(), any(), any(), any(), any())).thenReturn(1L);
+      TransactionFingerprint rescaled =
+          new TransactionFingerprint(
+              DuplicateConstants.Default.NAME,
+              DuplicateConstants.Default.UNSCALED_AMOUNT,
+              MoneyConstants.GBP,
+              TransactionType.ONE_TIME);
+
+      DuplicateScan scan = duplicateTransactionFilter.startScan();
+
+      assertTrue(scan.isDuplicateIncome(DuplicateConstants.Default.YEAR_MONTH, rescaled));
+    }
+
+    @Test
+    @DisplayName("Should load each month's filter once and share it between scans")
+    void startScan_twice_loadsMonthOnce() {
+      storeExpenses();
+
+      duplicateTransactionFilter
+          .startScan()
+          .isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+      duplicateTransactionFilter
+          .startScan()
+          .isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+
+      verify(expenseRepository, times(1))
+          .findFingerprintsByMonth(DuplicateConstants.Default.YEAR_MONTH);
+      verifyNoInteractions(incomeRepository);
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Event Operations")
+  class ChangeEventOperations {
+
+    @Test
+    @DisplayName("Should add created expenses to a loaded month")
+    void onExpenseChanged_withCreatedExpense_addsFingerprint() {
+      storeExpenses();
+      DuplicateScan loading = duplicateTransactionFilter.startScan();
+      loading.isDuplicateExpense(
+          DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+
+      duplicateTransactionFilter.onExpenseChanged(ExpenseChangedEvent.created(expense()));
+
+      duplicateTransactionFilter
+          .startScan()
+          .isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+      verify(expenseRepository).countByFingerprint(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should add created incomes to a loaded month")
+    void onIncomeChanged_withCreatedIncome_addsFingerprint() {
+      DuplicateScan loading = duplicateTransactionFilter.startScan();
+      loading.isDuplicateIncome(
+          DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+
+      duplicateTransactionFilter.onIncomeChanged(IncomeChangedEvent.created(income()));
+
+      duplicateTransactionFilter
+          .startScan()
+          .isDuplicateIncome(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+      verify(incomeRepository).countByFingerprint(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not load a month just because one of its expenses changed")
+    void onExpenseChanged_withUnloadedMonth_loadsNothing() {
+      duplicateTransactionFilter.onExpenseChanged(ExpenseChangedEvent.created(expense()));
+
+      verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("Should rebuild months written by an import")
+    void onTransactionsImported_withLoadedMonth_reloadsIt() {
+      storeExpenses();
+      scanDefaultMonth();
+
+      duplicateTransactionFilter.onTransactionsImported(
+          TransactionsImportedEvent.of(List.of(DuplicateConstants.Default.YEAR_MONTH)));
+      scanDefaultMonth();
+
+      verify(expenseRepository, times(2))
+          .findFingerprintsByMonth(DuplicateConstants.Default.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the month recurring transactions were copied into")
+    void onRecurringTransactionsMaterialized_withLoadedMonth_reloadsIt() {
+      storeExpenses();
+      scanDefaultMonth();
+
+      duplicateTransactionFilter.onRecurringTransactionsMaterialized(
+          RecurringTransactionsMaterializedEvent.of(DuplicateConstants.Default.OTHER_YEAR_MONTH));
+      scanDefaultMonth();
+      duplicateTransactionFilter.onRecurringTransactionsMaterialized(
+          RecurringTransactionsMaterializedEvent.of(DuplicateConstants.Default.YEAR_MONTH));
+      scanDefaultMonth();
+
+      verify(expenseRepository, times(2))
+          .findFingerprintsByMonth(DuplicateConstants.Default.YEAR_MONTH);
+    }
+
+    private void scanDefaultMonth() {
+      duplicateTransactionFilter
+          .startScan()
+          .isDuplicateExpense(
+              DuplicateConstants.Default.YEAR_MONTH, fingerprint(DuplicateConstants.Default.NAME));
+    }
+  }
+
+  private void storeExpenses(TransactionFingerprint... fingerprints) {
+    when(expenseRepository.findFingerprintsByMonth(DuplicateConstants.Default.YEAR_MONTH))
+        .thenReturn(List.of(fingerprints));
+  }
+
+  private TransactionFingerprint fingerprint(String name) {
+    return new TransactionFingerprint(
+        name, DuplicateConstants.Default.AMOUNT, MoneyConstants.GBP, TransactionType.ONE_TIME);
+  }
+
+  private Expense expense() {
+    return ExpenseBuilder.defaultExpense()
+        .withName(DuplicateConstants.Default.NAME)
+        .withMoney(moneyOfDefaultAmount())
+        .withType(TransactionType.ONE_TIME)
+        .withMonth(DuplicateConstants.Default.YEAR_MONTH)
+        .build();
+  }
+
+  private Income income() {
+    return IncomeBuilder.defaultIncome()
+        .withName(DuplicateConstants.Default.NAME)
+        .withMoney(moneyOfDefaultAmount())
+        .withType(TransactionType.ONE_TIME)
+        .withMonth(DuplicateConstants.Default.YEAR_MONTH)
+        .build();
+  }
+
+  private Money moneyOfDefaultAmount() {
+    return MoneyBuilder.defaultExpense()
+        .withAmount(DuplicateConstants.Default.AMOUNT)
+        .withCurrency(MoneyConstants.GBP)
+        .build();
+  }
+}
@@ -0,0 +1,80 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.StatementConstants;
+
+@DisplayName("CAMT.053 Statement Reader Tests")
+class CamtStatementReaderTest {
+
+  private final CamtStatementReader camtStatementReader = new CamtStatementReader();
+
+  @Test
+  @DisplayName("Should read entry-level amounts, direction and booking date, ignoring balances")
+  void read_withStatement_emitsOneEntryPerNtry() {
+    List<StatementEntry> entries = read(StatementConstants.Camt.STATEMENT);
+
+    assertEquals(StatementConstants.Camt.ENTRIES, entries.size());
+    StatementEntry debit = entries.get(0);
+    assertFalse(debit.isCredit());
+    assertEquals(StatementConstants.Default.AMOUNT, debit.getAmount());
+    assertEquals(MoneyConstants.EUR, debit.getCurrency());
+    assertEquals(StatementConstants.Default.BOOKING_DATE, debit.getBookingDate());
+    StatementEntry credit = entries.get(1);
+    assertTrue(credit.isCredit());
+    assertEquals(StatementConstants.Default.SALARY, credit.getAmount());
+    assertEquals(StatementConstants.Default.NEXT_MONTH_BOOKING_DATE, credit.getBookingDate());
+  }
+
+  @Test
+  @DisplayName("Should take the creditor of a debit and the debtor of a credit as counterparty")
+  void read_withRelatedParties_picksCounterpartyByDirection() {
+    List<StatementEntry> entries = read(StatementConstants.Camt.STATEMENT);
+
+    assertEquals(StatementConstants.Default.COUNTERPARTY, entries.get(0).getCounterparty());
+    assertEquals(StatementConstants.Default.EMPLOYER, entries.get(1).getCounterparty());
+  }
+
+  @Test
+  @DisplayName("Should use the first remittance line, else the additional entry information")
+  void read_withRemittanceInformation_setsDescription() {
+    List<StatementEntry> entries = read(StatementConstants.Camt.STATEMENT);
+
+    assertEquals(StatementConstants.Default.DESCRIPTION, entries.get(0).getDescription());
+    assertEquals(StatementConstants.Default.PAYROLL, entries.get(1).getDescription());
+  }
+
+  @Test
+  @DisplayName("Should fall back to the value date when there is no booking date")
+  void read_withOnlyValueDate_usesValueDate() {
+    StatementEntry entry = read(StatementConstants.Camt.STATEMENT).get(2);
+
+    assertEquals(StatementConstants.Default.BOOKING_DATE, entry.getBookingDate());
+    assertEquals(StatementConstants.Camt.VALUE_DATED_AMOUNT, entry.getAmount());
+    assertNull(entry.getCounterparty());
+  }
+
+  @Test
+  @DisplayName("Should reject a document that is not well-formed XML")
+  void read_withMalformedXml_throwsInvalidImportFile() {
+    assertThrows(InvalidImportFileException.class, () -> read(StatementConstants.Camt.MALFORMED));
+  }
+
+  private List<StatementEntry> read(String statement) {
+    InputStream input = new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8));
+    List<StatementEntry> entries = new ArrayList<>();
+    camtStatementReader.read(input, entries::add);
+    return entries;
+  }
+}
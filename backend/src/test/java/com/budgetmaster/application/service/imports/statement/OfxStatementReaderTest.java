@@ -0,0 +1,75 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.StatementConstants;
+
+@DisplayName("OFX Statement Reader Tests")
+class OfxStatementReaderTest {
+
+  private final OfxStatementReader ofxStatementReader = new OfxStatementReader();
+
+  @Test
+  @DisplayName("Should read SGML transactions without end tags and map the sign to direction")
+  void read_withSgmlStatement_emitsTransactions() {
+    List<StatementEntry> entries = read(StatementConstants.Ofx.SGML_STATEMENT);
+
+    assertEquals(2, entries.size());
+    StatementEntry debit = entries.get(0);
+    assertFalse(debit.isCredit());
+    assertEquals(StatementConstants.Default.AMOUNT, debit.getAmount());
+    assertEquals(MoneyConstants.EUR, debit.getCurrency());
+    assertEquals(StatementConstants.Default.BOOKING_DATE, debit.getBookingDate());
+    assertEquals(StatementConstants.Default.COUNTERPARTY, debit.getCounterparty());
+    assertEquals(StatementConstants.Ofx.ESCAPED_MEMO, debit.getDescription());
+    StatementEntry credit = entries.get(1);
+    assertTrue(credit.isCredit());
+    assertEquals(StatementConstants.Default.SALARY, credit.getAmount());
+    assertEquals(StatementConstants.Default.NEXT_MONTH_BOOKING_DATE, credit.getBookingDate());
+  }
+
+  @Test
+  @DisplayName("Should prefer a transaction's own currency over the statement default")
+  void read_withTransactionCurrency_overridesDefault() {
+    StatementEntry credit = read(StatementConstants.Ofx.SGML_STATEMENT).get(1);
+
+    assertEquals(MoneyConstants.GBP, credit.getCurrency());
+  }
+
+  @Test
+  @DisplayName("Should read the XML flavour of OFX the same way")
+  void read_withXmlStatement_emitsTransactions() {
+    List<StatementEntry> entries = read(StatementConstants.Ofx.XML_STATEMENT);
+
+    assertEquals(1, entries.size());
+    StatementEntry debit = entries.get(0);
+    assertFalse(debit.isCredit());
+    assertEquals(StatementConstants.Default.AMOUNT, debit.getAmount());
+    assertEquals(MoneyConstants.EUR, debit.getCurrency());
+    assertEquals(StatementConstants.Default.COUNTERPARTY, debit.getCounterparty());
+  }
+
+  @Test
+  @DisplayName("Should reject a file that ends inside a tag")
+  void read_withUnterminatedTag_throwsInvalidImportFile() {
+    assertThrows(InvalidImportFileException.class, () -> read(StatementConstants.Ofx.UNTERMINATED));
+  }
+
+  private List<StatementEntry> read(String statement) {
+    InputStream input = new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8));
+    List<StatementEntry> entries = new ArrayList<>();
+    ofxStatementReader.read(input, entries::add);
+    return entries;
+  }
+}
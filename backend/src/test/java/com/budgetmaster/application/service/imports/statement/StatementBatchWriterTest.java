@@ -0,0 +1,141 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.categorization.ExpenseCategorizer;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.StatementConstants;
+
+@DisplayName("Statement Batch Writer Tests")
+class StatementBatchWriterTest {
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final ExpenseCategorizer expenseCategorizer = mock(ExpenseCategorizer.class);
+  private final StatementBatchWriter statementBatchWriter =
+      new StatementBatchWriter(
+          incomeRepository, expenseRepository, budgetLedger, fxRateService, expenseCategorizer);
+
+  @BeforeEach
+  void setUp() {
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+    when(expenseCategorizer.categorize(anyString())).thenReturn(ExpenseCategory.MISCELLANEOUS);
+  }
+
+  @Test
+  @DisplayName("Should save debits as one-time expenses named after the payee and categorized")
+  void writeBatch_withDebit_savesExpense() {
+    when(expenseCategorizer.categorize(StatementConstants.Default.NORMALIZED_COUNTERPARTY))
+        .thenReturn(ExpenseCategory.DINING_OUT);
+
+    statementBatchWriter.writeBatch(List.of(debit()));
+
+    Expense expense = savedExpenses().get(0);
+    assertEquals(StatementConstants.Default.NORMALIZED_COUNTERPARTY, expense.getName());
+    assertEquals(ExpenseCategory.DINING_OUT, expense.getCategory());
+    assertEquals(TransactionType.ONE_TIME, expense.getType());
+    assertEquals(StatementConstants.Default.YEAR_MONTH, expense.getMonth());
+    assertEquals(StatementConstants.Default.AMOUNT, expense.getBaseAmount());
+  }
+
+  @Test
+  @DisplayName("Should save credits as incomes from the payer, named by their description")
+  void writeBatch_withCredit_savesIncome() {
+
+    statementBatchWriter.writeBatch(List.of(credit()));
+
+    Income income = savedIncomes().get(0);
+    assertEquals(StatementConstants.Default.NORMALIZED_PAYROLL, income.getName());
+    assertEquals(StatementConstants.Default.NORMALIZED_EMPLOYER, income.getSource());
+    assertEquals(TransactionType.ONE_TIME, income.getType());
+  }
+
+  @Test
+  @DisplayName("Should fall back to a fixed name when the entry has no text at all")
+  void writeBatch_withoutText_usesFixedName() {
+    StatementEntry entry =
+        new StatementEntry(
+            StatementConstants.Default.BOOKING_DATE,
+            false,
+            StatementConstants.Default.AMOUNT,
+            MoneyConstants.GBP,
+            null,
+            null);
+
+    statementBatchWriter.writeBatch(List.of(entry));
+
+    assertEquals(StatementConstants.Default.UNNAMED, savedExpenses().get(0).getName());
+  }
+
+  @Test
+  @DisplayName("Should record both directions for the month once each, in the base currency")
+  void writeBatch_withBothDirections_recordsOneEntryPerKind() {
+    statementBatchWriter.writeBatch(List.of(debit(), credit()));
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.EXPENSE,
+            Map.of(StatementConstants.Default.YEAR_MONTH, FxConstants.Conversion.EUR_IN_GBP),
+            FxConstants.BASE_CURRENCY);
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.INCOME,
+            Map.of(StatementConstants.Default.YEAR_MONTH, StatementConstants.Default.SALARY),
+            FxConstants.BASE_CURRENCY);
+  }
+
+  private StatementEntry debit() {
+    return new StatementEntry(
+        StatementConstants.Default.BOOKING_DATE,
+        false,
+        FxConstants.Conversion.EUR_AMOUNT,
+        MoneyConstants.EUR,
+        StatementConstants.Default.COUNTERPARTY,
+        StatementConstants.Default.DESCRIPTION);
+  }
+
+  private StatementEntry credit() {
+    return new StatementEntry(
+        StatementConstants.Default.BOOKING_DATE,
+        true,
+        StatementConstants.Default.SALARY,
+        MoneyConstants.GBP,
+        StatementConstants.Default.EMPLOYER,
+        StatementConstants.Default.PAYROLL);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Expense> savedExpenses() {
+    ArgumentCaptor<List<Expense>> captor = ArgumentCaptor.forClass(List.class);
+    verify(expenseRepository).saveAll(captor.capture());
+    return captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Income> savedIncomes() {
+    ArgumentCaptor<List<Income>> captor = ArgumentCaptor.forClass(List.class);
+    verify(incomeRepository).saveAll(captor.capture());
+    return captor.getValue();
+  }
+}
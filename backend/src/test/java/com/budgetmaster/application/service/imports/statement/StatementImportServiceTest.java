@@ -0,0 +1,199 @@
+package com.budgetmaster.application.service.imports.statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.dto.StatementImportResponse;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.event.TransactionsImportedEvent;
+import com.budgetmaster.application.exception.InvalidImportFileException;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.imports.duplicate.DuplicateTransactionFilter;
+import com.budgetmaster.testsupport.constants.domain.DuplicateConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.StatementConstants;
+
+@DisplayName("Statement Import Service Tests")
+class StatementImportServiceTest {
+
+  private final CamtStatementReader camtStatementReader = mock(CamtStatementReader.class);
+  private final OfxStatementReader ofxStatementReader = mock(OfxStatementReader.class);
+  private final StatementBatchWriter statementBatchWriter = mock(StatementBatchWriter.class);
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final StatementImportService statementImportService =
+      new StatementImportService(
+          camtStatementReader,
+          ofxStatementReader,
+          statementBatchWriter,
+          new DuplicateTransactionFilter(
+              incomeRepository, expenseRepository, DuplicateConstants.Default.FALSE_POSITIVE_RATE),
+          eventPublisher,
+          StatementConstants.Default.BATCH_SIZE);
+
+  private final InputStream statement = new ByteArrayInputStream(new byte[0]);
+
+  @Test
+  @DisplayName("Should write full batches as they fill up and the remainder at the end")
+  void importCamt053_withMoreEntriesThanBatchSize_writesInBatches() {
+    List<Integer> batchSizes = new ArrayList<>();
+    doAnswer(invocation -> batchSizes.add(invocation.<List<?>>getArgument(0).size()))
+        .when(statementBatchWriter)
+        .writeBatch(anyList());
+    emit(camtStatementReader, debit(), debit(), credit());
+
+    StatementImportResponse response = statementImportService.importCamt053(statement);
+
+    assertEquals(List.of(2, 1), batchSizes);
+    assertEquals(1, response.getIncomes());
+    assertEquals(2, response.getExpenses());
+  }
+
+  @Test
+  @DisplayName("Should skip and count entries that cannot be imported")
+  void importOfx_withIncompleteEntries_skipsThem() {
+    StatementEntry withoutDate =
+        new StatementEntry(
+            null, false, StatementConstants.Default.AMOUNT, MoneyConstants.GBP, null, null);
+    StatementEntry zeroAmount =
+        new StatementEntry(
+            StatementConstants.Default.BOOKING_DATE,
+            false,
+            BigDecimal.ZERO,
+            MoneyConstants.GBP,
+            null,
+            null);
+    emit(ofxStatementReader, withoutDate, zeroAmount, debit());
+
+    StatementImportResponse response = statementImportService.importOfx(statement);
+
+    assertEquals(2, response.getSkipped());
+    assertEquals(1, response.getExpenses());
+  }
+
+  @Test
+  @DisplayName("Should leave out and count entries that are already recorded")
+  void importCamt053_withRecordedEntry_skipsDuplicate() {
+    when(expenseRepository.findFingerprintsByMonth(StatementConstants.Default.YEAR_MONTH))
+        .thenReturn(List.of(debit().toFingerprint()));
+    when(expenseRepository.countByFingerprint(
+            StatementConstants.Default.YEAR_MONTH,
+            TransactionType.ONE_TIME,
+            StatementConstants.Default.NORMALIZED_COUNTERPARTY,
+            StatementConstants.Default.AMOUNT,
+            MoneyConstants.GBP))
+        .thenReturn(1L);
+    emit(camtStatementReader, debit(), debit(), credit());
+
+    StatementImportResponse response = statementImportService.importCamt053(statement);
+
+    assertEquals(1, response.getDuplicates());
+    assertEquals(1, response.getExpenses());
+    assertEquals(1, response.getIncomes());
+  }
+
+  @Test
+  @DisplayName("Should announce every imported month once the file has been read")
+  void importCamt053_withEntries_publishesMonths() {
+    emit(camtStatementReader, debit(), nextMonthDebit());
+
+    StatementImportResponse response = statementImportService.importCamt053(statement);
+
+    ArgumentCaptor<TransactionsImportedEvent> captor =
+        ArgumentCaptor.forClass(TransactionsImportedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    List<YearMonth> months =
+        List.of(StatementConstants.Default.YEAR_MONTH, StatementConstants.Default.NEXT_YEAR_MONTH);
+    assertEquals(months, captor.getValue().getMonths());
+    assertEquals(months, response.getMonths());
+  }
+
+  @Test
+  @DisplayName("Should keep and announce batches written before the file turned out unreadable")
+  void importOfx_withUnreadableTail_keepsCommittedBatches() {
+    doAnswer(
+            invocation -> {
+              Consumer<StatementEntry> entries = invocation.getArgument(1);
+              entries.accept(debit());
+              entries.accept(debit());
+              entries.accept(debit());
+              throw new InvalidImportFileException(StatementConstants.Ofx.UNTERMINATED);
+            })
+        .when(ofxStatementReader)
+        .read(any(), any());
+
+    assertThrows(
+        InvalidImportFileException.class, () -> statementImportService.importOfx(statement));
+
+    verify(statementBatchWriter, times(1)).writeBatch(anyList());
+    verify(eventPublisher).publishEvent(any(TransactionsImportedEvent.class));
+  }
+
+  @Test
+  @DisplayName("Should not publish anything when no entry was imported")
+  void importOfx_withNothingImported_publishesNothing() {
+    emit(ofxStatementReader);
+
+    statementImportService.importOfx(statement);
+
+    verifyNoInteractions(statementBatchWriter, eventPublisher);
+  }
+
+  private void emit(StatementReader reader, StatementEntry... entries) {
+    doAnswer(
+            invocation -> {
+              Consumer<StatementEntry> consumer = invocation.getArgument(1);
+              for (StatementEntry entry : entries) {
+                consumer.accept(entry);
+              }
+              return null;
+            })
+        .when(reader)
+        .read(any(), any());
+  }
+
+  private StatementEntry debit() {
+    return new StatementEntry(
+        StatementConstants.Default.BOOKING_DATE,
+        false,
+        StatementConstants.Default.AMOUNT,
+        MoneyConstants.GBP,
+        StatementConstants.Default.COUNTERPARTY,
+        null);
+  }
+
+  private StatementEntry nextMonthDebit() {
+    return new StatementEntry(
+        StatementConstants.Default.NEXT_MONTH_BOOKING_DATE,
+        false,
+        StatementConstants.Default.AMOUNT,
+        MoneyConstants.GBP,
+        StatementConstants.Default.COUNTERPARTY,
+        null);
+  }
+
+  private StatementEntry credit() {
+    return new StatementEntry(
+        StatementConstants.Default.BOOKING_DATE,
+        true,
+        StatementConstants.Default.SALARY,
+        MoneyConstants.GBP,
+        StatementConstants.Default.EMPLOYER,
+        null);
+  }
+}
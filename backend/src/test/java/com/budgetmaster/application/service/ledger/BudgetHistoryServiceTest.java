@@ -0,0 +1,211 @@
+package com.budgetmaster.application.service.ledger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.exception.BudgetNotFoundException;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.BudgetHistoryEntry;
+import com.budgetmaster.application.repository.BudgetHistoryRepository;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+@DisplayName("Budget History Service Tests")
+class BudgetHistoryServiceTest {
+
+  private final BudgetHistoryRepository budgetHistoryRepository =
+      mock(BudgetHistoryRepository.class);
+  private final BudgetHistoryService budgetHistoryService =
+      new BudgetHistoryService(budgetHistoryRepository, LedgerConstants.History.KEYFRAME_INTERVAL);
+
+  private Budget defaultBudget;
+
+  @BeforeEach
+  void setUp() {
+    defaultBudget = BudgetBuilder.defaultBudget().build();
+  }
+
+  @Nested
+  @DisplayName("Record Operations")
+  class RecordOperations {
+
+    @Test
+    @DisplayName("Should start a month without history with a keyframe of the full totals")
+    void record_withoutHistory_savesKeyframe() {
+      when(budgetHistoryRepository.findFirstByMonthOrderByVersionDesc(
+              BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(Optional.empty());
+
+      budgetHistoryService.record(defaultBudget, previousIncome(), previousExpense(), false);
+
+      BudgetHistoryEntry entry = savedEntry();
+      assertTrue(entry.isKeyframe());
+      assertEquals(0, entry.getVersion());
+      assertEquals(BudgetConstants.Default.TOTAL_INCOME, entry.getIncome());
+      assertEquals(BudgetConstants.Default.TOTAL_EXPENSE, entry.getExpense());
+      assertEquals(BudgetConstants.Default.CURRENCY, entry.getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should save the change from the previous totals as the next version")
+    void record_withHistory_savesDelta() {
+      latestVersionIs(LedgerConstants.History.LATEST_VERSION);
+
+      budgetHistoryService.record(defaultBudget, previousIncome(), previousExpense(), false);
+
+      BudgetHistoryEntry entry = savedEntry();
+      assertFalse(entry.isKeyframe());
+      assertEquals(LedgerConstants.History.LATEST_VERSION + 1, entry.getVersion());
+      assertEquals(LedgerConstants.History.DELTA_INCOME, entry.getIncome());
+      assertEquals(LedgerConstants.History.DELTA_EXPENSE, entry.getExpense());
+      assertNull(entry.getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should save a keyframe when the keyframe interval is due")
+    void record_withKeyframeDue_savesKeyframe() {
+      latestVersionIs(LedgerConstants.History.VERSION_BEFORE_KEYFRAME);
+
+      budgetHistoryService.record(defaultBudget, previousIncome(), previousExpense(), false);
+
+      BudgetHistoryEntry entry = savedEntry();
+      assertTrue(entry.isKeyframe());
+      assertEquals(LedgerConstants.History.KEYFRAME_INTERVAL, entry.getVersion());
+      assertEquals(BudgetConstants.Default.TOTAL_INCOME, entry.getIncome());
+    }
+
+    @Test
+    @DisplayName("Should save a keyframe when asked to, even between keyframes")
+    void record_withKeyframeRequested_savesKeyframe() {
+      latestVersionIs(LedgerConstants.History.LATEST_VERSION);
+
+      budgetHistoryService.record(
+          defaultBudget,
+          BudgetConstants.Default.TOTAL_INCOME,
+          BudgetConstants.Default.TOTAL_EXPENSE,
+          true);
+
+      BudgetHistoryEntry entry = savedEntry();
+      assertTrue(entry.isKeyframe());
+      assertEquals(BudgetConstants.Default.TOTAL_EXPENSE, entry.getExpense());
+    }
+
+    @Test
+    @DisplayName("Should not record a change that leaves the totals as they were")
+    void record_withUnchangedTotals_savesNothing() {
+      latestVersionIs(LedgerConstants.History.LATEST_VERSION);
+
+      budgetHistoryService.record(
+          defaultBudget,
+          BudgetConstants.Default.TOTAL_INCOME,
+          BudgetConstants.Default.TOTAL_EXPENSE,
+          false);
+
+      verify(budgetHistoryRepository, never()).save(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("As-Of Operations")
+  class AsOfOperations {
+
+    @Test
+    @DisplayName("Should add the changes after the latest keyframe to its totals")
+    void findAsOf_withKeyframeAndDeltas_reconstructsTotals() {
+      BudgetHistoryEntry keyframe =
+          entry(
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE,
+              LedgerConstants.History.KEYFRAME_AT);
+      when(keyframe.getCurrency()).thenReturn(BudgetConstants.Default.CURRENCY);
+      BudgetHistoryEntry delta =
+          entry(
+              LedgerConstants.History.DELTA_INCOME,
+              LedgerConstants.History.DELTA_EXPENSE,
+              LedgerConstants.History.CHANGED_AT);
+      when(budgetHistoryRepository.findLatestKeyframe(
+              BudgetConstants.Default.YEAR_MONTH, LedgerConstants.History.AS_OF))
+          .thenReturn(Optional.of(keyframe));
+      when(budgetHistoryRepository.findChangesBetween(
+              BudgetConstants.Default.YEAR_MONTH,
+              LedgerConstants.History.KEYFRAME_AT,
+              LedgerConstants.History.AS_OF))
+          .thenReturn(List.of(delta));
+
+      BudgetHistoryResponse response =
+          budgetHistoryService.findAsOf(
+              BudgetConstants.Default.YEAR_MONTH, LedgerConstants.History.AS_OF);
+
+      BigDecimal income =
+          BudgetConstants.Default.TOTAL_INCOME.add(LedgerConstants.History.DELTA_INCOME);
+      BigDecimal expense =
+          BudgetConstants.Default.TOTAL_EXPENSE.add(LedgerConstants.History.DELTA_EXPENSE);
+      assertEquals(income, response.getTotalIncome());
+      assertEquals(expense, response.getTotalExpense());
+      assertEquals(income.subtract(expense), response.getSavings());
+      assertEquals(BudgetConstants.Default.CURRENCY, response.getCurrency());
+      assertEquals(LedgerConstants.History.CHANGED_AT, response.getChangedAt());
+      assertEquals(LedgerConstants.History.AS_OF, response.getAsOf());
+    }
+
+    @Test
+    @DisplayName("Should throw when the month has no history before the given moment")
+    void findAsOf_withoutKeyframe_throwsBudgetNotFoundException() {
+      when(budgetHistoryRepository.findLatestKeyframe(any(), any())).thenReturn(Optional.empty());
+
+      assertThrows(
+          BudgetNotFoundException.class,
+          () ->
+              budgetHistoryService.findAsOf(
+                  BudgetConstants.Default.YEAR_MONTH, LedgerConstants.History.AS_OF));
+      verify(budgetHistoryRepository, never()).findChangesBetween(any(), any(), any());
+    }
+  }
+
+  private BigDecimal previousIncome() {
+    return BudgetConstants.Default.TOTAL_INCOME.subtract(LedgerConstants.History.DELTA_INCOME);
+  }
+
+  private BigDecimal previousExpense() {
+    return BudgetConstants.Default.TOTAL_EXPENSE.subtract(LedgerConstants.History.DELTA_EXPENSE);
+  }
+
+  private void latestVersionIs(int version) {
+    when(budgetHistoryRepository.findFirstByMonthOrderByVersionDesc(
+            BudgetConstants.Default.YEAR_MONTH))
+        .thenReturn(
+            Optional.of(
+                BudgetHistoryEntry.delta(
+                    BudgetConstants.Default.YEAR_MONTH,
+                    version,
+                    LedgerConstants.History.DELTA_INCOME,
+                    LedgerConstants.History.DELTA_EXPENSE)));
+  }
+
+  private BudgetHistoryEntry savedEntry() {
+    ArgumentCaptor<BudgetHistoryEntry> captor = ArgumentCaptor.forClass(BudgetHistoryEntry.class);
+    verify(budgetHistoryRepository).save(captor.capture());
+    return captor.getValue();
+  }
+
+  private BudgetHistoryEntry entry(BigDecimal income, BigDecimal expense, LocalDateTime changedAt) {
+    BudgetHistoryEntry entry = mock(BudgetHistoryEntry.class);
+    when(entry.getIncome()).thenReturn(income);
+    when(entry.getExpense()).thenReturn(expense);
+    when(entry.getChangedAt()).thenReturn(changedAt);
+    return entry;
+  }
+}
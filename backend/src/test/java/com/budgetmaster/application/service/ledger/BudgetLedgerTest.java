@@ -0,0 +1,152 @@
+package com.budgetmaster.application.service.ledger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.enums.LedgerEvent;
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.event.LedgerAppendedEvent;
+import com.budgetmaster.application.model.LedgerEntry;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+@DisplayName("Budget Ledger Tests")
+class BudgetLedgerTest {
+
+  private final LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final BudgetLedger budgetLedger = new BudgetLedger(ledgerEntryRepository, eventPublisher);
+
+  @Test
+  @DisplayName("Should append a created entry and announce its month")
+  void recordCreated_withTransaction_appendsEntryAndPublishesMonth() {
+    budgetLedger.recordCreated(
+        LedgerKind.INCOME,
+        LedgerConstants.Default.TRANSACTION_ID,
+        LedgerConstants.Default.YEAR_MONTH,
+        LedgerConstants.Default.AMOUNT,
+        LedgerConstants.Default.CURRENCY);
+
+    LedgerEntry entry = savedEntries().get(0);
+    assertEquals(LedgerEvent.CREATED, entry.getEvent());
+    assertEquals(LedgerKind.INCOME, entry.getKind());
+    assertEquals(LedgerConstants.Default.TRANSACTION_ID, entry.getTransactionId());
+    assertEquals(LedgerConstants.Default.AMOUNT, entry.getAmount());
+    assertEquals(List.of(LedgerConstants.Default.YEAR_MONTH), publishedMonths());
+  }
+
+  @Test
+  @DisplayName("Should reverse the original amount and record the new one in its month")
+  void recordAmended_withNewMonth_appendsReversalAndNewAmount() {
+    budgetLedger.recordAmended(
+        LedgerKind.EXPENSE,
+        LedgerConstants.Default.TRANSACTION_ID,
+        LedgerConstants.Default.NEXT_YEAR_MONTH,
+        LedgerConstants.Default.AMOUNT,
+        LedgerConstants.Default.YEAR_MONTH,
+        LedgerConstants.Default.UPDATED_AMOUNT,
+        LedgerConstants.Default.CURRENCY);
+
+    List<LedgerEntry> entries = savedEntries();
+    assertEquals(LedgerConstants.Default.NEXT_YEAR_MONTH, entries.get(0).getMonth());
+    assertEquals(LedgerConstants.Default.AMOUNT.negate(), entries.get(0).getAmount());
+    assertEquals(LedgerConstants.Default.YEAR_MONTH, entries.get(1).getMonth());
+    assertEquals(LedgerConstants.Default.UPDATED_AMOUNT, entries.get(1).getAmount());
+    assertEquals(LedgerConstants.Default.MONTHS, publishedMonths());
+  }
+
+  @Test
+  @DisplayName("Should append the negated amount when a transaction is deleted")
+  void recordDeleted_withTransaction_appendsNegatedAmount() {
+    budgetLedger.recordDeleted(
+        LedgerKind.EXPENSE,
+        LedgerConstants.Default.TRANSACTION_ID,
+        LedgerConstants.Default.YEAR_MONTH,
+        LedgerConstants.Default.AMOUNT,
+        LedgerConstants.Default.CURRENCY);
+
+    LedgerEntry entry = savedEntries().get(0);
+    assertEquals(LedgerEvent.DELETED, entry.getEvent());
+    assertEquals(LedgerConstants.Default.AMOUNT.negate(), entry.getAmount());
+  }
+
+  @Test
+  @DisplayName("Should append one entry per month without a transaction for bulk writes")
+  void recordImported_withSeveralMonths_appendsOneEntryPerMonth() {
+    budgetLedger.recordImported(
+        LedgerKind.INCOME,
+        Map.of(
+            LedgerConstants.Default.YEAR_MONTH,
+            LedgerConstants.Default.AMOUNT,
+            LedgerConstants.Default.NEXT_YEAR_MONTH,
+            LedgerConstants.Default.UPDATED_AMOUNT),
+        LedgerConstants.Default.CURRENCY);
+
+    List<LedgerEntry> entries = savedEntries();
+    assertEquals(2, entries.size());
+    assertTrue(entries.stream().allMatch(e -> e.getEvent() == LedgerEvent.IMPORTED));
+    assertTrue(entries.stream().allMatch(e -> e.getTransactionId() == null));
+    assertEquals(LedgerConstants.Default.MONTHS, publishedMonths());
+  }
+
+  @Test
+  @DisplayName("Should neither append nor publish when a bulk write has no totals")
+  void recordImported_withoutTotals_doesNothing() {
+    budgetLedger.recordImported(LedgerKind.EXPENSE, Map.of(), LedgerConstants.Default.CURRENCY);
+
+    verifyNoInteractions(ledgerEntryRepository, eventPublisher);
+  }
+
+  @Test
+  @DisplayName("Should reverse a deleted budget's non-zero totals without a transaction")
+  void recordCleared_withExpenseOnly_appendsExpenseReversal() {
+    budgetLedger.recordCleared(
+        LedgerConstants.Default.YEAR_MONTH,
+        BigDecimal.ZERO,
+        LedgerConstants.Default.AMOUNT,
+        LedgerConstants.Default.CURRENCY);
+
+    List<LedgerEntry> entries = savedEntries();
+    assertEquals(1, entries.size());
+    assertEquals(LedgerEvent.CLEARED, entries.get(0).getEvent());
+    assertEquals(LedgerKind.EXPENSE, entries.get(0).getKind());
+    assertNull(entries.get(0).getTransactionId());
+    assertEquals(LedgerConstants.Default.AMOUNT.negate(), entries.get(0).getAmount());
+    assertEquals(List.of(LedgerConstants.Default.YEAR_MONTH), publishedMonths());
+  }
+
+  @Test
+  @DisplayName("Should announce each month once, in order, without appending")
+  void announce_withRepeatedMonths_publishesDistinctSortedMonths() {
+    budgetLedger.announce(
+        LedgerConstants.Default.NEXT_YEAR_MONTH,
+        LedgerConstants.Default.YEAR_MONTH,
+        LedgerConstants.Default.NEXT_YEAR_MONTH);
+
+    assertEquals(LedgerConstants.Default.MONTHS, publishedMonths());
+    verifyNoInteractions(ledgerEntryRepository);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<LedgerEntry> savedEntries() {
+    ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(ledgerEntryRepository).saveAll(captor.capture());
+    return captor.getValue();
+  }
+
+  private List<YearMonth> publishedMonths() {
+    ArgumentCaptor<LedgerAppendedEvent> captor = ArgumentCaptor.forClass(LedgerAppendedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    return captor.getValue().getMonths();
+  }
+}
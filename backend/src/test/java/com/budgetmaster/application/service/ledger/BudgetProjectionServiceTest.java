@@ -0,0 +1,117 @@
+package com.budgetmaster.application.service.ledger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.budgetmaster.application.event.LedgerAppendedEvent;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+@DisplayName("Budget Projection Service Tests")
+class BudgetProjectionServiceTest {
+
+  private final BudgetProjector budgetProjector = mock(BudgetProjector.class);
+  private final LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+  private final BudgetProjectionService budgetProjectionService =
+      new BudgetProjectionService(
+          budgetProjector, ledgerEntryRepository, LedgerConstants.Rebuild.PARALLELISM);
+
+  @Test
+  @DisplayName("Should catch up every month of the event once when the ledger is settled")
+  void onLedgerAppended_withSettledMonths_catchesUpEachMonthOnce() {
+    when(budgetProjector.catchUp(any())).thenReturn(true);
+
+    budgetProjectionService.onLedgerAppended(
+        LedgerAppendedEvent.of(LedgerConstants.Default.MONTHS));
+
+    verify(budgetProjector).catchUp(LedgerConstants.Default.YEAR_MONTH);
+    verify(budgetProjector).catchUp(LedgerConstants.Default.NEXT_YEAR_MONTH);
+  }
+
+  @Test
+  @DisplayName("Should try a month that is behind once and leave it to the background retry")
+  void onLedgerAppended_withMonthBehind_defersToRetry() {
+    YearMonth month = LedgerConstants.Default.YEAR_MONTH;
+    when(budgetProjector.catchUp(month)).thenReturn(false, true);
+
+    budgetProjectionService.onLedgerAppended(LedgerAppendedEvent.of(List.of(month)));
+    verify(budgetProjector).catchUp(month);
+
+    budgetProjectionService.retryDeferred();
+    budgetProjectionService.retryDeferred();
+
+    verify(budgetProjector, times(2)).catchUp(month);
+  }
+
+  @Test
+  @DisplayName("Should defer a month to the background retry when the catch-up fails")
+  void onLedgerAppended_withDatabaseError_defersToRetry() {
+    YearMonth month = LedgerConstants.Default.YEAR_MONTH;
+    when(budgetProjector.catchUp(month))
+        .thenThrow(new QueryTimeoutException(month.toString()))
+        .thenReturn(true);
+
+    budgetProjectionService.onLedgerAppended(LedgerAppendedEvent.of(List.of(month)));
+    budgetProjectionService.retryDeferred();
+
+    verify(budgetProjector, times(2)).catchUp(month);
+  }
+
+  @Test
+  @DisplayName("Should catch up the months the database shows behind the ledger on a sweep")
+  void sweep_withMonthsBehindInDatabase_catchesUpEachMonth() {
+    when(ledgerEntryRepository.findMonthsBehindBudget())
+        .thenReturn(List.of(LedgerConstants.Default.YEAR_MONTH));
+    when(ledgerEntryRepository.findMonthsWithoutBudgetSince(anyLong()))
+        .thenReturn(List.of(LedgerConstants.Default.NEXT_YEAR_MONTH));
+    when(budgetProjector.catchUp(any())).thenReturn(true);
+
+    budgetProjectionService.sweep();
+
+    verify(budgetProjector).catchUp(LedgerConstants.Default.YEAR_MONTH);
+    verify(budgetProjector).catchUp(LedgerConstants.Default.NEXT_YEAR_MONTH);
+    verify(budgetProjector).snapshotAdvancedBudgets();
+  }
+
+  @Test
+  @DisplayName("Should look for months without a budget only past the previous sweep's position")
+  void sweep_afterPreviousSweep_readsEntriesFromSettledPosition() {
+    when(ledgerEntryRepository.findSettledPosition()).thenReturn(LedgerConstants.Positions.SETTLED);
+
+    budgetProjectionService.sweep();
+    budgetProjectionService.sweep();
+
+    verify(ledgerEntryRepository).findMonthsWithoutBudgetSince(0L);
+    verify(ledgerEntryRepository).findMonthsWithoutBudgetSince(LedgerConstants.Positions.SETTLED);
+  }
+
+  @Test
+  @DisplayName("Should rebuild every month in the ledger and return them")
+  void rebuildAll_withLedgerMonths_rebuildsEachMonth() {
+    when(ledgerEntryRepository.findMonths()).thenReturn(LedgerConstants.Default.MONTHS);
+
+    List<YearMonth> months = budgetProjectionService.rebuildAll(false);
+
+    assertEquals(LedgerConstants.Default.MONTHS, months);
+    verify(budgetProjector).rebuild(LedgerConstants.Default.YEAR_MONTH, false);
+    verify(budgetProjector).rebuild(LedgerConstants.Default.NEXT_YEAR_MONTH, false);
+  }
+
+  @Test
+  @DisplayName("Should rethrow the failure of a month's rebuild")
+  void rebuildAll_withFailedMonth_rethrowsFailure() {
+    when(ledgerEntryRepository.findMonths()).thenReturn(LedgerConstants.Default.MONTHS);
+    doThrow(new QueryTimeoutException(LedgerConstants.Default.NEXT_YEAR_MONTH.toString()))
+        .when(budgetProjector)
+        .rebuild(LedgerConstants.Default.NEXT_YEAR_MONTH, true);
+
+    assertThrows(QueryTimeoutException.class, () -> budgetProjectionService.rebuildAll(true));
+  }
+}
@@ -0,0 +1,289 @@
+package com.budgetmaster.application.service.ledger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.BudgetSnapshot;
+import com.budgetmaster.application.projection.LedgerTotal;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.BudgetSnapshotRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.synchronization.BudgetLockService;
+import com.budgetmaster.testsupport.assertions.model.BudgetModelAssertions;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+@DisplayName("Budget Projector Tests")
+class BudgetProjectorTest {
+
+  private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+  private final BudgetLockService budgetLockService = mock(BudgetLockService.class);
+  private final LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+  private final BudgetSnapshotRepository budgetSnapshotRepository =
+      mock(BudgetSnapshotRepository.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final BudgetHistoryService budgetHistoryService = mock(BudgetHistoryService.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final BudgetProjector budgetProjector =
+      new BudgetProjector(
+          budgetRepository,
+          budgetLockService,
+          ledgerEntryRepository,
+          budgetSnapshotRepository,
+          fxRateService,
+          budgetHistoryService,
+          eventPublisher);
+
+  private Budget defaultBudget;
+
+  @BeforeEach
+  void setUp() {
+    defaultBudget = BudgetBuilder.defaultBudget().build();
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+    when(ledgerEntryRepository.findSettledPosition()).thenReturn(LedgerConstants.Positions.SETTLED);
+  }
+
+  @Nested
+  @DisplayName("Catch-Up Operations")
+  class CatchUpOperations {
+
+    @Test
+    @DisplayName("Should fold the settled entries into the budget and move its position")
+    void catchUp_withSettledEntries_foldsIntoBudget() {
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.sumByMonthBetween(
+              BudgetConstants.Default.YEAR_MONTH, 0L, LedgerConstants.Positions.SETTLED))
+          .thenReturn(foldedTotals());
+
+      boolean caughtUp = budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      assertTrue(caughtUp);
+      BudgetModelAssertions.assertBudget(defaultBudget)
+          .hasTotalIncome(BudgetConstants.Default.TOTAL_INCOME.add(LedgerConstants.Folded.INCOME))
+          .hasTotalExpense(
+              BudgetConstants.Default.TOTAL_EXPENSE.add(LedgerConstants.Folded.EXPENSE));
+      assertEquals(LedgerConstants.Positions.SETTLED, defaultBudget.getLedgerPosition());
+      verify(budgetRepository).save(defaultBudget);
+    }
+
+    @Test
+    @DisplayName("Should record the change of the totals in the budget history")
+    void catchUp_withSettledEntries_recordsHistory() {
+      defaultBudget.restore(
+          BudgetConstants.Default.TOTAL_INCOME,
+          BudgetConstants.Default.TOTAL_EXPENSE,
+          LedgerConstants.Positions.BUDGET);
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.sumByMonthBetween(
+              BudgetConstants.Default.YEAR_MONTH,
+              LedgerConstants.Positions.BUDGET,
+              LedgerConstants.Positions.SETTLED))
+          .thenReturn(foldedTotals());
+
+      budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      verify(budgetHistoryService)
+          .record(
+              defaultBudget,
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE,
+              false);
+    }
+
+    @Test
+    @DisplayName("Should publish the change of the totals for the in-memory sums")
+    void catchUp_withSettledEntries_publishesTotalsChange() {
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.sumByMonthBetween(
+              BudgetConstants.Default.YEAR_MONTH, 0L, LedgerConstants.Positions.SETTLED))
+          .thenReturn(foldedTotals());
+
+      budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      ArgumentCaptor<BudgetTotalsChangedEvent> captor =
+          ArgumentCaptor.forClass(BudgetTotalsChangedEvent.class);
+      verify(eventPublisher).publishEvent(captor.capture());
+      assertEquals(BudgetConstants.Default.YEAR_MONTH, captor.getValue().getMonth());
+      assertEquals(LedgerConstants.Folded.INCOME, captor.getValue().getIncomeDelta());
+      assertEquals(LedgerConstants.Folded.EXPENSE, captor.getValue().getExpenseDelta());
+    }
+
+    @Test
+    @DisplayName("Should report the month as behind when it has entries past the settled position")
+    void catchUp_withEntriesPastSettledPosition_returnsFalse() {
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.sumByMonthBetween(any(), anyLong(), anyLong()))
+          .thenReturn(List.of());
+      when(ledgerEntryRepository.existsByMonthAndTxIdGreaterThanEqual(
+              BudgetConstants.Default.YEAR_MONTH, LedgerConstants.Positions.SETTLED))
+          .thenReturn(true);
+
+      assertFalse(budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH));
+    }
+
+    @Test
+    @DisplayName("Should leave the budget untouched when nothing new has settled")
+    void catchUp_withNothingNewSettled_skipsFold() {
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.findSettledPosition()).thenReturn(0L);
+
+      budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      verify(ledgerEntryRepository, never()).sumByMonthBetween(any(), anyLong(), anyLong());
+      verify(budgetRepository, never()).save(any(Budget.class));
+      verify(budgetHistoryService, never()).record(any(), any(), any(), anyBoolean());
+      verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should create the month's budget and start its history with a keyframe")
+    void catchUp_withoutBudget_createsBudget() {
+      Budget zeroedBudget = BudgetBuilder.zeroedBudget().build();
+      when(budgetLockService.lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(new HashMap<>())
+          .thenReturn(new HashMap<>(Map.of(BudgetConstants.Default.YEAR_MONTH, zeroedBudget)));
+      when(ledgerEntryRepository.sumByMonthBetween(any(), anyLong(), anyLong()))
+          .thenReturn(foldedTotals());
+
+      budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      verify(budgetRepository)
+          .insertIfAbsent(
+              BudgetConstants.Default.YEAR_MONTH_STRING,
+              FxConstants.BASE_CURRENCY.getCurrencyCode());
+      verify(budgetRepository).save(zeroedBudget);
+      verify(budgetHistoryService)
+          .record(
+              zeroedBudget,
+              BudgetConstants.ZeroValues.TOTAL_INCOME,
+              BudgetConstants.ZeroValues.TOTAL_EXPENSE,
+              true);
+    }
+
+    @Test
+    @DisplayName("Should not bring back the budget of a month whose entries cancel out")
+    void catchUp_withClearedMonth_createsNoBudget() {
+      when(budgetLockService.lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(new HashMap<>());
+      when(ledgerEntryRepository.sumByMonthBetween(any(), anyLong(), anyLong()))
+          .thenReturn(clearedTotals());
+
+      boolean caughtUp = budgetProjector.catchUp(BudgetConstants.Default.YEAR_MONTH);
+
+      assertTrue(caughtUp);
+      verify(budgetRepository, never()).insertIfAbsent(any(), any());
+      verify(budgetRepository, never()).save(any(Budget.class));
+      verifyNoInteractions(budgetHistoryService, eventPublisher);
+    }
+  }
+
+  @Nested
+  @DisplayName("Rebuild Operations")
+  class RebuildOperations {
+
+    @Test
+    @DisplayName("Should restore the latest snapshot and fold the entries after it")
+    void rebuild_fromSnapshot_foldsFromSnapshotPosition() {
+      lockReturns(defaultBudget);
+      when(budgetSnapshotRepository.findFirstByMonthOrderByLedgerPositionDesc(
+              BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(
+              Optional.of(
+                  BudgetSnapshot.of(
+                      BudgetConstants.Default.YEAR_MONTH,
+                      LedgerConstants.Positions.SNAPSHOT,
+                      LedgerConstants.Folded.SNAPSHOT_INCOME,
+                      LedgerConstants.Folded.SNAPSHOT_EXPENSE,
+                      BudgetConstants.Default.CURRENCY)));
+      when(ledgerEntryRepository.sumByMonthBetween(
+              BudgetConstants.Default.YEAR_MONTH,
+              LedgerConstants.Positions.SNAPSHOT,
+              LedgerConstants.Positions.SETTLED))
+          .thenReturn(foldedTotals());
+
+      budgetProjector.rebuild(BudgetConstants.Default.YEAR_MONTH, true);
+
+      BudgetModelAssertions.assertBudget(defaultBudget)
+          .hasTotalIncome(LedgerConstants.Folded.SNAPSHOT_INCOME.add(LedgerConstants.Folded.INCOME))
+          .hasTotalExpense(
+              LedgerConstants.Folded.SNAPSHOT_EXPENSE.add(LedgerConstants.Folded.EXPENSE));
+      verify(budgetSnapshotRepository, never()).deleteByMonth(any());
+      verify(budgetRepository).save(defaultBudget);
+      verify(budgetHistoryService)
+          .record(
+              defaultBudget,
+              BudgetConstants.Default.TOTAL_INCOME,
+              BudgetConstants.Default.TOTAL_EXPENSE,
+              true);
+    }
+
+    @Test
+    @DisplayName("Should drop the month's snapshots and fold from the first entry")
+    void rebuild_withoutSnapshot_foldsFromFirstEntry() {
+      lockReturns(defaultBudget);
+      when(ledgerEntryRepository.sumByMonthBetween(
+              BudgetConstants.Default.YEAR_MONTH, 0L, LedgerConstants.Positions.SETTLED))
+          .thenReturn(foldedTotals());
+
+      budgetProjector.rebuild(BudgetConstants.Default.YEAR_MONTH, false);
+
+      BudgetModelAssertions.assertBudget(defaultBudget)
+          .hasTotalIncome(LedgerConstants.Folded.INCOME)
+          .hasTotalExpense(LedgerConstants.Folded.EXPENSE)
+          .hasSavings(LedgerConstants.Folded.INCOME.subtract(LedgerConstants.Folded.EXPENSE));
+      verify(budgetSnapshotRepository).deleteByMonth(BudgetConstants.Default.YEAR_MONTH);
+      verify(budgetSnapshotRepository, never()).findFirstByMonthOrderByLedgerPositionDesc(any());
+    }
+
+    @Test
+    @DisplayName("Should leave a month whose entries cancel out without a budget")
+    void rebuild_withClearedMonth_createsNoBudget() {
+      when(budgetLockService.lockInMonthOrder(BudgetConstants.Default.YEAR_MONTH))
+          .thenReturn(new HashMap<>());
+      when(ledgerEntryRepository.sumByMonthBetween(any(), anyLong(), anyLong()))
+          .thenReturn(clearedTotals());
+
+      budgetProjector.rebuild(BudgetConstants.Default.YEAR_MONTH, false);
+
+      verify(budgetRepository, never()).insertIfAbsent(any(), any());
+      verify(budgetRepository, never()).save(any(Budget.class));
+      verifyNoInteractions(budgetSnapshotRepository, budgetHistoryService);
+    }
+  }
+
+  private void lockReturns(Budget budget) {
+    when(budgetLockService.lockInMonthOrder(budget.getMonth()))
+        .thenReturn(new HashMap<>(Map.of(budget.getMonth(), budget)));
+  }
+
+  private List<LedgerTotal> foldedTotals() {
+    return List.of(
+        new LedgerTotal(LedgerKind.INCOME, LedgerConstants.Folded.INCOME),
+        new LedgerTotal(LedgerKind.EXPENSE, LedgerConstants.Folded.EXPENSE));
+  }
+
+  private List<LedgerTotal> clearedTotals() {
+    return List.of(
+        new LedgerTotal(LedgerKind.INCOME, BigDecimal.ZERO),
+        new LedgerTotal(LedgerKind.EXPENSE, BigDecimal.ZERO));
+  }
+}
@@ -0,0 +1,135 @@
+package com.budgetmaster.application.service.recurring;
+
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.enums.LedgerKind;
+import com.budgetmaster.application.projection.RecurringBatchResult;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("Recurring Batch Writer Tests")
+class RecurringBatchWriterTest {
+
+  private static final int BATCH_SIZE = 100;
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final RecurringBatchWriter recurringBatchWriter =
+      new RecurringBatchWriter(incomeRepository, expenseRepository, budgetLedger, fxRateService);
+
+  @BeforeEach
+  void setUp() {
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+  }
+
+  @Test
+  @DisplayName("Should record the aggregated income delta for the target month")
+  void copyIncomeBatch_withInsertedRows_recordsSingleEntry() {
+    when(incomeRepository.materializeRecurringBatch(
+            BudgetConstants.Updated.YEAR_MONTH.toString(),
+            BudgetConstants.Default.YEAR_MONTH.toString(),
+            0L,
+            BATCH_SIZE,
+            FxConstants.Default.JOINED_CURRENCY_CODES,
+            FxConstants.Default.JOINED_RATES))
+        .thenReturn(List.of(batch(2L, BudgetConstants.Default.TOTAL_INCOME)));
+
+    recurringBatchWriter.copyIncomeBatch(
+        BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE);
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.INCOME,
+            Map.of(BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Default.TOTAL_INCOME),
+            FxConstants.BASE_CURRENCY);
+  }
+
+  @Test
+  @DisplayName("Should record the aggregated expense delta for the target month")
+  void copyExpenseBatch_withInsertedRows_recordsSingleEntry() {
+    when(expenseRepository.materializeRecurringBatch(
+            BudgetConstants.Updated.YEAR_MONTH.toString(),
+            BudgetConstants.Default.YEAR_MONTH.toString(),
+            0L,
+            BATCH_SIZE,
+            FxConstants.Default.JOINED_CURRENCY_CODES,
+            FxConstants.Default.JOINED_RATES))
+        .thenReturn(List.of(batch(1L, BudgetConstants.Default.TOTAL_EXPENSE)));
+
+    recurringBatchWriter.copyExpenseBatch(
+        BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE);
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.EXPENSE,
+            Map.of(BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Default.TOTAL_EXPENSE),
+            FxConstants.BASE_CURRENCY);
+  }
+
+  @Test
+  @DisplayName("Should leave the ledger untouched when every row was already copied")
+  void copyIncomeBatch_withNothingInserted_skipsLedger() {
+    when(incomeRepository.materializeRecurringBatch(
+            any(), any(), anyLong(), anyInt(), any(), any()))
+        .thenReturn(List.of(batch(0L, BigDecimal.ZERO)));
+
+    recurringBatchWriter.copyIncomeBatch(
+        BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE);
+
+    verifyNoInteractions(budgetLedger);
+  }
+
+  @Test
+  @DisplayName("Should record the base amounts the inserted rows of each currency were given")
+  void copyIncomeBatch_withSeveralCurrencies_recordsBaseCurrencyTotal() {
+    RecurringBatchResult gbpBatch = batch(1L, FxConstants.Conversion.GBP_AMOUNT);
+    RecurringBatchResult eurBatch =
+        batch(1L, FxConstants.Conversion.EUR_AMOUNT, FxConstants.Conversion.EUR_IN_GBP);
+    when(eurBatch.getCurrency()).thenReturn(MoneyConstants.EUR.getCurrencyCode());
+    when(incomeRepository.materializeRecurringBatch(
+            any(), any(), anyLong(), anyInt(), any(), any()))
+        .thenReturn(List.of(gbpBatch, eurBatch));
+
+    recurringBatchWriter.copyIncomeBatch(
+        BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE);
+
+    verify(budgetLedger)
+        .recordImported(
+            LedgerKind.INCOME,
+            Map.of(
+                BudgetConstants.Default.YEAR_MONTH,
+                FxConstants.Conversion.GBP_AMOUNT.add(FxConstants.Conversion.EUR_IN_GBP)),
+            FxConstants.BASE_CURRENCY);
+  }
+
+  /** A batch of rows in the base currency, whose base amounts equal their amounts. */
+  private RecurringBatchResult batch(Long insertedCount, BigDecimal insertedTotal) {
+    return batch(insertedCount, insertedTotal, insertedTotal);
+  }
+
+  private RecurringBatchResult batch(
+      Long insertedCount, BigDecimal insertedTotal, BigDecimal insertedBaseTotal) {
+    RecurringBatchResult result = mock(RecurringBatchResult.class);
+    when(result.getLastSourceId()).thenReturn(BudgetConstants.Default.ID);
+    when(result.getInsertedCount()).thenReturn(insertedCount);
+    when(result.getInsertedTotal()).thenReturn(insertedTotal);
+    when(result.getInsertedBaseTotal()).thenReturn(insertedBaseTotal);
+    when(result.getCurrency()).thenReturn(BudgetConstants.Default.CURRENCY.getCurrencyCode());
+    return result;
+  }
+}
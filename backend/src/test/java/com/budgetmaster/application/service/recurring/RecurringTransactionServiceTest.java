@@ -0,0 +1,81 @@
+package com.budgetmaster.application.service.recurring;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.budgetmaster.application.event.RecurringRolloverCompletedEvent;
+import com.budgetmaster.application.event.RecurringTransactionsMaterializedEvent;
+import com.budgetmaster.application.projection.RecurringBatchResult;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+
+@DisplayName("Recurring Transaction Service Tests")
+class RecurringTransactionServiceTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private final RecurringBatchWriter recurringBatchWriter = mock(RecurringBatchWriter.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final RecurringTransactionService recurringTransactionService =
+      new RecurringTransactionService(recurringBatchWriter, eventPublisher, BATCH_SIZE);
+
+  @Test
+  @DisplayName("Should page through source rows until no batch is left")
+  void materializeMonth_withSeveralBatches_continuesAfterLastSourceId() {
+    RecurringBatchResult firstBatch = batch(7L, 2L);
+    RecurringBatchResult secondBatch = batch(9L, 1L);
+    RecurringBatchResult exhausted = batch(null, 0L);
+    when(recurringBatchWriter.copyIncomeBatch(
+            BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE))
+        .thenReturn(List.of(firstBatch));
+    when(recurringBatchWriter.copyIncomeBatch(
+            BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 7L, BATCH_SIZE))
+        .thenReturn(List.of(secondBatch));
+    when(recurringBatchWriter.copyIncomeBatch(
+            BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 9L, BATCH_SIZE))
+        .thenReturn(List.of(exhausted));
+    when(recurringBatchWriter.copyExpenseBatch(
+            BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH, 0L, BATCH_SIZE))
+        .thenReturn(List.of(exhausted));
+
+    long inserted =
+        recurringTransactionService.materializeMonth(BudgetConstants.Default.YEAR_MONTH);
+
+    assertEquals(3L, inserted);
+    verify(recurringBatchWriter, times(3)).copyIncomeBatch(any(), any(), anyLong(), anyInt());
+    verify(recurringBatchWriter).copyExpenseBatch(any(), any(), anyLong(), anyInt());
+    verify(eventPublisher).publishEvent(any(RecurringTransactionsMaterializedEvent.class));
+    verify(eventPublisher).publishEvent(any(RecurringRolloverCompletedEvent.class));
+  }
+
+  @Test
+  @DisplayName("Should only announce the completed rollover when nothing was copied")
+  void materializeMonth_withNoRecurringRows_publishesOnlyCompletion() {
+    RecurringBatchResult exhausted = batch(null, 0L);
+    when(recurringBatchWriter.copyIncomeBatch(any(), any(), anyLong(), anyInt()))
+        .thenReturn(List.of(exhausted));
+    when(recurringBatchWriter.copyExpenseBatch(any(), any(), anyLong(), anyInt()))
+        .thenReturn(List.of(exhausted));
+
+    long inserted =
+        recurringTransactionService.materializeMonth(BudgetConstants.Default.YEAR_MONTH);
+
+    assertEquals(0L, inserted);
+    verify(eventPublisher, never()).publishEvent(any(RecurringTransactionsMaterializedEvent.class));
+    verify(eventPublisher).publishEvent(any(RecurringRolloverCompletedEvent.class));
+  }
+
+  private RecurringBatchResult batch(Long lastSourceId, Long insertedCount) {
+    RecurringBatchResult result = mock(RecurringBatchResult.class);
+    when(result.getLastSourceId()).thenReturn(lastSourceId);
+    when(result.getInsertedCount()).thenReturn(insertedCount);
+    when(result.getInsertedTotal()).thenReturn(BigDecimal.ZERO);
+    return result;
+  }
+}
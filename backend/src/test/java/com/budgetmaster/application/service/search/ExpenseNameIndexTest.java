@@ -0,0 +1,164 @@
+package com.budgetmaster.application.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.budgetmaster.application.event.ExpenseChangedEvent;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.SearchConstants;
+
+@DisplayName("Expense Name Index Tests")
+class ExpenseNameIndexTest {
+
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final ExpenseNameIndex expenseNameIndex = new ExpenseNameIndex(expenseRepository, true);
+
+  private final YearMonth currentMonth = YearMonth.now();
+  private Expense coffee;
+  private Expense icedCoffee;
+  private Expense coffeeBeans;
+  private Expense tea;
+
+  @BeforeEach
+  void setUp() {
+    coffee = currentMonthExpense(1L, SearchConstants.Names.COFFEE);
+    icedCoffee = currentMonthExpense(2L, SearchConstants.Names.ICED_COFFEE);
+    coffeeBeans = currentMonthExpense(3L, SearchConstants.Names.COFFEE_BEANS);
+    tea = currentMonthExpense(4L, SearchConstants.Names.TEA);
+
+    when(expenseRepository.findSummariesByMonth(currentMonth))
+        .thenReturn(
+            List.of(icedCoffee, coffeeBeans, tea, coffee).stream()
+                .map(ExpenseSummary::from)
+                .toList());
+    expenseNameIndex.load();
+  }
+
+  @Nested
+  @DisplayName("Load Operations")
+  class LoadOperations {
+
+    @Test
+    @DisplayName("Should cover only the current month after loading")
+    void covers_afterLoad_coversCurrentMonthOnly() {
+      assertTrue(expenseNameIndex.covers(currentMonth));
+      assertFalse(expenseNameIndex.covers(currentMonth.minusMonths(1)));
+    }
+
+    @Test
+    @DisplayName("Should cover no month when disabled")
+    void covers_whenDisabled_coversNothing() {
+      ExpenseNameIndex disabled = new ExpenseNameIndex(expenseRepository, false);
+
+      disabled.load();
+
+      assertFalse(disabled.covers(currentMonth));
+    }
+  }
+
+  @Nested
+  @DisplayName("Search Operations")
+  class SearchOperations {
+
+    @Test
+    @DisplayName("Should rank prefix matches first, then shorter names")
+    void search_withMatchingTerm_ranksPrefixMatchesFirst() {
+      Page<ExpenseSummary> page =
+          expenseNameIndex.search(SearchConstants.Default.TERM, SearchConstants.Default.PAGEABLE);
+
+      assertEquals(List.of(1L, 3L, 2L), ids(page));
+      assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should return the requested page of ranked matches")
+    void search_withSecondPage_returnsNextMatch() {
+      Page<ExpenseSummary> page =
+          expenseNameIndex.search(SearchConstants.Default.TERM, PageRequest.of(1, 1));
+
+      assertEquals(List.of(3L), ids(page));
+      assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Should return no matches for an unknown term")
+    void search_withUnknownTerm_returnsEmptyPage() {
+      assertTrue(searchIds(ExpenseConstants.Default.NAME).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Event Operations")
+  class ChangeEventOperations {
+
+    @Test
+    @DisplayName("Should index expenses created in the current month")
+    void onExpenseChanged_withCreatedExpense_indexesName() {
+      Expense created = currentMonthExpense(5L, ExpenseConstants.Default.NAME);
+
+      expenseNameIndex.onExpenseChanged(ExpenseChangedEvent.created(created));
+
+      assertEquals(List.of(5L), searchIds(ExpenseConstants.Default.NAME));
+    }
+
+    @Test
+    @DisplayName("Should ignore expenses created in other months")
+    void onExpenseChanged_withOtherMonth_ignoresExpense() {
+      Expense created =
+          ExpenseBuilder.defaultExpense().withMonth(currentMonth.minusMonths(1)).build();
+      created.setId(5L);
+
+      expenseNameIndex.onExpenseChanged(ExpenseChangedEvent.created(created));
+
+      assertTrue(searchIds(ExpenseConstants.Default.NAME).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reindex a renamed expense under its new name")
+    void onExpenseChanged_withRenamedExpense_replacesName() {
+      Expense renamed = currentMonthExpense(4L, SearchConstants.Names.ICED_COFFEE);
+
+      expenseNameIndex.onExpenseChanged(ExpenseChangedEvent.updated(tea, renamed));
+
+      assertTrue(searchIds(SearchConstants.Names.TEA).isEmpty());
+      assertEquals(List.of(1L, 3L, 2L, 4L), searchIds(SearchConstants.Default.TERM));
+    }
+
+    @Test
+    @DisplayName("Should drop deleted expenses")
+    void onExpenseChanged_withDeletedExpense_removesName() {
+      expenseNameIndex.onExpenseChanged(ExpenseChangedEvent.deleted(coffee));
+
+      assertEquals(List.of(3L, 2L), searchIds(SearchConstants.Default.TERM));
+    }
+  }
+
+  private Expense currentMonthExpense(Long id, String name) {
+    Expense expense =
+        ExpenseBuilder.defaultExpense().withName(name).withMonth(currentMonth).build();
+    expense.setId(id);
+    return expense;
+  }
+
+  private List<Long> searchIds(String term) {
+    return ids(expenseNameIndex.search(term, SearchConstants.Default.PAGEABLE));
+  }
+
+  private List<Long> ids(Page<ExpenseSummary> page) {
+    return page.getContent().stream().map(ExpenseSummary::getId).toList();
+  }
+}
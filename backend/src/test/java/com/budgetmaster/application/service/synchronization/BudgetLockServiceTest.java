@@ -0,0 +1,59 @@
+package com.budgetmaster.application.service.synchronization;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+
+@DisplayName("Budget Lock Service Tests")
+class BudgetLockServiceTest {
+
+  private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+  private final BudgetLockService budgetLockService = new BudgetLockService(budgetRepository);
+
+  @Test
+  @DisplayName("Should request locks in chronological order regardless of argument order")
+  void lockInMonthOrder_withUnorderedMonths_locksInChronologicalOrder() {
+    budgetLockService.lockInMonthOrder(
+        BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Updated.YEAR_MONTH);
+
+    verify(budgetRepository)
+        .findAllByMonthInForUpdate(
+            List.of(BudgetConstants.Updated.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH));
+  }
+
+  @Test
+  @DisplayName("Should request a single lock when the same month is given twice")
+  void lockInMonthOrder_withDuplicateMonths_locksOnce() {
+    budgetLockService.lockInMonthOrder(
+        BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH);
+
+    verify(budgetRepository)
+        .findAllByMonthInForUpdate(List.of(BudgetConstants.Default.YEAR_MONTH));
+  }
+
+  @Test
+  @DisplayName("Should return locked budgets keyed by month and omit missing months")
+  void lockInMonthOrder_withMissingBudget_returnsOnlyExistingBudgets() {
+    Budget defaultBudget = BudgetBuilder.defaultBudget().build();
+    when(budgetRepository.findAllByMonthInForUpdate(any())).thenReturn(List.of(defaultBudget));
+
+    Map<YearMonth, Budget> result =
+        budgetLockService.lockInMonthOrder(
+            BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Updated.YEAR_MONTH);
+
+    assertEquals(1, result.size());
+    assertSame(defaultBudget, result.get(BudgetConstants.Default.YEAR_MONTH));
+    assertFalse(result.containsKey(BudgetConstants.Updated.YEAR_MONTH));
+  }
+}
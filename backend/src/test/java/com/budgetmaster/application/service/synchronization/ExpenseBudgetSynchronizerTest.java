@@ -1,43 +1,39 @@
 package com.budgetmaster.application.service.synchronization;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.springframework.context.annotation.Import;
 
-import com.budgetmaster.application.exception.BudgetNotFoundException;
-import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.enums.LedgerKind;
 import com.budgetmaster.application.model.Expense;
-import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
 import com.budgetmaster.config.JacksonConfig;
-import com.budgetmaster.testsupport.assertions.model.BudgetModelAssertions;
-import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
 import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
-import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
 import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
 
 @Import(JacksonConfig.class)
 @DisplayName("Expense Budget Synchronizer Tests")
 class ExpenseBudgetSynchronizerTest {
 
-  private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
   private final ExpenseBudgetSynchronizer expenseBudgetSynchronizer =
-      new ExpenseBudgetSynchronizer(budgetRepository);
+      new ExpenseBudgetSynchronizer(budgetLedger, fxRateService);
 
   private Expense defaultExpense;
-  private Budget defaultBudget;
 
   @BeforeEach
   void setUp() {
     defaultExpense = ExpenseBuilder.defaultExpense().build();
-    defaultBudget = BudgetBuilder.defaultBudget().build();
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
   }
 
   @Nested
@@ -45,41 +41,38 @@ class ExpenseBudgetSynchronizerTest {
   class ApplyOperations {
 
     @Test
-    @DisplayName("Should update existing budget when applying expense")
-    void apply_withExistingBudget_updatesBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+    @DisplayName("Should record created entry when applying expense")
+    void apply_withExpense_recordsCreatedEntry() {
+      expenseBudgetSynchronizer.convert(defaultExpense);
       expenseBudgetSynchronizer.apply(defaultExpense);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalExpense(BudgetConstants.AfterAddExpense_WhenBudgetExists.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterAddExpense_WhenBudgetExists.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordCreated(
+              LedgerKind.EXPENSE,
+              defaultExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              ExpenseConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should create new budget when applying expense to non-existent budget")
-    void apply_withNoExistingBudget_createsNewBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-      when(budgetRepository.save(any(Budget.class)))
-          .thenAnswer(invocation -> invocation.getArgument(0));
-
-      expenseBudgetSynchronizer.apply(defaultExpense);
-
-      ArgumentCaptor<Budget> captor = ArgumentCaptor.forClass(Budget.class);
-      verify(budgetRepository).save(captor.capture());
-      Budget budget = captor.getValue();
-
-      BudgetModelAssertions.assertBudget(budget)
-          .hasTotalExpense(BudgetConstants.AfterAddExpense_WhenNoBudgetExists.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterAddExpense_WhenNoBudgetExists.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
+    @DisplayName("Should record base currency amount when expense uses another currency")
+    void apply_withForeignCurrency_recordsBaseCurrencyAmount() {
+      Expense eurExpense =
+          ExpenseBuilder.defaultExpense()
+              .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+              .build();
+
+      expenseBudgetSynchronizer.convert(eurExpense);
+      expenseBudgetSynchronizer.apply(eurExpense);
+
+      verify(budgetLedger)
+          .recordCreated(
+              LedgerKind.EXPENSE,
+              eurExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_IN_GBP,
+              FxConstants.BASE_CURRENCY);
     }
   }
 
@@ -88,74 +81,62 @@ class ExpenseBudgetSynchronizerTest {
   class ReapplyOperations {
 
     @Test
-    @DisplayName("Should update budget when reapplying expense in same month")
-    void reapply_withSameMonth_updatesBudget() {
+    @DisplayName("Should record amended entries when reapplying expense in same month")
+    void reapply_withSameMonth_recordsAmendedEntries() {
       Expense updatedExpense =
           ExpenseBuilder.updatedExpense().withMonth(ExpenseConstants.Default.YEAR_MONTH).build();
 
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+      expenseBudgetSynchronizer.convert(updatedExpense);
       expenseBudgetSynchronizer.reapply(defaultExpense, updatedExpense);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalExpense(BudgetConstants.AfterReapplyExpense_SameMonth.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterReapplyExpense_SameMonth.SAVINGS);
-
-      verify(budgetRepository, times(2)).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.EXPENSE,
+              updatedExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Default.YEAR_MONTH,
+              ExpenseConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should update both budgets when reapplying expense to different month")
-    void reapply_withDifferentMonth_updatesBothBudgets() {
-      Expense updatedExpense =
-          ExpenseBuilder.updatedExpense().withMonth(ExpenseConstants.Updated.YEAR_MONTH).build();
-
-      Budget newBudget =
-          BudgetBuilder.zeroedBudget().withMonth(BudgetConstants.Updated.YEAR_MONTH).build();
-
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.findByMonth(BudgetConstants.Updated.YEAR_MONTH))
-          .thenReturn(Optional.of(newBudget));
-      when(budgetRepository.save(any(Budget.class)))
-          .thenReturn(defaultBudget)
-          .thenReturn(newBudget);
+    @DisplayName("Should record amended entries in both months when expense moves month")
+    void reapply_withDifferentMonth_recordsAmendedEntriesInBothMonths() {
+      Expense updatedExpense = ExpenseBuilder.updatedExpense().build();
 
+      expenseBudgetSynchronizer.convert(updatedExpense);
       expenseBudgetSynchronizer.reapply(defaultExpense, updatedExpense);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalExpense(
-              BudgetConstants.AfterReapplyExpense_DifferentMonth.ExistingBudget.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterReapplyExpense_DifferentMonth.ExistingBudget.SAVINGS);
-
-      BudgetModelAssertions.assertBudget(newBudget)
-          .hasTotalExpense(
-              BudgetConstants.AfterReapplyExpense_DifferentMonth.NewBudget.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterReapplyExpense_DifferentMonth.NewBudget.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).findByMonth(BudgetConstants.Updated.YEAR_MONTH);
-      verify(budgetRepository).save(newBudget);
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.EXPENSE,
+              updatedExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Updated.YEAR_MONTH,
+              ExpenseConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should throw exception when original budget not found during reapply")
-    void reapply_withOriginalBudgetNotFound_throwsException() {
-      Expense updatedExpense =
-          ExpenseBuilder.updatedExpense().withMonth(ExpenseConstants.Updated.YEAR_MONTH).build();
-
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-
-      assertThrows(
-          BudgetNotFoundException.class,
-          () -> expenseBudgetSynchronizer.reapply(defaultExpense, updatedExpense));
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository, never()).save(any(Budget.class));
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void reapply_withRecordedBaseAmount_reversesRecordedAmount() {
+      Expense originalExpense = recordedEurExpense();
+      Expense updatedExpense = ExpenseBuilder.updatedExpense().build();
+      expenseBudgetSynchronizer.convert(updatedExpense);
+
+      expenseBudgetSynchronizer.reapply(originalExpense, updatedExpense);
+
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.EXPENSE,
+              updatedExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              ExpenseConstants.Updated.YEAR_MONTH,
+              ExpenseConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
   }
 
@@ -164,33 +145,43 @@ class ExpenseBudgetSynchronizerTest {
   class RetractOperations {
 
     @Test
-    @DisplayName("Should update budget when retracting expense")
-    void retract_withExistingBudget_updatesBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+    @DisplayName("Should record deleted entry when retracting expense")
+    void retract_withExpense_recordsDeletedEntry() {
       expenseBudgetSynchronizer.retract(defaultExpense);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalExpense(BudgetConstants.AfterRetractExpense.TOTAL_EXPENSE)
-          .hasSavings(BudgetConstants.AfterRetractExpense.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordDeleted(
+              LedgerKind.EXPENSE,
+              defaultExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              ExpenseConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should throw exception when budget not found during retract")
-    void retract_withBudgetNotFound_throwsException() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-
-      assertThrows(
-          BudgetNotFoundException.class, () -> expenseBudgetSynchronizer.retract(defaultExpense));
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository, never()).save(any(Budget.class));
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void retract_withRecordedBaseAmount_reversesRecordedAmount() {
+      Expense eurExpense = recordedEurExpense();
+
+      expenseBudgetSynchronizer.retract(eurExpense);
+
+      verify(budgetLedger)
+          .recordDeleted(
+              LedgerKind.EXPENSE,
+              eurExpense.getId(),
+              ExpenseConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              FxConstants.BASE_CURRENCY);
     }
   }
+
+  /** A EUR expense recorded in the ledger at an earlier, higher EUR rate. */
+  private static Expense recordedEurExpense() {
+    Expense expense =
+        ExpenseBuilder.defaultExpense()
+            .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+            .build();
+    expense.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+    return expense;
+  }
 }
@@ -1,43 +1,39 @@
 package com.budgetmaster.application.service.synchronization;
 
-import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.springframework.context.annotation.Import;
 
-import com.budgetmaster.application.exception.BudgetNotFoundException;
-import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.enums.LedgerKind;
 import com.budgetmaster.application.model.Income;
-import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
 import com.budgetmaster.config.JacksonConfig;
-import com.budgetmaster.testsupport.assertions.model.BudgetModelAssertions;
-import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
 import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
-import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
 import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
 
 @Import(JacksonConfig.class)
 @DisplayName("Income Budget Synchronizer Tests")
 class IncomeBudgetSynchronizerTest {
 
-  private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
   private final IncomeBudgetSynchronizer incomeBudgetSynchronizer =
-      new IncomeBudgetSynchronizer(budgetRepository);
+      new IncomeBudgetSynchronizer(budgetLedger, fxRateService);
 
   private Income defaultIncome;
-  private Budget defaultBudget;
 
   @BeforeEach
   void setUp() {
     defaultIncome = IncomeBuilder.defaultIncome().build();
-    defaultBudget = BudgetBuilder.defaultBudget().build();
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
   }
 
   @Nested
@@ -45,41 +41,38 @@ class IncomeBudgetSynchronizerTest {
   class ApplyOperations {
 
     @Test
-    @DisplayName("Should update existing budget when applying income")
-    void apply_withExistingBudget_updatesBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+    @DisplayName("Should record created entry when applying income")
+    void apply_withIncome_recordsCreatedEntry() {
+      incomeBudgetSynchronizer.convert(defaultIncome);
       incomeBudgetSynchronizer.apply(defaultIncome);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalIncome(BudgetConstants.AfterAddIncome_WhenBudgetExists.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterAddIncome_WhenBudgetExists.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordCreated(
+              LedgerKind.INCOME,
+              defaultIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              IncomeConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should create new budget when applying income to non-existent budget")
-    void apply_withNoExistingBudget_createsNewBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-      when(budgetRepository.save(any(Budget.class)))
-          .thenAnswer(invocation -> invocation.getArgument(0));
-
-      incomeBudgetSynchronizer.apply(defaultIncome);
-
-      ArgumentCaptor<Budget> captor = ArgumentCaptor.forClass(Budget.class);
-      verify(budgetRepository).save(captor.capture());
-      Budget budget = captor.getValue();
-
-      BudgetModelAssertions.assertBudget(budget)
-          .hasTotalIncome(BudgetConstants.AfterAddIncome_WhenNoBudgetExists.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterAddIncome_WhenNoBudgetExists.TOTAL_INCOME);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
+    @DisplayName("Should record base currency amount when income uses another currency")
+    void apply_withForeignCurrency_recordsBaseCurrencyAmount() {
+      Income eurIncome =
+          IncomeBuilder.defaultIncome()
+              .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+              .build();
+
+      incomeBudgetSynchronizer.convert(eurIncome);
+      incomeBudgetSynchronizer.apply(eurIncome);
+
+      verify(budgetLedger)
+          .recordCreated(
+              LedgerKind.INCOME,
+              eurIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_IN_GBP,
+              FxConstants.BASE_CURRENCY);
     }
   }
 
@@ -88,73 +81,62 @@ class IncomeBudgetSynchronizerTest {
   class ReapplyOperations {
 
     @Test
-    @DisplayName("Should update budget when reapplying income in same month")
-    void reapply_withSameMonth_updatesBudget() {
+    @DisplayName("Should record amended entries when reapplying income in same month")
+    void reapply_withSameMonth_recordsAmendedEntries() {
       Income updatedIncome =
           IncomeBuilder.updatedIncome().withMonth(IncomeConstants.Default.YEAR_MONTH).build();
 
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+      incomeBudgetSynchronizer.convert(updatedIncome);
       incomeBudgetSynchronizer.reapply(defaultIncome, updatedIncome);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalIncome(BudgetConstants.AfterReapplyIncome_SameMonth.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterReapplyIncome_SameMonth.SAVINGS);
-
-      verify(budgetRepository, times(2)).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.INCOME,
+              updatedIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              IncomeConstants.Default.AMOUNT,
+              IncomeConstants.Default.YEAR_MONTH,
+              IncomeConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should update both budgets when reapplying income to different month")
-    void reapply_withDifferentMonth_updatesBothBudgets() {
-      Income updatedIncome =
-          IncomeBuilder.updatedIncome().withMonth(IncomeConstants.Updated.YEAR_MONTH).build();
-
-      Budget newBudget =
-          BudgetBuilder.zeroedBudget().withMonth(BudgetConstants.Updated.YEAR_MONTH).build();
-
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.findByMonth(BudgetConstants.Updated.YEAR_MONTH))
-          .thenReturn(Optional.of(newBudget));
-      when(budgetRepository.save(any(Budget.class)))
-          .thenReturn(defaultBudget)
-          .thenReturn(newBudget);
+    @DisplayName("Should record amended entries in both months when income moves month")
+    void reapply_withDifferentMonth_recordsAmendedEntriesInBothMonths() {
+      Income updatedIncome = IncomeBuilder.updatedIncome().build();
 
+      incomeBudgetSynchronizer.convert(updatedIncome);
       incomeBudgetSynchronizer.reapply(defaultIncome, updatedIncome);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalIncome(
-              BudgetConstants.AfterReapplyIncome_DifferentMonth.ExistingBudget.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterReapplyIncome_DifferentMonth.ExistingBudget.SAVINGS);
-
-      BudgetModelAssertions.assertBudget(newBudget)
-          .hasTotalIncome(BudgetConstants.AfterReapplyIncome_DifferentMonth.NewBudget.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterReapplyIncome_DifferentMonth.NewBudget.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).findByMonth(BudgetConstants.Updated.YEAR_MONTH);
-      verify(budgetRepository).save(newBudget);
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.INCOME,
+              updatedIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              IncomeConstants.Default.AMOUNT,
+              IncomeConstants.Updated.YEAR_MONTH,
+              IncomeConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should throw exception when original budget not found during reapply")
-    void reapply_withOriginalBudgetNotFound_throwsException() {
-      Income updatedIncome =
-          IncomeBuilder.defaultIncome().withMonth(IncomeConstants.Updated.YEAR_MONTH).build();
-
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-
-      assertThrows(
-          BudgetNotFoundException.class,
-          () -> incomeBudgetSynchronizer.reapply(defaultIncome, updatedIncome));
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository, never()).save(any(Budget.class));
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void reapply_withRecordedBaseAmount_reversesRecordedAmount() {
+      Income originalIncome = recordedEurIncome();
+      Income updatedIncome = IncomeBuilder.updatedIncome().build();
+      incomeBudgetSynchronizer.convert(updatedIncome);
+
+      incomeBudgetSynchronizer.reapply(originalIncome, updatedIncome);
+
+      verify(budgetLedger)
+          .recordAmended(
+              LedgerKind.INCOME,
+              updatedIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              IncomeConstants.Updated.YEAR_MONTH,
+              IncomeConstants.Updated.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
   }
 
@@ -163,33 +145,43 @@ class IncomeBudgetSynchronizerTest {
   class RetractOperations {
 
     @Test
-    @DisplayName("Should update budget when retracting income")
-    void retract_withExistingBudget_updatesBudget() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.of(defaultBudget));
-      when(budgetRepository.save(any(Budget.class))).thenReturn(defaultBudget);
-
+    @DisplayName("Should record deleted entry when retracting income")
+    void retract_withIncome_recordsDeletedEntry() {
       incomeBudgetSynchronizer.retract(defaultIncome);
 
-      BudgetModelAssertions.assertBudget(defaultBudget)
-          .hasTotalIncome(BudgetConstants.AfterRetractIncome.TOTAL_INCOME)
-          .hasSavings(BudgetConstants.AfterRetractIncome.SAVINGS);
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository).save(defaultBudget);
+      verify(budgetLedger)
+          .recordDeleted(
+              LedgerKind.INCOME,
+              defaultIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              IncomeConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY);
     }
 
     @Test
-    @DisplayName("Should throw exception when budget not found during retract")
-    void retract_withBudgetNotFound_throwsException() {
-      when(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH))
-          .thenReturn(Optional.empty());
-
-      assertThrows(
-          BudgetNotFoundException.class, () -> incomeBudgetSynchronizer.retract(defaultIncome));
-
-      verify(budgetRepository).findByMonth(BudgetConstants.Default.YEAR_MONTH);
-      verify(budgetRepository, never()).save(any(Budget.class));
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void retract_withRecordedBaseAmount_reversesRecordedAmount() {
+      Income eurIncome = recordedEurIncome();
+
+      incomeBudgetSynchronizer.retract(eurIncome);
+
+      verify(budgetLedger)
+          .recordDeleted(
+              LedgerKind.INCOME,
+              eurIncome.getId(),
+              IncomeConstants.Default.YEAR_MONTH,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              FxConstants.BASE_CURRENCY);
     }
   }
+
+  /** A EUR income recorded in the ledger at an earlier, higher EUR rate. */
+  private static Income recordedEurIncome() {
+    Income income =
+        IncomeBuilder.defaultIncome()
+            .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+            .build();
+    income.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+    return income;
+  }
 }
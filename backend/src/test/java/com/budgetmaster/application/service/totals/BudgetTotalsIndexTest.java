@@ -0,0 +1,208 @@
+package com.budgetmaster.application.service.totals;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.event.BudgetTotalsChangedEvent;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.constants.domain.TotalsConstants;
+
+@DisplayName("Budget Totals Index Tests")
+class BudgetTotalsIndexTest {
+
+  private final BudgetRepository budgetRepository = mock(BudgetRepository.class);
+  private final BudgetTotalsIndex budgetTotalsIndex = new BudgetTotalsIndex(budgetRepository);
+
+  @Nested
+  @DisplayName("Range Sum Operations")
+  class RangeSumOperations {
+
+    @Test
+    @DisplayName("Should sum the loaded budgets within the range")
+    void sum_afterLoad_sumsBudgetsInRange() {
+      loadDefaultBudgets();
+
+      BudgetTotalsResponse totals =
+          budgetTotalsIndex.sum(TotalsConstants.Months.FIRST, TotalsConstants.Months.SECOND);
+
+      assertTotals(
+          totals,
+          TotalsConstants.Amounts.FIRST_INCOME.add(TotalsConstants.Amounts.SECOND_INCOME),
+          TotalsConstants.Amounts.FIRST_EXPENSE.add(TotalsConstants.Amounts.SECOND_EXPENSE));
+      assertEquals(TotalsConstants.Months.FIRST, totals.getFromMonth());
+      assertEquals(TotalsConstants.Months.SECOND, totals.getToMonth());
+    }
+
+    @Test
+    @DisplayName("Should leave out budgets outside the range")
+    void sum_withPartialRange_excludesOtherMonths() {
+      loadDefaultBudgets();
+
+      BudgetTotalsResponse totals =
+          budgetTotalsIndex.sum(TotalsConstants.Months.BETWEEN, TotalsConstants.Months.SECOND);
+
+      assertTotals(
+          totals, TotalsConstants.Amounts.SECOND_INCOME, TotalsConstants.Amounts.SECOND_EXPENSE);
+    }
+
+    @Test
+    @DisplayName("Should sum to zero before any budget exists")
+    void sum_withoutBudgets_returnsZero() {
+      when(budgetRepository.findAll()).thenReturn(List.of());
+      budgetTotalsIndex.load();
+
+      BudgetTotalsResponse totals =
+          budgetTotalsIndex.sum(TotalsConstants.Months.FIRST, TotalsConstants.Months.SECOND);
+
+      assertTotals(totals, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Operations")
+  class ChangeOperations {
+
+    @Test
+    @DisplayName("Should add a change to the sums of every range containing its month")
+    void onBudgetTotalsChanged_withinRange_updatesSums() {
+      loadDefaultBudgets();
+
+      change(TotalsConstants.Months.SECOND);
+
+      assertTotals(
+          budgetTotalsIndex.sum(TotalsConstants.Months.SECOND, TotalsConstants.Months.SECOND),
+          TotalsConstants.Amounts.SECOND_INCOME.add(TotalsConstants.Amounts.DELTA),
+          TotalsConstants.Amounts.SECOND_EXPENSE.subtract(TotalsConstants.Amounts.DELTA));
+    }
+
+    @Test
+    @DisplayName("Should keep the sums when a change before the first month regrows the index")
+    void onBudgetTotalsChanged_beforeFirstMonth_keepsExistingSums() {
+      loadDefaultBudgets();
+
+      change(TotalsConstants.Months.BEFORE_FIRST);
+
+      assertTotals(
+          budgetTotalsIndex.sum(TotalsConstants.Months.FIRST, TotalsConstants.Months.SECOND),
+          TotalsConstants.Amounts.FIRST_INCOME.add(TotalsConstants.Amounts.SECOND_INCOME),
+          TotalsConstants.Amounts.FIRST_EXPENSE.add(TotalsConstants.Amounts.SECOND_EXPENSE));
+      assertTotals(
+          budgetTotalsIndex.sum(
+              TotalsConstants.Months.BEFORE_FIRST, TotalsConstants.Months.BEFORE_FIRST),
+          TotalsConstants.Amounts.DELTA,
+          TotalsConstants.Amounts.DELTA.negate());
+    }
+
+    @Test
+    @DisplayName("Should keep the sums when a change past the capacity regrows the index")
+    void onBudgetTotalsChanged_afterCapacity_keepsExistingSums() {
+      loadDefaultBudgets();
+
+      change(TotalsConstants.Months.AFTER_CAPACITY);
+
+      assertTotals(
+          budgetTotalsIndex.sum(
+              TotalsConstants.Months.FIRST, TotalsConstants.Months.AFTER_CAPACITY),
+          TotalsConstants.Amounts.FIRST_INCOME
+              .add(TotalsConstants.Amounts.SECOND_INCOME)
+              .add(TotalsConstants.Amounts.DELTA),
+          TotalsConstants.Amounts.FIRST_EXPENSE
+              .add(TotalsConstants.Amounts.SECOND_EXPENSE)
+              .subtract(TotalsConstants.Amounts.DELTA));
+    }
+
+    @Test
+    @DisplayName("Should start the index with the first change when no budget was loaded")
+    void onBudgetTotalsChanged_withoutBudgets_startsIndex() {
+      when(budgetRepository.findAll()).thenReturn(List.of());
+      budgetTotalsIndex.load();
+
+      change(TotalsConstants.Months.FIRST);
+
+      assertTotals(
+          budgetTotalsIndex.sum(TotalsConstants.Months.FIRST, TotalsConstants.Months.FIRST),
+          TotalsConstants.Amounts.DELTA,
+          TotalsConstants.Amounts.DELTA.negate());
+    }
+  }
+
+  @Nested
+  @DisplayName("Cumulative Operations")
+  class CumulativeOperations {
+
+    @Test
+    @DisplayName("Should accumulate from the first budget up to each month with budgets")
+    void cumulative_withWideRange_returnsBalancePerBudgetedMonth() {
+      loadDefaultBudgets();
+
+      List<BudgetTotalsResponse> balances =
+          budgetTotalsIndex.cumulative(
+              TotalsConstants.Months.BEFORE_FIRST, TotalsConstants.Months.AFTER_CAPACITY);
+
+      assertEquals(
+          List.of(
+              TotalsConstants.Months.FIRST,
+              TotalsConstants.Months.BETWEEN,
+              TotalsConstants.Months.SECOND),
+          balances.stream().map(BudgetTotalsResponse::getToMonth).toList());
+      assertTotals(
+          balances.get(1),
+          TotalsConstants.Amounts.FIRST_INCOME,
+          TotalsConstants.Amounts.FIRST_EXPENSE);
+      assertTotals(
+          balances.get(2),
+          TotalsConstants.Amounts.FIRST_INCOME.add(TotalsConstants.Amounts.SECOND_INCOME),
+          TotalsConstants.Amounts.FIRST_EXPENSE.add(TotalsConstants.Amounts.SECOND_EXPENSE));
+      assertTrue(
+          balances.stream()
+              .allMatch(balance -> balance.getFromMonth().equals(TotalsConstants.Months.FIRST)));
+    }
+  }
+
+  private void loadDefaultBudgets() {
+    when(budgetRepository.findAll())
+        .thenReturn(
+            List.of(
+                budget(
+                    TotalsConstants.Months.SECOND,
+                    TotalsConstants.Amounts.SECOND_INCOME,
+                    TotalsConstants.Amounts.SECOND_EXPENSE),
+                budget(
+                    TotalsConstants.Months.FIRST,
+                    TotalsConstants.Amounts.FIRST_INCOME,
+                    TotalsConstants.Amounts.FIRST_EXPENSE)));
+    budgetTotalsIndex.load();
+  }
+
+  private Budget budget(YearMonth month, BigDecimal totalIncome, BigDecimal totalExpense) {
+    return BudgetBuilder.defaultBudget()
+        .withMonth(month)
+        .withTotalIncome(totalIncome)
+        .withTotalExpense(totalExpense)
+        .build();
+  }
+
+  private void change(YearMonth month) {
+    budgetTotalsIndex.onBudgetTotalsChanged(
+        BudgetTotalsChangedEvent.of(
+            month, TotalsConstants.Amounts.DELTA, TotalsConstants.Amounts.DELTA.negate()));
+  }
+
+  private void assertTotals(
+      BudgetTotalsResponse totals, BigDecimal totalIncome, BigDecimal totalExpense) {
+    assertEquals(0, totalIncome.compareTo(totals.getTotalIncome()));
+    assertEquals(0, totalExpense.compareTo(totals.getTotalExpense()));
+    assertEquals(0, totalIncome.subtract(totalExpense).compareTo(totals.getSavings()));
+  }
+}
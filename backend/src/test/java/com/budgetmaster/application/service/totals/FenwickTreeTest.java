@@ -0,0 +1,72 @@
+package com.budgetmaster.application.service.totals;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.testsupport.constants.domain.TotalsConstants;
+
+@DisplayName("Fenwick Tree Tests")
+class FenwickTreeTest {
+
+  private final FenwickTree fenwickTree = FenwickTree.of(TotalsConstants.Fenwick.AMOUNTS);
+
+  @Test
+  @DisplayName("Should sum every range like a scan of the amounts")
+  void rangeSum_withEveryRange_matchesScan() {
+    BigDecimal[] amounts = TotalsConstants.Fenwick.AMOUNTS;
+
+    for (int from = 0; from < amounts.length; from++) {
+      for (int to = from; to < amounts.length; to++) {
+        assertEquals(0, scan(amounts, from, to).compareTo(fenwickTree.rangeSum(from, to)));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should add to every range that contains the updated index")
+  void add_withDelta_updatesContainingRanges() {
+    int index = TotalsConstants.Fenwick.UPDATED_INDEX;
+    BigDecimal[] amounts = TotalsConstants.Fenwick.AMOUNTS.clone();
+    amounts[index] = amounts[index].add(TotalsConstants.Fenwick.DELTA);
+
+    fenwickTree.add(index, TotalsConstants.Fenwick.DELTA);
+
+    for (int to = 0; to < amounts.length; to++) {
+      assertEquals(0, scan(amounts, 0, to).compareTo(fenwickTree.prefixSum(to)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should sum nothing before the first index and everything past the last")
+  void prefixSum_outsideTree_clampsToBounds() {
+    BigDecimal[] amounts = TotalsConstants.Fenwick.AMOUNTS;
+    BigDecimal total = scan(amounts, 0, amounts.length - 1);
+
+    assertEquals(BigDecimal.ZERO, fenwickTree.prefixSum(-1));
+    assertEquals(0, total.compareTo(fenwickTree.prefixSum(amounts.length + 1)));
+    assertEquals(BigDecimal.ZERO, fenwickTree.rangeSum(1, 0));
+  }
+
+  @Test
+  @DisplayName("Should give back the amounts it was built from")
+  void amounts_afterBuild_returnsOriginalAmounts() {
+    BigDecimal[] amounts = fenwickTree.amounts();
+
+    assertEquals(TotalsConstants.Fenwick.AMOUNTS.length, amounts.length);
+    for (int i = 0; i < amounts.length; i++) {
+      assertEquals(0, TotalsConstants.Fenwick.AMOUNTS[i].compareTo(amounts[i]));
+    }
+  }
+
+  private BigDecimal scan(BigDecimal[] amounts, int from, int to) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = from; i <= to; i++) {
+      sum = sum.add(amounts[i]);
+    }
+    return sum;
+  }
+}
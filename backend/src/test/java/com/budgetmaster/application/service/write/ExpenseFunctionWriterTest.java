@@ -0,0 +1,174 @@
+package com.budgetmaster.application.service.write;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.exception.ExpenseNotFoundException;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.projection.RevisedTransaction;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.testsupport.assertions.model.ExpenseModelAssertions;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.WriteConstants;
+
+@DisplayName("Expense Function Writer Tests")
+class ExpenseFunctionWriterTest {
+
+  private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final WriteCacheEvictor writeCacheEvictor = mock(WriteCacheEvictor.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final ExpenseFunctionWriter expenseFunctionWriter =
+      new ExpenseFunctionWriter(expenseRepository, fxRateService, writeCacheEvictor, budgetLedger);
+
+  private Expense defaultExpense;
+
+  @BeforeEach
+  void setUp() {
+    defaultExpense = ExpenseBuilder.defaultExpense().build();
+    defaultExpense.setId(ExpenseConstants.Default.ID);
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+  }
+
+  @Nested
+  @DisplayName("Create Operations")
+  class CreateOperations {
+
+    @Test
+    @DisplayName("Should record the expense with its base amount and announce its month")
+    void create_withValidRequest_recordsExpense() {
+      RecordedTransaction recorded = mock(RecordedTransaction.class);
+      when(recorded.getId()).thenReturn(ExpenseConstants.Default.ID);
+      when(recorded.getCreatedAt()).thenReturn(WriteConstants.Default.CREATED_AT);
+      when(expenseRepository.recordExpense(
+              ExpenseConstants.Default.NAME,
+              ExpenseConstants.Default.CATEGORY.name(),
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Default.CURRENCY.getCurrencyCode(),
+              ExpenseConstants.Default.YEAR_MONTH_STRING,
+              ExpenseConstants.Default.TYPE.name(),
+              ExpenseConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(recorded);
+
+      ExpenseRequest request = ExpenseRequestBuilder.defaultExpenseRequest().buildRequest();
+
+      Expense created = expenseFunctionWriter.create(request);
+
+      ExpenseModelAssertions.assertExpense(created).isDefaultExpense();
+      assertEquals(ExpenseConstants.Default.ID, created.getId());
+      assertEquals(WriteConstants.Default.CREATED_AT, created.getCreatedAt());
+      verify(budgetLedger).announce(ExpenseConstants.Default.YEAR_MONTH);
+    }
+  }
+
+  @Nested
+  @DisplayName("Update Operations")
+  class UpdateOperations {
+
+    @Test
+    @DisplayName("Should revise the expense, evict it and announce both months")
+    void update_withValidRequest_revisesExpense() {
+      ExpenseRequest request = ExpenseRequestBuilder.updatedExpenseRequest().buildRequest();
+      RevisedTransaction revised = mock(RevisedTransaction.class);
+      when(revised.getLastUpdatedAt()).thenReturn(WriteConstants.Default.LAST_UPDATED_AT);
+      when(expenseRepository.reviseExpense(
+              eq(ExpenseConstants.Default.ID),
+              eq(ExpenseConstants.Updated.NAME),
+              anyString(),
+              any(),
+              anyString(),
+              eq(ExpenseConstants.Updated.YEAR_MONTH_STRING),
+              anyString(),
+              eq(ExpenseConstants.Default.YEAR_MONTH_STRING),
+              eq(ExpenseConstants.Default.AMOUNT),
+              any(),
+              anyString()))
+          .thenReturn(revised);
+
+      Expense updated = expenseFunctionWriter.update(defaultExpense, request);
+
+      ExpenseModelAssertions.assertExpense(updated).isUpdatedExpense();
+      assertEquals(ExpenseConstants.Default.NAME, defaultExpense.getName());
+      assertEquals(WriteConstants.Default.LAST_UPDATED_AT, updated.getLastUpdatedAt());
+      verify(writeCacheEvictor).evictAfterCommit(Expense.class, ExpenseConstants.Default.ID);
+      verify(budgetLedger)
+          .announce(ExpenseConstants.Default.YEAR_MONTH, ExpenseConstants.Updated.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should throw when the expense no longer exists")
+    void update_withMissingExpense_throwsNotFound() {
+      ExpenseRequest request = ExpenseRequestBuilder.updatedExpenseRequest().buildRequest();
+
+      assertThrows(
+          ExpenseNotFoundException.class,
+          () -> expenseFunctionWriter.update(defaultExpense, request));
+
+      verifyNoInteractions(writeCacheEvictor, budgetLedger);
+    }
+  }
+
+  @Nested
+  @DisplayName("Delete Operations")
+  class DeleteOperations {
+
+    @Test
+    @DisplayName("Should forget the expense, evict it and announce its month")
+    void delete_withExistingExpense_forgetsExpense() {
+      when(expenseRepository.forgetExpense(
+              ExpenseConstants.Default.ID,
+              ExpenseConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(ExpenseConstants.Default.YEAR_MONTH_STRING);
+
+      expenseFunctionWriter.delete(defaultExpense);
+
+      verify(writeCacheEvictor).evictAfterCommit(Expense.class, ExpenseConstants.Default.ID);
+      verify(budgetLedger).announce(ExpenseConstants.Default.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void delete_withRecordedBaseAmount_reversesRecordedAmount() {
+      Expense eurExpense =
+          ExpenseBuilder.defaultExpense()
+              .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+              .build();
+      eurExpense.setId(ExpenseConstants.Default.ID);
+      eurExpense.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+      when(expenseRepository.forgetExpense(
+              ExpenseConstants.Default.ID,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(ExpenseConstants.Default.YEAR_MONTH_STRING);
+
+      expenseFunctionWriter.delete(eurExpense);
+
+      verify(budgetLedger).announce(ExpenseConstants.Default.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should not announce a month when the expense was already gone")
+    void delete_withMissingExpense_announcesNothing() {
+      expenseFunctionWriter.delete(defaultExpense);
+
+      verify(writeCacheEvictor).evictAfterCommit(Expense.class, ExpenseConstants.Default.ID);
+      verifyNoInteractions(budgetLedger);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.budgetmaster.application.service.write;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.application.dto.IncomeRequest;
+import com.budgetmaster.application.exception.IncomeNotFoundException;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.RecordedTransaction;
+import com.budgetmaster.application.projection.RevisedTransaction;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.service.fx.FxRateService;
+import com.budgetmaster.application.service.ledger.BudgetLedger;
+import com.budgetmaster.testsupport.assertions.model.IncomeModelAssertions;
+import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
+import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
+import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.budgetmaster.testsupport.constants.domain.FxConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+import com.budgetmaster.testsupport.constants.domain.WriteConstants;
+
+@DisplayName("Income Function Writer Tests")
+class IncomeFunctionWriterTest {
+
+  private final IncomeRepository incomeRepository = mock(IncomeRepository.class);
+  private final FxRateService fxRateService = mock(FxRateService.class);
+  private final WriteCacheEvictor writeCacheEvictor = mock(WriteCacheEvictor.class);
+  private final BudgetLedger budgetLedger = mock(BudgetLedger.class);
+  private final IncomeFunctionWriter incomeFunctionWriter =
+      new IncomeFunctionWriter(incomeRepository, fxRateService, writeCacheEvictor, budgetLedger);
+
+  private Income defaultIncome;
+
+  @BeforeEach
+  void setUp() {
+    defaultIncome = IncomeBuilder.defaultIncome().build();
+    defaultIncome.setId(IncomeConstants.Default.ID);
+    when(fxRateService.currentSnapshot()).thenReturn(FxConstants.Default.SNAPSHOT);
+  }
+
+  @Nested
+  @DisplayName("Create Operations")
+  class CreateOperations {
+
+    @Test
+    @DisplayName("Should record the income with its base amount and announce its month")
+    void create_withValidRequest_recordsIncome() {
+      RecordedTransaction recorded = mock(RecordedTransaction.class);
+      when(recorded.getId()).thenReturn(IncomeConstants.Default.ID);
+      when(recorded.getCreatedAt()).thenReturn(WriteConstants.Default.CREATED_AT);
+      when(incomeRepository.recordIncome(
+              IncomeConstants.Default.NAME,
+              IncomeConstants.Default.SOURCE,
+              IncomeConstants.Default.AMOUNT,
+              IncomeConstants.Default.CURRENCY.getCurrencyCode(),
+              IncomeConstants.Default.YEAR_MONTH_STRING,
+              IncomeConstants.Default.TYPE.name(),
+              IncomeConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(recorded);
+
+      IncomeRequest request = IncomeRequestBuilder.defaultIncomeRequest().buildRequest();
+
+      Income created = incomeFunctionWriter.create(request);
+
+      IncomeModelAssertions.assertIncome(created).isDefaultIncome();
+      assertEquals(IncomeConstants.Default.ID, created.getId());
+      assertEquals(WriteConstants.Default.CREATED_AT, created.getCreatedAt());
+      verify(budgetLedger).announce(IncomeConstants.Default.YEAR_MONTH);
+    }
+  }
+
+  @Nested
+  @DisplayName("Update Operations")
+  class UpdateOperations {
+
+    @Test
+    @DisplayName("Should revise the income, evict it and announce both months")
+    void update_withValidRequest_revisesIncome() {
+      IncomeRequest request = IncomeRequestBuilder.updatedIncomeRequest().buildRequest();
+      RevisedTransaction revised = mock(RevisedTransaction.class);
+      when(revised.getLastUpdatedAt()).thenReturn(WriteConstants.Default.LAST_UPDATED_AT);
+      when(incomeRepository.reviseIncome(
+              eq(IncomeConstants.Default.ID),
+              eq(IncomeConstants.Updated.NAME),
+              anyString(),
+              any(),
+              anyString(),
+              eq(IncomeConstants.Updated.YEAR_MONTH_STRING),
+              anyString(),
+              eq(IncomeConstants.Default.YEAR_MONTH_STRING),
+              eq(IncomeConstants.Default.AMOUNT),
+              any(),
+              anyString()))
+          .thenReturn(revised);
+
+      Income updated = incomeFunctionWriter.update(defaultIncome, request);
+
+      IncomeModelAssertions.assertIncome(updated).isUpdatedIncome();
+      assertEquals(IncomeConstants.Default.NAME, defaultIncome.getName());
+      assertEquals(WriteConstants.Default.LAST_UPDATED_AT, updated.getLastUpdatedAt());
+      verify(writeCacheEvictor).evictAfterCommit(Income.class, IncomeConstants.Default.ID);
+      verify(budgetLedger)
+          .announce(IncomeConstants.Default.YEAR_MONTH, IncomeConstants.Updated.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should throw when the income no longer exists")
+    void update_withMissingIncome_throwsNotFound() {
+      IncomeRequest request = IncomeRequestBuilder.updatedIncomeRequest().buildRequest();
+
+      assertThrows(
+          IncomeNotFoundException.class, () -> incomeFunctionWriter.update(defaultIncome, request));
+
+      verifyNoInteractions(writeCacheEvictor, budgetLedger);
+    }
+  }
+
+  @Nested
+  @DisplayName("Delete Operations")
+  class DeleteOperations {
+
+    @Test
+    @DisplayName("Should forget the income, evict it and announce its month")
+    void delete_withExistingIncome_forgetsIncome() {
+      when(incomeRepository.forgetIncome(
+              IncomeConstants.Default.ID,
+              IncomeConstants.Default.AMOUNT,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(IncomeConstants.Default.YEAR_MONTH_STRING);
+
+      incomeFunctionWriter.delete(defaultIncome);
+
+      verify(writeCacheEvictor).evictAfterCommit(Income.class, IncomeConstants.Default.ID);
+      verify(budgetLedger).announce(IncomeConstants.Default.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should reverse the recorded base amount when the rates changed since")
+    void delete_withRecordedBaseAmount_reversesRecordedAmount() {
+      Income eurIncome =
+          IncomeBuilder.defaultIncome()
+              .withMoney(Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR))
+              .build();
+      eurIncome.setId(IncomeConstants.Default.ID);
+      eurIncome.setBaseAmount(FxConstants.Conversion.EUR_RECORDED_IN_GBP);
+      when(incomeRepository.forgetIncome(
+              IncomeConstants.Default.ID,
+              FxConstants.Conversion.EUR_RECORDED_IN_GBP,
+              FxConstants.BASE_CURRENCY.getCurrencyCode()))
+          .thenReturn(IncomeConstants.Default.YEAR_MONTH_STRING);
+
+      incomeFunctionWriter.delete(eurIncome);
+
+      verify(budgetLedger).announce(IncomeConstants.Default.YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("Should not announce a month when the income was already gone")
+    void delete_withMissingIncome_announcesNothing() {
+      incomeFunctionWriter.delete(defaultIncome);
+
+      verify(writeCacheEvictor).evictAfterCommit(Income.class, IncomeConstants.Default.ID);
+      verifyNoInteractions(budgetLedger);
+    }
+  }
+}
@@ -52,4 +52,40 @@ class DateUtilsTest {
       assertThat(month).isEqualTo(BudgetConstants.Default.YEAR_MONTH);
     }
   }
+
+  @Nested
+  @DisplayName("Is Ordered Range Operations")
+  class IsOrderedRangeOperations {
+
+    @Test
+    @DisplayName("Should accept a range whose from month is not after its to month")
+    void isOrderedRange_withOrderedMonths_returnsTrue() {
+      assertThat(
+              DateUtils.isOrderedRange(
+                  BudgetConstants.Default.YEAR_MONTH.toString(),
+                  BudgetConstants.Default.YEAR_MONTH.plusMonths(1).toString()))
+          .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a range whose from month is after its to month")
+    void isOrderedRange_withReversedMonths_returnsFalse() {
+      assertThat(
+              DateUtils.isOrderedRange(
+                  BudgetConstants.Default.YEAR_MONTH.plusMonths(1).toString(),
+                  BudgetConstants.Default.YEAR_MONTH.toString()))
+          .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should leave a range with a missing or malformed month to the field constraints")
+    void isOrderedRange_withInvalidMonth_returnsTrue() {
+      assertThat(DateUtils.isOrderedRange(null, BudgetConstants.Default.YEAR_MONTH.toString()))
+          .isTrue();
+      assertThat(
+              DateUtils.isOrderedRange(
+                  BudgetConstants.Default.YEAR_MONTH.toString(), StringConstants.EMPTY))
+          .isTrue();
+    }
+  }
 }
@@ -0,0 +1,65 @@
+package com.budgetmaster.application.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.budgetmaster.constants.validation.ValidationMessages;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
+
+@DisplayName("Supported Currency Code Validator Tests")
+class SupportedCurrencyCodeValidatorTest {
+
+  private final ConstraintValidatorContext context = mock(ConstraintValidatorContext.class);
+  private final ConstraintViolationBuilder violationBuilder =
+      mock(ConstraintViolationBuilder.class);
+  private final SupportedCurrencyCodeValidator currencyCodeValidator =
+      new SupportedCurrencyCodeValidator();
+
+  @BeforeEach
+  void setUp() {
+    SupportedCurrencyCode constraint = mock(SupportedCurrencyCode.class);
+    when(constraint.message()).thenReturn(ValidationMessages.Filter.CURRENCY_UNSUPPORTED);
+    when(context.buildConstraintViolationWithTemplate(anyString())).thenReturn(violationBuilder);
+    currencyCodeValidator.initialize(constraint);
+  }
+
+  @Nested
+  @DisplayName("Is Valid Operations")
+  class IsValidOperations {
+
+    @Test
+    @DisplayName("Should return true when code is null")
+    void isValid_withNullCode_returnsTrue() {
+      assertTrue(currencyCodeValidator.isValid(null, context));
+    }
+
+    @Test
+    @DisplayName("Should return true for every supported code")
+    void isValid_withSupportedCodes_returnsTrue() {
+      assertTrue(currencyCodeValidator.isValid(MoneyConstants.GBP.getCurrencyCode(), context));
+      assertTrue(currencyCodeValidator.isValid(MoneyConstants.EUR.getCurrencyCode(), context));
+      assertTrue(currencyCodeValidator.isValid(MoneyConstants.USD.getCurrencyCode(), context));
+      verifyNoInteractions(context);
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported code, listing the supported ones")
+    void isValid_withUnsupportedCode_reportsSupportedCodes() {
+      assertFalse(currencyCodeValidator.isValid(MoneyConstants.InvalidValues.JPY_CODE, context));
+
+      verify(context).disableDefaultConstraintViolation();
+      verify(context)
+          .buildConstraintViolationWithTemplate(
+              MoneyConstants.InvalidValues.UNSUPPORTED_CODE_MESSAGE);
+      verify(violationBuilder).addConstraintViolation();
+    }
+  }
+}
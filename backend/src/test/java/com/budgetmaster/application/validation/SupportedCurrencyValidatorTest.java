@@ -62,7 +62,7 @@ class SupportedCurrencyValidatorTest {
     void isValid_withUnsupportedCurrency_returnsFalse() {
       request =
           MoneyRequestBuilder.defaultZero()
-              .withCurrency(MoneyConstants.InvalidValues.EUR)
+              .withCurrency(MoneyConstants.InvalidValues.JPY)
               .buildRequest();
 
       assertFalse(currencyValidator.isValid(request, context));
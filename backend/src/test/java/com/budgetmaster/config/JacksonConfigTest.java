@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +14,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.projection.ExpenseSummary;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.testsupport.builder.model.DummyConfigEntityBuilder;
+import com.budgetmaster.testsupport.builder.model.ExpenseBuilder;
+import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
 import com.budgetmaster.testsupport.constants.domain.DummyConfigConstants;
+import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
+import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
+import com.budgetmaster.testsupport.constants.domain.MoneyConstants;
 import com.budgetmaster.testsupport.dummyclasses.entity.DummyConfigEntity;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SpringBootTest
@@ -95,4 +107,82 @@ class JacksonConfigTest {
       assertThat(dateTime).isEqualTo(dummyConfigEntity.getTime());
     }
   }
+
+  @Nested
+  @DisplayName("Summary Serialization Operations")
+  class SummarySerializationOperations {
+
+    @Test
+    @DisplayName("Should serialize expense summary like the entity it was built from")
+    void serialize_withExpenseSummary_matchesEntityFields() throws Exception {
+      Expense expense = ExpenseBuilder.defaultExpense().build();
+      expense.setId(ExpenseConstants.Default.ID);
+
+      JsonNode summaryJson = objectMapper.valueToTree(ExpenseSummary.from(expense));
+      JsonNode entityJson = objectMapper.valueToTree(expense);
+
+      assertSameFields(summaryJson, entityJson);
+    }
+
+    @Test
+    @DisplayName("Should serialize income summary like the entity it was built from")
+    void serialize_withIncomeSummary_matchesEntityFields() throws Exception {
+      Income income = IncomeBuilder.defaultIncome().build();
+      income.setId(IncomeConstants.Default.ID);
+
+      JsonNode summaryJson = objectMapper.valueToTree(IncomeSummary.from(income));
+      JsonNode entityJson = objectMapper.valueToTree(income);
+
+      assertSameFields(summaryJson, entityJson);
+    }
+
+    @Test
+    @DisplayName("Should serialize summary amounts as plain strings")
+    void serialize_withSummaryAmounts_writesPlainString() throws Exception {
+      ExpenseSummary summary = ExpenseSummary.from(ExpenseBuilder.defaultExpense().build());
+
+      for (BigDecimal amount : DummyConfigConstants.Summary.AMOUNTS) {
+        JsonNode json =
+            objectMapper.valueToTree(summary.withMoney(Money.of(amount, MoneyConstants.GBP)));
+
+        assertThat(
+                json.get(DummyConfigConstants.Summary.MONEY_FIELD)
+                    .get(DummyConfigConstants.Summary.AMOUNT_FIELD)
+                    .textValue())
+            .isEqualTo(amount.toPlainString());
+      }
+    }
+
+    @Test
+    @DisplayName("Should serialize summary timestamps in standard format")
+    void serialize_withSummaryTimestamps_usesStandardFormat() throws Exception {
+      ExpenseSummary summary =
+          new ExpenseSummary(
+              ExpenseConstants.Default.ID,
+              ExpenseConstants.Default.NAME,
+              ExpenseConstants.Default.AMOUNT,
+              ExpenseConstants.Default.CURRENCY,
+              ExpenseConstants.Default.CATEGORY,
+              ExpenseConstants.Default.TYPE,
+              ExpenseConstants.Default.YEAR_MONTH,
+              DummyConfigConstants.Default.TIME,
+              DummyConfigConstants.Default.TIME);
+
+      JsonNode json = objectMapper.valueToTree(summary);
+
+      assertThat(json.get(DummyConfigConstants.Summary.CREATED_AT_FIELD).textValue())
+          .isEqualTo(DummyConfigConstants.Default.TIME_STRING);
+      assertThat(json.get(DummyConfigConstants.Summary.LAST_UPDATED_AT_FIELD).textValue())
+          .isEqualTo(DummyConfigConstants.Default.TIME_STRING);
+    }
+
+    private void assertSameFields(JsonNode summaryJson, JsonNode entityJson) {
+      Iterator<String> fieldNames = summaryJson.fieldNames();
+      while (fieldNames.hasNext()) {
+        String fieldName = fieldNames.next();
+        assertThat(summaryJson.get(fieldName)).isEqualTo(entityJson.get(fieldName));
+      }
+      assertThat(summaryJson.size()).isPositive();
+    }
+  }
 }
@@ -18,6 +18,7 @@ import com.budgetmaster.application.controller.IncomeController;
 import com.budgetmaster.application.exception.BudgetNotFoundException;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.integration.config.TestContainersConfig;
 import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
 import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
@@ -39,11 +40,15 @@ class BudgetIntegrationTest {
 
   @Autowired private BudgetRepository budgetRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
   @BeforeEach
   void setUp() {
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
-    incomeController.createIncome(IncomeRequestBuilder.defaultIncomeRequest().buildRequest());
-    expenseController.createExpense(ExpenseRequestBuilder.defaultExpenseRequest().buildRequest());
+    incomeController.createIncome(IncomeRequestBuilder.defaultIncomeRequest().buildRequest(), null);
+    expenseController.createExpense(
+        ExpenseRequestBuilder.defaultExpenseRequest().buildRequest(), null);
   }
 
   @Nested
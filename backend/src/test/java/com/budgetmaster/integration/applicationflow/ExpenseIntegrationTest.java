@@ -1,7 +1,9 @@
 package com.budgetmaster.integration.applicationflow;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,16 +19,21 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.budgetmaster.application.controller.ExpenseController;
 import com.budgetmaster.application.dto.ExpenseRequest;
 import com.budgetmaster.application.exception.ExpenseNotFoundException;
+import com.budgetmaster.application.exception.IdempotencyKeyReusedException;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.IdempotencyKeyRepository;
 import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.integration.config.TestContainersConfig;
 import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.ExpenseIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.list.ExpenseIntegrationListAssertions;
 import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
 import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.ExpenseConstants;
 
 @Testcontainers
@@ -42,6 +49,10 @@ class ExpenseIntegrationTest {
 
   @Autowired private BudgetRepository budgetRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
+  @Autowired private IdempotencyKeyRepository idempotencyKeyRepository;
+
   private Expense savedExpense;
   private ExpenseRequest defaultExpenseRequest =
       ExpenseRequestBuilder.defaultExpenseRequest().buildRequest();
@@ -49,8 +60,10 @@ class ExpenseIntegrationTest {
   @BeforeEach
   void setUp() {
     expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
-    savedExpense = expenseController.createExpense(defaultExpenseRequest).getBody();
+    idempotencyKeyRepository.deleteAll();
+    savedExpense = expenseController.createExpense(defaultExpenseRequest, null).getBody();
   }
 
   @Nested
@@ -69,6 +82,39 @@ class ExpenseIntegrationTest {
       BudgetIntegrationAssertions.assertBudget(budget)
           .hasTotalExpense(BudgetConstants.Default.TOTAL_EXPENSE);
     }
+
+    @Test
+    @DisplayName("Should return original expense when idempotency key is repeated")
+    void createExpense_withRepeatedIdempotencyKey_returnsOriginalExpense() {
+      Expense firstExpense =
+          expenseController
+              .createExpense(defaultExpenseRequest, IdempotencyConstants.Default.KEY)
+              .getBody();
+      Expense retriedExpense =
+          expenseController
+              .createExpense(defaultExpenseRequest, IdempotencyConstants.Default.KEY)
+              .getBody();
+
+      ExpenseIntegrationAssertions.assertExpense(retriedExpense).hasId(firstExpense.getId());
+      assertThat(expenseRepository.count()).isEqualTo(2);
+
+      Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
+      BudgetIntegrationAssertions.assertBudget(budget)
+          .hasTotalExpense(BudgetConstants.Default.TOTAL_EXPENSE.multiply(BigDecimal.TWO));
+    }
+
+    @Test
+    @DisplayName("Should refuse an idempotency key repeated with a different request")
+    void createExpense_withIdempotencyKeyReusedForOtherRequest_throwsReusedException() {
+      expenseController.createExpense(defaultExpenseRequest, IdempotencyConstants.Default.KEY);
+      ExpenseRequest otherRequest = ExpenseRequestBuilder.updatedExpenseRequest().buildRequest();
+
+      assertThatThrownBy(
+              () ->
+                  expenseController.createExpense(otherRequest, IdempotencyConstants.Default.KEY))
+          .isInstanceOf(IdempotencyKeyReusedException.class);
+      assertThat(expenseRepository.count()).isEqualTo(2);
+    }
   }
 
   @Nested
@@ -127,7 +173,7 @@ class ExpenseIntegrationTest {
       assertThatThrownBy(
               () ->
                   expenseController.getAllExpensesForMonth(
-                      ExpenseConstants.NonExistent.YEAR_MONTH_STRING))
+                      ExpenseConstants.NonExistent.YEAR_MONTH_STRING, null))
           .isInstanceOf(ExpenseNotFoundException.class)
           .hasMessageContaining(ExpenseConstants.NonExistent.YEAR_MONTH_STRING);
     }
@@ -135,13 +181,14 @@ class ExpenseIntegrationTest {
     @Test
     @DisplayName("Should return list of expenses when month is valid")
     void getAllExpenses_withValidMonth_returnsCorrectList() {
-      Expense secondExpense = expenseController.createExpense(defaultExpenseRequest).getBody();
-      List<Expense> response =
+      Expense secondExpense =
+          expenseController.createExpense(defaultExpenseRequest, null).getBody();
+      List<ExpenseSummary> response =
           expenseController
-              .getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH_STRING)
+              .getAllExpensesForMonth(ExpenseConstants.Default.YEAR_MONTH_STRING, null)
               .getBody();
 
-      ExpenseIntegrationListAssertions.assertExpenses(response)
+      ExpenseIntegrationListAssertions.assertExpenseSummaries(response)
           .hasSize(2)
           .contains(savedExpense, secondExpense);
     }
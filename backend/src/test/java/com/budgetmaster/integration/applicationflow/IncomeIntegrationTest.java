@@ -1,7 +1,9 @@
 package com.budgetmaster.integration.applicationflow;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +21,18 @@ import com.budgetmaster.application.dto.IncomeRequest;
 import com.budgetmaster.application.exception.IncomeNotFoundException;
 import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.IdempotencyKeyRepository;
 import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.integration.config.TestContainersConfig;
 import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.IncomeIntegrationAssertions;
 import com.budgetmaster.testsupport.assertions.integration.list.IncomeIntegrationListAssertions;
 import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
 import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
 import com.budgetmaster.testsupport.constants.domain.IncomeConstants;
 
 @Testcontainers
@@ -42,6 +48,10 @@ class IncomeIntegrationTest {
 
   @Autowired private BudgetRepository budgetRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
+  @Autowired private IdempotencyKeyRepository idempotencyKeyRepository;
+
   private Income savedIncome;
   private IncomeRequest defaultIncomeRequest =
       IncomeRequestBuilder.defaultIncomeRequest().buildRequest();
@@ -49,8 +59,10 @@ class IncomeIntegrationTest {
   @BeforeEach
   void setUp() {
     incomeRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
-    savedIncome = incomeController.createIncome(defaultIncomeRequest).getBody();
+    idempotencyKeyRepository.deleteAll();
+    savedIncome = incomeController.createIncome(defaultIncomeRequest, null).getBody();
   }
 
   @Nested
@@ -69,6 +81,26 @@ class IncomeIntegrationTest {
       BudgetIntegrationAssertions.assertBudget(budget)
           .hasTotalIncome(BudgetConstants.Default.TOTAL_INCOME);
     }
+
+    @Test
+    @DisplayName("Should return original income when idempotency key is repeated")
+    void createIncome_withRepeatedIdempotencyKey_returnsOriginalIncome() {
+      Income firstIncome =
+          incomeController
+              .createIncome(defaultIncomeRequest, IdempotencyConstants.Default.KEY)
+              .getBody();
+      Income retriedIncome =
+          incomeController
+              .createIncome(defaultIncomeRequest, IdempotencyConstants.Default.KEY)
+              .getBody();
+
+      IncomeIntegrationAssertions.assertIncome(retriedIncome).hasId(firstIncome.getId());
+      assertThat(incomeRepository.count()).isEqualTo(2);
+
+      Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
+      BudgetIntegrationAssertions.assertBudget(budget)
+          .hasTotalIncome(BudgetConstants.Default.TOTAL_INCOME.multiply(BigDecimal.TWO));
+    }
   }
 
   @Nested
@@ -127,7 +159,7 @@ class IncomeIntegrationTest {
       assertThatThrownBy(
               () ->
                   incomeController.getAllIncomesForMonth(
-                      IncomeConstants.NonExistent.YEAR_MONTH_STRING))
+                      IncomeConstants.NonExistent.YEAR_MONTH_STRING, null))
           .isInstanceOf(IncomeNotFoundException.class)
           .hasMessageContaining(IncomeConstants.NonExistent.YEAR_MONTH_STRING);
     }
@@ -135,13 +167,13 @@ class IncomeIntegrationTest {
     @Test
     @DisplayName("Should return list of incomes when month is valid")
     void getAllIncomes_withValidMonth_returnsCorrectList() {
-      Income secondIncome = incomeController.createIncome(defaultIncomeRequest).getBody();
-      List<Income> response =
+      Income secondIncome = incomeController.createIncome(defaultIncomeRequest, null).getBody();
+      List<IncomeSummary> response =
           incomeController
-              .getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH_STRING)
+              .getAllIncomesForMonth(IncomeConstants.Default.YEAR_MONTH_STRING, null)
               .getBody();
 
-      IncomeIntegrationListAssertions.assertIncomes(response)
+      IncomeIntegrationListAssertions.assertIncomeSummaries(response)
           .hasSize(2)
           .contains(savedIncome, secondIncome);
     }
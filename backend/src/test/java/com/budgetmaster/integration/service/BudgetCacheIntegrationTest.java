@@ -0,0 +1,185 @@
+package com.budgetmaster.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.BudgetSnapshotRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.constants.cache.CacheRegions;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.builder.model.IncomeBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Budget Second-Level Cache Integration Tests")
+class BudgetCacheIntegrationTest {
+
+  @Autowired private BudgetRepository budgetRepository;
+  @Autowired private BudgetSnapshotRepository budgetSnapshotRepository;
+  @Autowired private IncomeRepository incomeRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    budgetSnapshotRepository.deleteAll();
+    incomeRepository.deleteAll();
+    budgetRepository.deleteAll();
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("Should serve a repeated get-by-id from the budgets region without a query")
+  void findById_repeated_isServedFromEntityRegion() {
+    Long id = budgetRepository.saveAndFlush(BudgetBuilder.defaultBudget().build()).getId();
+    entityManagerFactory.getCache().evictAll();
+    statistics.clear();
+
+    budgetRepository.findById(id);
+    long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+    Optional<Budget> second = budgetRepository.findById(id);
+
+    assertThat(second).isPresent();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+    assertThat(entityRegion().getMissCount()).isEqualTo(1L);
+    assertThat(entityRegion().getHitCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should read the saved totals after saveAndFlush changes a cached budget")
+  void saveAndFlush_cachedBudget_invalidatesRegions() {
+    Long id = budgetRepository.saveAndFlush(BudgetBuilder.defaultBudget().build()).getId();
+    Budget cached = budgetRepository.findById(id).orElseThrow();
+    cacheByMonthQuery();
+
+    cached.setTotalIncome(BudgetConstants.Updated.TOTAL_INCOME);
+    budgetRepository.saveAndFlush(cached);
+    long queryHits = queryRegion().getHitCount();
+
+    assertThat(budgetRepository.findById(id).orElseThrow().getTotalIncome())
+        .isEqualByComparingTo(BudgetConstants.Updated.TOTAL_INCOME);
+    assertThat(findDefaultMonth().orElseThrow().getTotalIncome())
+        .isEqualByComparingTo(BudgetConstants.Updated.TOTAL_INCOME);
+    assertThat(queryRegion().getHitCount()).isEqualTo(queryHits);
+  }
+
+  @Test
+  @DisplayName("Should find no budget after deleteById removes a cached budget")
+  void deleteById_cachedBudget_invalidatesRegions() {
+    Long id = budgetRepository.saveAndFlush(BudgetBuilder.defaultBudget().build()).getId();
+    budgetRepository.findById(id);
+    cacheByMonthQuery();
+
+    budgetRepository.deleteById(id);
+
+    assertThat(budgetRepository.findById(id)).isEmpty();
+    assertThat(findDefaultMonth()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should find the budget a native insert adds after an empty month was cached")
+  void insertIfAbsent_afterCachedEmptyMonth_invalidatesQueryRegion() {
+    cacheByMonthQuery();
+
+    transactionTemplate.executeWithoutResult(
+        status ->
+            budgetRepository.insertIfAbsent(
+                BudgetConstants.Default.YEAR_MONTH_STRING,
+                BudgetConstants.Default.CURRENCY.getCurrencyCode()));
+
+    assertThat(findDefaultMonth()).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should keep other entities cached when a native insert adds a budget")
+  void insertIfAbsent_withCachedIncome_keepsIncomesRegion() {
+    Long incomeId = incomeRepository.saveAndFlush(IncomeBuilder.defaultIncome().build()).getId();
+    incomeRepository.findById(incomeId);
+    long incomeHits = incomeRegion().getHitCount();
+
+    transactionTemplate.executeWithoutResult(
+        status ->
+            budgetRepository.insertIfAbsent(
+                BudgetConstants.Default.YEAR_MONTH_STRING,
+                BudgetConstants.Default.CURRENCY.getCurrencyCode()));
+    long statementsAfterInsert = statistics.getPrepareStatementCount();
+    incomeRepository.findById(incomeId);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterInsert);
+    assertThat(incomeRegion().getHitCount()).isEqualTo(incomeHits + 1);
+  }
+
+  @Test
+  @DisplayName("Should keep cached budgets when the sweep snapshots them")
+  void snapshotAdvancedBudgets_withCachedBudget_keepsBudgetsRegion() {
+    Budget budget = BudgetBuilder.defaultBudget().build();
+    budget.restore(
+        BudgetConstants.Default.TOTAL_INCOME,
+        BudgetConstants.Default.TOTAL_EXPENSE,
+        LedgerConstants.Positions.BUDGET);
+    Long id = budgetRepository.saveAndFlush(budget).getId();
+    budgetRepository.findById(id);
+    long budgetHits = entityRegion().getHitCount();
+
+    Integer snapshots =
+        transactionTemplate.execute(status -> budgetSnapshotRepository.snapshotAdvancedBudgets());
+    long statementsAfterSnapshot = statistics.getPrepareStatementCount();
+    budgetRepository.findById(id);
+
+    assertThat(snapshots).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterSnapshot);
+    assertThat(entityRegion().getHitCount()).isEqualTo(budgetHits + 1);
+  }
+
+  /** Runs the by-month query twice, checking that the second run is answered by its region. */
+  private void cacheByMonthQuery() {
+    Optional<Budget> first = findDefaultMonth();
+    long queryHits = queryRegion().getHitCount();
+
+    assertThat(findDefaultMonth().isPresent()).isEqualTo(first.isPresent());
+    assertThat(queryRegion().getHitCount()).isEqualTo(queryHits + 1);
+  }
+
+  private Optional<Budget> findDefaultMonth() {
+    return budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH);
+  }
+
+  private CacheRegionStatistics entityRegion() {
+    return statistics.getCacheRegionStatistics(CacheRegions.BUDGETS);
+  }
+
+  private CacheRegionStatistics incomeRegion() {
+    return statistics.getCacheRegionStatistics(CacheRegions.INCOMES);
+  }
+
+  private CacheRegionStatistics queryRegion() {
+    return statistics.getCacheRegionStatistics(CacheRegions.BUDGETS_BY_MONTH);
+  }
+}
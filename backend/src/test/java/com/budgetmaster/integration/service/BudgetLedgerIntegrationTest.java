@@ -0,0 +1,300 @@
+package com.budgetmaster.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.dto.BudgetHistoryResponse;
+import com.budgetmaster.application.dto.BudgetTotalsResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.exception.BudgetNotFoundException;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.BudgetHistoryEntry;
+import com.budgetmaster.application.repository.BudgetHistoryRepository;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.BudgetSnapshotRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.BudgetService;
+import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.service.IncomeService;
+import com.budgetmaster.application.service.ledger.BudgetProjectionService;
+import com.budgetmaster.application.service.ledger.BudgetProjector;
+import com.budgetmaster.application.service.totals.BudgetTotalsIndex;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.LedgerConstants;
+
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Budget Ledger Integration Tests")
+class BudgetLedgerIntegrationTest {
+
+  @Autowired private BudgetService budgetService;
+  @Autowired private BudgetProjectionService budgetProjectionService;
+  @Autowired private BudgetProjector budgetProjector;
+  @Autowired private BudgetTotalsIndex budgetTotalsIndex;
+  @Autowired private BudgetRepository budgetRepository;
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+  @Autowired private BudgetSnapshotRepository budgetSnapshotRepository;
+  @Autowired private BudgetHistoryRepository budgetHistoryRepository;
+
+  @Autowired private IncomeService incomeService;
+  @Autowired private IncomeRepository incomeRepository;
+
+  @Autowired private ExpenseService expenseService;
+  @Autowired private ExpenseRepository expenseRepository;
+
+  @BeforeEach
+  void setUp() {
+    incomeRepository.deleteAll();
+    expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
+    budgetSnapshotRepository.deleteAll();
+    budgetHistoryRepository.deleteAll();
+    budgetRepository.deleteAll();
+    budgetTotalsIndex.load();
+    incomeService.createIncome(IncomeRequestBuilder.defaultIncomeRequest().buildRequest());
+    expenseService.createExpense(ExpenseRequestBuilder.defaultExpenseRequest().buildRequest());
+  }
+
+  @Nested
+  @DisplayName("Projection")
+  class Projection {
+
+    @Test
+    @DisplayName("Should fold committed writes into the budget of their month")
+    void createTransactions_afterCommit_foldsIntoBudget() {
+      Budget budget = findDefaultBudget();
+
+      BudgetIntegrationAssertions.assertBudget(budget).isDefaultBudget();
+      assertThat(budget.getLedgerPosition()).isPositive();
+      assertThat(ledgerEntryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should start a new budget with only the writes after the budget was deleted")
+    void createExpense_afterBudgetDeleted_foldsOnlyNewWrite() {
+      budgetService.deleteBudget(findDefaultBudget().getId());
+
+      expenseService.createExpense(ExpenseRequestBuilder.defaultExpenseRequest().buildRequest());
+
+      BudgetIntegrationAssertions.assertBudget(findDefaultBudget())
+          .hasTotalIncome(BigDecimal.ZERO)
+          .hasTotalExpense(BudgetConstants.Default.TOTAL_EXPENSE);
+    }
+  }
+
+  @Nested
+  @DisplayName("Sweep")
+  class Sweep {
+
+    @Test
+    @DisplayName("Should catch up a month whose budget was lost before the restart")
+    void sweep_afterRestartWithoutBudget_foldsMonthAndIndexesIt() {
+      budgetRepository.deleteAll();
+      budgetTotalsIndex.load();
+
+      restartedProjectionService().sweep();
+
+      BudgetIntegrationAssertions.assertBudget(findDefaultBudget()).isDefaultBudget();
+      assertThat(budgetSnapshotRepository.count()).isEqualTo(1);
+      assertThat(
+              budgetTotalsIndex
+                  .sum(BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH)
+                  .getTotalExpense())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_EXPENSE);
+    }
+
+    @Test
+    @DisplayName("Should not look again at months without a budget already swept")
+    void sweep_afterSweepWithoutBudget_skipsSweptEntries() {
+      budgetProjectionService.sweep();
+      budgetRepository.deleteAll();
+
+      budgetProjectionService.sweep();
+
+      assertThat(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave a deleted budget deleted through sweeps and rebuilds")
+    void sweep_afterBudgetDeleted_createsNoBudget() {
+      budgetService.deleteBudget(findDefaultBudget().getId());
+
+      budgetProjectionService.sweep();
+      budgetProjectionService.rebuildAll(false);
+
+      assertThat(budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH)).isEmpty();
+      assertThat(
+              budgetTotalsIndex
+                  .sum(BudgetConstants.Default.YEAR_MONTH, BudgetConstants.Default.YEAR_MONTH)
+                  .getTotalExpense())
+          .isZero();
+    }
+
+    @Test
+    @DisplayName("Should catch up a budget left behind its month's entries before the restart")
+    void sweep_afterRestartWithBudgetBehind_foldsRemainingEntries() {
+      Budget budget = findDefaultBudget();
+      budget.restore(BigDecimal.ZERO, BigDecimal.ZERO, 0);
+      budgetRepository.save(budget);
+      budgetTotalsIndex.load();
+
+      budgetProjectionService.sweep();
+
+      BudgetIntegrationAssertions.assertBudget(findDefaultBudget()).isDefaultBudget();
+    }
+  }
+
+  @Nested
+  @DisplayName("Rebuild")
+  class Rebuild {
+
+    @Test
+    @DisplayName("Should restore drifted totals from the first ledger entry")
+    void rebuildBudgets_withoutSnapshots_restoresTotalsFromLedger() {
+      drift(findDefaultBudget());
+
+      assertThat(budgetService.rebuildBudgets(false))
+          .containsExactly(BudgetConstants.Default.YEAR_MONTH);
+
+      BudgetIntegrationAssertions.assertBudget(findDefaultBudget()).isDefaultBudget();
+    }
+
+    @Test
+    @DisplayName("Should start from the latest snapshot taken by the sweep")
+    void rebuildBudgets_fromSnapshots_matchesFullRebuild() {
+      budgetProjectionService.sweep();
+      assertThat(budgetSnapshotRepository.count()).isEqualTo(1);
+      drift(findDefaultBudget());
+
+      budgetService.rebuildBudgets(true);
+
+      BudgetIntegrationAssertions.assertBudget(findDefaultBudget()).isDefaultBudget();
+    }
+
+    private void drift(Budget budget) {
+      budget.restore(BigDecimal.ZERO, BigDecimal.ZERO, budget.getLedgerPosition());
+      budgetRepository.save(budget);
+    }
+  }
+
+  @Nested
+  @DisplayName("History")
+  class History {
+
+    @Test
+    @DisplayName("Should start the month with a keyframe and record the next write as a delta")
+    void createTransactions_afterCommit_recordsKeyframeThenDelta() {
+      List<BudgetHistoryEntry> history = findDefaultHistory();
+
+      assertThat(history).extracting(BudgetHistoryEntry::isKeyframe).containsExactly(true, false);
+      assertThat(history.get(1).getIncome()).isZero();
+      assertThat(history.get(1).getExpense())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_EXPENSE);
+    }
+
+    @Test
+    @DisplayName("Should read the month as it was before and after its latest write")
+    void getBudgetByMonthAsOf_betweenWrites_reconstructsTotals() {
+      List<BudgetHistoryEntry> history = findDefaultHistory();
+
+      BudgetHistoryResponse beforeExpense =
+          budgetService.getBudgetByMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH_STRING, history.get(0).getChangedAt());
+      BudgetHistoryResponse afterExpense =
+          budgetService.getBudgetByMonthAsOf(
+              BudgetConstants.Default.YEAR_MONTH_STRING, history.get(1).getChangedAt());
+
+      assertThat(beforeExpense.getTotalIncome())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_INCOME);
+      assertThat(beforeExpense.getTotalExpense()).isZero();
+      assertThat(afterExpense.getTotalExpense())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_EXPENSE);
+      assertThat(afterExpense.getSavings()).isEqualByComparingTo(BudgetConstants.Default.SAVINGS);
+    }
+
+    @Test
+    @DisplayName("Should not find the month before its first change")
+    void getBudgetByMonthAsOf_beforeFirstChange_throwsBudgetNotFoundException() {
+      BudgetHistoryEntry first = findDefaultHistory().get(0);
+
+      assertThrows(
+          BudgetNotFoundException.class,
+          () ->
+              budgetService.getBudgetByMonthAsOf(
+                  BudgetConstants.Default.YEAR_MONTH_STRING, first.getChangedAt().minusSeconds(1)));
+    }
+
+    private List<BudgetHistoryEntry> findDefaultHistory() {
+      return budgetHistoryRepository.findAll(Sort.by("version")).stream()
+          .filter(entry -> entry.getMonth().equals(BudgetConstants.Default.YEAR_MONTH))
+          .toList();
+    }
+  }
+
+  @Nested
+  @DisplayName("Totals")
+  class Totals {
+
+    @Test
+    @DisplayName("Should sum the folded budgets from memory")
+    void getTotals_afterCommit_matchesBudget() {
+      BudgetTotalsResponse totals = budgetService.getTotals(defaultMonthRange());
+
+      assertThat(totals.getTotalIncome())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_INCOME);
+      assertThat(totals.getTotalExpense())
+          .isEqualByComparingTo(BudgetConstants.Default.TOTAL_EXPENSE);
+      assertThat(totals.getSavings()).isEqualByComparingTo(BudgetConstants.Default.SAVINGS);
+    }
+
+    @Test
+    @DisplayName("Should take a deleted budget out of the sums")
+    void getTotals_afterBudgetDeleted_returnsZero() {
+      budgetService.deleteBudget(findDefaultBudget().getId());
+
+      BudgetTotalsResponse totals = budgetService.getTotals(defaultMonthRange());
+
+      assertThat(totals.getTotalIncome()).isZero();
+      assertThat(totals.getTotalExpense()).isZero();
+    }
+
+    private MonthRangeRequest defaultMonthRange() {
+      MonthRangeRequest range = new MonthRangeRequest();
+      range.setFromMonth(BudgetConstants.Default.YEAR_MONTH_STRING);
+      range.setToMonth(BudgetConstants.Default.YEAR_MONTH_STRING);
+      return range;
+    }
+  }
+
+  /** Returns a projection service as it starts after a restart, before its first sweep. */
+  private BudgetProjectionService restartedProjectionService() {
+    return new BudgetProjectionService(
+        budgetProjector, ledgerEntryRepository, LedgerConstants.Rebuild.PARALLELISM);
+  }
+
+  private Budget findDefaultBudget() {
+    return budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElseThrow();
+  }
+}
@@ -19,6 +19,7 @@ import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.repository.BudgetRepository;
 import com.budgetmaster.application.repository.ExpenseRepository;
 import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.application.service.BudgetService;
 import com.budgetmaster.application.service.ExpenseService;
 import com.budgetmaster.application.service.IncomeService;
@@ -37,6 +38,7 @@ class BudgetServiceIntegrationTest {
 
   @Autowired private BudgetService budgetService;
   @Autowired private BudgetRepository budgetRepository;
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
 
   @Autowired private IncomeService incomeService;
   @Autowired private IncomeRepository incomeRepository;
@@ -51,6 +53,7 @@ class BudgetServiceIntegrationTest {
 
   @BeforeEach
   void setUp() {
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
     incomeRepository.deleteAll();
     expenseRepository.deleteAll();
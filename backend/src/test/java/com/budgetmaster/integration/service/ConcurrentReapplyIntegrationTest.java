@@ -0,0 +1,177 @@
+package com.budgetmaster.integration.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.service.IncomeService;
+import com.budgetmaster.application.service.ledger.BudgetProjectionService;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+
+/**
+ * Moves incomes and expenses back and forth between two months from many threads at once. Any
+ * deadlock surfaces as a failed future, and lost or doubled ledger entries show up as a mismatch
+ * between the budget totals and the transactions that actually sit in each month once the
+ * projection has settled.
+ */
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Concurrent Reapply Integration Tests")
+class ConcurrentReapplyIntegrationTest {
+
+  private static final int TRANSACTIONS_PER_MONTH = 2;
+  private static final int MOVES_PER_TRANSACTION = 20;
+  private static final long TIMEOUT_SECONDS = 60;
+
+  private static final YearMonth FIRST_MONTH = BudgetConstants.Updated.YEAR_MONTH;
+  private static final YearMonth SECOND_MONTH = BudgetConstants.Default.YEAR_MONTH;
+
+  @Autowired private IncomeService incomeService;
+
+  @Autowired private ExpenseService expenseService;
+
+  @Autowired private IncomeRepository incomeRepository;
+
+  @Autowired private ExpenseRepository expenseRepository;
+
+  @Autowired private BudgetRepository budgetRepository;
+
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
+  @Autowired private BudgetProjectionService budgetProjectionService;
+
+  @BeforeEach
+  void setUp() {
+    incomeRepository.deleteAll();
+    expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
+    budgetRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should keep budget totals consistent when moving transactions across months")
+  void reapply_withConcurrentCrossMonthMoves_completesWithoutDeadlock() throws Exception {
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < TRANSACTIONS_PER_MONTH; i++) {
+      tasks.add(shuttle(createIncome(FIRST_MONTH), FIRST_MONTH, SECOND_MONTH, this::moveIncome));
+      tasks.add(shuttle(createIncome(SECOND_MONTH), SECOND_MONTH, FIRST_MONTH, this::moveIncome));
+      tasks.add(shuttle(createExpense(FIRST_MONTH), FIRST_MONTH, SECOND_MONTH, this::moveExpense));
+      tasks.add(
+          shuttle(createExpense(SECOND_MONTH), SECOND_MONTH, FIRST_MONTH, this::moveExpense));
+    }
+
+    runConcurrently(tasks);
+    budgetProjectionService.sweep();
+
+    assertBudgetMatchesTransactions(FIRST_MONTH);
+    assertBudgetMatchesTransactions(SECOND_MONTH);
+  }
+
+  @FunctionalInterface
+  private interface Move {
+    void apply(Long id, YearMonth month);
+  }
+
+  private Callable<Void> shuttle(Long id, YearMonth from, YearMonth to, Move move) {
+    return () -> {
+      for (int i = 0; i < MOVES_PER_TRANSACTION; i++) {
+        move.apply(id, i % 2 == 0 ? to : from);
+      }
+      return null;
+    };
+  }
+
+  private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    CountDownLatch startSignal = new CountDownLatch(1);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (Callable<Void> task : tasks) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  startSignal.await();
+                  return task.call();
+                }));
+      }
+      startSignal.countDown();
+      for (Future<Void> future : futures) {
+        future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Long createIncome(YearMonth month) {
+    return incomeService
+        .createIncome(
+            IncomeRequestBuilder.defaultIncomeRequest().withMonth(month.toString()).buildRequest())
+        .getId();
+  }
+
+  private Long createExpense(YearMonth month) {
+    return expenseService
+        .createExpense(
+            ExpenseRequestBuilder.defaultExpenseRequest()
+                .withMonth(month.toString())
+                .buildRequest())
+        .getId();
+  }
+
+  private void moveIncome(Long id, YearMonth month) {
+    incomeService.updateIncome(
+        id, IncomeRequestBuilder.defaultIncomeRequest().withMonth(month.toString()).buildRequest());
+  }
+
+  private void moveExpense(Long id, YearMonth month) {
+    expenseService.updateExpense(
+        id,
+        ExpenseRequestBuilder.defaultExpenseRequest().withMonth(month.toString()).buildRequest());
+  }
+
+  private void assertBudgetMatchesTransactions(YearMonth month) {
+    BigDecimal totalIncome =
+        incomeRepository.findByMonth(month).stream()
+            .map(income -> income.getMoney().getAmount())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal totalExpense =
+        expenseRepository.findByMonth(month).stream()
+            .map(expense -> expense.getMoney().getAmount())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    Budget budget = budgetRepository.findByMonth(month).orElse(null);
+    BudgetIntegrationAssertions.assertBudget(budget)
+        .hasTotalIncome(totalIncome)
+        .hasTotalExpense(totalExpense)
+        .hasSavings(totalIncome.subtract(totalExpense));
+  }
+}
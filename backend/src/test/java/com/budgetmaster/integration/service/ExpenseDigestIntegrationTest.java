@@ -0,0 +1,130 @@
+package com.budgetmaster.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.dto.ExpenseRequest;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.ExpenseDigestId;
+import com.budgetmaster.application.model.Money;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.ExpenseDigestRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.service.analytics.ExpenseDigestService;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.dto.MoneyRequestBuilder;
+import com.budgetmaster.testsupport.constants.domain.DigestConstants;
+
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Expense Digest Integration Tests")
+class ExpenseDigestIntegrationTest {
+
+  private static final ExpenseDigestId DEFAULT_DIGEST_ID =
+      new ExpenseDigestId(DigestConstants.Default.MONTH, DigestConstants.Default.CATEGORY);
+
+  @Autowired private ExpenseDigestService expenseDigestService;
+  @Autowired private ExpenseDigestRepository expenseDigestRepository;
+
+  @Autowired private ExpenseService expenseService;
+  @Autowired private ExpenseRepository expenseRepository;
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+  @Autowired private BudgetRepository budgetRepository;
+
+  @BeforeEach
+  void setUp() {
+    expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
+    budgetRepository.deleteAll();
+    expenseDigestService.flush();
+    expenseDigestRepository.deleteAll();
+    expenseDigestService.load();
+  }
+
+  @Test
+  @DisplayName("Should store the digests of created expenses and restore them on restart")
+  void createExpenses_afterRestart_restoresStoredDigest() {
+    create(DigestConstants.Amounts.SMALL);
+    create(DigestConstants.Amounts.MEDIUM);
+    create(DigestConstants.Amounts.LARGE);
+    expenseDigestService.flush();
+
+    assertThat(expenseDigestRepository.findById(DEFAULT_DIGEST_ID)).isPresent();
+    restartFromStoredDigests();
+
+    CategoryQuantilesResponse quantiles = onlyQuantiles();
+    assertThat(quantiles.getCount()).isEqualTo(3L);
+    assertThat(quantiles.getP50()).isEqualByComparingTo(DigestConstants.Amounts.MEDIUM.getAmount());
+    assertThat(quantiles.getP90()).isEqualByComparingTo(DigestConstants.Amounts.LARGE.getAmount());
+  }
+
+  @Test
+  @DisplayName("Should store the rebuilt digest of an updated expense")
+  void updateExpense_afterRestart_restoresRebuiltDigest() {
+    create(DigestConstants.Amounts.SMALL);
+    Expense large = create(DigestConstants.Amounts.LARGE);
+
+    expenseService.updateExpense(large.getId(), request(DigestConstants.Amounts.MEDIUM));
+    restartFromStoredDigests();
+
+    CategoryQuantilesResponse quantiles = onlyQuantiles();
+    assertThat(quantiles.getCount()).isEqualTo(2L);
+    assertThat(quantiles.getP99()).isEqualByComparingTo(DigestConstants.Amounts.MEDIUM.getAmount());
+  }
+
+  @Test
+  @DisplayName("Should remove the stored digest when the last expense of its category is deleted")
+  void deleteExpense_withLastOfCategory_removesStoredDigest() {
+    Expense expense = create(DigestConstants.Amounts.SMALL);
+
+    expenseService.deleteExpense(expense.getId());
+    expenseDigestService.flush();
+
+    assertThat(expenseDigestRepository.findById(DEFAULT_DIGEST_ID)).isEmpty();
+  }
+
+  /**
+   * Flushes the digests, then drops the expenses without publishing events and reloads, so the
+   * quantiles can only come from the stored digests, as after a restart.
+   */
+  private void restartFromStoredDigests() {
+    expenseDigestService.flush();
+    expenseRepository.deleteAll();
+    expenseDigestService.load();
+  }
+
+  private CategoryQuantilesResponse onlyQuantiles() {
+    List<CategoryQuantilesResponse> quantiles =
+        expenseDigestService.quantiles(
+            DigestConstants.Default.MONTH, DigestConstants.Default.MONTH);
+    assertThat(quantiles).hasSize(1);
+    return quantiles.get(0);
+  }
+
+  private Expense create(Money money) {
+    return expenseService.createExpense(request(money));
+  }
+
+  private static ExpenseRequest request(Money money) {
+    return ExpenseRequestBuilder.defaultExpenseRequest()
+        .withMoney(
+            MoneyRequestBuilder.defaultExpense().withAmount(money.getAmount()).buildRequest())
+        .buildRequest();
+  }
+}
@@ -1,5 +1,6 @@
 package com.budgetmaster.integration.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -22,6 +23,7 @@ import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.model.Expense;
 import com.budgetmaster.application.repository.BudgetRepository;
 import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.application.service.ExpenseService;
 import com.budgetmaster.application.service.synchronization.ExpenseBudgetSynchronizer;
 import com.budgetmaster.integration.config.TestContainersConfig;
@@ -49,12 +51,15 @@ class ExpenseServiceIntegrationTest {
 
   @Autowired private BudgetRepository budgetRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
   private ExpenseRequest defaultExpenseRequest =
       ExpenseRequestBuilder.defaultExpenseRequest().buildRequest();
 
   @BeforeEach
   void setUp() {
     expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
   }
 
@@ -71,6 +76,7 @@ class ExpenseServiceIntegrationTest {
 
       Expense persisted = expenseRepository.findById(createdExpense.getId()).orElse(null);
       ExpenseIntegrationAssertions.assertExpense(persisted).isEqualTo(createdExpense);
+      assertThat(persisted.getBaseAmount()).isEqualByComparingTo(ExpenseConstants.Default.AMOUNT);
 
       Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
       BudgetIntegrationAssertions.assertBudget(budget)
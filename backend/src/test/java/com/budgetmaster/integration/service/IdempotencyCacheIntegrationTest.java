@@ -0,0 +1,107 @@
+package com.budgetmaster.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.repository.BudgetHistoryRepository;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IdempotencyKeyRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.service.IdempotencyService;
+import com.budgetmaster.constants.cache.CacheRegions;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.model.BudgetBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+import com.budgetmaster.testsupport.constants.domain.IdempotencyConstants;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Idempotency Second-Level Cache Integration Tests")
+class IdempotencyCacheIntegrationTest {
+
+  @Autowired private ExpenseService expenseService;
+  @Autowired private IdempotencyService idempotencyService;
+  @Autowired private ExpenseRepository expenseRepository;
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+  @Autowired private BudgetHistoryRepository budgetHistoryRepository;
+  @Autowired private BudgetRepository budgetRepository;
+  @Autowired private IdempotencyKeyRepository idempotencyKeyRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Long cachedBudgetId;
+
+  /**
+   * Caches a budget of a month the writes below do not touch. The month the expense is written to
+   * already has a budget, so folding it updates that row rather than inserting one.
+   */
+  @BeforeEach
+  void setUp() {
+    expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
+    budgetHistoryRepository.deleteAll();
+    idempotencyKeyRepository.deleteAll();
+    budgetRepository.deleteAll();
+    budgetRepository.saveAndFlush(BudgetBuilder.zeroedBudget().build());
+    cachedBudgetId =
+        budgetRepository
+            .saveAndFlush(
+                BudgetBuilder.defaultBudget()
+                    .withMonth(BudgetConstants.Updated.YEAR_MONTH)
+                    .build())
+            .getId();
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    budgetRepository.findById(cachedBudgetId);
+  }
+
+  @Test
+  @DisplayName("Should keep the budgets region when an expense is created under a key")
+  void createExpense_withIdempotencyKey_keepsBudgetsRegion() {
+    expenseService.createExpense(
+        ExpenseRequestBuilder.defaultExpenseRequest().buildRequest(),
+        IdempotencyConstants.Default.KEY);
+
+    assertCachedBudgetServedFromRegion();
+  }
+
+  @Test
+  @DisplayName("Should keep the budgets region when expired keys are purged")
+  void purgeExpiredKeys_withCachedBudget_keepsBudgetsRegion() {
+    idempotencyService.purgeExpiredKeys();
+
+    assertCachedBudgetServedFromRegion();
+  }
+
+  private void assertCachedBudgetServedFromRegion() {
+    long budgetHits = budgetRegion().getHitCount();
+    long statements = statistics.getPrepareStatementCount();
+
+    assertThat(budgetRepository.findById(cachedBudgetId)).isPresent();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    assertThat(budgetRegion().getHitCount()).isEqualTo(budgetHits + 1);
+  }
+
+  private CacheRegionStatistics budgetRegion() {
+    return statistics.getCacheRegionStatistics(CacheRegions.BUDGETS);
+  }
+}
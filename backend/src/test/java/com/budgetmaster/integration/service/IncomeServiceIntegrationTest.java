@@ -1,5 +1,6 @@
 package com.budgetmaster.integration.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -22,6 +23,7 @@ import com.budgetmaster.application.model.Budget;
 import com.budgetmaster.application.model.Income;
 import com.budgetmaster.application.repository.BudgetRepository;
 import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
 import com.budgetmaster.application.service.IncomeService;
 import com.budgetmaster.application.service.synchronization.IncomeBudgetSynchronizer;
 import com.budgetmaster.integration.config.TestContainersConfig;
@@ -49,12 +51,15 @@ class IncomeServiceIntegrationTest {
 
   @Autowired private BudgetRepository budgetRepository;
 
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
   private IncomeRequest defaultIncomeRequest =
       IncomeRequestBuilder.defaultIncomeRequest().buildRequest();
 
   @BeforeEach
   void setUp() {
     incomeRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
     budgetRepository.deleteAll();
   }
 
@@ -71,6 +76,7 @@ class IncomeServiceIntegrationTest {
 
       Income persisted = incomeRepository.findById(createdIncome.getId()).orElse(null);
       IncomeIntegrationAssertions.assertIncome(persisted).isEqualTo(createdIncome);
+      assertThat(persisted.getBaseAmount()).isEqualByComparingTo(IncomeConstants.Default.AMOUNT);
 
       Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
       BudgetIntegrationAssertions.assertBudget(budget)
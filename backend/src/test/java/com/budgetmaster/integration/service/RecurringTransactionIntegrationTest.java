@@ -0,0 +1,115 @@
+package com.budgetmaster.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.application.model.Budget;
+import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.repository.BudgetRepository;
+import com.budgetmaster.application.repository.ExpenseRepository;
+import com.budgetmaster.application.repository.IncomeRepository;
+import com.budgetmaster.application.repository.LedgerEntryRepository;
+import com.budgetmaster.application.service.ExpenseService;
+import com.budgetmaster.application.service.IncomeService;
+import com.budgetmaster.application.service.recurring.RecurringTransactionService;
+import com.budgetmaster.integration.config.TestContainersConfig;
+import com.budgetmaster.testsupport.assertions.integration.BudgetIntegrationAssertions;
+import com.budgetmaster.testsupport.builder.dto.ExpenseRequestBuilder;
+import com.budgetmaster.testsupport.builder.dto.IncomeRequestBuilder;
+import com.budgetmaster.testsupport.constants.domain.BudgetConstants;
+
+@Testcontainers
+@SpringBootTest
+@Import(TestContainersConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Recurring Transaction Integration Tests")
+class RecurringTransactionIntegrationTest {
+
+  @Autowired private RecurringTransactionService recurringTransactionService;
+
+  @Autowired private IncomeService incomeService;
+
+  @Autowired private ExpenseService expenseService;
+
+  @Autowired private IncomeRepository incomeRepository;
+
+  @Autowired private ExpenseRepository expenseRepository;
+
+  @Autowired private BudgetRepository budgetRepository;
+
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+
+  @BeforeEach
+  void setUp() {
+    incomeRepository.deleteAll();
+    expenseRepository.deleteAll();
+    ledgerEntryRepository.deleteAll();
+    budgetRepository.deleteAll();
+
+    // Updated requests are RECURRING in the month before the default month, default requests
+    // are ONE_TIME and are moved into that same month so that only the recurring rows qualify.
+    String sourceMonth = BudgetConstants.Updated.YEAR_MONTH.toString();
+    incomeService.createIncome(IncomeRequestBuilder.updatedIncomeRequest().buildRequest());
+    incomeService.createIncome(
+        IncomeRequestBuilder.defaultIncomeRequest().withMonth(sourceMonth).buildRequest());
+    expenseService.createExpense(ExpenseRequestBuilder.updatedExpenseRequest().buildRequest());
+    expenseService.createExpense(
+        ExpenseRequestBuilder.defaultExpenseRequest().withMonth(sourceMonth).buildRequest());
+  }
+
+  @Test
+  @DisplayName("Should copy only recurring transactions and apply them to the new budget")
+  void materializeMonth_withRecurringTransactions_copiesRecurringAndUpdatesBudget() {
+    long inserted =
+        recurringTransactionService.materializeMonth(BudgetConstants.Default.YEAR_MONTH);
+
+    assertThat(inserted).isEqualTo(2);
+
+    List<Income> incomes = incomeRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH);
+    assertThat(incomes)
+        .singleElement()
+        .extracting(Income::getType)
+        .isEqualTo(TransactionType.RECURRING);
+    List<Expense> expenses = expenseRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH);
+    assertThat(expenses)
+        .singleElement()
+        .extracting(Expense::getType)
+        .isEqualTo(TransactionType.RECURRING);
+
+    Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
+    BudgetIntegrationAssertions.assertBudget(budget)
+        .hasTotalIncome(BudgetConstants.Updated.TOTAL_INCOME)
+        .hasTotalExpense(BudgetConstants.Updated.TOTAL_EXPENSE)
+        .hasSavings(BudgetConstants.Updated.SAVINGS);
+  }
+
+  @Test
+  @DisplayName("Should not copy anything twice when the same month is materialized again")
+  void materializeMonth_whenRunTwice_isIdempotent() {
+    recurringTransactionService.materializeMonth(BudgetConstants.Default.YEAR_MONTH);
+
+    long inserted =
+        recurringTransactionService.materializeMonth(BudgetConstants.Default.YEAR_MONTH);
+
+    assertThat(inserted).isZero();
+    assertThat(incomeRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH)).hasSize(1);
+    assertThat(expenseRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH)).hasSize(1);
+
+    Budget budget = budgetRepository.findByMonth(BudgetConstants.Default.YEAR_MONTH).orElse(null);
+    BudgetIntegrationAssertions.assertBudget(budget)
+        .hasTotalIncome(BudgetConstants.Updated.TOTAL_INCOME)
+        .hasTotalExpense(BudgetConstants.Updated.TOTAL_EXPENSE);
+  }
+}
@@ -3,6 +3,7 @@ package com.budgetmaster.testsupport.assertions.controller;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Currency;
 
@@ -35,6 +36,26 @@ public class BudgetControllerAssertions {
     return this;
   }
 
+  public BudgetControllerAssertions isBadRequest() throws Exception {
+    resultActions.andExpect(status().isBadRequest());
+    return this;
+  }
+
+  public BudgetControllerAssertions hasForecastMonths(int expectedMonths) throws Exception {
+    resultActions.andExpect(jsonPath(PathConstants.JsonProperties.LENGTH).value(expectedMonths));
+    return this;
+  }
+
+  public BudgetControllerAssertions hasRebuiltMonths(int expectedMonths) throws Exception {
+    resultActions.andExpect(jsonPath(PathConstants.JsonProperties.LENGTH).value(expectedMonths));
+    return this;
+  }
+
+  public BudgetControllerAssertions hasCumulativeMonths(int expectedMonths) throws Exception {
+    resultActions.andExpect(jsonPath(PathConstants.JsonProperties.LENGTH).value(expectedMonths));
+    return this;
+  }
+
   public BudgetControllerAssertions hasTotalIncome(BigDecimal expectedTotalIncome)
       throws Exception {
     resultActions.andExpect(
@@ -90,6 +111,14 @@ public class BudgetControllerAssertions {
             PathConstants.Error.Budget.URI);
   }
 
+  public ErrorControllerAssertions isNotFoundForMonthAsOf(YearMonth month, LocalDateTime asOf)
+      throws Exception {
+    return ErrorControllerAssertions.assertThat(resultActions)
+        .isNotFoundResponse(
+            String.format(ErrorConstants.Budget.NOT_FOUND_FOR_MONTH_AS_OF, month, asOf),
+            PathConstants.Error.Budget.URI);
+  }
+
   public ErrorControllerAssertions isNotFoundForId(Long id) throws Exception {
     return ErrorControllerAssertions.assertThat(resultActions)
         .isNotFoundResponse(
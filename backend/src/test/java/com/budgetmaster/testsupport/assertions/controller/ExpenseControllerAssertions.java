@@ -101,6 +101,21 @@ public class ExpenseControllerAssertions {
         .hasMonth(ExpenseConstants.Updated.YEAR_MONTH);
   }
 
+  public ExpenseControllerAssertions isBadRequest() throws Exception {
+    resultActions.andExpect(status().isBadRequest());
+    return this;
+  }
+
+  public ExpenseControllerAssertions hasSearchResults(int expectedSize, long expectedTotal)
+      throws Exception {
+    resultActions
+        .andExpect(jsonPath(PathConstants.JsonProperties.PAGE_CONTENT).isArray())
+        .andExpect(
+            jsonPath(PathConstants.JsonProperties.PAGE_CONTENT + ".length()").value(expectedSize))
+        .andExpect(jsonPath(PathConstants.JsonProperties.TOTAL_ELEMENTS).value(expectedTotal));
+    return this;
+  }
+
   public ErrorControllerAssertions isNotFoundForMonth(YearMonth month) throws Exception {
     return ErrorControllerAssertions.assertThat(resultActions)
         .isNotFoundResponse(
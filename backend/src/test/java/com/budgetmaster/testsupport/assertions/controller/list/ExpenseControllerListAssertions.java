@@ -1,11 +1,15 @@
 package com.budgetmaster.testsupport.assertions.controller.list;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.budgetmaster.testsupport.assertions.controller.ExpenseControllerAssertions;
 import com.budgetmaster.testsupport.constants.PathConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class ExpenseControllerListAssertions {
 
@@ -28,6 +32,18 @@ public class ExpenseControllerListAssertions {
     return this;
   }
 
+  public ExpenseControllerListAssertions isCborOf(ObjectMapper cborMapper, JsonNode expected)
+      throws Exception {
+    resultActions
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(
+            result ->
+                assertEquals(
+                    expected,
+                    cborMapper.readTree(result.getResponse().getContentAsByteArray())));
+    return this;
+  }
+
   public ExpenseControllerListAssertions next() throws Exception {
     resultActions.andExpect(jsonPath(nextExpense(objectIndex++)).exists());
     return this;
@@ -5,13 +5,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 
 import com.budgetmaster.application.model.Expense;
+import com.budgetmaster.application.projection.ExpenseSummary;
 import com.budgetmaster.testsupport.constants.FieldConstants;
 
 public class ExpenseIntegrationListAssertions {
 
-  private final List<Expense> actualList;
+  private final List<?> actualList;
 
-  public ExpenseIntegrationListAssertions(List<Expense> actualList) {
+  public ExpenseIntegrationListAssertions(List<?> actualList) {
     this.actualList = actualList;
   }
 
@@ -20,6 +21,12 @@ public class ExpenseIntegrationListAssertions {
     return new ExpenseIntegrationListAssertions(actualList);
   }
 
+  public static ExpenseIntegrationListAssertions assertExpenseSummaries(
+      List<ExpenseSummary> actualList) {
+    assertThat(actualList).isNotNull();
+    return new ExpenseIntegrationListAssertions(actualList);
+  }
+
   public ExpenseIntegrationListAssertions hasSize(int expectedSize) {
     assertThat(actualList).hasSize(expectedSize);
     return this;
@@ -5,13 +5,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 
 import com.budgetmaster.application.model.Income;
+import com.budgetmaster.application.projection.IncomeSummary;
 import com.budgetmaster.testsupport.constants.FieldConstants;
 
 public class IncomeIntegrationListAssertions {
 
-  private final List<Income> actualList;
+  private final List<?> actualList;
 
-  public IncomeIntegrationListAssertions(List<Income> actualList) {
+  public IncomeIntegrationListAssertions(List<?> actualList) {
     this.actualList = actualList;
   }
 
@@ -20,6 +21,12 @@ public class IncomeIntegrationListAssertions {
     return new IncomeIntegrationListAssertions(actualList);
   }
 
+  public static IncomeIntegrationListAssertions assertIncomeSummaries(
+      List<IncomeSummary> actualList) {
+    assertThat(actualList).isNotNull();
+    return new IncomeIntegrationListAssertions(actualList);
+  }
+
   public IncomeIntegrationListAssertions hasSize(int expectedSize) {
     assertThat(actualList).hasSize(expectedSize);
     return this;
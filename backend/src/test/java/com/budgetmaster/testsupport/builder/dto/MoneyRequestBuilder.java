@@ -49,6 +49,6 @@ public class MoneyRequestBuilder {
   public static MoneyRequestBuilder invalidMoney() {
     return new MoneyRequestBuilder()
         .withAmount(MoneyConstants.InvalidValues.AMOUNT)
-        .withCurrency(MoneyConstants.InvalidValues.EUR);
+        .withCurrency(MoneyConstants.InvalidValues.JPY);
   }
 }
@@ -8,6 +8,8 @@ public final class ErrorConstants {
 
     public static final String NOT_FOUND_FOR_MONTH = "Budget not found for month: %s";
     public static final String NOT_FOUND_WITH_ID = "Budget not found with id: %s";
+    public static final String NOT_FOUND_FOR_MONTH_AS_OF =
+        "Budget history not found for month: %s as of: %s";
   }
 
   public static class Expense {
@@ -16,7 +18,6 @@ public final class ErrorConstants {
     public static final String NOT_FOUND_FOR_MONTH = "No expenses found for month: %s";
     public static final String NOT_FOUND_WITH_ID = "Expense not found with id: %s";
     public static final String NAME_IS_REQUIRED = "Expense name is required.";
-    public static final String CATEGORY_IS_REQUIRED = "Expense category is required.";
     public static final String TYPE_IS_REQUIRED = "The transaction type is required.";
   }
 
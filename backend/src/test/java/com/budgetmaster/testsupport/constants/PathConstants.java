@@ -11,12 +11,31 @@ public final class PathConstants {
 
     public static final String BUDGET = BASE + "/budgets";
     public static final String BUDGET_WITH_ID = BUDGET + "/{id}";
+    public static final String BUDGET_FORECAST = BUDGET + "/forecast";
+    public static final String BUDGET_REBUILD = BUDGET + "/rebuild";
+    public static final String BUDGET_TOTALS = BUDGET + "/totals";
+    public static final String BUDGET_CUMULATIVE = BUDGET + "/cumulative";
 
     public static final String EXPENSE = BASE + "/expenses";
     public static final String EXPENSE_WITH_ID = EXPENSE + "/{id}";
+    public static final String EXPENSE_SEARCH = EXPENSE + "/search";
+    public static final String EXPENSE_FILTER = EXPENSE + "/filter";
+    public static final String EXPENSE_TOP = EXPENSE + "/analytics/top";
+    public static final String EXPENSE_PERCENTILES = EXPENSE + "/analytics/percentiles";
+    public static final String EXPENSE_QUANTILES = EXPENSE + "/analytics/quantiles";
 
     public static final String INCOME = BASE + "/incomes";
     public static final String INCOME_WITH_ID = INCOME + "/{id}";
+
+    public static final String IMPORT = BASE + "/imports";
+    public static final String IMPORT_EXPENSES = IMPORT + "/expenses";
+    public static final String IMPORT_INCOMES = IMPORT + "/incomes";
+    public static final String IMPORT_REJECTS = IMPORT + "/{importId}/rejects";
+    public static final String IMPORT_CAMT_053 = IMPORT + "/statements/camt053";
+    public static final String IMPORT_OFX = IMPORT + "/statements/ofx";
+
+    public static final String CATEGORY_RULE = BASE + "/category-rules";
+    public static final String CATEGORY_RULE_WITH_ID = CATEGORY_RULE + "/{id}";
   }
 
   public static class Error {
@@ -58,6 +77,32 @@ public final class PathConstants {
     public static final String TOTAL_EXPENSE = ".total-expense";
     public static final String SAVINGS = ".savings";
 
+    // -- Search --
+    public static final String PAGE_CONTENT = BASE + ".content";
+    public static final String PAGE_ITEM = PAGE_CONTENT + "[%s]";
+    public static final String TOTAL_ELEMENTS = BASE + ".total-elements";
+
+    // -- Analytics --
+    public static final String RANK = ".rank";
+    public static final String MEDIAN = ".median";
+    public static final String P90 = ".p90";
+    public static final String P50 = ".p50";
+    public static final String P99 = ".p99";
+
+    // -- Import --
+    public static final String IMPORT_ID = BASE + ".import-id";
+    public static final String IMPORTED = BASE + ".imported";
+    public static final String REJECTED = BASE + ".rejected";
+    public static final String RECORD_NUMBER = ".record-number";
+    public static final String REASON = ".reason";
+    public static final String INCOMES = BASE + ".incomes";
+    public static final String EXPENSES = BASE + ".expenses";
+    public static final String SKIPPED = BASE + ".skipped";
+    public static final String DUPLICATES = BASE + ".duplicates";
+
+    // -- Category Rule --
+    public static final String PATTERN = ".pattern";
+
     // -- Income & Expense --
     public static final String NAME = ".name";
     public static final String SOURCE = ".source";
@@ -96,5 +141,16 @@ public final class PathConstants {
     private RequestParams() {}
 
     public static final String MONTH = "month";
+    public static final String MONTHS = "months";
+    public static final String QUERY = "q";
+    public static final String SIZE = "size";
+    public static final String CATEGORY = "category";
+    public static final String MIN_AMOUNT = "minAmount";
+    public static final String MAX_AMOUNT = "maxAmount";
+    public static final String FROM_MONTH = "fromMonth";
+    public static final String TO_MONTH = "toMonth";
+    public static final String LIMIT = "limit";
+    public static final String FROM_SNAPSHOTS = "fromSnapshots";
+    public static final String AS_OF = "asOf";
   }
 }
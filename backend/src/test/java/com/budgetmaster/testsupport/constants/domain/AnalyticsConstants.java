@@ -0,0 +1,131 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+
+import com.budgetmaster.application.dto.CategoryQuantilesResponse;
+import com.budgetmaster.application.dto.MonthRangeRequest;
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.projection.CategoryPercentilesRow;
+import com.budgetmaster.application.projection.RankedExpenseRow;
+
+public final class AnalyticsConstants {
+  private AnalyticsConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final String FROM_MONTH = ExpenseConstants.Updated.YEAR_MONTH_STRING;
+    public static final String TO_MONTH = ExpenseConstants.Default.YEAR_MONTH_STRING;
+    public static final int LIMIT = 5;
+    public static final String LIMIT_STRING = String.valueOf(LIMIT);
+  }
+
+  /** Amounts saved next to the default expense; with it they give a known median and p90. */
+  public static final class Amounts {
+    private Amounts() {}
+
+    public static final BigDecimal SMALL = new BigDecimal("100.00");
+    public static final BigDecimal MEDIUM = new BigDecimal("300.00");
+    public static final BigDecimal MEDIAN = new BigDecimal("300.00");
+    public static final BigDecimal P90 = new BigDecimal("460.00");
+    public static final BigDecimal P99 = new BigDecimal("496.00");
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final String LIMIT = "51";
+  }
+
+  public static MonthRangeRequest defaultRange() {
+    MonthRangeRequest range = new MonthRangeRequest();
+    range.setFromMonth(Default.FROM_MONTH);
+    range.setToMonth(Default.TO_MONTH);
+    return range;
+  }
+
+  /** The default expense as the first ranked row of its category. */
+  public static RankedExpenseRow defaultRankedRow() {
+    return new RankedExpenseRow() {
+      @Override
+      public Long getId() {
+        return ExpenseConstants.Default.ID;
+      }
+
+      @Override
+      public String getName() {
+        return ExpenseConstants.Default.NAME;
+      }
+
+      @Override
+      public BigDecimal getAmount() {
+        return ExpenseConstants.Default.AMOUNT;
+      }
+
+      @Override
+      public String getCurrency() {
+        return ExpenseConstants.Default.CURRENCY.getCurrencyCode();
+      }
+
+      @Override
+      public String getCategory() {
+        return ExpenseConstants.Default.CATEGORY.name();
+      }
+
+      @Override
+      public String getType() {
+        return ExpenseConstants.Default.TYPE.name();
+      }
+
+      @Override
+      public String getMonth() {
+        return ExpenseConstants.Default.YEAR_MONTH_STRING;
+      }
+
+      @Override
+      public Long getRank() {
+        return 1L;
+      }
+    };
+  }
+
+  public static CategoryPercentilesRow defaultPercentilesRow() {
+    return new CategoryPercentilesRow() {
+      @Override
+      public String getCategory() {
+        return ExpenseCategory.MISCELLANEOUS.name();
+      }
+
+      @Override
+      public String getCurrency() {
+        return ExpenseConstants.Default.CURRENCY.getCurrencyCode();
+      }
+
+      @Override
+      public Long getCount() {
+        return 3L;
+      }
+
+      @Override
+      public BigDecimal getMedian() {
+        return Amounts.MEDIAN;
+      }
+
+      @Override
+      public BigDecimal getP90() {
+        return Amounts.P90;
+      }
+    };
+  }
+
+  /** Approximate quantiles of the amounts above, in the base currency. */
+  public static CategoryQuantilesResponse defaultQuantiles() {
+    return CategoryQuantilesResponse.of(
+        ExpenseCategory.MISCELLANEOUS,
+        FxConstants.Default.BASE_CURRENCY,
+        3L,
+        Amounts.MEDIAN,
+        Amounts.P90,
+        Amounts.P99);
+  }
+}
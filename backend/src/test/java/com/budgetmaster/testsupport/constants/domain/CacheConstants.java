@@ -0,0 +1,22 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+public final class CacheConstants {
+  private CacheConstants() {}
+
+  public static final class Region {
+    private Region() {}
+
+    public static final String EXPENSES = "EXPENSES";
+    public static final String BUDGETS_BY_MONTH = "BUDGETS_BY_MONTH";
+  }
+
+  public static final class Counts {
+    private Counts() {}
+
+    public static final long HITS = 3L;
+    public static final long MISSES = 1L;
+    public static final long PUTS = 1L;
+    public static final long ELEMENTS = 1L;
+    public static final double RATIO = 0.75;
+  }
+}
@@ -0,0 +1,60 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.util.List;
+
+import com.budgetmaster.application.enums.CategoryRuleType;
+import com.budgetmaster.application.enums.ExpenseCategory;
+
+public final class CategoryRuleConstants {
+  private CategoryRuleConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final Long ID = 1L;
+    public static final CategoryRuleType TYPE = CategoryRuleType.KEYWORD;
+    public static final String PATTERN = "coffee";
+    public static final String NORMALIZED_PATTERN = "COFFEE";
+    public static final ExpenseCategory CATEGORY = ExpenseCategory.DINING_OUT;
+  }
+
+  public static final class Keywords {
+    private Keywords() {}
+
+    /** The classic Aho-Corasick example: keywords that overlap and contain one another. */
+    public static final List<String> OVERLAPPING = List.of("HE", "SHE", "HIS", "HERS");
+
+    public static final String COFFEE = "COFFEE";
+    public static final String COFFEE_BEANS = "COFFEE BEANS";
+    public static final String ACCENTED = "CAF\u00C9";
+  }
+
+  public static final class Patterns {
+    private Patterns() {}
+
+    public static final String CARD_PAYMENT = "^card \\d{4}";
+    public static final String GROUPED = "(UBER|LYFT) ?TRIP";
+    public static final String UNCLOSED_GROUP = "(COFFEE";
+    public static final String BACKREFERENCE = "(A)\\1";
+    public static final String ESCAPED_BACKSLASH = "A\\\\1";
+    public static final String NAMED_CARD = "(?<card>CARD \\d{4})";
+    public static final String NAMED_CARD_AGAIN = "(?<card>VISA \\d{4})";
+    public static final String UNTERMINATED_QUOTE = "\\QCOFFEE";
+  }
+
+  public static final class Names {
+    private Names() {}
+
+    public static final String COFFEE_BEANS = "MY COFFEE BEANS";
+    public static final String CARD_PAYMENT = "CARD 1234 TESCO";
+    public static final String TAXI = "UBERTRIP 42";
+    public static final String UNMATCHED = "SOMETHING ELSE";
+  }
+
+  public static final class Errors {
+    private Errors() {}
+
+    public static final String INVALID_PATTERN = "Invalid category rule pattern: Unclosed group";
+    public static final String NOT_FOUND = "Category rule not found with id: 1";
+  }
+}
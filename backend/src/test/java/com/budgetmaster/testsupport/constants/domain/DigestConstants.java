@@ -0,0 +1,44 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.model.Money;
+
+public final class DigestConstants {
+  private DigestConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final double COMPRESSION = 100;
+    public static final YearMonth MONTH = ExpenseConstants.Default.YEAR_MONTH;
+    public static final YearMonth OTHER_MONTH = ExpenseConstants.Updated.YEAR_MONTH;
+    public static final YearMonth OUTSIDE_MONTH = MONTH.plusMonths(1);
+    public static final ExpenseCategory CATEGORY = ExpenseConstants.Default.CATEGORY;
+    public static final ExpenseCategory OTHER_CATEGORY = ExpenseConstants.Updated.CATEGORY;
+  }
+
+  /** Amounts in GBP, the base currency; together their median is MEDIUM and their p90 LARGE. */
+  public static final class Amounts {
+    private Amounts() {}
+
+    public static final Money SMALL = Money.of(new BigDecimal("100.00"), MoneyConstants.GBP);
+    public static final Money MEDIUM = Money.of(new BigDecimal("300.00"), MoneyConstants.GBP);
+    public static final Money LARGE = Money.of(new BigDecimal("500.00"), MoneyConstants.GBP);
+    public static final Money IN_EUR =
+        Money.of(FxConstants.Conversion.EUR_AMOUNT, MoneyConstants.EUR);
+  }
+
+  /** The values 1..VALUES added in a shuffled order, so the exact q-quantile is q * VALUES. */
+  public static final class Uniform {
+    private Uniform() {}
+
+    public static final int VALUES = 100_000;
+    public static final long SEED = 42L;
+    public static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.5, 0.9, 0.99, 0.999};
+    public static final double MAX_RANK_ERROR = 0.005;
+    public static final int MAX_ENCODED_BYTES = 2_000;
+  }
+}
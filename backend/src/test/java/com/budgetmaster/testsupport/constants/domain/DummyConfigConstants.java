@@ -1,7 +1,9 @@
 package com.budgetmaster.testsupport.constants.domain;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 public final class DummyConfigConstants {
   private DummyConfigConstants() {}
@@ -30,4 +32,24 @@ public final class DummyConfigConstants {
     public static final String TIME_AS_FORMATTED_STRING = "\"time\":\"2000-01-01 00:00:00\"";
     public static final String TIME_AS_STRING = "\"2000-01-01 00:00:00\"";
   }
+
+  public static final class Summary {
+    private Summary() {}
+
+    /** Amounts covering the long fast path, its edges and the big value fallback. */
+    public static final List<BigDecimal> AMOUNTS =
+        List.of(
+            new BigDecimal("0.00"),
+            new BigDecimal("0.05"),
+            new BigDecimal("-0.01"),
+            new BigDecimal("-12.30"),
+            new BigDecimal("1234567890123456.78"),
+            new BigDecimal("-1234567890123456.78"),
+            new BigDecimal("12345678901234567890.12"));
+
+    public static final String AMOUNT_FIELD = "amount";
+    public static final String MONEY_FIELD = "money";
+    public static final String CREATED_AT_FIELD = "created-at";
+    public static final String LAST_UPDATED_AT_FIELD = "last-updated-at";
+  }
 }
@@ -0,0 +1,30 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public final class DuplicateConstants {
+  private DuplicateConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final double FALSE_POSITIVE_RATE = 0.01;
+    public static final YearMonth YEAR_MONTH = YearMonth.of(2019, 7);
+    public static final YearMonth OTHER_YEAR_MONTH = YearMonth.of(2019, 8);
+    public static final String NAME = "COFFEE SHOP";
+    public static final String OTHER_NAME = "BAKERY";
+    public static final BigDecimal AMOUNT = new BigDecimal("12.50");
+    public static final BigDecimal UNSCALED_AMOUNT = new BigDecimal("12.5");
+  }
+
+  public static final class Bloom {
+    private Bloom() {}
+
+    public static final int CAPACITY = 1000;
+    public static final int PROBES = 10_000;
+    public static final double MAX_OBSERVED_FALSE_POSITIVE_RATE = 0.03;
+    public static final String KEY_PREFIX = "STORED ";
+    public static final String PROBE_PREFIX = "UNKNOWN ";
+  }
+}
@@ -0,0 +1,38 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import com.budgetmaster.application.dto.ExpenseFilterRequest;
+import com.budgetmaster.application.enums.ExpenseCategory;
+
+public final class FilterConstants {
+  private FilterConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final ExpenseCategory CATEGORY = ExpenseConstants.Default.CATEGORY;
+    public static final String MIN_AMOUNT = "400.00";
+    public static final String MAX_AMOUNT = "600.00";
+    public static final String FROM_MONTH = ExpenseConstants.Updated.YEAR_MONTH_STRING;
+    public static final String TO_MONTH = ExpenseConstants.Default.YEAR_MONTH_STRING;
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final String MIN_AMOUNT = "700.00";
+  }
+
+  /** Matches the default expense only: its category, its amount and both default months. */
+  public static ExpenseFilterRequest defaultRequest() {
+    ExpenseFilterRequest request = new ExpenseFilterRequest();
+    request.setCategory(Set.of(Default.CATEGORY));
+    request.setMinAmount(new BigDecimal(Default.MIN_AMOUNT));
+    request.setMaxAmount(new BigDecimal(Default.MAX_AMOUNT));
+    request.setFromMonth(Default.FROM_MONTH);
+    request.setToMonth(Default.TO_MONTH);
+    return request;
+  }
+}
@@ -0,0 +1,31 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+
+public final class ForecastConstants {
+  private ForecastConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final int MONTHS = 3;
+    public static final YearMonth FROM = YearMonth.of(1999, 11);
+    public static final BigDecimal INCOME = IncomeConstants.Updated.AMOUNT;
+    public static final BigDecimal EXPENSE = ExpenseConstants.Default.AMOUNT;
+    public static final BigDecimal SAVINGS = INCOME.subtract(EXPENSE);
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final int MONTHS = 0;
+  }
+
+  public static final class Concurrency {
+    private Concurrency() {}
+
+    public static final Duration TIMEOUT = Duration.ofSeconds(5);
+  }
+}
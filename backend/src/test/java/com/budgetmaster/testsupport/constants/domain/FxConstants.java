@@ -0,0 +1,74 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Map;
+
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.service.fx.FxRateSnapshot;
+
+public final class FxConstants {
+  private FxConstants() {}
+
+  public static final Currency BASE_CURRENCY = MoneyConstants.GBP;
+
+  public static final class Default {
+    private Default() {}
+
+    public static final BigDecimal GBP_RATE = BigDecimal.ONE;
+    public static final BigDecimal EUR_RATE = new BigDecimal("0.80");
+    public static final BigDecimal USD_RATE = new BigDecimal("0.50");
+
+    public static final Map<SupportedCurrency, BigDecimal> RATES =
+        Map.of(
+            SupportedCurrency.GBP, GBP_RATE,
+            SupportedCurrency.EUR, EUR_RATE,
+            SupportedCurrency.USD, USD_RATE);
+
+    public static final FxRateSnapshot SNAPSHOT = FxRateSnapshot.of(BASE_CURRENCY, RATES);
+
+    public static final String RATES_FILE = "GBP=1\nEUR=0.80\nUSD=0.50\n";
+
+    /** The rates of the snapshot as native queries take them, in supported currency order. */
+    public static final String JOINED_CURRENCY_CODES = "GBP,EUR,USD";
+
+    public static final String JOINED_RATES = "1,0.80,0.50";
+  }
+
+  /** The rates before a change of the EUR rate, at which EUR_RECORDED_IN_GBP was recorded. */
+  public static final class Earlier {
+    private Earlier() {}
+
+    public static final BigDecimal EUR_RATE = new BigDecimal("0.90");
+
+    public static final FxRateSnapshot SNAPSHOT =
+        FxRateSnapshot.of(
+            BASE_CURRENCY,
+            Map.of(
+                SupportedCurrency.GBP, Default.GBP_RATE,
+                SupportedCurrency.EUR, EUR_RATE,
+                SupportedCurrency.USD, Default.USD_RATE));
+  }
+
+  public static final class Conversion {
+    private Conversion() {}
+
+    public static final BigDecimal EUR_AMOUNT = new BigDecimal("100.00");
+    public static final BigDecimal EUR_IN_GBP = new BigDecimal("80.00");
+    /** EUR_AMOUNT as recorded at an earlier EUR rate of 0.90. */
+    public static final BigDecimal EUR_RECORDED_IN_GBP = new BigDecimal("90.00");
+    public static final BigDecimal GBP_AMOUNT = new BigDecimal("100.00");
+    public static final BigDecimal GBP_IN_USD = new BigDecimal("200.00");
+    public static final BigDecimal EUR_IN_USD = new BigDecimal("160.00");
+    /** Converts to exactly half a penny at the default USD rate of 0.50. */
+    public static final BigDecimal USD_HALF_CENT_AMOUNT = new BigDecimal("0.05");
+    public static final BigDecimal USD_HALF_CENT_IN_GBP = new BigDecimal("0.03");
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final String RATES_FILE_MISSING_USD = "GBP=1\nEUR=0.80\n";
+    public static final String RATES_FILE_BAD_BASE = "GBP=2\nEUR=0.80\nUSD=0.50\n";
+  }
+}
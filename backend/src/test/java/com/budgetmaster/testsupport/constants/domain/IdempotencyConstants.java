@@ -0,0 +1,13 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+public final class IdempotencyConstants {
+  private IdempotencyConstants() {}
+
+  public static final String HEADER = "Idempotency-Key";
+
+  public static final class Default {
+    private Default() {}
+
+    public static final String KEY = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+  }
+}
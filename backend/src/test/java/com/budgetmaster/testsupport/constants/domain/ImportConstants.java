@@ -0,0 +1,101 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.budgetmaster.application.enums.ExpenseCategory;
+import com.budgetmaster.application.enums.SupportedCurrency;
+import com.budgetmaster.application.enums.TransactionType;
+import com.budgetmaster.constants.validation.ValidationPatterns;
+
+public final class ImportConstants {
+  private ImportConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final UUID IMPORT_ID = UUID.fromString("0b6c1f5e-7a61-4d8e-9a3c-2f4d5e6a7b8c");
+    public static final YearMonth YEAR_MONTH = YearMonth.of(2019, 7);
+    public static final YearMonth NEXT_YEAR_MONTH = YEAR_MONTH.plusMonths(1);
+    public static final long IMPORTED = 2L;
+    public static final int REJECTED = 2;
+    public static final String MONTH_PATTERN = ValidationPatterns.Date.YEAR_MONTH_REGEX;
+  }
+
+  public static final class Allowed {
+    private Allowed() {}
+
+    public static final String CATEGORIES = names(ExpenseCategory.values());
+    public static final String CURRENCIES = names(SupportedCurrency.values());
+    public static final String TYPES = names(TransactionType.values());
+    public static final String CURRENCY_MESSAGE = "Currency must be one of GBP, EUR, USD.";
+  }
+
+  public static final class Expenses {
+    private Expenses() {}
+
+    /** Two valid records, then a record without a name and one with three decimal places. */
+    public static final String CSV =
+        """
+        name,category,amount,currency,month,type
+         coffee beans ,dining out,12.50,gbp,2019-07,one_time
+        RENT,HOUSING,900.00,EUR,2019-07,RECURRING
+        ,HOUSING,10.00,GBP,2019-07,ONE_TIME
+        TEA,GROCERIES,1.999,GBP,2019-07,ONE_TIME
+        """;
+
+    public static final String NORMALIZED_NAME = "COFFEE BEANS";
+    public static final ExpenseCategory NORMALIZED_CATEGORY = ExpenseCategory.DINING_OUT;
+    public static final BigDecimal GBP_TOTAL = new BigDecimal("12.50");
+    public static final BigDecimal EUR_TOTAL = new BigDecimal("900.00");
+    /** EUR_TOTAL at the default EUR rate. */
+    public static final BigDecimal EUR_BASE_TOTAL = new BigDecimal("720.00");
+  }
+
+  public static final class Incomes {
+    private Incomes() {}
+
+    /** One valid record and one without a source. */
+    public static final String CSV =
+        """
+        name,source,amount,currency,month,type
+        salary,company xyz,5000.00,USD,2019-07,recurring
+        BONUS,,250.00,USD,2019-07,ONE_TIME
+        """;
+
+    public static final String NORMALIZED_NAME = "SALARY";
+    public static final String NORMALIZED_SOURCE = "COMPANY XYZ";
+    public static final BigDecimal USD_TOTAL = new BigDecimal("5000.00");
+  }
+
+  public static final class Rejects {
+    private Rejects() {}
+
+    public static final long MISSING_NAME_RECORD = 3L;
+    public static final long INVALID_AMOUNT_RECORD = 4L;
+    public static final long MISSING_SOURCE_RECORD = 2L;
+    public static final long UNSUPPORTED_CURRENCY_RECORD = 1L;
+    public static final String MISSING_NAME = "Expense name is required.";
+    public static final String INVALID_AMOUNT =
+        "Amount must be non-negative with at most two decimal places.";
+    public static final String MISSING_SOURCE = "Income source is required.";
+    public static final String UNSUPPORTED_CURRENCY = Allowed.CURRENCY_MESSAGE;
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final String PAGE_SIZE = "101";
+    public static final String UNTERMINATED_CSV =
+        "name,category,amount,currency,month,type\n\"COFFEE,GROCERIES,1.00,GBP,2019-07,ONE_TIME\n";
+    public static final String UNSUPPORTED_CURRENCY_CSV =
+        "name,category,amount,currency,month,type\nSUSHI,DINING_OUT,1200.00,JPY,2019-07,ONE_TIME\n";
+  }
+
+  private static String names(Enum<?>[] values) {
+    return Stream.of(values).map(Enum::name).collect(Collectors.joining(","));
+  }
+}
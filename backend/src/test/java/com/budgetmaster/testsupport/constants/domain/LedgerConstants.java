@@ -0,0 +1,59 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+
+public final class LedgerConstants {
+  private LedgerConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final YearMonth YEAR_MONTH = BudgetConstants.Default.YEAR_MONTH;
+    public static final YearMonth NEXT_YEAR_MONTH = YEAR_MONTH.plusMonths(1);
+    public static final Long TRANSACTION_ID = 1L;
+    public static final BigDecimal AMOUNT = new BigDecimal("500.00");
+    public static final BigDecimal UPDATED_AMOUNT = new BigDecimal("750.00");
+    public static final Currency CURRENCY = Currency.getInstance("GBP");
+    public static final List<YearMonth> MONTHS = List.of(YEAR_MONTH, NEXT_YEAR_MONTH);
+  }
+
+  public static final class Positions {
+    private Positions() {}
+
+    public static final long SNAPSHOT = 80L;
+    public static final long BUDGET = 100L;
+    public static final long SETTLED = 150L;
+  }
+
+  public static final class Folded {
+    private Folded() {}
+
+    public static final BigDecimal INCOME = new BigDecimal("200.00");
+    public static final BigDecimal EXPENSE = new BigDecimal("50.00");
+    public static final BigDecimal SNAPSHOT_INCOME = new BigDecimal("900.00");
+    public static final BigDecimal SNAPSHOT_EXPENSE = new BigDecimal("400.00");
+  }
+
+  public static final class Rebuild {
+    private Rebuild() {}
+
+    public static final int PARALLELISM = 2;
+  }
+
+  public static final class History {
+    private History() {}
+
+    public static final int KEYFRAME_INTERVAL = 4;
+    public static final int LATEST_VERSION = 5;
+    public static final int VERSION_BEFORE_KEYFRAME = 3;
+    public static final LocalDateTime AS_OF = LocalDateTime.of(2025, 3, 27, 12, 0);
+    public static final LocalDateTime KEYFRAME_AT = AS_OF.minusDays(1);
+    public static final LocalDateTime CHANGED_AT = AS_OF.minusHours(1);
+    public static final BigDecimal DELTA_INCOME = new BigDecimal("25.00");
+    public static final BigDecimal DELTA_EXPENSE = new BigDecimal("-10.00");
+  }
+}
@@ -7,6 +7,8 @@ public final class MoneyConstants {
   private MoneyConstants() {}
 
   public static final Currency GBP = Currency.getInstance("GBP");
+  public static final Currency EUR = Currency.getInstance("EUR");
+  public static final Currency USD = Currency.getInstance("USD");
   public static final int SCALE = 2;
 
   public static final class IncomeDefaults {
@@ -34,7 +36,9 @@ public final class MoneyConstants {
     private InvalidValues() {}
 
     public static final BigDecimal AMOUNT = new BigDecimal("1000.00").negate();
-    public static final Currency EUR = Currency.getInstance("EUR");
+    public static final Currency JPY = Currency.getInstance("JPY");
+    public static final String JPY_CODE = "JPY";
+    public static final String UNSUPPORTED_CODE_MESSAGE = "Currency must be one of GBP, EUR, USD.";
   }
 
   public static final class CreationInputs {
@@ -0,0 +1,44 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public final class SearchConstants {
+  private SearchConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final String QUERY = " coff ";
+    public static final String TERM = "COFF";
+    public static final String CONTAINS_PATTERN = "%COFF%";
+    public static final String PREFIX_PATTERN = "COFF%";
+    public static final int PAGE = 0;
+    public static final int SIZE = 20;
+    public static final Pageable PAGEABLE = PageRequest.of(PAGE, SIZE);
+  }
+
+  public static final class Wildcard {
+    private Wildcard() {}
+
+    public static final String QUERY = "50%_off";
+    public static final String CONTAINS_PATTERN = "%50\\%\\_OFF%";
+    public static final String PREFIX_PATTERN = "50\\%\\_OFF%";
+  }
+
+  public static final class Names {
+    private Names() {}
+
+    public static final String COFFEE = "COFFEE";
+    public static final String ICED_COFFEE = "ICED COFFEE";
+    public static final String COFFEE_BEANS = "COFFEE BEANS";
+    public static final String TEA = "TEA";
+  }
+
+  public static final class Invalid {
+    private Invalid() {}
+
+    public static final String BLANK_QUERY = " ";
+    public static final String SIZE = "101";
+  }
+}
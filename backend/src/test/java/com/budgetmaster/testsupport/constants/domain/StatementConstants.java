@@ -0,0 +1,133 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public final class StatementConstants {
+  private StatementConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final LocalDate BOOKING_DATE = LocalDate.of(2019, 7, 3);
+    public static final LocalDate NEXT_MONTH_BOOKING_DATE = LocalDate.of(2019, 8, 1);
+    public static final YearMonth YEAR_MONTH = YearMonth.from(BOOKING_DATE);
+    public static final YearMonth NEXT_YEAR_MONTH = YearMonth.from(NEXT_MONTH_BOOKING_DATE);
+    public static final BigDecimal AMOUNT = new BigDecimal("12.50");
+    public static final BigDecimal SALARY = new BigDecimal("5000.00");
+    public static final String COUNTERPARTY = "Coffee Shop";
+    public static final String DESCRIPTION = "Beans";
+    public static final String EMPLOYER = "Company XYZ";
+    public static final String PAYROLL = "Salary July";
+    public static final String NORMALIZED_COUNTERPARTY = "COFFEE SHOP";
+    public static final String NORMALIZED_EMPLOYER = "COMPANY XYZ";
+    public static final String NORMALIZED_PAYROLL = "SALARY JULY";
+    public static final String UNNAMED = "BANK STATEMENT ENTRY";
+    public static final int BATCH_SIZE = 2;
+  }
+
+  public static final class Camt {
+    private Camt() {}
+
+    /**
+     * A debit, a credit booked with a date-time and carrying a transaction-level amount, and an
+     * entry with only a value date. The balance amount outside the entries must be ignored.
+     */
+    public static final String STATEMENT =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.02">
+          <BkToCstmrStmt>
+            <Stmt>
+              <Bal><Amt Ccy="EUR">999.99</Amt><CdtDbtInd>CRDT</CdtDbtInd></Bal>
+              <Ntry>
+                <Amt Ccy="EUR">12.50</Amt>
+                <CdtDbtInd>DBIT</CdtDbtInd>
+                <BookgDt><Dt>2019-07-03</Dt></BookgDt>
+                <NtryDtls><TxDtls>
+                  <RltdPties><Cdtr><Nm>Coffee Shop</Nm></Cdtr></RltdPties>
+                  <RmtInf><Ustrd>Beans</Ustrd><Ustrd>Second line</Ustrd></RmtInf>
+                </TxDtls></NtryDtls>
+              </Ntry>
+              <Ntry>
+                <Amt Ccy="GBP">5000.00</Amt>
+                <CdtDbtInd>CRDT</CdtDbtInd>
+                <BookgDt><DtTm>2019-08-01T09:30:00</DtTm></BookgDt>
+                <NtryDtls><TxDtls>
+                  <AmtDtls><TxAmt><Amt Ccy="GBP">1.00</Amt></TxAmt></AmtDtls>
+                  <RltdPties>
+                    <Dbtr><Nm>Company XYZ</Nm></Dbtr>
+                    <Cdtr><Nm>Account Holder</Nm></Cdtr>
+                  </RltdPties>
+                </TxDtls></NtryDtls>
+                <AddtlNtryInf>Salary July</AddtlNtryInf>
+              </Ntry>
+              <Ntry>
+                <Amt Ccy="USD">3.00</Amt>
+                <CdtDbtInd>DBIT</CdtDbtInd>
+                <ValDt><Dt>2019-07-03</Dt></ValDt>
+              </Ntry>
+            </Stmt>
+          </BkToCstmrStmt>
+        </Document>
+        """;
+
+    public static final int ENTRIES = 3;
+    public static final BigDecimal VALUE_DATED_AMOUNT = new BigDecimal("3.00");
+    public static final String MALFORMED = "<Document><Stmt><Ntry><Amt Ccy=\"EUR\">1.00</Ntry>";
+  }
+
+  public static final class Ofx {
+    private Ofx() {}
+
+    /** OFX 1.x: an SGML header, no end tags on leaf elements and a decimal comma. */
+    public static final String SGML_STATEMENT =
+        """
+        OFXHEADER:100
+        DATA:OFXSGML
+        VERSION:102
+
+        <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>
+        <CURDEF>EUR
+        <BANKTRANLIST>
+        <STMTTRN>
+        <TRNTYPE>DEBIT
+        <DTPOSTED>20190703120000[0:GMT]
+        <TRNAMT>-12,50
+        <NAME>Coffee Shop
+        <MEMO>Beans &amp; milk
+        </STMTTRN>
+        <STMTTRN>
+        <TRNTYPE>CREDIT
+        <DTPOSTED>20190801
+        <TRNAMT>5000.00
+        <NAME>Company XYZ
+        <CURRENCY><CURRATE>1.0<CURSYM>GBP</CURRENCY>
+        </STMTTRN>
+        </BANKTRANLIST>
+        </STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+        """;
+
+    /** OFX 2.x: the same debit as well-formed XML. */
+    public static final String XML_STATEMENT =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <?OFX OFXHEADER="200" VERSION="211"?>
+        <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>
+          <CURDEF>EUR</CURDEF>
+          <BANKTRANLIST>
+            <STMTTRN>
+              <TRNTYPE>DEBIT</TRNTYPE>
+              <DTPOSTED>20190703</DTPOSTED>
+              <TRNAMT>-12.50</TRNAMT>
+              <NAME>Coffee Shop</NAME>
+            </STMTTRN>
+          </BANKTRANLIST>
+        </STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+        """;
+
+    public static final String ESCAPED_MEMO = "Beans & milk";
+    public static final String UNTERMINATED = "<OFX><STMTTRN><TRNAMT>1.00</STMTTRN";
+  }
+}
@@ -0,0 +1,48 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public final class TotalsConstants {
+  private TotalsConstants() {}
+
+  public static final class Months {
+    private Months() {}
+
+    public static final YearMonth BEFORE_FIRST = YearMonth.of(2024, 11);
+    public static final YearMonth FIRST = YearMonth.of(2025, 1);
+    public static final YearMonth BETWEEN = YearMonth.of(2025, 2);
+    public static final YearMonth SECOND = YearMonth.of(2025, 3);
+    public static final YearMonth AFTER_CAPACITY = YearMonth.of(2027, 1);
+  }
+
+  public static final class Amounts {
+    private Amounts() {}
+
+    public static final BigDecimal FIRST_INCOME = new BigDecimal("1000.00");
+    public static final BigDecimal FIRST_EXPENSE = new BigDecimal("400.00");
+    public static final BigDecimal SECOND_INCOME = new BigDecimal("500.00");
+    public static final BigDecimal SECOND_EXPENSE = new BigDecimal("300.00");
+    public static final BigDecimal DELTA = new BigDecimal("75.00");
+  }
+
+  public static final class Fenwick {
+    private Fenwick() {}
+
+    public static final BigDecimal[] AMOUNTS = {
+      new BigDecimal("3.00"),
+      new BigDecimal("-1.50"),
+      new BigDecimal("4.00"),
+      new BigDecimal("0.00"),
+      new BigDecimal("5.25"),
+      new BigDecimal("9.00"),
+      new BigDecimal("-2.00"),
+      new BigDecimal("6.50"),
+      new BigDecimal("5.00"),
+      new BigDecimal("3.75"),
+      new BigDecimal("1.00")
+    };
+    public static final int UPDATED_INDEX = 4;
+    public static final BigDecimal DELTA = new BigDecimal("10.00");
+  }
+}
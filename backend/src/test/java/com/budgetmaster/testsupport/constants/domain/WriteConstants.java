@@ -0,0 +1,14 @@
+package com.budgetmaster.testsupport.constants.domain;
+
+import java.time.LocalDateTime;
+
+public final class WriteConstants {
+  private WriteConstants() {}
+
+  public static final class Default {
+    private Default() {}
+
+    public static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 19, 9, 30);
+    public static final LocalDateTime LAST_UPDATED_AT = LocalDateTime.of(2026, 10, 19, 10, 0);
+  }
+}